@@ -0,0 +1,142 @@
+package com.carecode.core.aspect;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.carecode.core.annotation.LogExecutionTime;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @LogExecutionTime} 한 번의 부가 비용. 로그는 실제 운영처럼 패턴으로 포맷해 버리는 출력에 쓴다.
+ * proxyOnly 는 아무 일도 하지 않는 Aspect 로 Spring AOP 프록시 자체 비용을 따로 잰다.
+ * legacy 는 호출마다 MDC 와 INFO 로그를 남기던 이전 Aspect, timer 는 Timer 기록 + 1% 샘플 로그다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingAspectBenchmark {
+
+    private Target plain;
+    private Target proxyOnly;
+    private Target legacy;
+    private Target timer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%X{traceId}] [%X{method}] %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+        root.addAppender(sink);
+
+        plain = new Target();
+        proxyOnly = proxy(new NoopAspect());
+        legacy = proxy(new LegacyLoggingAspect());
+        timer = proxy(new LoggingAspect(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), 0.01));
+    }
+
+    @Benchmark
+    public int direct() {
+        return plain.work(7);
+    }
+
+    @Benchmark
+    public int proxyOnly() {
+        return proxyOnly.work(7);
+    }
+
+    @Benchmark
+    public int legacy() {
+        return legacy.work(7);
+    }
+
+    @Benchmark
+    public int timer() {
+        return timer.work(7);
+    }
+
+    private static Target proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    public static class Target {
+
+        @LogExecutionTime
+        public int work(int value) {
+            return value * 31 + 1;
+        }
+    }
+
+    @Aspect
+    static class NoopAspect {
+
+        @Around("@annotation(logExecutionTime)")
+        public Object around(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime) throws Throwable {
+            return joinPoint.proceed();
+        }
+    }
+
+    /** 이전 LoggingAspect 의 성공 경로를 그대로 옮겨 둔 기준선. */
+    @Aspect
+    static class LegacyLoggingAspect {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(LegacyLoggingAspect.class);
+
+        @Around("@annotation(logExecutionTime)")
+        public Object around(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime) throws Throwable {
+            String fullMethodName = joinPoint.getTarget().getClass().getSimpleName() + "."
+                    + joinPoint.getSignature().getName();
+            MDC.put("method", fullMethodName);
+            if (MDC.get("traceId") == null) {
+                MDC.put("traceId", "bench");
+            }
+            org.springframework.util.StopWatch stopWatch = new org.springframework.util.StopWatch();
+            stopWatch.start();
+            try {
+                Object result = joinPoint.proceed();
+                stopWatch.stop();
+                long executionTime = stopWatch.getTotalTimeMillis();
+                MDC.put("executionTime", String.valueOf(executionTime));
+                log.info("메서드 실행 완료 - 실행 시간: {}ms", executionTime);
+                return result;
+            } finally {
+                MDC.remove("method");
+                MDC.remove("executionTime");
+                MDC.remove("error");
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.carecode.core.search.suggest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 입력 한 번의 자동완성 비용. 목표는 p99 1ms 이내라 분포(SampleTime)를 본다.
+ * 전국 시설·병원 규모로 이름을 지어 넣고, 한 글자(후보가 가장 많은 노드), 입력 중인 음절, 초성 검색어를 돌린다.
+ * rebuild 는 주기 재구축 한 번의 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SuggestionIndexBenchmark {
+
+    private static final String[] PREFIXES = {"국공립", "시립", "구립", "민간", "가정", "직장", ""};
+    private static final String[] WORDS = {"햇살", "햇님", "해바라기", "새싹", "새봄", "꿈나무", "푸른숲", "별빛", "무지개",
+            "한빛", "아이사랑", "하늘", "다솜", "소나무", "키즈", "자연", "행복한", "튼튼", "바다", "숲속"};
+    private static final String[] SUFFIXES = {"어린이집", "유치원", "소아과의원", "소아청소년과", "아동병원"};
+    private static final String[] DISTRICTS = {"서울특별시 강남구", "서울특별시 마포구", "경기도 성남시", "부산광역시 해운대구"};
+
+    @Param("60000")
+    public int size;
+
+    private SuggestionIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<SearchSuggestion> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = (PREFIXES[random.nextInt(PREFIXES.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + WORDS[random.nextInt(WORDS.length)]
+                    + SUFFIXES[random.nextInt(SUFFIXES.length)] + " " + i).trim();
+            SuggestionType type = name.contains("어린이집") || name.contains("유치원")
+                    ? SuggestionType.FACILITY : SuggestionType.HOSPITAL;
+            suggestions.add(new SearchSuggestion(type, (long) i, name,
+                    DISTRICTS[random.nextInt(DISTRICTS.length)], random.nextInt(10_000)));
+        }
+        index = new SuggestionIndex(new SuggestionLoader(null, null, null) {
+            @Override
+            public List<SearchSuggestion> load() {
+                return suggestions;
+            }
+        });
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<SearchSuggestion> singleJamo() {
+        return index.suggest("ㅎ", Set.of(), 8);
+    }
+
+    @Benchmark
+    public List<SearchSuggestion> partialSyllable() {
+        return index.suggest("햇사", Set.of(), 8);
+    }
+
+    @Benchmark
+    public List<SearchSuggestion> longQuery() {
+        return index.suggest("국공립 햇살무지개어린", Set.of(SuggestionType.FACILITY), 8);
+    }
+
+    @Benchmark
+    public List<SearchSuggestion> initials() {
+        return index.suggest("ㅎㅅㅇㄹㅇ", Set.of(), 8);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void rebuild() {
+        index.rebuild();
+    }
+}
@@ -0,0 +1,115 @@
+package com.carecode.domain.chatbot.intent;
+
+import com.carecode.domain.chatbot.entity.ChatMessage.IntentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 메시지 하나의 의도·신뢰도 계산 비용 비교.
+ * regex 는 ChatbotService 에 있던 정규식 방식(의도 판별 한 번 + 신뢰도용 재검사)을 그대로 옮긴 기준선,
+ * automaton 은 {@link IntentClassifier} 다. 짧은 인사와 긴 상담 문장, 아무것도 안 걸리는 문장을 섞는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IntentClassifierBenchmark {
+
+    private static final Map<IntentType, List<Pattern>> LEGACY_PATTERNS = new HashMap<>();
+
+    static {
+        LEGACY_PATTERNS.put(IntentType.GREETING, Arrays.asList(
+                Pattern.compile("안녕|하이|헬로|반가워|만나서"),
+                Pattern.compile("안녕하세요|안녕하신가요|반갑습니다")));
+        LEGACY_PATTERNS.put(IntentType.QUESTION, Arrays.asList(
+                Pattern.compile("무엇|뭐|어떻게|언제|어디서|왜|어떤"),
+                Pattern.compile("\\?|\\?\\?|물어보고|궁금해|알려줘")));
+        LEGACY_PATTERNS.put(IntentType.COMPLAINT, Arrays.asList(
+                Pattern.compile("문제|불만|어려워|힘들어|도와줘|해결"),
+                Pattern.compile("안되|안돼|오류|에러|버그")));
+        LEGACY_PATTERNS.put(IntentType.THANKS, Arrays.asList(
+                Pattern.compile("감사|고마워|고맙습니다|감사합니다|thank"),
+                Pattern.compile("도움|도움이|좋아|좋은")));
+        LEGACY_PATTERNS.put(IntentType.GOODBYE, Arrays.asList(
+                Pattern.compile("안녕|잘가|바이|goodbye|bye"),
+                Pattern.compile("다음에|나중에|끝|종료")));
+        LEGACY_PATTERNS.put(IntentType.HEALTH_INFO, Arrays.asList(
+                Pattern.compile("건강|병원|의사|약|증상|아프|열|기침"),
+                Pattern.compile("예방접종|백신|검진|진찰|치료")));
+        LEGACY_PATTERNS.put(IntentType.POLICY_INFO, Arrays.asList(
+                Pattern.compile("정책|지원|보조금|혜택|혜택|도움"),
+                Pattern.compile("신청|지원금|수당|급여|복지")));
+        LEGACY_PATTERNS.put(IntentType.FACILITY_INFO, Arrays.asList(
+                Pattern.compile("어린이집|유치원|보육|시설|원"),
+                Pattern.compile("위치|주소|전화|연락처|운영시간")));
+        LEGACY_PATTERNS.put(IntentType.EDUCATION_INFO, Arrays.asList(
+                Pattern.compile("교육|학습|공부|프로그램|강의"),
+                Pattern.compile("육아|양육|부모|아이|아동")));
+    }
+
+    @Param({"short", "long", "miss"})
+    private String kind;
+
+    private String message;
+    private IntentClassifier classifier;
+
+    @Setup
+    public void setUp() {
+        message = switch (kind) {
+            case "short" -> "안녕하세요";
+            case "long" -> "둘째가 이번 달에 돌이 지났는데 어린이집 입소 대기를 걸어 두고 있어요. "
+                    + "그동안 가정양육수당을 계속 받을 수 있는지, 신청은 주민센터에서 해야 하는지 궁금해요. "
+                    + "그리고 다음 주에 예방접종도 있는데 보건소에서 무료로 맞을 수 있나요?";
+            default -> "zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz zzzz";
+        };
+        classifier = new IntentClassifier(new ClassPathResource("chatbot/intent-keywords.txt"));
+    }
+
+    @Benchmark
+    public void regex(Blackhole bh) {
+        String lower = message.toLowerCase();
+        IntentType intent = IntentType.UNKNOWN;
+        for (Map.Entry<IntentType, List<Pattern>> entry : LEGACY_PATTERNS.entrySet()) {
+            for (Pattern pattern : entry.getValue()) {
+                if (pattern.matcher(lower).find()) {
+                    intent = entry.getKey();
+                    break;
+                }
+            }
+            if (intent != IntentType.UNKNOWN) {
+                break;
+            }
+        }
+        double confidence = 0.1;
+        if (intent != IntentType.UNKNOWN) {
+            int matched = 0;
+            for (Pattern pattern : LEGACY_PATTERNS.get(intent)) {
+                if (pattern.matcher(message.toLowerCase()).find()) {
+                    matched++;
+                }
+            }
+            confidence = Math.min(0.9, 0.3 + matched * 0.2);
+        }
+        bh.consume(intent);
+        bh.consume(confidence);
+    }
+
+    @Benchmark
+    public IntentClassifier.Classification automaton() {
+        return classifier.classify(message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.carecode.domain.community.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10KB 게시글 하나를 거르는 비용. 목표는 p99 1ms 이내라 평균이 아니라 분포(SampleTime)를 본다.
+ * clean 은 끝까지 다 훑어야 하는 깨끗한 글, tail 은 맨 끝에 금칙어가 하나 있는 글이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentFilterBenchmark {
+
+    private static final String PARAGRAPH =
+            "어제 소아과에서 예방접종 맞고 왔는데 밤새 열이 38도까지 올라서 걱정했어요. "
+                    + "해열제 먹이고 미지근한 물수건으로 닦아 주니 새벽에 내렸습니다. 시발점이 된 건 "
+                    + "아마 어린이집에서 옮은 감기 같아요. 다들 접종 후에 어떻게 하셨는지 궁금합니다! ";
+
+    private ContentFilter filter;
+    private String clean;
+    private String tail;
+
+    @Setup
+    public void setUp() {
+        filter = new ContentFilter(new ClassPathResource("community/banned-terms.txt"));
+        StringBuilder body = new StringBuilder();
+        while (body.length() * 3 < 10 * 1024) {
+            body.append(PARAGRAPH);
+        }
+        clean = body.toString();
+        tail = clean + " 아 시발";
+    }
+
+    @Benchmark
+    public String clean() {
+        return filter.inspect(clean);
+    }
+
+    @Benchmark
+    public String tail() {
+        return filter.inspect(tail);
+    }
+}
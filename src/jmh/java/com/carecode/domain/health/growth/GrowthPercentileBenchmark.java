@@ -0,0 +1,103 @@
+package com.carecode.domain.health.growth;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성장 곡선 한 장(아이 한 명의 이력)을 계산하는 비용 비교.
+ * legacy 는 6개월 간격 리스트를 순회하며 매번 보간하던 이전 조회 방식, perRecord 는 배열 표 위의 건별 계산,
+ * batch 는 {@link GrowthPercentileCalculator#calculateAll} 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GrowthPercentileBenchmark {
+
+    /** 이전 GrowthStandardTable 의 남아 체중 표와 조회 로직을 그대로 옮겨 둔 기준선. */
+    private static final List<GrowthStandard> LEGACY_BOY_WEIGHT = List.of(
+            new GrowthStandard(0, 0.3487, 3.3464, 0.14602),
+            new GrowthStandard(6, 0.1738, 7.9340, 0.12385),
+            new GrowthStandard(12, 0.0402, 9.6479, 0.12106),
+            new GrowthStandard(18, -0.0756, 10.9385, 0.12237),
+            new GrowthStandard(24, -0.1733, 12.1515, 0.12456),
+            new GrowthStandard(30, -0.2565, 13.3000, 0.12718),
+            new GrowthStandard(36, -0.3277, 14.3429, 0.12988),
+            new GrowthStandard(42, -0.3891, 15.3160, 0.13257),
+            new GrowthStandard(48, -0.4425, 16.3497, 0.13519),
+            new GrowthStandard(54, -0.4894, 17.3140, 0.13774),
+            new GrowthStandard(60, -0.5308, 18.3074, 0.14021));
+
+    @Param({"12", "120"})
+    private int records;
+
+    private int[] ages;
+    private double[] values;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ages = new int[records];
+        values = new double[records];
+        for (int i = 0; i < records; i++) {
+            ages[i] = random.nextInt(61);
+            values[i] = 3.0 + ages[i] * 0.25 + random.nextGaussian();
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        for (int i = 0; i < records; i++) {
+            Optional<GrowthStandard> standard = legacyLookup(ages[i]);
+            double value = values[i];
+            bh.consume(standard.map(s -> {
+                double z = Math.abs(s.l()) < 1e-9
+                        ? Math.log(value / s.m()) / s.s()
+                        : (Math.pow(value / s.m(), s.l()) - 1) / (s.l() * s.s());
+                return GrowthPercentileCalculator.normalCdf(z);
+            }));
+        }
+    }
+
+    @Benchmark
+    public void perRecord(Blackhole bh) {
+        for (int i = 0; i < records; i++) {
+            bh.consume(GrowthPercentileCalculator.calculate(GrowthMetric.WEIGHT, Sex.MALE, ages[i], values[i]));
+        }
+    }
+
+    @Benchmark
+    public GrowthPercentileResult[] batch() {
+        return GrowthPercentileCalculator.calculateAll(GrowthMetric.WEIGHT, Sex.MALE, ages, values);
+    }
+
+    private static Optional<GrowthStandard> legacyLookup(int ageMonths) {
+        for (int i = 0; i < LEGACY_BOY_WEIGHT.size(); i++) {
+            GrowthStandard current = LEGACY_BOY_WEIGHT.get(i);
+            if (current.ageMonths() == ageMonths) {
+                return Optional.of(current);
+            }
+            if (current.ageMonths() > ageMonths) {
+                GrowthStandard low = LEGACY_BOY_WEIGHT.get(i - 1);
+                double ratio = (ageMonths - low.ageMonths()) / (double) (current.ageMonths() - low.ageMonths());
+                return Optional.of(new GrowthStandard(
+                        ageMonths,
+                        low.l() + (current.l() - low.l()) * ratio,
+                        low.m() + (current.m() - low.m()) * ratio,
+                        low.s() + (current.s() - low.s()) * ratio));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.carecode.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** 여러 인스턴스 중 한 곳에서만 실행할 스케줄 작업. 락을 못 잡은 인스턴스는 조용히 건너뛴다. */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterExclusive {
+
+    // 락 이름. 비우면 클래스명.메서드명
+    String name() default "";
+
+    // 락을 쥔 인스턴스가 죽었을 때 풀리는 시간 (초). 작업의 최장 소요 시간보다 길게 잡는다.
+    long atMostForSeconds() default 3600;
+
+    // 작업이 일찍 끝나도 락을 유지하는 시간 (초). 인스턴스 간 시계 차이보다 길게 잡는다.
+    long atLeastForSeconds() default 60;
+}
@@ -0,0 +1,46 @@
+package com.carecode.core.aspect;
+
+import com.carecode.core.annotation.ClusterExclusive;
+import com.carecode.core.cluster.ClusterLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/** ClusterExclusive 가 붙은 작업을 한 인스턴스에서만 실행한다. 트랜잭션보다 바깥에서 잠가야 커밋이 끝난 뒤에 락이 풀린다. */
+@Aspect
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ClusterExclusiveAspect {
+
+    private final ClusterLock clusterLock;
+
+    @Around("@annotation(clusterExclusive)")
+    public Object runExclusively(ProceedingJoinPoint joinPoint, ClusterExclusive clusterExclusive) throws Throwable {
+        String name = clusterExclusive.name().isBlank()
+                ? joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName()
+                : clusterExclusive.name();
+
+        Optional<ClusterLock.Lease> lease = clusterLock.tryAcquire(
+                name, Duration.ofSeconds(clusterExclusive.atMostForSeconds()));
+        if (lease.isEmpty()) {
+            log.debug("다른 인스턴스가 실행 중이어서 건너뜀 - {}", name);
+            return null;
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            lease.get().release(Duration.ofSeconds(clusterExclusive.atLeastForSeconds()));
+        }
+    }
+}
@@ -2,85 +2,159 @@ package com.carecode.core.aspect;
 
 import com.carecode.core.annotation.LogExecutionTime;
 import com.carecode.core.util.LoggingUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.MDC;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 
-/** 메서드 실행 시간 로깅을 위한 Aspect @LogExecutionTime 어노테이션이 붙은 메서드의 실행 시간을 측정하고 로깅합니다. */
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @LogExecutionTime} 이 붙은 메서드의 실행 시간을 Micrometer Timer 로 기록한다.
+ *
+ * <p>예전에는 호출마다 INFO 로그 한 줄과 MDC 값 여러 개를 남겼다. 챗봇·알림 서비스 거의 모든 메서드에 붙어
+ * 있어 로그 양과 포맷팅 비용이 트래픽에 비례해 늘었고, 정작 분포는 로그를 모아 계산해야 했다. 이제 분포는
+ * Timer(method.execution)가 맡고, 로그는 warnThreshold 를 넘었거나 실패했거나 샘플에 걸린 호출만 남긴다.
+ */
 @Aspect
 @Component
 @Slf4j
 public class LoggingAspect {
 
+    static final String METRIC_NAME = "method.execution";
+
+    /**
+     * 메서드가 300개 넘게 붙어 있어 전체 퍼센타일 히스토그램(시리즈당 버킷 수십 개)은 Prometheus 시계열을 너무
+     * 늘린다. SLO 버킷 몇 개만 내보내도 histogram_quantile 로 p95/p99 를 구할 수 있다.
+     */
+    private static final Duration[] SLO_BUCKETS = {
+            Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500), Duration.ofSeconds(5)};
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+
+    /** 빌더로 매번 Timer 를 찾으면 태그 정렬과 해시 계산이 호출마다 일어난다. 메서드별로 한 번만 만든다. */
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry,
+                         @Value("${app.monitoring.execution-time.log-sample-rate:0.01}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
     @Around("@annotation(logExecutionTime)")
     public Object logExecutionTime(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime) throws Throwable {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        String fullMethodName = className + "." + methodName;
-        
-        // MDC에 메서드 정보 추가
-        MDC.put("method", fullMethodName);
-        if (MDC.get("traceId") == null) {
+        boolean ownsTraceId = MDC.get("traceId") == null;
+        if (ownsTraceId) {
+            // 요청 밖(스케줄러, 비동기)에서 불린 경우에도 메서드 안에서 남긴 로그까지 묶을 수 있게 먼저 채운다.
             LoggingUtil.setTraceId(null);
         }
-        
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
-        
+        long startedAt = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            stopWatch.stop();
-            
-            long executionTime = stopWatch.getTotalTimeMillis();
-            MDC.put("executionTime", String.valueOf(executionTime));
-            
-            if (logExecutionTime.logArgs()) {
-                Object[] args = joinPoint.getArgs();
-                log.info("메서드 실행 완료 - 실행 시간: {}ms, 인자: {}", 
-                    executionTime, formatArgs(args));
-            } else {
-                log.info("메서드 실행 완료 - 실행 시간: {}ms", executionTime);
-            }
-            
-            // 경고 임계값 체크
-            if (logExecutionTime.warnThreshold() > 0 && executionTime > logExecutionTime.warnThreshold()) {
-                log.warn("실행 시간이 임계값({}ms)을 초과했습니다: {}ms", 
-                    logExecutionTime.warnThreshold(), executionTime);
+            long elapsedNanos = System.nanoTime() - startedAt;
+            timer(joinPoint, Outcome.SUCCESS).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            boolean slow = logExecutionTime.warnThreshold() > 0 && executionTime > logExecutionTime.warnThreshold();
+            if (slow || sampled()) {
+                logCompletion(joinPoint, logExecutionTime, executionTime, slow);
             }
-            
             return result;
-        } catch (Exception e) {
-            stopWatch.stop();
-            long executionTime = stopWatch.getTotalTimeMillis();
-            MDC.put("executionTime", String.valueOf(executionTime));
-            MDC.put("error", e.getClass().getSimpleName());
-            
-            log.error("메서드 실행 실패 - 실행 시간: {}ms, 오류: {}", 
-                executionTime, e.getMessage(), e);
-            
+        } catch (Throwable e) {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            timer(joinPoint, Outcome.ERROR).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            withMdc(joinPoint, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), e, () ->
+                    log.error("메서드 실행 실패 - 실행 시간: {}ms, 오류: {}",
+                            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), e.getMessage(), e));
             throw e;
         } finally {
-            // 메서드 관련 MDC 제거 (traceId는 유지)
+            if (ownsTraceId) {
+                // 스레드 풀에 남으면 다음 작업 로그에 엉뚱한 추적 ID 가 붙는다.
+                MDC.remove("traceId");
+            }
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void logCompletion(ProceedingJoinPoint joinPoint, LogExecutionTime logExecutionTime,
+                               long executionTime, boolean slow) {
+        withMdc(joinPoint, executionTime, null, () -> {
+            String args = logExecutionTime.logArgs() ? formatArgs(joinPoint.getArgs()) : null;
+            if (slow) {
+                log.warn("실행 시간이 임계값({}ms)을 초과했습니다: {}ms{}", logExecutionTime.warnThreshold(),
+                        executionTime, args == null ? "" : ", 인자: " + args);
+            } else if (args != null) {
+                log.info("메서드 실행 완료 - 실행 시간: {}ms, 인자: {}", executionTime, args);
+            } else {
+                log.info("메서드 실행 완료 - 실행 시간: {}ms", executionTime);
+            }
+        });
+    }
+
+    /** 추적 ID 외의 MDC 는 실제로 로그를 남길 때만 채운다. 남기지 않을 호출에서 put/remove 를 반복할 이유가 없다. */
+    private void withMdc(ProceedingJoinPoint joinPoint, long executionTime, Throwable error, Runnable logging) {
+        MDC.put("method", simpleClassName(joinPoint) + "." + joinPoint.getSignature().getName());
+        MDC.put("executionTime", String.valueOf(executionTime));
+        if (error != null) {
+            MDC.put("error", error.getClass().getSimpleName());
+        }
+        try {
+            logging.run();
+        } finally {
             MDC.remove("method");
             MDC.remove("executionTime");
             MDC.remove("error");
         }
     }
 
+    private Timer timer(ProceedingJoinPoint joinPoint, Outcome outcome) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(new TimerKey(targetClass(joinPoint), method, outcome), key ->
+                Timer.builder(METRIC_NAME)
+                        .description("@LogExecutionTime 메서드 실행 시간")
+                        .tags("class", key.targetClass().getSimpleName(),
+                                "method", key.method().getName(),
+                                "outcome", key.outcome().name())
+                        .serviceLevelObjectives(SLO_BUCKETS)
+                        .register(meterRegistry));
+    }
+
+    private static Class<?> targetClass(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget());
+    }
+
+    private static String simpleClassName(ProceedingJoinPoint joinPoint) {
+        return targetClass(joinPoint).getSimpleName();
+    }
+
     // 메서드 인자를 문자열로 포맷팅
     private String formatArgs(Object[] args) {
         if (args == null || args.length == 0) {
             return "[]";
         }
-        
+
         StringBuilder sb = new StringBuilder("[");
         for (int i = 0; i < args.length; i++) {
             if (i > 0) sb.append(", ");
-            
+
             Object arg = args[i];
             if (arg == null) {
                 sb.append("null");
@@ -99,4 +173,11 @@ public class LoggingAspect {
         sb.append("]");
         return sb.toString();
     }
-} 
\ No newline at end of file
+
+    enum Outcome {
+        SUCCESS, ERROR
+    }
+
+    private record TimerKey(Class<?> targetClass, Method method, Outcome outcome) {
+    }
+}
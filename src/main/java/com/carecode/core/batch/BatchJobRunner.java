@@ -0,0 +1,72 @@
+package com.carecode.core.batch;
+
+import com.carecode.core.ops.OperationalAlerter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 스케줄러가 배치 잡을 띄우는 경로. 실행일(runDate)을 식별 파라미터로 쓰므로 하루 한 번의 실행이 하나의 잡 인스턴스가 된다.
+ *
+ * <p>같은 날 다시 띄우면 Spring Batch 가 알아서 판단한다. 실패한 실행이면 커밋된 청크 다음부터 재시작하고,
+ * 이미 완료된 날이면 다시 돌지 않는다. 배포 중 인스턴스가 잠깐 둘이 되어 같은 날 두 번 호출되는 경우도 여기서 걸러진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchJobRunner {
+
+    public static final String RUN_DATE = "runDate";
+
+    private final JobLauncher jobLauncher;
+    private final OperationalAlerter alerter;
+
+    public Optional<JobExecution> runDaily(Job job, LocalDate runDate) {
+        JobParameters parameters = new JobParametersBuilder()
+                .addLocalDate(RUN_DATE, runDate)
+                .toJobParameters();
+        try {
+            JobExecution execution = jobLauncher.run(job, parameters);
+            String summary = summarize(execution);
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                // 같은 날 다시 띄우면 실패한 청크부터 이어서 돈다.
+                alerter.alert("batch-" + job.getName(), job.getName() + " 실패 (" + runDate + ")", summary);
+            } else {
+                log.info("배치 잡 완료 - job={}, runDate={}, {}", job.getName(), runDate, summary);
+            }
+            return Optional.of(execution);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("이미 완료된 배치 잡 - job={}, runDate={}", job.getName(), runDate);
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.info("실행 중인 배치 잡이 있어 건너뜀 - job={}, runDate={}", job.getName(), runDate);
+        } catch (Exception e) {
+            log.error("배치 잡 기동 실패 - job={}, runDate={}", job.getName(), runDate, e);
+        }
+        return Optional.empty();
+    }
+
+    private static String summarize(JobExecution execution) {
+        long read = 0, written = 0, filtered = 0, skipped = 0;
+        for (StepExecution step : execution.getStepExecutions()) {
+            read += step.getReadCount();
+            written += step.getWriteCount();
+            filtered += step.getFilterCount();
+            skipped += step.getSkipCount();
+        }
+        return String.format("status=%s, read=%d, written=%d, filtered=%d, skipped=%d, exit=%s",
+                execution.getStatus(), read, written, filtered, skipped,
+                execution.getExitStatus().getExitDescription());
+    }
+}
@@ -0,0 +1,88 @@
+package com.carecode.core.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * id 기준 keyset 페이징 리더. "id > 마지막 id ORDER BY id" 로 다음 페이지를 읽는다.
+ *
+ * <p>알림 대상 조회는 처리한 행이 조건에서 빠진다(reminderSentAt 이 채워진다). offset 페이징은 그만큼 다음 페이지를
+ * 건너뛰어 대상이 누락되므로 쓰지 않는다. 청크가 커밋될 때 마지막으로 넘겨준 id 를 실행 컨텍스트에 남겨,
+ * 실패한 잡을 재시작하면 커밋된 청크 다음부터 이어서 읽는다. 키는 "{name}.last.id" 라 한 스텝에 리더가 여럿이어도
+ * 섞이지 않는다.
+ */
+public class KeysetPagingItemReader<T> implements ItemStreamReader<T> {
+
+    private static final String LAST_ID = "last.id";
+
+    private final String lastIdKey;
+    private final BiFunction<Long, Integer, List<T>> pageLoader;
+    private final Function<T, Long> idExtractor;
+    private final int pageSize;
+
+    private Iterator<T> page = Collections.emptyIterator();
+    private long lastFetchedId;
+    private long lastReturnedId;
+    private boolean exhausted;
+
+    /**
+     * @param pageLoader (마지막 id, 페이지 크기) → id 오름차순 목록
+     */
+    public KeysetPagingItemReader(String name,
+                                  BiFunction<Long, Integer, List<T>> pageLoader,
+                                  Function<T, Long> idExtractor,
+                                  int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize 는 1 이상이어야 합니다: " + pageSize);
+        }
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("리더 이름이 필요합니다");
+        }
+        this.lastIdKey = name + "." + LAST_ID;
+        this.pageLoader = pageLoader;
+        this.idExtractor = idExtractor;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        lastReturnedId = executionContext.getLong(lastIdKey, 0L);
+        lastFetchedId = lastReturnedId;
+        page = Collections.emptyIterator();
+        exhausted = false;
+    }
+
+    @Override
+    public T read() {
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return null;
+            }
+            List<T> next = pageLoader.apply(lastFetchedId, pageSize);
+            if (next.size() < pageSize) {
+                exhausted = true;
+            }
+            if (next.isEmpty()) {
+                return null;
+            }
+            lastFetchedId = idExtractor.apply(next.get(next.size() - 1));
+            page = next.iterator();
+        }
+
+        T item = page.next();
+        lastReturnedId = idExtractor.apply(item);
+        return item;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(lastIdKey, lastReturnedId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.carecode.core.cache;
+
+/**
+ * Hibernate 2차 캐시 영역 이름. 엔티티의 @Cache 와 쿼리 힌트, 영역 설정이 같은 이름을 써야 해서 한곳에 둔다.
+ *
+ * <p>영역마다 크기와 TTL 은 {@link SecondLevelCacheRegions} 에 있다. 설정에 없는 영역을 쓰면 기동이 실패한다.
+ */
+public final class CacheRegions {
+
+    public static final String TAG = "tag";
+    public static final String TAG_QUERIES = "tag.queries";
+    public static final String POLICY_CATEGORY = "policy-category";
+    public static final String POLICY_CATEGORY_QUERIES = "policy-category.queries";
+    public static final String NOTIFICATION_TEMPLATE = "notification-template";
+    public static final String HOSPITAL = "hospital";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,197 @@
+package com.carecode.core.cache;
+
+import com.carecode.core.cluster.ClusterMembership;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 2차 캐시를 인스턴스 사이에서 맞춘다. 캐시 대상 엔티티가 커밋되면 Redis 채널로 알리고, 다른 인스턴스는 그 항목을
+ * 지우고 그 엔티티 테이블에 걸린 쿼리 캐시 결과만 낡은 것으로 표시한다.
+ *
+ * <p>Hibernate 는 자기 인스턴스의 캐시만 고친다. 관리자가 A 인스턴스에서 태그를 바꾸면 B 인스턴스는 TTL 이 지날
+ * 때까지 예전 태그를 보여 준다. 알림은 커밋 뒤에만 보내므로 롤백된 변경은 나가지 않는다.
+ *
+ * <p>Redis 를 쓸 수 없으면 알림만 빠진다. 자기 인스턴스 캐시는 Hibernate 가 이미 고쳤고, 다른 인스턴스는 영역 TTL
+ * 안에 따라온다.
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheInvalidator implements MessageListener {
+
+    public static final String CHANNEL = "cache:l2-invalidation";
+    static final String METRIC = "hibernate.cache.invalidation";
+
+    private static final char SEPARATOR = '\t';
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId;
+    private final Counter sent;
+    private final Counter received;
+    private final Counter failed;
+    private final AtomicBoolean publishing = new AtomicBoolean(true);
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, StringRedisTemplate redisTemplate,
+                                       ClusterMembership clusterMembership, MeterRegistry meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.redisTemplate = redisTemplate;
+        this.instanceId = clusterMembership.getInstanceId();
+        this.sent = counter(meterRegistry, "sent");
+        this.received = counter(meterRegistry, "received");
+        this.failed = counter(meterRegistry, "failed");
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        CommitListener listener = new CommitListener();
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+    }
+
+    /**
+     * 엔티티를 거치지 않는 UPDATE 로 캐시 대상 행을 고쳤을 때 그 행만 지운다. 지금 한 번, 커밋 뒤 한 번 지우고 다른
+     * 인스턴스에도 알린다. 커밋 전에 다른 트랜잭션이 예전 값을 다시 넣어도 커밋 뒤에 한 번 더 지워진다.
+     */
+    public void evictAfterCommit(Class<?> entityClass, Object id) {
+        String entityName = entityClass.getName();
+        sessionFactory.getCache().evictEntityData(entityName, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(entityName, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sessionFactory.getCache().evictEntityData(entityName, id);
+                publish(entityName, id);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = body.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0 || instanceId.equals(body.substring(0, first))) {
+            return;
+        }
+        received.increment();
+        evictLocally(body.substring(first + 1, second), body.substring(second + 1));
+    }
+
+    /**
+     * 그 항목을 지우고, 캐시 쿼리 결과 중 이 엔티티의 테이블을 읽은 것만 낡게 만든다. 쿼리 영역을 통째로 비우면
+     * 병원 좋아요 한 번, 병원 동기화 한 행마다 태그·정책 분류 같은 무관한 조회 결과까지 모든 인스턴스에서 사라진다.
+     */
+    void evictLocally(String entityName, String id) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName);
+        if (persister == null) {
+            return;
+        }
+        try {
+            Object identifier = persister.getIdentifierMapping().getJavaType().fromString(id);
+            sessionFactory.getCache().evictEntityData(entityName, identifier);
+        } catch (RuntimeException e) {
+            sessionFactory.getCache().evictEntityData(entityName);
+        }
+        invalidateQuerySpaces(persister.getSynchronizedQuerySpaces());
+    }
+
+    /** 테이블의 갱신 시각을 올린다. 그보다 먼저 캐시된 쿼리 결과는 다음 조회 때 버려진다. 연결은 잡지 않는다. */
+    private void invalidateQuerySpaces(String[] spaces) {
+        if (spaces.length == 0) {
+            return;
+        }
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            sessionFactory.getCache().getTimestampsCache()
+                    .invalidate(spaces, (SharedSessionContractImplementor) session);
+        }
+    }
+
+    private void publish(String entityName, Object id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + entityName + SEPARATOR + id);
+            sent.increment();
+            if (publishing.compareAndSet(false, true)) {
+                log.info("2차 캐시 무효화 알림 재개");
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            // 동기화가 수천 건을 고치는 동안 Redis 가 죽어 있으면 건마다 경고가 쌓인다. 처음 한 번만 남긴다.
+            if (publishing.compareAndSet(true, false)) {
+                log.warn("2차 캐시 무효화 알림 실패 - 다른 인스턴스는 TTL 안에 반영됩니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(METRIC)
+                .description("인스턴스 사이 2차 캐시 무효화 알림 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /** 캐시 대상 엔티티의 커밋만 받는다. 나머지 엔티티는 Hibernate 가 커밋 뒤 처리 자체를 건너뛴다. */
+    private final class CommitListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+            PostCommitDeleteEventListener {
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.canWriteToCache();
+        }
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            publish(event.getPersister().getEntityName(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            publish(event.getPersister().getEntityName(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            publish(event.getPersister().getEntityName(), event.getId());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent event) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+    }
+}
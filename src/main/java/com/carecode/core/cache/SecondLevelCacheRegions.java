@@ -0,0 +1,63 @@
+package com.carecode.core.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.spi.RegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 영역과 각 영역의 크기·TTL.
+ *
+ * <p>캐시는 인스턴스마다 있다. 다른 인스턴스에서 고친 값은 {@link SecondLevelCacheInvalidator} 가 Redis 로 알려 지우고,
+ * TTL 은 그 알림을 놓쳤을 때 오래된 값이 남는 시간의 상한이다. 그래서 자주 바뀌는 병원은 짧게, 관리자만 고치는
+ * 태그·카테고리·템플릿은 길게 잡는다.
+ */
+public final class SecondLevelCacheRegions {
+
+    record Region(String name, long maximumSize, Duration ttl) {
+    }
+
+    static final List<Region> REGIONS = List.of(
+            new Region(CacheRegions.TAG, 2_000, Duration.ofHours(1)),
+            new Region(CacheRegions.TAG_QUERIES, 2_000, Duration.ofMinutes(30)),
+            new Region(CacheRegions.POLICY_CATEGORY, 200, Duration.ofHours(1)),
+            new Region(CacheRegions.POLICY_CATEGORY_QUERIES, 100, Duration.ofMinutes(30)),
+            new Region(CacheRegions.NOTIFICATION_TEMPLATE, 200, Duration.ofHours(1)),
+            // 공공데이터 동기화가 매일 고치고 좋아요 수도 바뀐다. 상세·주변 검색에 자주 나오는 병원만 남는 크기다.
+            new Region(CacheRegions.HOSPITAL, 20_000, Duration.ofMinutes(10)),
+            // 영역을 지정하지 않은 캐시 쿼리용. 지금은 없지만 Hibernate 가 영역을 요구한다.
+            new Region(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 1_000, Duration.ofMinutes(10)),
+            // 테이블별 마지막 변경 시각. 쿼리 캐시가 이 값으로 결과를 버릴지 정하므로 만료시키지 않는다.
+            new Region(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 10_000, null));
+
+    private SecondLevelCacheRegions() {
+    }
+
+    /**
+     * 영역을 미리 만든 JCache 매니저. 이름을 매번 다르게 주어 테스트처럼 한 JVM 에 컨텍스트가 여럿 떠도 서로의
+     * 캐시를 보거나 닫지 않게 한다.
+     */
+    public static CacheManager createCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("carecode-hibernate-" + UUID.randomUUID()),
+                        SecondLevelCacheRegions.class.getClassLoader());
+        for (Region region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            // Hibernate 가 넣는 값은 이미 분해된 상태 배열이라 공유해도 된다. 기본값(값 복사)은 읽을 때마다 직렬화한다.
+            configuration.setStoreByValue(false);
+            if (region.ttl() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+            }
+            cacheManager.createCache(region.name(), configuration);
+        }
+        return cacheManager;
+    }
+}
@@ -0,0 +1,313 @@
+package com.carecode.core.cache;
+
+import com.carecode.core.cluster.ClusterLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 캐시 미스를 한 번의 조회로 모은다. {@code @Cacheable(sync = true)} 가 부르는 {@link #get(Object, Callable)} 만
+ * 다르게 동작하고 나머지는 감싼 캐시에 넘긴다.
+ *
+ * <p>인기 정책의 30분 항목이 만료되거나 동기화가 캐시를 비우면, 같은 키를 기다리던 요청이 동시에 미스를 내고 모두 DB 로
+ * 간다. 여기서는 키마다 한 호출만 읽는다.
+ * <ul>
+ *   <li>인스턴스 안: 먼저 온 호출이 읽고, 같은 키의 나머지는 그 결과를 기다린다.</li>
+ *   <li>인스턴스 사이: 읽는 호출은 Redis 에 짧은 락을 잡는다. 락을 못 잡은 인스턴스는 락이 남아 있는 동안만 값이
+ *       캐시에 채워지기를 기다린다. 쥔 쪽이 채우지 못하고 풀었거나(읽기 실패, null) 락을 확인할 수 없으면(Redis 장애,
+ *       fail-closed) 바로, 쥔 쪽이 죽었거나 느리면 락 보유 시간 뒤에 직접 읽는다. 락은 조회를 줄이는 용도라 정확할
+ *       필요가 없다.</li>
+ * </ul>
+ *
+ * <p>만료 직전에는 확률적으로 미리 다시 읽는다(XFetch). 만료까지 남은 시간이 다시 읽는 데 걸린 시간에 비해 짧을수록
+ * 미리 읽을 확률이 오른다. 미리 읽기는 한 호출만 하고, 나머지와 락을 못 잡은 인스턴스는 지금 값을 그대로 쓴다.
+ *
+ * <p>값은 읽는 데 걸린 시간·만료 시각과 함께 {@link Entry} 로 저장한다. 이 형식 전의 항목도 그대로 읽는다.
+ */
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final ClusterLock clusterLock;
+    private final Duration ttl;
+    private final Duration lockLease;
+    private final Duration pollInterval;
+    private final double beta;
+    private final Clock clock;
+    private final DoubleSupplier random;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+
+    private final Counter loads;
+    private final Counter coalesced;
+    private final Counter remoteWaits;
+    private final Counter earlyRefreshes;
+
+    public SingleFlightCache(Cache delegate, ClusterLock clusterLock, Duration ttl, Duration lockLease,
+                             Duration pollInterval, double beta, MeterRegistry meterRegistry) {
+        this(delegate, clusterLock, ttl, lockLease, pollInterval, beta, meterRegistry,
+                Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SingleFlightCache(Cache delegate, ClusterLock clusterLock, Duration ttl, Duration lockLease,
+                      Duration pollInterval, double beta, MeterRegistry meterRegistry,
+                      Clock clock, DoubleSupplier random) {
+        this.delegate = delegate;
+        this.clusterLock = clusterLock;
+        this.ttl = ttl;
+        this.lockLease = lockLease;
+        this.pollInterval = pollInterval;
+        this.beta = beta;
+        this.clock = clock;
+        this.random = random;
+        this.loads = counter(meterRegistry, "load");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.remoteWaits = counter(meterRegistry, "remote_wait");
+        this.earlyRefreshes = counter(meterRegistry, "early_refresh");
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = delegate.get(key);
+        return cached == null ? null : new SimpleValueWrapper(unwrap(cached.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper cached = get(key);
+        Object value = cached != null ? cached.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 다릅니다: " + type.getName() + " <- " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        Object stale = null;
+        if (cached != null) {
+            Object stored = cached.get();
+            if (!refreshEarly(stored)) {
+                return (T) unwrap(stored);
+            }
+            stale = unwrap(stored);
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            if (stale != null) {
+                // 누가 이미 미리 읽고 있다. 만료 전이니 지금 값을 쓴다.
+                return (T) stale;
+            }
+            coalesced.increment();
+            return (T) join(running);
+        }
+        try {
+            if (stale != null) {
+                earlyRefreshes.increment();
+            }
+            Object value = loadOnce(key, valueLoader, stale);
+            flight.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value == null ? null : new Entry(value, 0, expiresAt()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper previous = delegate.putIfAbsent(key, value == null ? null : new Entry(value, 0, expiresAt()));
+        return previous == null ? null : new SimpleValueWrapper(unwrap(previous.get()));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * 인스턴스 대표로 한 번 읽는다. 다른 인스턴스가 락을 쥐고 있으면, 미리 읽기는 지금 값으로 물러나고 미스는 그쪽이
+     * 채울 때까지 기다린다.
+     */
+    private Object loadOnce(Object key, Callable<?> valueLoader, Object stale) {
+        Optional<ClusterLock.Lease> lease = clusterLock.tryAcquire(lockName(key), lockLease);
+        if (lease.isEmpty()) {
+            if (stale != null) {
+                return stale;
+            }
+            remoteWaits.increment();
+            Object filled = awaitRemote(key);
+            return filled != null ? filled : load(key, valueLoader);
+        }
+        try {
+            if (stale == null) {
+                // 락을 잡기 직전에 다른 인스턴스가 채우고 풀었을 수 있다.
+                ValueWrapper cached = delegate.get(key);
+                if (cached != null) {
+                    return unwrap(cached.get());
+                }
+            }
+            return load(key, valueLoader);
+        } finally {
+            lease.get().release(Duration.ZERO);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        loads.increment();
+        long started = clock.millis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            delegate.put(key, new Entry(value, clock.millis() - started, expiresAt()));
+        }
+        return value;
+    }
+
+    /**
+     * 락을 쥔 인스턴스가 값을 채우기를 기다린다. 락이 풀리면 더 기다리지 않는다. 쥔 쪽이 읽기에 실패했거나 null 을
+     * 받아 아무것도 쓰지 않고 풀었을 수 있어서다. 락 보유 시간이 지나도 그렇다. 못 받으면 null.
+     */
+    private Object awaitRemote(Object key) {
+        String lockName = lockName(key);
+        long deadline = System.nanoTime() + lockLease.toNanos();
+        while (clusterLock.isHeld(lockName)) {
+            if (System.nanoTime() >= deadline) {
+                return null;
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                return unwrap(cached.get());
+            }
+        }
+        // 락을 확인한 사이에 쥔 쪽이 채우고 풀었을 수 있다.
+        ValueWrapper cached = delegate.get(key);
+        return cached == null ? null : unwrap(cached.get());
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= 만료 시각이면 미리 읽는다. ln(rand) 는 음수라 만료가 가까울수록,
+     * 읽는 데 오래 걸린 값일수록 일찍 걸린다. 읽기 시간을 모르는 항목(delta 0)은 만료될 때까지 기다린다.
+     */
+    private boolean refreshEarly(Object stored) {
+        if (!(stored instanceof Entry entry) || entry.getDeltaMs() <= 0 || beta <= 0) {
+            return false;
+        }
+        double gap = -entry.getDeltaMs() * beta * Math.log(random.getAsDouble());
+        return clock.millis() + gap >= entry.getExpiresAt();
+    }
+
+    private long expiresAt() {
+        return clock.millis() + ttl.toMillis();
+    }
+
+    private String lockName(Object key) {
+        return "cache:" + getName() + ":" + key;
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new IllegalStateException("캐시 조회가 취소되었습니다", e);
+        }
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof Entry entry ? entry.getValue() : stored;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("cache.single_flight")
+                .tag("cache", delegate.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 형식. 캐시 직렬화가 final 이 아닌 타입에만 타입 정보를 붙이므로 record 로 두지 않는다.
+     * deltaMs 는 값을 읽는 데 걸린 시간, expiresAt 은 epoch 밀리초 만료 시각이다.
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Entry {
+        private Object value;
+        private long deltaMs;
+        private long expiresAt;
+
+        Entry(Object value, long deltaMs, long expiresAt) {
+            this.value = value;
+            this.deltaMs = deltaMs;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.carecode.core.cache;
+
+import com.carecode.core.cluster.ClusterLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 감싼 캐시 매니저가 돌려주는 캐시를 {@link SingleFlightCache} 로 감싸고, 그 바깥에 트랜잭션 인식 데코레이터를 씌운다.
+ * 감싼 매니저는 트랜잭션 인식 없이 만들어야 한다. 그래야 단일 조회가 실제 저장소 바로 위에 놓인다.
+ *
+ * <p>진행 중인 조회는 {@link SingleFlightCache} 인스턴스마다 모이므로 캐시 이름마다 한 번만 감싸 재사용한다.
+ */
+public class SingleFlightCacheManager implements CacheManager, InitializingBean {
+
+    private final CacheManager delegate;
+    private final ClusterLock clusterLock;
+    private final Function<String, Duration> ttlResolver;
+    private final Duration lockLease;
+    private final Duration pollInterval;
+    private final double beta;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Cache> decorated = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttlResolver 캐시 이름 → 항목 TTL. 미리 읽기 판단에 쓰므로 감싼 매니저의 TTL 과 같아야 한다.
+     */
+    public SingleFlightCacheManager(CacheManager delegate, ClusterLock clusterLock,
+                                    Function<String, Duration> ttlResolver, Duration lockLease,
+                                    Duration pollInterval, double beta, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.clusterLock = clusterLock;
+        this.ttlResolver = ttlResolver;
+        this.lockLease = lockLease;
+        this.pollInterval = pollInterval;
+        this.beta = beta;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** 감싼 매니저는 빈이 아니라 초기화 콜백을 못 받는다. 캐시별 설정을 적재하도록 대신 넘긴다. */
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (delegate instanceof InitializingBean initializing) {
+            initializing.afterPropertiesSet();
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cached = decorated.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return decorated.computeIfAbsent(name, key -> new TransactionAwareCacheDecorator(new SingleFlightCache(
+                target, clusterLock, ttlResolver.apply(key), lockLease, pollInterval, beta, meterRegistry)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
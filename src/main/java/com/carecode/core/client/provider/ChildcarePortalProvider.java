@@ -2,6 +2,7 @@ package com.carecode.core.client.provider;
 
 import com.carecode.core.client.exception.PublicDataApiException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -29,7 +30,7 @@ public class ChildcarePortalProvider implements PublicDataProvider {
     private final String sizeParam;
 
     public ChildcarePortalProvider(
-            RestTemplate restTemplate,
+            @Qualifier("childcarePortalRestTemplate") RestTemplate restTemplate,
             @Value("${public.data.childcare-portal.service-key:}") String serviceKey,
             @Value("${public.data.childcare-portal.base-url:http://api.childcare.go.kr}") String baseUrl,
             // 명세서마다 파라미터명이 달라 설정으로 뺀다. 문서와 다르면 여기만 고치면 된다.
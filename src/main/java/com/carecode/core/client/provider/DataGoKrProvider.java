@@ -2,6 +2,7 @@ package com.carecode.core.client.provider;
 
 import com.carecode.core.client.exception.PublicDataApiException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -22,7 +23,7 @@ public class DataGoKrProvider implements PublicDataProvider {
     private final String serviceKey;
     private final String baseUrl;
 
-    public DataGoKrProvider(RestTemplate restTemplate,
+    public DataGoKrProvider(@Qualifier("dataGoKrRestTemplate") RestTemplate restTemplate,
                             @Value("${public.data.datagokr.service-key:}") String serviceKey,
                             @Value("${public.data.datagokr.base-url:https://apis.data.go.kr}") String baseUrl) {
         this.restTemplate = restTemplate;
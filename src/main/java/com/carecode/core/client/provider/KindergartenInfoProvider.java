@@ -2,6 +2,7 @@ package com.carecode.core.client.provider;
 
 import com.carecode.core.client.exception.PublicDataApiException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -26,7 +27,7 @@ public class KindergartenInfoProvider implements PublicDataProvider {
     private final String baseUrl;
 
     public KindergartenInfoProvider(
-            RestTemplate restTemplate,
+            @Qualifier("kindergartenInfoRestTemplate") RestTemplate restTemplate,
             @Value("${public.data.kindergarten-info.service-key:}") String serviceKey,
             @Value("${public.data.kindergarten-info.base-url:https://e-childschoolinfo.moe.go.kr}") String baseUrl) {
         this.restTemplate = restTemplate;
@@ -2,6 +2,7 @@ package com.carecode.core.client.provider;
 
 import com.carecode.core.client.exception.PublicDataApiException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -25,7 +26,7 @@ public class OdcloudProvider implements PublicDataProvider {
     private final String serviceKey;
     private final String baseUrl;
 
-    public OdcloudProvider(RestTemplate restTemplate,
+    public OdcloudProvider(@Qualifier("odcloudRestTemplate") RestTemplate restTemplate,
                            @Value("${public.data.datagokr.service-key:}") String serviceKey,
                            @Value("${public.data.odcloud.base-url:https://api.odcloud.kr}") String baseUrl) {
         this.restTemplate = restTemplate;
@@ -2,6 +2,7 @@ package com.carecode.core.client.provider;
 
 import com.carecode.core.client.exception.PublicDataApiException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -21,7 +22,7 @@ public class SeoulOpenDataProvider implements PublicDataProvider {
     private final String apiKey;
     private final String baseUrl;
 
-    public SeoulOpenDataProvider(RestTemplate restTemplate,
+    public SeoulOpenDataProvider(@Qualifier("seoulOpenDataRestTemplate") RestTemplate restTemplate,
                                  @Value("${public.data.seoul.api-key:${public.data.api.key:}}") String apiKey,
                                  @Value("${public.data.seoul.base-url:http://openapi.seoul.go.kr:8088}") String baseUrl) {
         this.restTemplate = restTemplate;
@@ -1,13 +1,13 @@
 package com.carecode.core.client.sync;
 
 import com.carecode.domain.careFacility.entity.CareFacility;
-import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
 import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /** 동기화 시점의 정원·현원을 이력으로 남긴다. 시설 행은 최신값만 갖고, 추이는 여기에 쌓인다. */
 @Slf4j
@@ -27,19 +27,10 @@ public class CapacitySnapshotRecorder {
             return;
         }
 
-        LocalDate today = LocalDate.now();
+        // 같은 날 재동기화하면 값만 고친다. 날짜별로 한 행만 유지하고, 오래된 행은 압축 작업이 구간으로 접는다.
         try {
-            snapshotRepository.findByFacilityIdAndObservedDate(facility.getId(), today)
-                    .ifPresentOrElse(
-                            existing -> existing.refresh(facility.getCapacity(),
-                                    facility.getCurrentEnrollment(), facility.getAvailableSpots()),
-                            () -> snapshotRepository.save(FacilityCapacitySnapshot.builder()
-                                    .facilityId(facility.getId())
-                                    .observedDate(today)
-                                    .capacity(facility.getCapacity())
-                                    .currentEnrollment(facility.getCurrentEnrollment())
-                                    .availableSpots(facility.getAvailableSpots())
-                                    .build()));
+            snapshotRepository.upsert(facility.getId(), LocalDate.now(), facility.getCapacity(),
+                    facility.getCurrentEnrollment(), facility.getAvailableSpots(), LocalDateTime.now());
         } catch (Exception e) {
             log.warn("정원 스냅샷 기록 실패 - facilityId={}, 사유={}", facility.getId(), e.getMessage());
         }
@@ -1,14 +1,20 @@
 package com.carecode.core.client.sync;
 
+import com.carecode.core.search.SpatialSearchSupport;
+import com.carecode.core.search.suggest.SuggestionChanged;
+import com.carecode.core.stats.SiteStatisticsEvent;
 import com.carecode.domain.health.entity.Hospital;
 import com.carecode.domain.health.repository.HospitalRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 /** 병원 한 건을 저장하는 트랜잭션 경계. */
 @Slf4j
 @Service
@@ -16,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class HospitalUpsertService {
 
     private final HospitalRepository hospitalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SpatialSearchSupport spatialSearchSupport;
 
     /** 요양기호(ykiho) 기준 upsert. */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -49,12 +57,24 @@ public class HospitalUpsertService {
         // 심평원 좌표는 XPos=경도, YPos=위도 순서다. 뒤집으면 지도에서 엉뚱한 위치가 나온다.
         Double lng = decimal(row, "XPos", "XPOS");
         Double lat = decimal(row, "YPos", "YPOS");
+        boolean moved = false;
         if (lat != null && lng != null) {
+            moved = !Objects.equals(lat, hospital.getLatitude()) || !Objects.equals(lng, hospital.getLongitude());
             hospital.setLatitude(lat);
             hospital.setLongitude(lng);
         }
 
         hospitalRepository.save(hospital);
+        // 반경 검색은 LOCATION(공간 인덱스)만 본다. 위경도만 바뀌고 여기가 안 바뀌면 옛 위치로 검색된다.
+        // 동기화 대부분은 좌표가 그대로라 바뀐 경우에만 UPDATE 한다.
+        if (moved && spatialSearchSupport.isEnabled()) {
+            hospitalRepository.updateLocation(hospital.getId(), SpatialSearchSupport.point(lat, lng));
+        }
+        if (isNew) {
+            eventPublisher.publishEvent(
+                    new SiteStatisticsEvent.HospitalRegistered(hospital.getName(), hospital.getCreatedAt()));
+        }
+        eventPublisher.publishEvent(SuggestionChanged.hospital(hospital.getId(), hospital.getName(), hospital.getAddress()));
         return isNew;
     }
 
@@ -1,6 +1,7 @@
 package com.carecode.core.client.sync;
 
 import com.carecode.core.client.provider.KindergartenInfoProvider;
+import com.carecode.core.cluster.ShardAssignment;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,11 @@ public class KindergartenSyncService {
     private String resource;
 
     public SyncResult sync() {
+        return sync(ShardAssignment.ALL);
+    }
+
+    /** 여러 인스턴스가 나눠 돌 때는 이 인스턴스 몫의 시군구만 수집한다. */
+    public SyncResult sync(ShardAssignment shard) {
         SyncResult result = new SyncResult(provider.getProviderName(), "전국유치원");
 
         if (!provider.isAvailable()) {
@@ -40,11 +46,17 @@ public class KindergartenSyncService {
             return result;
         }
 
-        List<RegionCodeCatalog.RegionCode> regions = regionCatalog.kindergartenRegions();
-        if (regions.isEmpty()) {
+        if (regionCatalog.kindergartenRegions().isEmpty()) {
             result.stop("시군구 코드 목록이 비어 있음");
             return result;
         }
+        List<RegionCodeCatalog.RegionCode> regions = regionCatalog.kindergartenRegions().stream()
+                .filter(region -> shard.owns(region.sggCode()))
+                .toList();
+        if (regions.isEmpty()) {
+            log.info("유치원 동기화 - 이 인스턴스 몫의 시군구가 없습니다. shard={}", shard);
+            return result;
+        }
 
         int emptyRegions = 0;
         for (RegionCodeCatalog.RegionCode region : regions) {
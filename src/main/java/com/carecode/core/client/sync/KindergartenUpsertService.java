@@ -1,11 +1,14 @@
 package com.carecode.core.client.sync;
 
+import com.carecode.core.search.suggest.SuggestionChanged;
+import com.carecode.core.stats.SiteStatisticsEvent;
 import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.entity.FacilityType;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +27,7 @@ public class KindergartenUpsertService {
 
     private final CareFacilityRepository careFacilityRepository;
     private final CapacitySnapshotRecorder snapshotRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public boolean upsert(JsonNode row) {
@@ -70,6 +74,11 @@ public class KindergartenUpsertService {
 
         facility.setUpdatedAt(LocalDateTime.now());
         careFacilityRepository.save(facility);
+        if (isNew) {
+            eventPublisher.publishEvent(new SiteStatisticsEvent.FacilityRegistered(facility.getFacilityType()));
+        }
+        eventPublisher.publishEvent(
+                SuggestionChanged.facility(facility.getId(), facility.getName(), facility.getAddress()));
         snapshotRecorder.record(facility);
         return isNew;
     }
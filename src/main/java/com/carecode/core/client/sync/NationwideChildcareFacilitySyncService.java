@@ -2,6 +2,7 @@ package com.carecode.core.client.sync;
 
 import com.carecode.core.client.XmlResponseParser;
 import com.carecode.core.client.provider.ChildcarePortalProvider;
+import com.carecode.core.cluster.ShardAssignment;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +32,11 @@ public class NationwideChildcareFacilitySyncService {
     private String resource;
 
     public SyncResult sync() {
+        return sync(ShardAssignment.ALL);
+    }
+
+    /** 여러 인스턴스가 나눠 돌 때는 이 인스턴스 몫의 시군구만 수집한다. */
+    public SyncResult sync(ShardAssignment shard) {
         SyncResult result = new SyncResult(provider.getProviderName(), "전국어린이집");
 
         if (!provider.isAvailable()) {
@@ -39,11 +45,15 @@ public class NationwideChildcareFacilitySyncService {
             return result;
         }
 
-        List<String> regions = regionCatalog.childcareRegions();
-        if (regions.isEmpty()) {
+        if (regionCatalog.childcareRegions().isEmpty()) {
             result.stop("시군구 코드 목록이 비어 있음");
             return result;
         }
+        List<String> regions = regionCatalog.childcareRegions().stream().filter(shard::owns).toList();
+        if (regions.isEmpty()) {
+            log.info("어린이집 동기화 - 이 인스턴스 몫의 시군구가 없습니다. shard={}", shard);
+            return result;
+        }
 
         int emptyRegions = 0;
         for (String arcode : regions) {
@@ -1,5 +1,7 @@
 package com.carecode.core.client.sync;
 
+import com.carecode.core.search.suggest.SuggestionChanged;
+import com.carecode.core.stats.SiteStatisticsEvent;
 import com.carecode.core.util.AgeRangeParser;
 import com.carecode.domain.policy.entity.Policy;
 import com.carecode.domain.policy.repository.PolicyRepository;
@@ -7,6 +9,7 @@ import com.carecode.domain.policy.service.PolicyChangeDetector;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -25,6 +28,7 @@ public class PolicyUpsertService {
 
     private final PolicyRepository policyRepository;
     private final PolicyChangeDetector changeDetector;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 서비스 ID 기준 upsert. */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -66,9 +70,13 @@ public class PolicyUpsertService {
 
         if (isNew) {
             changeDetector.recordCreated(saved);
+            eventPublisher.publishEvent(new SiteStatisticsEvent.PolicyRegistered(saved.getTitle(), saved.getCreatedAt()));
         } else {
             changeDetector.recordUpdates(saved, before);
         }
+        if (Boolean.TRUE.equals(saved.getIsActive())) {
+            eventPublisher.publishEvent(SuggestionChanged.policy(saved.getId(), saved.getTitle(), saved.getPolicyType()));
+        }
         return isNew;
     }
 
@@ -0,0 +1,105 @@
+package com.carecode.core.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 분산 락. SET NX PX 로 잡고, 해제는 토큰이 자기 것일 때만 한다.
+ *
+ * <p>스케줄 작업은 인스턴스마다 같은 cron 으로 돌지만 서버 시계가 조금씩 다르다. 1초 만에 끝난 작업이 락을 바로
+ * 풀면 2초 늦게 깨어난 인스턴스가 다시 잡아 같은 일을 한 번 더 한다. 그래서 해제할 때도 최소 보유 시간(atLeastFor)
+ * 까지는 키를 남겨 둔다. 최대 보유 시간(atMostFor)은 락을 쥔 인스턴스가 죽었을 때 풀리는 시점이다.
+ */
+@Slf4j
+@Component
+public class ClusterLock {
+
+    static final String KEY_PREFIX = "cluster:lock:";
+
+    /** 자기 토큰이면, 남길 시간이 있으면 그만큼으로 줄이고 없으면 지운다. */
+    static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "local keep = tonumber(ARGV[2]) "
+                    + "if keep > 0 then return redis.call('pexpire', KEYS[1], keep) end "
+                    + "return redis.call('del', KEYS[1]) end return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean failOpen;
+
+    public ClusterLock(StringRedisTemplate redisTemplate,
+                       @Value("${app.cluster.lock.fail-open:true}") boolean failOpen) {
+        this.redisTemplate = redisTemplate;
+        this.failOpen = failOpen;
+    }
+
+    /**
+     * 락을 잡는다. 다른 인스턴스가 쥐고 있으면 비어 있는 값을 돌려준다.
+     *
+     * <p>Redis 를 쓸 수 없을 때는 fail-open 설정을 따른다. 기본은 잠그지 않고 실행하는 쪽이다.
+     * 단일 인스턴스·로컬 환경에서 Redis 없이도 배치가 돌아야 하고, 알림 작업은 각자 발송 이력으로 중복을 한 번 더 거른다.
+     */
+    public Optional<Lease> tryAcquire(String name, Duration atMostFor) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, atMostFor);
+            if (acquired == null) {
+                throw new IllegalStateException("SET NX 응답 없음");
+            }
+            return acquired ? Optional.of(new Lease(key, token, System.nanoTime())) : Optional.empty();
+        } catch (RuntimeException e) {
+            if (failOpen) {
+                log.warn("분산 락 획득 실패 - 잠그지 않고 실행합니다. name={}: {}", name, e.getMessage());
+                return Optional.of(new Lease(null, token, System.nanoTime()));
+            }
+            log.error("분산 락 획득 실패 - 실행하지 않습니다. name={}: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 지금 누가 이 락을 쥐고 있는지. Redis 를 쓸 수 없으면 false 다. 쥔 쪽을 확인할 수 없으니 기다릴 근거도 없다.
+     */
+    public boolean isHeld(String name) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + name));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /** 잡은 락. key 가 null 이면 Redis 없이 잠그지 않고 실행 중이라는 뜻이다. */
+    public final class Lease {
+        private final String key;
+        private final String token;
+        private final long acquiredAtNanos;
+
+        private Lease(String key, String token, long acquiredAtNanos) {
+            this.key = key;
+            this.token = token;
+            this.acquiredAtNanos = acquiredAtNanos;
+        }
+
+        public void release(Duration atLeastFor) {
+            if (key == null) {
+                return;
+            }
+            long elapsedMs = Duration.ofNanos(System.nanoTime() - acquiredAtNanos).toMillis();
+            long keepMs = Math.max(0, atLeastFor.toMillis() - elapsedMs);
+            try {
+                redisTemplate.execute(RELEASE, List.of(key), token, String.valueOf(keepMs));
+            } catch (RuntimeException e) {
+                // 못 풀어도 atMostFor 가 지나면 풀린다.
+                log.warn("분산 락 해제 실패 - key={}: {}", key, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.carecode.core.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 살아 있는 인스턴스 목록과 리더. 각 인스턴스가 주기적으로 Redis 정렬 집합에 자기 이름과 시각을 남기고,
+ * 최근 하트비트가 있는 멤버만 살아 있다고 본다.
+ *
+ * <p>리더는 만료 시간이 있는 키 하나를 먼저 잡은 인스턴스다. 리더가 죽으면 키가 만료되어 다음 하트비트에서
+ * 다른 인스턴스가 이어받는다. 리더는 죽은 멤버 정리 같은 클러스터 단위 잡일을 맡는다.
+ *
+ * <p>Redis 를 쓸 수 없으면 자기 혼자인 것으로 본다. 작업이 나뉘지 않을 뿐 기존처럼 전부 처리한다.
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    static final String MEMBERS_KEY = "cluster:members";
+    static final String LEADER_KEY = "cluster:leader";
+
+    private static final DefaultRedisScript<Long> RENEW_IF_OWNER = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0", Long.class);
+
+    private static final DefaultRedisScript<Long> DELETE_IF_OWNER = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) end return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId;
+    private final long memberTtlMs;
+
+    private volatile boolean leader;
+
+    public ClusterMembership(StringRedisTemplate redisTemplate,
+                             @Value("${app.cluster.member-ttl-ms:30000}") long memberTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.memberTtlMs = memberTtlMs;
+        this.instanceId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /** 기동 직후에도 바로 돈다(initialDelay 0). 하트비트 간격은 member-ttl 의 1/3 이하로 둔다. */
+    @Scheduled(fixedDelayString = "${app.cluster.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(MEMBERS_KEY, instanceId, now);
+            leader = acquireOrRenewLeadership();
+            if (leader) {
+                Long removed = redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, 0, now - memberTtlMs);
+                if (removed != null && removed > 0) {
+                    log.info("응답 없는 인스턴스 {}개를 클러스터에서 제외했습니다", removed);
+                }
+            }
+        } catch (RuntimeException e) {
+            leader = false;
+            log.warn("클러스터 하트비트 실패 - 단독 실행으로 동작합니다: {}", e.getMessage());
+        }
+    }
+
+    private boolean acquireOrRenewLeadership() {
+        Duration lease = Duration.ofMillis(memberTtlMs);
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEADER_KEY, instanceId, lease);
+        if (Boolean.TRUE.equals(acquired)) {
+            if (!leader) {
+                log.info("클러스터 리더가 되었습니다 - {}", instanceId);
+            }
+            return true;
+        }
+        Long renewed = redisTemplate.execute(RENEW_IF_OWNER, List.of(LEADER_KEY),
+                instanceId, String.valueOf(lease.toMillis()));
+        return renewed != null && renewed > 0;
+    }
+
+    /** 최근 하트비트가 있는 멤버. 정렬되어 있어 어느 인스턴스에서 읽어도 순서가 같다. 자기 자신은 항상 포함한다. */
+    public List<String> liveMembers() {
+        List<String> members = new ArrayList<>();
+        try {
+            long now = System.currentTimeMillis();
+            Set<String> live = redisTemplate.opsForZSet().rangeByScore(MEMBERS_KEY, now - memberTtlMs, Double.MAX_VALUE);
+            if (live != null) {
+                members.addAll(live);
+            }
+        } catch (RuntimeException e) {
+            log.warn("클러스터 멤버 조회 실패 - 단독 실행으로 동작합니다: {}", e.getMessage());
+            return List.of(instanceId);
+        }
+        if (!members.contains(instanceId)) {
+            members.add(instanceId);
+        }
+        members.sort(null);
+        return members;
+    }
+
+    /** 지금 멤버 목록으로 이번 실행의 몫을 정한다. */
+    public ShardAssignment currentAssignment() {
+        return ShardAssignment.of(instanceId, liveMembers());
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /** 정상 종료 시 바로 빠져야 다음 실행에서 이 인스턴스 몫이 남지 않는다. */
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId);
+            redisTemplate.execute(DELETE_IF_OWNER, List.of(LEADER_KEY), instanceId);
+        } catch (RuntimeException e) {
+            log.debug("클러스터 탈퇴 실패 - TTL 이 지나면 정리됩니다: {}", e.getMessage());
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.carecode.core.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 인스턴스 목록 위의 일관 해시 링. 같은 멤버 목록이면 어느 인스턴스에서 만들어도 같은 키가 같은 주인에게 간다.
+ *
+ * <p>멤버 하나가 들고 나도 그 멤버 몫의 키만 옮겨 간다. 모듈러 분배(hash % n)였다면 노드 수가 바뀔 때마다
+ * 거의 모든 지역의 담당이 바뀌어, 배포 중에는 같은 지역을 두 번 받거나 아무도 받지 않는 구간이 커진다.
+ */
+public final class ConsistentHashRing {
+
+    /** 멤버당 가상 노드 수. 멤버가 몇 개 안 될 때도 몫이 고르게 나뉘도록 충분히 둔다. */
+    static final int VIRTUAL_NODES = 128;
+
+    private final SortedMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> members) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("멤버가 없는 해시 링은 만들 수 없습니다");
+        }
+        for (String member : members) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(member + "#" + i), member);
+            }
+        }
+    }
+
+    public String ownerOf(String key) {
+        SortedMap<Long, String> tail = ring.tailMap(hash(key));
+        return tail.isEmpty() ? ring.get(ring.firstKey()) : tail.get(tail.firstKey());
+    }
+
+    /** JVM·인스턴스와 무관하게 같은 값이 나와야 하므로 String#hashCode 가 아니라 MD5 앞 8바이트를 쓴다. */
+    static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) {
+                h = (h << 8) | (digest[i] & 0xFF);
+            }
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 를 사용할 수 없습니다", e);
+        }
+    }
+}
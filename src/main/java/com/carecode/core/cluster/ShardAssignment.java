@@ -0,0 +1,47 @@
+package com.carecode.core.cluster;
+
+import java.util.List;
+
+/**
+ * 한 번의 작업 실행에서 이 인스턴스가 맡을 몫. 실행 시작 시점의 멤버 목록으로 한 번 만들고 끝까지 쓴다.
+ * 실행 도중 멤버가 바뀌어도 담당이 흔들리지 않게 하기 위해서다.
+ */
+public final class ShardAssignment {
+
+    /** 나누지 않고 전부 맡는다. 관리자 수동 실행이나 Redis 를 쓸 수 없을 때의 기본값이다. */
+    public static final ShardAssignment ALL = new ShardAssignment(null, null, 1);
+
+    private final ConsistentHashRing ring;
+    private final String self;
+    private final int memberCount;
+
+    private ShardAssignment(ConsistentHashRing ring, String self, int memberCount) {
+        this.ring = ring;
+        this.self = self;
+        this.memberCount = memberCount;
+    }
+
+    static ShardAssignment of(String self, List<String> liveMembers) {
+        if (liveMembers.size() <= 1) {
+            return ALL;
+        }
+        return new ShardAssignment(new ConsistentHashRing(liveMembers), self, liveMembers.size());
+    }
+
+    public boolean owns(Object key) {
+        return ring == null || self.equals(ring.ownerOf(String.valueOf(key)));
+    }
+
+    public boolean isPartitioned() {
+        return ring != null;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    @Override
+    public String toString() {
+        return isPartitioned() ? String.format("%s (1/%d)", self, memberCount) : "전체";
+    }
+}
@@ -1,6 +1,7 @@
 package com.carecode.core.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -47,4 +48,63 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 좌표 보정 전용 풀. 외부 API 응답을 기다리는 동안 다른 주소를 묻도록 여러 스레드를 둔다.
+     * 속도는 토큰 버킷이 맞추므로 스레드 수는 응답 지연을 가릴 만큼이면 된다.
+     */
+    @Bean(name = "geocodingExecutor")
+    public Executor geocodingExecutor(@Value("${app.geocoding.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("geocode-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 썸네일 생성 전용 풀. 이미지 디코딩은 CPU 를 쓰므로 스레드를 적게 둔다.
+     * 밀리면 버린다. 썸네일이 없으면 원본을 내려주므로 화면은 깨지지 않는다.
+     * 큐가 찰 때까지는 코어 스레드만 돌므로 코어와 최대를 같게 둔다.
+     */
+    @Bean(name = "imageExecutor")
+    public Executor imageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 내 데이터 내려받기 전용 풀. 한 건이 몇 분 걸릴 수 있어 다른 풀을 막지 않게 따로 둔다.
+     * DB 를 페이지 단위로 오래 읽으므로 동시에 두 건까지만 돌린다. 큐가 찰 때까지는 코어 스레드만 돌므로 코어와
+     * 최대를 같게 둔다.
+     *
+     * <p>가득 차면 거절한다. 몇 분 걸리는 압축을 요청 스레드에서 만들면 HTTP 스레드가 묶인다. 요청을 받는 쪽이
+     * 미리 자리를 확인해 잠시 후 다시 요청하라고 돌려보내고, 그 사이에 찬 경우는 실패로 남겨 다시 요청할 수 있게 한다.
+     */
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("export-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
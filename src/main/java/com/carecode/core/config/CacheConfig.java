@@ -1,10 +1,15 @@
 package com.carecode.core.config;
 
+import com.carecode.core.cache.SingleFlightCache;
+import com.carecode.core.cache.SingleFlightCacheManager;
+import com.carecode.core.cluster.ClusterLock;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -24,16 +29,28 @@ import java.util.Map;
 /**
  * Redis 캐시 설정.
  * spring.cache.type=none 이면 이 설정을 만들지 않는다 — 그렇지 않으면 Redis 없이 로컬·테스트 구동이 불가능하다.
+ *
+ * <p>모든 캐시를 {@link SingleFlightCache} 로 감싼다. {@code @Cacheable(sync = true)} 인 조회는 키마다 한 번만
+ * DB 로 가고 만료 직전에 미리 다시 읽는다. 트랜잭션 인식 데코레이터는 그 바깥에 씌운다.
  */
 @Configuration
 @EnableCaching
 @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
 public class CacheConfig {
 
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 저장 형식 버전. 값을 {@link SingleFlightCache.Entry} 로 감싸면서 올렸다. 예전 키를 그대로 쓰면 롤링 배포 중이거나
+     * 롤백한 예전 인스턴스가 새 형식을 못 읽어 TTL(최대 30분) 동안 조회가 실패한다. 형식이 바뀌면 다시 올린다.
+     */
+    static final String KEY_VERSION = "v2:";
+
     // 기본 캐시 설정
-    private RedisCacheConfiguration defaultCacheConfig() {
+    RedisCacheConfiguration defaultCacheConfig() {
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10)) // 기본 TTL: 10분
+                .entryTtl(DEFAULT_TTL) // 기본 TTL: 10분
+                .prefixCacheNameWith(KEY_VERSION)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
@@ -42,7 +59,7 @@ public class CacheConfig {
     }
 
     /** 캐시 값 직렬화용 ObjectMapper. JavaTimeModule 이 없으면 LocalDate/LocalDateTime 필드를 가진 DTO 캐싱이 실패한다. */
-    private ObjectMapper cacheObjectMapper() {
+    static ObjectMapper cacheObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -60,34 +77,39 @@ public class CacheConfig {
 
     // 캐시별 TTL 설정
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory factory) {
-        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+    public CacheManager cacheManager(RedisConnectionFactory factory,
+                                     ClusterLock clusterLock,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.cache.single-flight.lock-lease:PT5S}") Duration lockLease,
+                                     @Value("${app.cache.single-flight.poll-interval:PT0.05S}") Duration pollInterval,
+                                     @Value("${app.cache.single-flight.early-refresh-beta:1.0}") double beta) {
+        Map<String, Duration> ttls = new HashMap<>();
         
         // 건강 기록 캐시: 5분
-        cacheConfigurations.put("healthRecords", defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(5)));
+        ttls.put("healthRecords", Duration.ofMinutes(5));
         
         // 정책 캐시: 30분 (변경 빈도가 낮음)
-        cacheConfigurations.put("policy", defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30)));
+        ttls.put("policy", Duration.ofMinutes(30));
         
         // 돌봄 시설 캐시: 15분
-        cacheConfigurations.put("careFacility", defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(15)));
+        ttls.put("careFacility", Duration.ofMinutes(15));
         
         // 사용자 정보 캐시: 10분
-        cacheConfigurations.put("user", defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10)));
+        ttls.put("user", Duration.ofMinutes(10));
         
         // 통계 데이터 캐시: 1분 (자주 변경됨)
-        cacheConfigurations.put("statistics", defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(1)));
-        
-        return RedisCacheManager.builder(factory)
+        ttls.put("statistics", Duration.ofMinutes(1));
+
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        ttls.forEach((name, ttl) -> cacheConfigurations.put(name, defaultCacheConfig().entryTtl(ttl)));
+
+        // 트랜잭션 인식은 단일 조회 바깥에서 SingleFlightCacheManager 가 씌운다
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(factory)
                 .cacheDefaults(defaultCacheConfig())
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware() // 트랜잭션 인식
                 .build();
+        return new SingleFlightCacheManager(redisCacheManager, clusterLock,
+                name -> ttls.getOrDefault(name, DEFAULT_TTL), lockLease, pollInterval, beta, meterRegistry);
     }
 }
 
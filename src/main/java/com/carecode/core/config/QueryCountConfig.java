@@ -2,6 +2,9 @@ package com.carecode.core.config;
 
 import com.carecode.core.monitoring.QueryCountFilter;
 import com.carecode.core.monitoring.QueryCountInspector;
+import com.carecode.core.monitoring.QueryTimingDataSourcePostProcessor;
+import com.carecode.core.monitoring.SqlProfileRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,7 +16,12 @@ import org.springframework.core.Ordered;
 
 import java.util.Map;
 
-/** 쿼리 수 측정. 기본은 꺼져 있고 app.monitoring.query-count.enabled=true 일 때만 동작한다. */
+/**
+ * SQL 프로파일링. 기본은 꺼져 있고 app.monitoring.query-count.enabled=true 일 때만 동작한다.
+ *
+ * <p>개수와 지문은 Hibernate StatementInspector 로, 실행 시간은 DataSource 프록시로 잰다. 둘 다 요청
+ * 스레드의 ThreadLocal 에 쌓이고 필터가 요청 끝에 한 번에 지표로 넘긴다.
+ */
 @Slf4j
 @Configuration
 @ConditionalOnProperty(name = "app.monitoring.query-count.enabled", havingValue = "true")
@@ -22,19 +30,33 @@ public class QueryCountConfig {
     @Value("${app.monitoring.query-count.threshold:20}")
     private int threshold;
 
+    @Value("${app.monitoring.query-count.repeat-threshold:5}")
+    private int repeatThreshold;
+
     /** StatementInspector 는 SessionFactory 생성 시점에 주입해야 하므로 프로퍼티로 넣는다. */
     @Bean
     public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
-        log.info("쿼리 수 측정 활성화 - 임계치 {}건", threshold);
+        log.info("SQL 프로파일링 활성화 - 쿼리 임계치 {}건, 반복 임계치 {}회", threshold, repeatThreshold);
         return (Map<String, Object> props) ->
                 props.put("hibernate.session_factory.statement_inspector", new QueryCountInspector());
     }
 
+    /** static 이어야 이 설정 클래스가 DataSource 보다 늦게 만들어져도 후처리기가 먼저 등록된다. */
+    @Bean
+    public static QueryTimingDataSourcePostProcessor queryTimingDataSourcePostProcessor() {
+        return new QueryTimingDataSourcePostProcessor();
+    }
+
+    @Bean
+    public SqlProfileRegistry sqlProfileRegistry(MeterRegistry meterRegistry) {
+        return new SqlProfileRegistry(meterRegistry, repeatThreshold);
+    }
+
     /** 가장 바깥에서 감싸야 요청 전체의 쿼리를 센다. */
     @Bean
-    public FilterRegistrationBean<QueryCountFilter> queryCountFilterRegistration() {
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilterRegistration(SqlProfileRegistry sqlProfileRegistry) {
         FilterRegistrationBean<QueryCountFilter> registration =
-                new FilterRegistrationBean<>(new QueryCountFilter(threshold));
+                new FilterRegistrationBean<>(new QueryCountFilter(threshold, sqlProfileRegistry));
         registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
         registration.addUrlPatterns("/*");
         return registration;
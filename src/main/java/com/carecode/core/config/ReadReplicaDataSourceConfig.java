@@ -0,0 +1,66 @@
+package com.carecode.core.config;
+
+import com.carecode.core.datasource.ReadYourWritesTracker;
+import com.carecode.core.datasource.ReplicaLagMonitor;
+import com.carecode.core.datasource.ReplicaPools;
+import com.carecode.core.datasource.ReplicaRoutingDataSource;
+import com.carecode.core.datasource.ReplicaSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅. 기본은 꺼져 있고 app.datasource.read-replica.enabled=true 일 때만 Boot 기본 DataSource 를
+ * 대신한다.
+ *
+ * <p>DataSource 빈은 하나(LazyConnectionDataSourceProxy)만 둔다. Flyway, 배치, SQL 프로파일링 프록시는 모두 이
+ * 빈을 쓰고, 트랜잭션 밖이거나 쓰기 트랜잭션이면 주 DB 로 간다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaSettings replicaSettings(Environment environment) {
+        ReplicaSettings settings = ReplicaSettings.resolve(environment);
+        if (settings.urls().isEmpty()) {
+            throw new IllegalStateException("app.datasource.read-replica.urls 가 비어 있습니다. 복제본 주소를 적거나 라우팅을 끄세요.");
+        }
+        return settings;
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(DataSourceProperties properties, ReplicaSettings settings,
+                                     Environment environment, MeterRegistry meterRegistry) {
+        return new ReplicaPools(properties, settings, environment, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaPools pools, ReplicaSettings settings, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(new LinkedHashMap<>(pools.replicas()), settings.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaSettings settings) {
+        return new ReadYourWritesTracker(settings.readYourWritesWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaPools pools, ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>(pools.replicas());
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                pools.primary(), replicas, lagMonitor, readYourWrites, meterRegistry));
+    }
+}
@@ -1,20 +1,59 @@
 package com.carecode.core.config;
 
+import com.carecode.core.http.PooledRestTemplateFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
-/** RestTemplate 설정 */
+/**
+ * RestTemplate 설정. 외부 연동처마다 이름 붙은 클라이언트를 따로 둔다.
+ *
+ * <p>풀·타임아웃·차단 설정은 application.yml 의 app.http.clients.&lt;이름&gt; 에 있다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    /** 이름 붙은 클라이언트를 쓰지 않는 나머지 호출용. */
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(10000); // 10초
-        factory.setReadTimeout(30000);    // 30초
-        
-        return new RestTemplate(factory);
+    @Primary
+    public RestTemplate restTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("default");
     }
-} 
\ No newline at end of file
+
+    @Bean
+    public RestTemplate childcarePortalRestTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("childcare-portal");
+    }
+
+    @Bean
+    public RestTemplate dataGoKrRestTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("data-go-kr");
+    }
+
+    @Bean
+    public RestTemplate kindergartenInfoRestTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("kindergarten-info");
+    }
+
+    @Bean
+    public RestTemplate odcloudRestTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("odcloud");
+    }
+
+    @Bean
+    public RestTemplate seoulOpenDataRestTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("seoul-open-data");
+    }
+
+    @Bean
+    public RestTemplate kakaoGeocoderRestTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("kakao-geocoder");
+    }
+
+    /** 알림은 장애 상황에서 나가야 하므로 공공 API 와 풀·차단기를 절대 같이 쓰지 않는다. */
+    @Bean
+    public RestTemplate opsAlertRestTemplate(PooledRestTemplateFactory factory) {
+        return factory.create("ops-alert");
+    }
+}
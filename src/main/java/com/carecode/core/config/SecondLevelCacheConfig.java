@@ -0,0 +1,65 @@
+package com.carecode.core.config;
+
+import com.carecode.core.cache.SecondLevelCacheInvalidator;
+import com.carecode.core.cache.SecondLevelCacheRegions;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine)와 쿼리 캐시. 참조 데이터(태그, 정책 카테고리, 알림 템플릿)와 병원을 캐시한다.
+ *
+ * <p>영역은 {@link SecondLevelCacheRegions} 에 모두 적혀 있어야 한다. 엔티티에 새 영역을 붙이고 설정을 빠뜨리면
+ * 기본값(크기·TTL 무제한)으로 조용히 만들어지지 않고 기동이 실패한다.
+ *
+ * <p>통계는 hibernate-micrometer 가 hibernate_second_level_cache_* 와 hibernate_cache_query_* 로 내보낸다.
+ */
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Value("${app.cache.second-level.enabled:true}")
+    private boolean enabled;
+
+    @Bean
+    public CacheManager secondLevelCacheManager() {
+        return SecondLevelCacheRegions.createCacheManager();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return (Map<String, Object> props) -> {
+            // hibernate-jcache 가 있으면 Hibernate 는 따로 켜지 않아도 캐시를 쓴다. 끌 때는 명시적으로 꺼야 한다.
+            props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            props.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            props.put(AvailableSettings.GENERATE_STATISTICS, true);
+            if (enabled) {
+                props.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                props.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+                props.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+                log.info("Hibernate 2차 캐시 활성화");
+            }
+        };
+    }
+
+    /** 다른 인스턴스의 무효화 알림을 받는다. Redis 없이 띄우는 로컬·테스트(spring.cache.type=none)에서는 만들지 않는다. */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer secondLevelCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                             SecondLevelCacheInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidator, new ChannelTopic(SecondLevelCacheInvalidator.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,48 @@
+package com.carecode.core.controller;
+
+import com.carecode.core.search.suggest.SearchSuggestion;
+import com.carecode.core.search.suggest.SuggestionIndex;
+import com.carecode.core.search.suggest.SuggestionType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/** 검색창 자동완성. 키 입력마다 불리므로 DB 를 거치지 않고 메모리 트라이에서 답한다. */
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Tag(name = "검색", description = "시설·병원·정책·시군구 이름 자동완성")
+public class SearchSuggestController {
+
+    /** 이름보다 긴 검색어는 맞을 후보가 없다. 긴 입력으로 자모 분해를 오래 돌리지 않게 자른다. */
+    private static final int MAX_QUERY_LENGTH = 50;
+
+    /** 같은 입력은 모든 사용자에게 같은 답이라 앱·CDN 이 잠깐 들고 있어도 된다. 재구축 주기보다 짧게 둔다. */
+    private static final CacheControl CACHE = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    private final SuggestionIndex suggestionIndex;
+
+    @GetMapping("/suggest")
+    @Operation(summary = "자동완성", description = "입력 중인 글자와 초성(ㅇㄹㅇㅈ)으로 이름 후보를 인기순으로 반환")
+    public ResponseEntity<List<SearchSuggestion>> suggest(
+            @Parameter(description = "검색어", required = true) @RequestParam String q,
+            @Parameter(description = "후보 종류 (비우면 전체)") @RequestParam(required = false) Set<SuggestionType> types,
+            @Parameter(description = "최대 개수 (1~10)") @RequestParam(defaultValue = "8") int limit) {
+        String query = q.length() > MAX_QUERY_LENGTH ? q.substring(0, MAX_QUERY_LENGTH) : q;
+        int size = Math.min(Math.max(limit, 1), SuggestionIndex.TOP_K);
+        return ResponseEntity.ok()
+                .cacheControl(CACHE)
+                .body(suggestionIndex.suggest(query, types, size));
+    }
+}
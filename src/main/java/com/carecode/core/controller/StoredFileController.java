@@ -0,0 +1,39 @@
+package com.carecode.core.controller;
+
+import com.carecode.core.storage.StoredFileServer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+
+/** 업로드된 파일 다운로드. StoredFile 의 url 이 가리키는 곳이다. */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "파일", description = "업로드된 파일 다운로드 (Range 이어받기 지원)")
+public class StoredFileController {
+
+    private final StoredFileServer fileServer;
+
+    @Value("${app.storage.public-base-url:/files}")
+    private String publicBaseUrl;
+
+    @RequestMapping(path = "${app.storage.public-base-url:/files}/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    @Operation(summary = "파일 다운로드", description = "Range, If-None-Match, If-Range 를 지원합니다")
+    public void download(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        String prefix = publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/";
+        if (!path.startsWith(prefix)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        fileServer.serve(path.substring(prefix.length()), request, response);
+    }
+}
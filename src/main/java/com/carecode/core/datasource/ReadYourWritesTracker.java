@@ -0,0 +1,89 @@
+package com.carecode.core.datasource;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방금 쓴 사용자의 읽기를 잠시 주 DB 로 보낸다.
+ *
+ * <p>글을 올리고 바로 목록을 열었는데 복제가 아직 안 따라와 자기 글이 안 보이면 다시 올린다. 쓰기 트랜잭션을 연
+ * 사용자를 기록해 두고, 창이 지날 때까지 그 사용자의 읽기 전용 트랜잭션은 복제본으로 보내지 않는다. 다른 사용자는
+ * 영향이 없다.
+ *
+ * <p>기록은 인스턴스별이다. 로드밸런서가 바로 다음 요청을 다른 인스턴스로 보내면 그쪽은 모른다. 창은 허용 지연보다
+ * 길게 잡혀 있어 그 경우에도 지연이 허용치 안이면 대부분 이미 반영돼 있다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Duration window;
+    private final Clock clock;
+
+    private final Map<String, Instant> recentWriters = new ConcurrentHashMap<>();
+    private volatile Instant nextPurgeAt = Instant.MIN;
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /** 로그인 사용자가 없는 쓰기(스케줄러, 배치, 가입 전 요청)는 이어서 읽을 사람이 없으니 기록하지 않는다. */
+    public void recordWrite() {
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        recentWriters.put(user, now.plus(window));
+        purgeExpired(now);
+    }
+
+    public boolean mustReadPrimary() {
+        if (recentWriters.isEmpty()) {
+            return false;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Instant until = recentWriters.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (!clock.instant().isBefore(until)) {
+            recentWriters.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    int size() {
+        return recentWriters.size();
+    }
+
+    /** 창마다 한 번만 훑는다. 남는 항목은 많아야 창 두 개 동안 쓴 사용자 수다. */
+    private void purgeExpired(Instant now) {
+        if (now.isBefore(nextPurgeAt)) {
+            return;
+        }
+        nextPurgeAt = now.plus(window);
+        recentWriters.values().removeIf(until -> !now.isBefore(until));
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken
+                || "anonymousUser".equals(authentication.getName())) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
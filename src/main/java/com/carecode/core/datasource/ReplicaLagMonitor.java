@@ -0,0 +1,108 @@
+package com.carecode.core.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 복제본마다 복제 지연을 재고, 허용치 안에 있는 복제본만 읽기에 쓰게 한다.
+ *
+ * <p>지연은 SHOW SLAVE STATUS 의 Seconds_Behind_Master 로 본다. 값이 NULL 이면 복제 스레드가 멈춘 것이라
+ * 얼마나 뒤처졌는지 알 수 없으므로 뺀다. 연결이 안 되거나 조회가 실패해도 뺀다. 결과가 아예 없으면 복제본이
+ * 아닌 DB(로컬에서 주 DB 를 복제본 자리에 적은 경우)라 지연 0 으로 본다.
+ *
+ * <p>첫 측정 전에는 쓸 수 있는 복제본이 없다. 기동 직후 잠깐은 읽기도 주 DB 로 간다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String METRIC_LAG = "datasource.replica.lag";
+    static final String METRIC_AVAILABLE = "datasource.replica.available";
+
+    /** 측정 실패 또는 복제 중단. */
+    static final long UNKNOWN = -1;
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final Map<String, AtomicLong> lagSeconds = new LinkedHashMap<>();
+
+    private volatile List<String> available = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLag.toSeconds();
+        for (String name : replicas.keySet()) {
+            AtomicLong lag = new AtomicLong(UNKNOWN);
+            lagSeconds.put(name, lag);
+            Gauge.builder(METRIC_LAG, lag, AtomicLong::get)
+                    .description("복제 지연 초 (-1=측정 불가)")
+                    .baseUnit("seconds")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_AVAILABLE, this, monitor -> monitor.available.contains(name) ? 1 : 0)
+                    .description("읽기에 쓰는 복제본이면 1")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /** 지금 읽기에 써도 되는 복제본 이름. 측정할 때만 바뀌고 그 사이에는 같은 목록을 돌려준다. */
+    public List<String> availableReplicas() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read-replica.lag-check-interval-ms:5000}")
+    public void check() {
+        List<String> next = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            String name = replica.getKey();
+            long lag = measure(name, replica.getValue());
+            lagSeconds.get(name).set(lag);
+
+            boolean usable = lag != UNKNOWN && lag <= maxLagSeconds;
+            boolean wasUsable = available.contains(name);
+            if (usable) {
+                next.add(name);
+                if (!wasUsable) {
+                    log.info("복제본 읽기 투입 - {} (지연 {}초)", name, lag);
+                }
+            } else if (wasUsable) {
+                log.warn("복제본 읽기 제외 - {} (지연 {}, 허용 {}초)", name,
+                        lag == UNKNOWN ? "측정 불가" : lag + "초", maxLagSeconds);
+            }
+        }
+        available = List.copyOf(next);
+    }
+
+    private long measure(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+                if (!rs.next()) {
+                    return 0;
+                }
+                long lag = rs.getLong("Seconds_Behind_Master");
+                return rs.wasNull() ? UNKNOWN : lag;
+            }
+        } catch (SQLException e) {
+            log.debug("복제 지연 측정 실패 - {}: {}", name, e.getMessage());
+            return UNKNOWN;
+        }
+    }
+}
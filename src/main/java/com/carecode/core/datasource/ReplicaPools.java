@@ -0,0 +1,76 @@
+package com.carecode.core.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주 DB 와 복제본의 Hikari 풀. 라우팅 DataSource 만 빈으로 내보내므로 풀은 여기서 만들고 닫는다.
+ *
+ * <p>풀마다 이름(carecode-primary, carecode-replica-0 …)을 붙이고 Micrometer 에 직접 묶는다. Boot 는 빈으로 등록된
+ * 풀만 찾아 묶어서, 라우팅 안쪽의 복제본 풀은 hikaricp_* 지표가 나오지 않는다. 풀 설정은 모두 spring.datasource.hikari
+ * 를 따르고 복제본은 크기만 따로 둔다.
+ */
+@Slf4j
+public class ReplicaPools implements DisposableBean {
+
+    static final String POOL_PREFIX = "carecode-";
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+
+    public ReplicaPools(DataSourceProperties properties, ReplicaSettings settings, Environment environment,
+                        MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        this.primary = pool(properties, environment, metrics, ReplicaRoutingDataSource.PRIMARY);
+
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < settings.urls().size(); i++) {
+            String name = "replica-" + i;
+            HikariDataSource replica = pool(properties, environment, metrics, name);
+            replica.setJdbcUrl(settings.urls().get(i));
+            replica.setUsername(settings.username());
+            replica.setPassword(settings.password());
+            replica.setMaximumPoolSize(settings.maximumPoolSize());
+            replica.setMinimumIdle(Math.min(settings.minimumIdle(), settings.maximumPoolSize()));
+            // 복제본에 잘못 온 쓰기가 드라이버 단계에서 막히게 한다. 복제본 서버도 read_only 로 둔다.
+            replica.setReadOnly(true);
+            pools.put(name, replica);
+        }
+        this.replicas = Collections.unmodifiableMap(pools);
+        log.info("읽기 복제본 라우팅 활성화 - 복제본 {}개, 풀 크기 {}", replicas.size(), settings.maximumPoolSize());
+    }
+
+    public HikariDataSource primary() {
+        return primary;
+    }
+
+    public Map<String, HikariDataSource> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Environment environment,
+                                         MicrometerMetricsTrackerFactory metrics, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(POOL_PREFIX + name);
+        pool.setMetricsTrackerFactory(metrics);
+        return pool;
+    }
+}
@@ -0,0 +1,87 @@
+package com.carecode.core.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 DB 로 보낸다.
+ *
+ * <p>트랜잭션이 읽기 전용인지는 커넥션을 꺼낼 때 알아야 한다. JPA 트랜잭션 매니저는 읽기 전용 표시를 하기 전에
+ * 커넥션부터 잡으므로 이 클래스는 반드시 LazyConnectionDataSourceProxy 안쪽에 둔다. 그래야 첫 SQL 을 보낼 때
+ * 커넥션을 고른다.
+ *
+ * <p>복제본이 모두 허용 지연을 넘었거나, 방금 쓴 사용자의 읽기이면 읽기 전용이어도 주 DB 로 보낸다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String METRIC_ROUTING = "datasource.routing";
+
+    enum Route {
+        /** 읽기 전용이 아닌 트랜잭션 또는 트랜잭션 밖. */
+        WRITE,
+        REPLICA,
+        /** 읽기 전용이지만 이 사용자가 방금 썼다. */
+        READ_YOUR_WRITES,
+        /** 읽기 전용이지만 허용 지연 안의 복제본이 없다. */
+        REPLICA_UNAVAILABLE
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Map<Route, Counter> counters = new EnumMap<>(Route.class);
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        // 모르는 키로 주 DB 에 조용히 붙지 않게 한다. 키는 이 클래스만 만든다.
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        for (Route route : Route.values()) {
+            counters.put(route, Counter.builder(METRIC_ROUTING)
+                    .description("커넥션을 어느 DB 로 보냈는지")
+                    .tag("route", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 실제로 아무것도 안 쓴 트랜잭션도 기록된다. 그만큼 주 DB 로 더 갈 뿐 틀린 값을 읽지는 않는다.
+            readYourWrites.recordWrite();
+            return route(Route.WRITE, PRIMARY);
+        }
+        if (readYourWrites.mustReadPrimary()) {
+            return route(Route.READ_YOUR_WRITES, PRIMARY);
+        }
+        List<String> replicas = lagMonitor.availableReplicas();
+        if (replicas.isEmpty()) {
+            return route(Route.REPLICA_UNAVAILABLE, PRIMARY);
+        }
+        return route(Route.REPLICA, replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size())));
+    }
+
+    private String route(Route route, String key) {
+        counters.get(route).increment();
+        return key;
+    }
+}
@@ -0,0 +1,46 @@
+package com.carecode.core.datasource;
+
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기 복제본 풀과 라우팅 설정.
+ *
+ * <p>app.datasource.read-replica.* 에 없으면 계정과 풀 크기는 spring.datasource.* 를 따른다. 복제본은 보통
+ * 주 DB 를 그대로 떠 온 것이라 계정이 같고, 따로 적을 일은 주소뿐이다.
+ */
+public record ReplicaSettings(
+        List<String> urls,
+        String username,
+        String password,
+        int maximumPoolSize,
+        int minimumIdle,
+        Duration maxLag,
+        Duration readYourWritesWindow) {
+
+    static final String PREFIX = "app.datasource.read-replica.";
+
+    public static ReplicaSettings resolve(Environment env) {
+        List<String> urls = Arrays.stream(env.getProperty(PREFIX + "urls", "").split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+        Duration maxLag = env.getProperty(PREFIX + "max-lag", Duration.class, Duration.ofSeconds(5));
+        // 창이 허용 지연보다 짧으면 방금 쓴 값이 아직 안 넘어간 복제본에서 읽힐 수 있다.
+        Duration window = env.getProperty(PREFIX + "read-your-writes-window", Duration.class, Duration.ofSeconds(10));
+        return new ReplicaSettings(
+                urls,
+                env.getProperty(PREFIX + "username", env.getProperty("spring.datasource.username", "")),
+                env.getProperty(PREFIX + "password", env.getProperty("spring.datasource.password", "")),
+                env.getProperty(PREFIX + "maximum-pool-size", Integer.class,
+                        env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10)),
+                env.getProperty(PREFIX + "minimum-idle", Integer.class,
+                        env.getProperty("spring.datasource.hikari.minimum-idle", Integer.class, 5)),
+                maxLag,
+                window.compareTo(maxLag) < 0 ? maxLag : window);
+    }
+}
@@ -3,6 +3,7 @@ package com.carecode.core.devtools;
 import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacityRunRepository;
 import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
 import com.carecode.domain.policy.entity.Policy;
 import com.carecode.domain.policy.repository.PolicyRepository;
@@ -25,6 +26,7 @@ public class SampleDataCleaner {
     private final PolicyRepository policyRepository;
     private final CareFacilityRepository facilityRepository;
     private final FacilityCapacitySnapshotRepository snapshotRepository;
+    private final FacilityCapacityRunRepository runRepository;
 
     @Transactional
     public Map<String, Integer> clean() {
@@ -39,13 +41,14 @@ public class SampleDataCleaner {
                         && f.getFacilityCode().startsWith(SampleDataProperties.FACILITY_PREFIX))
                 .toList();
 
-        // 스냅샷은 FK ON DELETE CASCADE 로 지워지지만, JPA 로 지울 때는 직접 정리해야 한다.
+        // 스냅샷과 압축 구간은 FK ON DELETE CASCADE 로 지워지지만, JPA 로 지울 때는 직접 정리해야 한다.
         int snapshots = 0;
         for (CareFacility facility : facilities) {
             List<FacilityCapacitySnapshot> owned =
                     snapshotRepository.findHistory(facility.getId(), LocalDate.EPOCH);
             snapshots += owned.size();
             snapshotRepository.deleteAll(owned);
+            snapshots += runRepository.deleteByFacilityId(facility.getId());
         }
         facilityRepository.deleteAll(facilities);
 
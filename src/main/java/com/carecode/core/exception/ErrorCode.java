@@ -50,6 +50,7 @@ public enum ErrorCode {
     POST_ACCESS_DENIED("M002", "게시글에 대한 권한이 없습니다", HttpStatus.FORBIDDEN),
     COMMENT_NOT_FOUND("M003", "댓글을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     COMMENT_ACCESS_DENIED("M004", "댓글에 대한 권한이 없습니다", HttpStatus.FORBIDDEN),
+    INAPPROPRIATE_CONTENT("M005", "게시할 수 없는 내용이 포함되어 있습니다", HttpStatus.BAD_REQUEST),
     
     // ===== 알림 관련 에러 (N000) =====
     NOTIFICATION_NOT_FOUND("N001", "알림을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
@@ -0,0 +1,37 @@
+package com.carecode.core.geocoding;
+
+import java.text.Normalizer;
+import java.util.regex.Pattern;
+
+/**
+ * 지오코딩 전에 주소를 같은 꼴로 맞춘다. 같은 건물에 있는 시설이 공백이나 괄호 속 동 이름, 층·호수만 달라
+ * 따로 조회되는 일을 막는다. 좌표는 건물 단위라 이 차이는 결과에 영향이 없다.
+ */
+public final class AddressNormalizer {
+
+    /** 주소 캐시 키 길이 상한. 이보다 긴 주소는 캐시하지 않는다. */
+    public static final int MAX_KEY_LENGTH = 255;
+
+    /** 도로명주소의 참고항목 "(역삼동)", "(역삼동, 래미안아파트)". */
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private AddressNormalizer() {
+    }
+
+    /** @return 정규화한 주소. 남는 것이 없으면 null */
+    public static String normalize(String address) {
+        if (address == null) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(address, Normalizer.Form.NFC);
+        normalized = PARENTHESES.matcher(normalized).replaceAll(" ");
+        // 쉼표 뒤는 동·층·호수 같은 상세주소다. "테헤란로 123, 2층 201호"
+        int comma = normalized.indexOf(',');
+        if (comma >= 0) {
+            normalized = normalized.substring(0, comma);
+        }
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
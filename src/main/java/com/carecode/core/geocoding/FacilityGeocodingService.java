@@ -3,51 +3,83 @@ package com.carecode.core.geocoding;
 import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 좌표가 없는 시설의 주소를 좌표로 채운다.
  * 동기화 중에 인라인으로 돌리면 수집이 느려지고 외부 API 한도에 걸리므로 배치로 분리한다.
+ *
+ * <p>예전에는 한 건씩 호출하고 고정 간격으로 쉬어, 응답 시간과 대기 시간이 더해져 한도의 절반도 쓰지 못했다.
+ * 같은 주소를 쓰는 시설(같은 건물의 어린이집·유치원)도 따로 물었고, 긴 트랜잭션 하나에서 한 건씩 저장했다.
+ * 이제 주소를 정규화해 묶고, 주소 캐시에 없는 것만 토큰 버킷으로 속도를 맞춰 동시에 묻는다.
+ * 결과는 묶음마다 짧은 트랜잭션으로 쓴다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FacilityGeocodingService {
 
     /** 한 번 실행에서 처리할 최대 건수. 외부 API 일일 한도를 넘지 않도록 나눠 돌린다. */
     @Value("${app.geocoding.batch-size:500}")
     private int batchSize;
 
-    /** 호출 간 간격(ms). 초당 요청 제한에 걸리지 않게 한다. */
-    @Value("${app.geocoding.delay-ms:100}")
-    private long delayMs;
+    /** 주소가 없다는 답을 믿는 기간. 도로명주소가 새로 부여되면 나중에는 찾을 수 있다. */
+    @Value("${app.geocoding.not-found-retry-days:30}")
+    private int notFoundRetryDays;
+
+    /** 한 트랜잭션에 쓰는 주소 수. */
+    @Value("${app.geocoding.write-chunk-size:100}")
+    private int writeChunkSize;
 
     private final CareFacilityRepository facilityRepository;
     private final Geocoder geocoder;
+    private final GeocodingWriter writer;
+    private final Executor executor;
+    private final TokenBucket rateLimiter;
+
+    public FacilityGeocodingService(CareFacilityRepository facilityRepository,
+                                    Geocoder geocoder,
+                                    GeocodingWriter writer,
+                                    @Qualifier("geocodingExecutor") Executor executor,
+                                    @Value("${app.geocoding.rate-per-second:10}") double ratePerSecond) {
+        this.facilityRepository = facilityRepository;
+        this.geocoder = geocoder;
+        this.writer = writer;
+        this.executor = executor;
+        // 실행 직후 몰아서 보내지 않도록 버스트는 1초치로 둔다.
+        this.rateLimiter = new TokenBucket(ratePerSecond, (int) Math.ceil(ratePerSecond));
+    }
 
     @Getter
     public static class GeocodingResult {
         private int resolved;
         private int failed;
         private long remaining;
+        private int addresses;
+        private int cacheHits;
+        private int apiCalls;
         private String skippedReason;
 
         @Override
         public String toString() {
             return skippedReason != null
                     ? "건너뜀 - " + skippedReason
-                    : String.format("보정=%d, 실패=%d, 남은 대상=%d", resolved, failed, remaining);
+                    : String.format("보정=%d, 실패=%d, 남은 대상=%d (주소 %d개, 캐시 %d, 호출 %d)",
+                    resolved, failed, remaining, addresses, cacheHits, apiCalls);
         }
     }
 
-    @Transactional
     public GeocodingResult fillMissingCoordinates() {
         GeocodingResult result = new GeocodingResult();
 
@@ -64,33 +96,87 @@ public class FacilityGeocodingService {
             return result;
         }
 
+        Map<String, List<Long>> facilitiesByAddress = new LinkedHashMap<>();
         for (CareFacility facility : targets) {
-            geocoder.geocode(facility.getAddress()).ifPresentOrElse(
-                    coordinates -> {
-                        facility.setLatitude(coordinates.latitude());
-                        facility.setLongitude(coordinates.longitude());
-                        facilityRepository.save(facility);
-                        result.resolved++;
-                    },
-                    () -> result.failed++);
-
-            pause();
+            String key = AddressNormalizer.normalize(facility.getAddress());
+            if (key == null) {
+                result.failed++;
+                continue;
+            }
+            facilitiesByAddress.computeIfAbsent(key, k -> new ArrayList<>()).add(facility.getId());
+        }
+        result.addresses = facilitiesByAddress.size();
+
+        List<GeocodingWriter.ResolvedAddress> chunk = new ArrayList<>(writeChunkSize);
+        for (CompletableFuture<GeocodingWriter.ResolvedAddress> future : resolve(facilitiesByAddress, result)) {
+            GeocodingWriter.ResolvedAddress resolved = future.join();
+            if (resolved.isFound()) {
+                result.resolved += resolved.facilityIds().size();
+            } else {
+                result.failed += resolved.facilityIds().size();
+            }
+            chunk.add(resolved);
+            if (chunk.size() >= writeChunkSize) {
+                flush(chunk, result);
+            }
         }
+        flush(chunk, result);
 
         result.remaining = facilityRepository.countMissingCoordinates();
         log.info("좌표 보정 완료 - {}", result);
         return result;
     }
 
-    /** 외부 API 는 초당 요청 제한이 있다. 한 건씩 간격을 둔다. */
-    private void pause() {
-        if (delayMs <= 0) {
-            return;
-        }
+    /** 캐시에 있는 주소는 바로 돌려주고, 나머지는 풀에 넘긴다. 돌려받는 순서는 요청 순서와 같다. */
+    private List<CompletableFuture<GeocodingWriter.ResolvedAddress>> resolve(
+            Map<String, List<Long>> facilitiesByAddress, GeocodingResult result) {
+        Map<String, GeocodedAddress> cached = writer.findCached(facilitiesByAddress.keySet().stream()
+                .filter(key -> key.length() <= AddressNormalizer.MAX_KEY_LENGTH)
+                .toList());
+        LocalDateTime retryNotFoundBefore = LocalDateTime.now().minusDays(notFoundRetryDays);
+
+        List<CompletableFuture<GeocodingWriter.ResolvedAddress>> futures = new ArrayList<>();
+        facilitiesByAddress.forEach((key, facilityIds) -> {
+            GeocodedAddress hit = cached.get(key);
+            if (hit != null && (hit.isFound() || hit.getResolvedAt().isAfter(retryNotFoundBefore))) {
+                result.cacheHits++;
+                Geocoder.Lookup lookup = hit.isFound()
+                        ? Geocoder.Lookup.found(hit.toCoordinates()) : Geocoder.Lookup.notFound();
+                futures.add(CompletableFuture.completedFuture(
+                        new GeocodingWriter.ResolvedAddress(key, lookup, facilityIds, true)));
+                return;
+            }
+            result.apiCalls++;
+            futures.add(CompletableFuture.supplyAsync(() ->
+                    new GeocodingWriter.ResolvedAddress(key, lookupWithinQuota(key), facilityIds, false), executor));
+        });
+        return futures;
+    }
+
+    private Geocoder.Lookup lookupWithinQuota(String address) {
         try {
-            Thread.sleep(delayMs);
+            rateLimiter.acquire();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            return Geocoder.Lookup.error();
+        }
+        return geocoder.lookup(address);
+    }
+
+    private void flush(List<GeocodingWriter.ResolvedAddress> chunk, GeocodingResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            writer.write(List.copyOf(chunk), geocoder.getProviderName());
+        } catch (Exception e) {
+            // 한 묶음의 저장 실패가 나머지 묶음을 막지 않는다. 좌표가 안 들어간 시설은 다음 실행의 대상으로 남는다.
+            long lost = chunk.stream().filter(GeocodingWriter.ResolvedAddress::isFound)
+                    .mapToLong(r -> r.facilityIds().size()).sum();
+            result.resolved -= (int) lost;
+            result.failed += (int) lost;
+            log.warn("좌표 저장 실패 - 주소 {}개, 사유={}", chunk.size(), e.getMessage());
         }
+        chunk.clear();
     }
 }
@@ -0,0 +1,61 @@
+package com.carecode.core.geocoding;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주소 → 좌표 변환 결과 캐시. 같은 주소를 다시 묻지 않는다.
+ *
+ * <p>주소가 없다는 답도 남긴다. 공공데이터 주소 일부는 오타나 폐지된 지번이라 매번 물어도 답이 같은데,
+ * 지금까지는 실행할 때마다 일일 한도를 다시 썼다. 이런 행은 일정 기간이 지나면 다시 묻는다.
+ */
+@Entity
+@Table(name = "TBL_GEOCODED_ADDRESS")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class GeocodedAddress {
+
+    /** {@link AddressNormalizer} 로 맞춘 주소. */
+    @Id
+    @Column(name = "ADDRESS_KEY", length = AddressNormalizer.MAX_KEY_LENGTH)
+    private String addressKey;
+
+    /** 주소가 없다는 답이면 좌표가 비어 있다. */
+    @Column(name = "LATITUDE")
+    private Double latitude;
+
+    @Column(name = "LONGITUDE")
+    private Double longitude;
+
+    @Column(name = "PROVIDER", nullable = false, length = 20)
+    private String provider;
+
+    @Column(name = "RESOLVED_AT", nullable = false)
+    private LocalDateTime resolvedAt;
+
+    public boolean isFound() {
+        return latitude != null && longitude != null;
+    }
+
+    public Geocoder.Coordinates toCoordinates() {
+        return isFound() ? new Geocoder.Coordinates(latitude, longitude) : null;
+    }
+
+    public void update(Geocoder.Coordinates coordinates, String provider, LocalDateTime resolvedAt) {
+        this.latitude = coordinates == null ? null : coordinates.latitude();
+        this.longitude = coordinates == null ? null : coordinates.longitude();
+        this.provider = provider;
+        this.resolvedAt = resolvedAt;
+    }
+}
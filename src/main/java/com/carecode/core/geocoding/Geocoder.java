@@ -15,6 +15,33 @@ public interface Geocoder {
         }
     }
 
+    /**
+     * 변환 결과. 주소가 없다는 답(NOT_FOUND)과 호출 자체가 실패한 것(ERROR)을 나눈다.
+     * 앞의 것은 다시 물어도 같으니 기억해 두고, 뒤의 것은 다음 실행에서 다시 묻는다.
+     */
+    record Lookup(Status status, Coordinates coordinates) {
+
+        public enum Status {
+            FOUND, NOT_FOUND, ERROR
+        }
+
+        public static Lookup found(Coordinates coordinates) {
+            return new Lookup(Status.FOUND, coordinates);
+        }
+
+        public static Lookup notFound() {
+            return new Lookup(Status.NOT_FOUND, null);
+        }
+
+        public static Lookup error() {
+            return new Lookup(Status.ERROR, null);
+        }
+
+        public Optional<Coordinates> toOptional() {
+            return Optional.ofNullable(coordinates);
+        }
+    }
+
     String getProviderName();
 
     /** 키가 없으면 비활성 상태로 두고 기능만 건너뛴다. */
@@ -22,4 +49,9 @@ public interface Geocoder {
 
     /** 변환에 실패하면 비어 있는 값을 돌려준다. 예외로 배치를 중단시키지 않는다. */
     Optional<Coordinates> geocode(String address);
+
+    /** 실패 원인까지 알려 준다. 공급자가 구분하지 못하면 빈 결과를 모두 NOT_FOUND 로 본다. */
+    default Lookup lookup(String address) {
+        return geocode(address).map(Lookup::found).orElseGet(Lookup::notFound);
+    }
 }
@@ -0,0 +1,79 @@
+package com.carecode.core.geocoding;
+
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌표 보정 결과를 묶음 단위로 쓴다. 주소 캐시와 시설 좌표를 한 트랜잭션에 넣어, 캐시에는 있는데 시설에는
+ * 빠진 상태가 남지 않게 한다. 외부 호출은 트랜잭션 밖에서 끝난 뒤라 커넥션을 오래 붙잡지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeocodingWriter {
+
+    private final GeocodedAddressRepository cacheRepository;
+    private final CareFacilityRepository facilityRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** 주소 하나의 변환 결과와 그 주소를 쓰는 시설들. */
+    public record ResolvedAddress(String addressKey, Geocoder.Lookup lookup, List<Long> facilityIds,
+                                  boolean fromCache) {
+
+        public boolean isFound() {
+            return lookup.status() == Geocoder.Lookup.Status.FOUND;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, GeocodedAddress> findCached(Collection<String> addressKeys) {
+        return cacheRepository.findAllById(addressKeys).stream()
+                .collect(Collectors.toMap(GeocodedAddress::getAddressKey, Function.identity()));
+    }
+
+    @Transactional
+    public void write(List<ResolvedAddress> chunk, String provider) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ResolvedAddress> answered = chunk.stream()
+                // 호출 실패는 답이 아니다. 캐시하면 그 주소를 한동안 다시 묻지 않게 된다.
+                .filter(r -> !r.fromCache() && r.lookup().status() != Geocoder.Lookup.Status.ERROR)
+                .filter(r -> r.addressKey().length() <= AddressNormalizer.MAX_KEY_LENGTH)
+                .toList();
+        Map<String, GeocodedAddress> existing = findCached(answered.stream().map(ResolvedAddress::addressKey).toList());
+
+        for (ResolvedAddress r : answered) {
+            GeocodedAddress row = existing.get(r.addressKey());
+            if (row != null) {
+                row.update(r.lookup().coordinates(), provider, now);
+            } else {
+                // 주소가 키라 save() 는 새 행에도 SELECT 를 한다. 없는 것을 방금 확인했으니 바로 넣는다.
+                entityManager.persist(GeocodedAddress.builder()
+                        .addressKey(r.addressKey())
+                        .latitude(r.isFound() ? r.lookup().coordinates().latitude() : null)
+                        .longitude(r.isFound() ? r.lookup().coordinates().longitude() : null)
+                        .provider(provider)
+                        .resolvedAt(now)
+                        .build());
+            }
+        }
+
+        for (ResolvedAddress r : chunk) {
+            if (r.isFound()) {
+                Geocoder.Coordinates c = r.lookup().coordinates();
+                facilityRepository.updateCoordinates(r.facilityIds(), c.latitude(), c.longitude());
+            }
+        }
+    }
+}
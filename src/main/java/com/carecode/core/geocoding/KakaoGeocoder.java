@@ -3,6 +3,7 @@ package com.carecode.core.geocoding;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -26,7 +27,7 @@ public class KakaoGeocoder implements Geocoder {
     private final ObjectMapper objectMapper;
     private final String restApiKey;
 
-    public KakaoGeocoder(RestTemplate restTemplate,
+    public KakaoGeocoder(@Qualifier("kakaoGeocoderRestTemplate") RestTemplate restTemplate,
                          ObjectMapper objectMapper,
                          @Value("${app.geocoding.kakao.rest-api-key:}") String restApiKey) {
         this.restTemplate = restTemplate;
@@ -49,8 +50,13 @@ public class KakaoGeocoder implements Geocoder {
 
     @Override
     public Optional<Coordinates> geocode(String address) {
+        return lookup(address).toOptional();
+    }
+
+    @Override
+    public Lookup lookup(String address) {
         if (!isAvailable() || address == null || address.isBlank()) {
-            return Optional.empty();
+            return Lookup.notFound();
         }
 
         try {
@@ -69,26 +75,26 @@ public class KakaoGeocoder implements Geocoder {
 
             return parse(response.getBody());
         } catch (Exception e) {
-            // 한 건 실패가 배치를 멈추면 안 된다.
+            // 한 건 실패가 배치를 멈추면 안 된다. 주소가 없는 것과 달리 다음에 다시 물어야 한다.
             log.debug("지오코딩 실패 - address={}, 사유={}", address, e.getMessage());
-            return Optional.empty();
+            return Lookup.error();
         }
     }
 
     /** 응답의 x 가 경도, y 가 위도다. 뒤집으면 지도에서 엉뚱한 곳이 나온다. */
-    private Optional<Coordinates> parse(String body) throws Exception {
+    private Lookup parse(String body) throws Exception {
         if (body == null || body.isBlank()) {
-            return Optional.empty();
+            return Lookup.error();
         }
         JsonNode documents = objectMapper.readTree(body).path("documents");
         if (!documents.isArray() || documents.isEmpty()) {
-            return Optional.empty();
+            return Lookup.notFound();
         }
         JsonNode first = documents.get(0);
         double lng = first.path("x").asDouble(0);
         double lat = first.path("y").asDouble(0);
 
         Coordinates coordinates = new Coordinates(lat, lng);
-        return coordinates.isWithinKorea() ? Optional.of(coordinates) : Optional.empty();
+        return coordinates.isWithinKorea() ? Lookup.found(coordinates) : Lookup.notFound();
     }
 }
@@ -0,0 +1,53 @@
+package com.carecode.core.geocoding;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 호출 수를 맞추는 토큰 버킷. 여러 스레드가 함께 쓴다.
+ *
+ * <p>토큰이 없으면 잔고를 음수로 빌려 쓰고 그만큼 기다린다. 먼저 빌린 스레드가 먼저 깨어나므로 대기열 없이도
+ * 호출이 고르게 퍼진다. 잠은 락 밖에서 자서 다른 스레드의 예약을 막지 않는다.
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double nanosPerToken;
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoTime) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond 는 0 보다 커야 합니다: " + permitsPerSecond);
+        }
+        this.capacity = Math.max(burst, 1);
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    /** 토큰 하나를 받을 때까지 기다린다. */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /** 토큰 하나를 예약하고, 그 토큰이 찰 때까지 기다려야 할 시간을 돌려준다. */
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * nanosPerToken);
+    }
+}
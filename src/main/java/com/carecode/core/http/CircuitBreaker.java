@@ -0,0 +1,72 @@
+package com.carecode.core.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연속 실패 횟수 기반 차단기.
+ *
+ * <p>공공 API 가 죽으면 동기화는 페이지마다 읽기 타임아웃(수십 초)을 기다리며 스레드를 붙잡는다. 실패가
+ * 이어지면 일정 시간 호출 자체를 막고, 그 시간이 지나면 한 건만 시험 삼아 보내 살아났는지 본다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openUntil = new AtomicLong();
+    /** 반열림 상태에서 시험 호출은 하나만 보낸다. 나머지는 결과가 나올 때까지 계속 막는다. */
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    /** 호출해도 되면 true. true 를 받은 호출은 반드시 onSuccess 나 onFailure 중 하나로 결과를 알려야 한다. */
+    public boolean tryAcquire() {
+        long until = openUntil.get();
+        if (until == 0) {
+            return true;
+        }
+        if (clock.millis() < until) {
+            return false;
+        }
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openUntil.set(0);
+        trialInFlight.set(false);
+    }
+
+    public void onFailure() {
+        if (trialInFlight.get() || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil.set(clock.millis() + openMillis);
+            trialInFlight.set(false);
+        }
+    }
+
+    public State state() {
+        long until = openUntil.get();
+        if (until == 0) {
+            return State.CLOSED;
+        }
+        return clock.millis() < until ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -0,0 +1,44 @@
+package com.carecode.core.http;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 외부 연동 클라이언트 하나의 풀·타임아웃·차단 설정.
+ *
+ * <p>app.http.clients.&lt;이름&gt;.* 이 있으면 그 값을, 없으면 app.http.defaults.* 를 쓴다. 연동처마다 값이
+ * 조금씩만 다르고 키가 많아 @Value 로 하나씩 받지 않고 이름으로 찾는다.
+ */
+public record HttpClientSettings(
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration keepAlive,
+        int maxConnections,
+        int maxConcurrent,
+        int failureThreshold,
+        Duration openDuration) {
+
+    static final String PREFIX = "app.http.";
+
+    public static HttpClientSettings resolve(Environment env, String clientName) {
+        return new HttpClientSettings(
+                duration(env, clientName, "connect-timeout", Duration.ofSeconds(3)),
+                duration(env, clientName, "read-timeout", Duration.ofSeconds(10)),
+                duration(env, clientName, "keep-alive", Duration.ofSeconds(30)),
+                integer(env, clientName, "max-connections", 20),
+                integer(env, clientName, "max-concurrent", 20),
+                integer(env, clientName, "failure-threshold", 5),
+                duration(env, clientName, "open-duration", Duration.ofSeconds(30)));
+    }
+
+    private static Duration duration(Environment env, String clientName, String key, Duration fallback) {
+        Duration defaults = env.getProperty(PREFIX + "defaults." + key, Duration.class, fallback);
+        return env.getProperty(PREFIX + "clients." + clientName + "." + key, Duration.class, defaults);
+    }
+
+    private static int integer(Environment env, String clientName, String key, int fallback) {
+        Integer defaults = env.getProperty(PREFIX + "defaults." + key, Integer.class, fallback);
+        return env.getProperty(PREFIX + "clients." + clientName + "." + key, Integer.class, defaults);
+    }
+}
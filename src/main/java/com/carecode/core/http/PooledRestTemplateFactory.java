@@ -0,0 +1,95 @@
+package com.carecode.core.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 연동처별 RestTemplate 을 만든다. 연동처마다 커넥션 풀, 타임아웃, 벌크헤드, 차단기를 따로 둔다.
+ *
+ * <p>예전에는 SimpleClientHttpRequestFactory 하나를 모두가 나눠 썼다. 풀이 없어 호출마다 TLS 핸드셰이크를
+ * 다시 했고, 타임아웃도 하나(30초)라 카카오 지오코딩이나 슬랙 알림도 공공 API 처럼 30초를 기다렸다.
+ * 공공 API 하나가 느려지면 같은 스레드를 쓰는 다른 연동까지 함께 밀렸다.
+ *
+ * <p>gzip 응답은 HttpClient 가 Accept-Encoding 을 붙이고 알아서 풀어 준다. 공공데이터 XML/JSON 은
+ * 압축률이 높아 전송량이 크게 준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledRestTemplateFactory implements DisposableBean {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final List<CloseableHttpClient> clients = new CopyOnWriteArrayList<>();
+
+    public RestTemplate create(String clientName) {
+        HttpClientSettings settings = HttpClientSettings.resolve(environment, clientName);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxConnections())
+                // 연동처 하나가 호스트 하나라 라우트당 상한을 전체와 같게 둔다.
+                .setMaxConnPerRoute(settings.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(settings.readTimeout()))
+                        // 상대가 먼저 끊은 연결을 재사용해 실패하지 않도록 오래 쉰 연결은 꺼내기 전에 확인한다.
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .setTimeToLive(TimeValue.of(settings.keepAlive().multipliedBy(10)))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, clientName).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 꽉 찼을 때 무한정 기다리지 않는다. 벌크헤드가 먼저 막지만 마지막 안전장치다.
+                        .setConnectionRequestTimeout(Timeout.of(settings.connectTimeout()))
+                        .setResponseTimeout(Timeout.of(settings.readTimeout()))
+                        // 서버가 Keep-Alive 를 안 알려 주면 이 시간만큼 재사용한다.
+                        .setConnectionKeepAlive(TimeValue.of(settings.keepAlive()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(settings.keepAlive()))
+                .build();
+        clients.add(httpClient);
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new ResilientHttpInterceptor(clientName, settings, meterRegistry));
+
+        log.info("HTTP 클라이언트 생성 - {} (연결 {}개, 동시 {}건, 연결 {}ms / 응답 {}ms)", clientName,
+                settings.maxConnections(), settings.maxConcurrent(),
+                settings.connectTimeout().toMillis(), settings.readTimeout().toMillis());
+        return restTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        for (CloseableHttpClient client : clients) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.debug("HTTP 클라이언트 종료 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+}
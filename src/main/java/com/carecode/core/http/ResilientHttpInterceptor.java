@@ -0,0 +1,179 @@
+package com.carecode.core.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연동처 하나의 동시 호출 상한(벌크헤드)과 차단기, 호스트별 지표를 한곳에서 처리한다.
+ *
+ * <p>막힌 호출은 {@link ResourceAccessException} 으로 던진다. 호출부는 이미 RestTemplate 예외를 잡아
+ * 실패로 처리하고 있어 따로 고칠 곳이 없다.
+ *
+ * <p>지표의 태그는 호스트까지만 쓴다. 경로와 쿼리에는 서비스 키나 주소 같은 값이 들어가 있어
+ * 그대로 태그로 쓰면 키가 Prometheus 에 노출되고 시계열도 끝없이 늘어난다.
+ */
+public class ResilientHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String METRIC_REQUESTS = "http.client.outbound";
+    static final String METRIC_REJECTED = "http.client.outbound.rejected";
+
+    private final String clientName;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter bulkheadRejected;
+    private final Counter circuitRejected;
+
+    public ResilientHttpInterceptor(String clientName, HttpClientSettings settings, MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.bulkhead = new Semaphore(settings.maxConcurrent());
+        this.circuitBreaker = new CircuitBreaker(settings.failureThreshold(), settings.openDuration());
+        this.meterRegistry = meterRegistry;
+        this.bulkheadRejected = rejectedCounter("bulkhead");
+        this.circuitRejected = rejectedCounter("circuit_open");
+
+        Gauge.builder("http.client.outbound.in_flight", bulkhead,
+                        b -> settings.maxConcurrent() - b.availablePermits())
+                .description("진행 중인 외부 호출 수")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        Gauge.builder("http.client.outbound.circuit", circuitBreaker, cb -> cb.state().ordinal())
+                .description("차단기 상태 (0=닫힘, 1=열림, 2=반열림)")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejected.increment();
+            throw new ResourceAccessException(clientName + " 동시 호출 한도 초과로 요청을 보내지 않았습니다.");
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            bulkhead.release();
+            circuitRejected.increment();
+            throw new ResourceAccessException(clientName + " 연속 실패로 호출이 일시 차단되었습니다.");
+        }
+
+        String host = request.getURI().getHost();
+        long startedAt = System.nanoTime();
+        ClientHttpResponse response = null;
+        HttpStatusCode status;
+        try {
+            response = execution.execute(request, body);
+            status = response.getStatusCode();
+        } catch (IOException | RuntimeException e) {
+            if (response != null) {
+                response.close();
+            }
+            circuitBreaker.onFailure();
+            bulkhead.release();
+            record(host, "IO_ERROR", startedAt);
+            throw e;
+        }
+
+        // 4xx 는 요청이 잘못된 것이지 상대가 죽은 게 아니다. 429 는 상대가 버거워하는 것이라 실패로 센다.
+        if (status.is5xxServerError() || status.value() == 429) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        // 본문은 RestTemplate 이 응답을 닫을 때까지 읽는다. 그때까지를 한 호출로 본다.
+        return new ReleasingResponse(response, () -> {
+            bulkhead.release();
+            record(host, outcome(status), startedAt);
+        });
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private void record(String host, String outcome, long startedAt) {
+        Timer.builder(METRIC_REQUESTS)
+                .description("외부 연동 호출 시간 (본문 수신 포함)")
+                .tags("client", clientName, "host", host == null ? "unknown" : host, "outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder(METRIC_REJECTED)
+                .description("벌크헤드·차단기로 보내지 않은 호출 수")
+                .tags("client", clientName, "reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static String outcome(HttpStatusCode status) {
+        if (status.is2xxSuccessful()) {
+            return "SUCCESS";
+        }
+        if (status.is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        if (status.is5xxServerError()) {
+            return "SERVER_ERROR";
+        }
+        return "OTHER";
+    }
+
+    /** close 가 여러 번 불려도 벌크헤드 허가는 한 번만 돌려준다. */
+    private static final class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleasingResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
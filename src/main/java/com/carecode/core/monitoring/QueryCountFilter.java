@@ -7,15 +7,26 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.util.Map;
 
-/** 요청별 쿼리 수를 집계해 임계치를 넘으면 경고한다. 어느 엔드포인트가 N+1 인지 로그로 드러난다. */
+/**
+ * 요청별 SQL 수·DB 시간·반복 지문을 집계한다. 임계치를 넘으면 경고하고, 모든 요청을 엔드포인트별 지표로 남긴다.
+ *
+ * <p>로그만으로는 운영에서 debug 를 켜야 보였고, 경고가 한 번 묻히면 회귀를 알아챌 방법이 없었다.
+ * 지표로 남기면 배포 전후 분포를 비교할 수 있다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class QueryCountFilter extends OncePerRequestFilter {
 
+    /** 매핑되지 않은 요청(404, 정적 리소스)은 URI 를 그대로 태그로 쓰면 시계열이 끝없이 늘어난다. */
+    static final String UNMATCHED = "UNMATCHED";
+
     private final int threshold;
+    private final SqlProfileRegistry registry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -25,19 +36,34 @@ public class QueryCountFilter extends OncePerRequestFilter {
         try {
             chain.doFilter(request, response);
         } finally {
-            int queryCount = QueryCountHolder.get();
+            QueryProfile profile = QueryCountHolder.current();
             QueryCountHolder.clear();
-
-            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
-            String endpoint = request.getMethod() + " " + request.getRequestURI();
-            if (queryCount >= threshold) {
-                log.warn("N+1 의심 - {} 쿼리 {}건, {}ms (임계치 {}건)", endpoint, queryCount, elapsedMs, threshold);
-            } else if (queryCount > 0) {
-                log.debug("쿼리 측정 - {} 쿼리 {}건, {}ms", endpoint, queryCount, elapsedMs);
+            if (profile != null) {
+                report(request, profile, (System.nanoTime() - startedAt) / 1_000_000);
             }
         }
     }
 
+    private void report(HttpServletRequest request, QueryProfile profile, long elapsedMs) {
+        // 디스패처가 매핑을 끝낸 뒤라 여기서는 /api/facilities/{id} 같은 패턴을 읽을 수 있다.
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNMATCHED : pattern.toString();
+        registry.record(request.getMethod(), uri, profile);
+
+        int queryCount = profile.getCount();
+        long dbMs = profile.getElapsedNanos() / 1_000_000;
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        Map.Entry<String, Integer> worst = profile.mostRepeated();
+        if (worst != null && registry.isRepeated(worst.getValue())) {
+            log.warn("N+1 의심 - {} 같은 쿼리 {}회 반복 (전체 {}건, DB {}ms/{}ms): {}",
+                    endpoint, worst.getValue(), queryCount, dbMs, elapsedMs, worst.getKey());
+        } else if (queryCount >= threshold) {
+            log.warn("쿼리 과다 - {} 쿼리 {}건, DB {}ms/{}ms (임계치 {}건)", endpoint, queryCount, dbMs, elapsedMs, threshold);
+        } else if (queryCount > 0) {
+            log.debug("쿼리 측정 - {} 쿼리 {}건, DB {}ms/{}ms", endpoint, queryCount, dbMs, elapsedMs);
+        }
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
@@ -0,0 +1,45 @@
+package com.carecode.core.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나가 실행한 SQL 의 기록. 요청 스레드에서만 만지므로 동기화하지 않는다.
+ *
+ * <p>개수는 StatementInspector 가, 시간은 DataSource 프록시가 채운다. Hibernate 를 거치지 않는
+ * JdbcTemplate 쿼리는 시간에만 잡히고 개수·지문에는 잡히지 않는다.
+ */
+public final class QueryProfile {
+
+    private int count;
+    private long elapsedNanos;
+    private final Map<String, Integer> fingerprints = new HashMap<>();
+
+    void record(String sql) {
+        count++;
+        fingerprints.merge(SqlFingerprint.of(sql), 1, Integer::sum);
+    }
+
+    void addElapsed(long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** 가장 많이 반복된 지문. 쿼리가 없으면 null. */
+    public Map.Entry<String, Integer> mostRepeated() {
+        Map.Entry<String, Integer> worst = null;
+        for (Map.Entry<String, Integer> entry : fingerprints.entrySet()) {
+            if (worst == null || entry.getValue() > worst.getValue()) {
+                worst = entry;
+            }
+        }
+        return worst;
+    }
+}
@@ -0,0 +1,34 @@
+package com.carecode.core.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+
+import javax.sql.DataSource;
+
+/**
+ * 풀(Hikari)을 감싸서 문장 실행 시간만 잰다.
+ *
+ * <p>Spring Batch 설정이 자기 후처리기(jobRegistryBeanPostProcessor)를 등록하면서 DataSource 를 미리
+ * 만들어 버린다. 일반 후처리기는 그 뒤에 등록돼 DataSource 를 놓치므로 PriorityOrdered 로 먼저 등록되게 한다.
+ */
+public class QueryTimingDataSourcePostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new QueryTimingListener())
+                    .build();
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,31 @@
+package com.carecode.core.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * DataSource 프록시에서 문장 실행 시간을 잰다.
+ *
+ * <p>datasource-proxy 가 주는 elapsedTime 은 밀리초 단위라 1ms 안쪽 쿼리가 전부 0 으로 합산된다.
+ * 실행 직전 nanoTime 을 실행 정보에 붙여 두고 직접 뺀다.
+ */
+public class QueryTimingListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = "carecode.sql.startedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (startedAt != null) {
+            QueryCountHolder.addElapsed(System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.carecode.core.monitoring;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장을 값이 빠진 모양(지문)으로 바꾼다.
+ *
+ * <p>N+1 은 "같은 모양의 쿼리가 한 요청에서 여러 번" 나가는 것이다. 문장을 그대로 비교하면 리터럴이나
+ * IN 목록 길이만 달라도 다른 쿼리로 보이므로, 값은 ? 로, IN 목록은 하나로 접어서 비교한다.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Hibernate 가 만드는 SQL 은 종류가 한정돼 있어 같은 문자열이 계속 들어온다. 요청마다 정규식을 다시 돌리지
+     * 않도록 원문 → 지문을 기억해 둔다. 리터럴이 박힌 네이티브 쿼리로 끝없이 늘어나지 않게 상한을 둔다.
+     */
+    private static final int CACHE_LIMIT = 2_000;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (CACHE.size() < CACHE_LIMIT) {
+            CACHE.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return IN_LIST.matcher(normalized).replaceAll("in (?)");
+    }
+}
@@ -0,0 +1,163 @@
+package com.carecode.core.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 SQL 프로파일을 모아 Micrometer 로 내보내고, 관리자 화면용 누적 통계를 들고 있다.
+ *
+ * <p>엔드포인트는 실제 URI 가 아니라 매핑 패턴(/api/facilities/{id})이라 종류가 한정된다. 그래서 태그로
+ * 써도 시계열이 폭증하지 않는다. 히스토그램 버킷은 SLO 몇 개로만 잡아 엔드포인트 수 × 버킷 수가
+ * Prometheus 에 부담이 되지 않게 한다.
+ */
+public class SqlProfileRegistry {
+
+    private static final double[] QUERY_COUNT_BUCKETS = {1, 5, 10, 20, 50, 100};
+    private static final double[] REPEAT_BUCKETS = {1, 2, 5, 10, 50};
+    private static final Duration[] DB_TIME_BUCKETS = {
+            Duration.ofMillis(5), Duration.ofMillis(20), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofSeconds(1)};
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public SqlProfileRegistry(MeterRegistry meterRegistry, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /** 같은 지문이 이 횟수 이상 반복되면 N+1 로 본다. */
+    public boolean isRepeated(int repeat) {
+        return repeat >= repeatThreshold;
+    }
+
+    public void record(String method, String uri, QueryProfile profile) {
+        Map.Entry<String, Integer> worst = profile.mostRepeated();
+        int repeat = worst == null ? 0 : worst.getValue();
+
+        DistributionSummary.builder("sql.request.queries")
+                .description("요청 하나가 실행한 SQL 수")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(QUERY_COUNT_BUCKETS)
+                .register(meterRegistry)
+                .record(profile.getCount());
+        Timer.builder("sql.request.time")
+                .description("요청 하나가 DB 에서 보낸 시간의 합")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(DB_TIME_BUCKETS)
+                .register(meterRegistry)
+                .record(profile.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("sql.request.repeated")
+                .description("요청 하나에서 같은 지문이 반복된 최대 횟수")
+                .tags("method", method, "uri", uri)
+                .serviceLevelObjectives(REPEAT_BUCKETS)
+                .register(meterRegistry)
+                .record(repeat);
+        if (isRepeated(repeat)) {
+            Counter.builder("sql.request.n_plus_one")
+                    .description("N+1 으로 판정된 요청 수")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        stats.computeIfAbsent(method + " " + uri, k -> new EndpointStats())
+                .add(profile, worst, isRepeated(repeat));
+    }
+
+    /**
+     * 누적 통계 상위 목록.
+     *
+     * @param sort queries(평균 쿼리 수), time(누적 DB 시간), repeats(최대 반복 횟수)
+     */
+    public List<EndpointSqlProfile> top(String sort, int limit) {
+        Comparator<EndpointSqlProfile> order = switch (sort) {
+            case "time" -> Comparator.comparingDouble(EndpointSqlProfile::getTotalDbTimeMs);
+            case "repeats" -> Comparator.comparingInt(EndpointSqlProfile::getWorstRepeat);
+            default -> Comparator.comparingDouble(EndpointSqlProfile::getAvgQueries);
+        };
+        return stats.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /** 배포 직후 이전 버전의 누적치를 지우고 새로 보고 싶을 때 쓴다. Micrometer 쪽은 건드리지 않는다. */
+    public void reset() {
+        stats.clear();
+    }
+
+    private static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAdder repeatedRequests = new LongAdder();
+        private final LongAccumulator maxQueries = new LongAccumulator(Math::max, 0);
+        private volatile String worstFingerprint;
+        private volatile int worstRepeat;
+
+        void add(QueryProfile profile, Map.Entry<String, Integer> worst, boolean repeated) {
+            requests.increment();
+            queries.add(profile.getCount());
+            dbNanos.add(profile.getElapsedNanos());
+            maxQueries.accumulate(profile.getCount());
+            if (repeated) {
+                repeatedRequests.increment();
+            }
+            if (worst != null && worst.getValue() > worstRepeat) {
+                synchronized (this) {
+                    if (worst.getValue() > worstRepeat) {
+                        worstRepeat = worst.getValue();
+                        worstFingerprint = worst.getKey();
+                    }
+                }
+            }
+        }
+
+        synchronized EndpointSqlProfile snapshot(String endpoint) {
+            long requestCount = requests.sum();
+            long totalDbNanos = dbNanos.sum();
+            return EndpointSqlProfile.builder()
+                    .endpoint(endpoint)
+                    .requests(requestCount)
+                    .avgQueries(requestCount == 0 ? 0 : (double) queries.sum() / requestCount)
+                    .maxQueries(maxQueries.get())
+                    .totalDbTimeMs(totalDbNanos / 1_000_000.0)
+                    .avgDbTimeMs(requestCount == 0 ? 0 : totalDbNanos / 1_000_000.0 / requestCount)
+                    .repeatedRequests(repeatedRequests.sum())
+                    .worstRepeat(worstRepeat)
+                    .worstFingerprint(worstFingerprint)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class EndpointSqlProfile {
+        private final String endpoint;
+        private final long requests;
+        private final double avgQueries;
+        private final long maxQueries;
+        private final double totalDbTimeMs;
+        private final double avgDbTimeMs;
+        private final long repeatedRequests;
+        /** 한 요청 안에서 같은 지문이 가장 많이 반복된 횟수와 그 지문. 이 쿼리가 N+1 의 주범이다. */
+        private final int worstRepeat;
+        private final String worstFingerprint;
+    }
+}
@@ -1,6 +1,7 @@
 package com.carecode.core.ops;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -27,7 +28,7 @@ public class OperationalAlerter {
     private final String environment;
     private final Map<String, LocalDateTime> lastSentAt = new ConcurrentHashMap<>();
 
-    public OperationalAlerter(RestTemplate restTemplate,
+    public OperationalAlerter(@Qualifier("opsAlertRestTemplate") RestTemplate restTemplate,
                               @Value("${app.ops.slack-webhook-url:}") String webhookUrl,
                               @Value("${spring.profiles.active:local}") String environment) {
         this.restTemplate = restTemplate;
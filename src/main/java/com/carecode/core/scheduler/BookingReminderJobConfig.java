@@ -0,0 +1,121 @@
+package com.carecode.core.scheduler;
+
+import com.carecode.core.batch.BatchJobRunner;
+import com.carecode.core.batch.KeysetPagingItemReader;
+import com.carecode.domain.careFacility.entity.CareFacilityBooking;
+import com.carecode.domain.careFacility.repository.CareFacilityBookingRepository;
+import com.carecode.domain.notification.entity.Notification;
+import com.carecode.domain.notification.service.NotificationCreationService;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 시설 예약 전날 리마인더 배치. 예약에는 발송 표시가 없어서, 중간에 실패한 실행을 처음부터 다시 돌리면
+ * 앞 사람들이 알림을 두 번 받는다. 잡 저장소에 남은 읽기 위치에서 재시작해 그 문제를 피한다.
+ */
+@Slf4j
+@Configuration
+public class BookingReminderJobConfig {
+
+    public static final String JOB_NAME = "bookingReminderJob";
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("M월 d일 HH:mm");
+
+    @Value("${app.batch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.batch.skip-limit:100}")
+    private int skipLimit;
+
+    @Value("${app.batch.retry-limit:3}")
+    private int retryLimit;
+
+    @Bean
+    public Job bookingReminderJob(JobRepository jobRepository, Step bookingReminderStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(bookingReminderStep)
+                .build();
+    }
+
+    @Bean
+    public Step bookingReminderStep(JobRepository jobRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    KeysetPagingItemReader<CareFacilityBooking> bookingReminderReader,
+                                    ItemProcessor<CareFacilityBooking, CareFacilityBooking> bookingReminderProcessor) {
+        return new StepBuilder("bookingReminderStep", jobRepository)
+                .<CareFacilityBooking, CareFacilityBooking>chunk(chunkSize, transactionManager)
+                .reader(bookingReminderReader)
+                .processor(bookingReminderProcessor)
+                // 알림 저장은 발송 경로(NotificationCreationService)가 청크 트랜잭션 안에서 함께 한다. 따로 쓸 것이 없다.
+                .writer(chunk -> { })
+                .faultTolerant()
+                .processorNonTransactional()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(retryLimit)
+                .skip(Exception.class)
+                .noSkip(TransientDataAccessException.class)
+                .skipLimit(skipLimit)
+                .listener(new SkipListener<CareFacilityBooking, CareFacilityBooking>() {
+                    @Override
+                    public void onSkipInProcess(CareFacilityBooking booking, Throwable t) {
+                        log.error("예약 리마인더 발송 실패 - bookingId={}", booking.getId(), t);
+                    }
+                })
+                .build();
+    }
+
+    /** 실행일 다음 날 시작하는 예약이 대상이다. */
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<CareFacilityBooking> bookingReminderReader(
+            CareFacilityBookingRepository bookingRepository,
+            @Value("#{jobParameters['" + BatchJobRunner.RUN_DATE + "']}") LocalDate runDate) {
+        LocalDate tomorrow = runDate.plusDays(1);
+        return new KeysetPagingItemReader<>(
+                "bookingReminderReader",
+                (lastId, size) -> bookingRepository.findRemindableBookingsAfter(
+                        tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay(), lastId, PageRequest.of(0, size)),
+                CareFacilityBooking::getId,
+                chunkSize);
+    }
+
+    @Bean
+    public ItemProcessor<CareFacilityBooking, CareFacilityBooking> bookingReminderProcessor(
+            UserRepository userRepository,
+            NotificationCreationService notificationCreationService) {
+        return booking -> {
+            User user = userRepository.findByUserId(booking.getUserId()).orElse(null);
+            if (user == null) {
+                return null;
+            }
+
+            String facilityName = booking.getFacility() != null ? booking.getFacility().getName() : "시설";
+            String message = String.format("내일 %s 예약이 있습니다. (%s, %s)",
+                    facilityName,
+                    booking.getStartTime().format(TIME_FORMAT),
+                    booking.getChildName() != null ? booking.getChildName() : "");
+
+            notificationCreationService.createAndSend(
+                    user, Notification.NotificationType.SYSTEM, "예약 안내", message);
+            return booking;
+        };
+    }
+}
@@ -1,6 +1,10 @@
 package com.carecode.core.scheduler;
 
+import com.carecode.core.annotation.ClusterExclusive;
+import com.carecode.domain.careFacility.service.BookingSlotLedger;
+import com.carecode.domain.health.service.HospitalLikeService;
 import com.carecode.domain.user.repository.EmailVerificationTokenRepository;
+import com.carecode.domain.user.service.PersonalDataExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -16,8 +20,12 @@ import java.time.LocalDateTime;
 public class DataCleanupScheduler {
 
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
+    private final PersonalDataExporter personalDataExporter;
+    private final BookingSlotLedger bookingSlotLedger;
+    private final HospitalLikeService hospitalLikeService;
 
     /** 만료·사용 완료된 이메일 인증 토큰 정리. 매일 새벽 4시. 정리하지 않으면 가입 시도마다 행이 쌓여 테이블이 무한히 커진다. */
+    @ClusterExclusive
     @Scheduled(cron = "${app.scheduler.cleanup.cron:0 0 4 * * *}", zone = "Asia/Seoul")
     @Transactional
     public void cleanupExpiredVerificationTokens() {
@@ -27,4 +35,35 @@ public class DataCleanupScheduler {
             log.info("만료된 이메일 인증 토큰 정리 완료 - 건수={}", deleted);
         }
     }
+
+    /** 보관 기간이 지난 내 데이터 내려받기 파일 정리. 개인정보 묶음이라 필요 이상 디스크에 남기지 않는다. */
+    @ClusterExclusive
+    @Scheduled(cron = "${app.scheduler.cleanup.data-export-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void purgeExpiredDataExports() {
+        int purged = personalDataExporter.purgeExpired();
+        if (purged > 0) {
+            log.info("만료된 내 데이터 내려받기 파일 정리 완료 - 건수={}", purged);
+        }
+    }
+
+    /** 지난 예약 칸 정리. 칸 행은 예약이 들어온 시설·시간대마다 생기므로 지나간 날짜는 지워 장부를 작게 유지한다. */
+    @ClusterExclusive
+    @Scheduled(cron = "${app.scheduler.cleanup.booking-slot-cron:0 45 4 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void purgePastBookingSlots() {
+        int purged = bookingSlotLedger.purgeBefore(LocalDateTime.now().minusDays(1));
+        if (purged > 0) {
+            log.info("지난 예약 칸 정리 완료 - 건수={}", purged);
+        }
+    }
+
+    /** 병원 좋아요 수 재집계. 회원 탈퇴 CASCADE 처럼 카운터를 거치지 않고 지워진 좋아요를 반영한다. */
+    @ClusterExclusive
+    @Scheduled(cron = "${app.scheduler.cleanup.hospital-like-cron:0 15 4 * * *}", zone = "Asia/Seoul")
+    public void reconcileHospitalLikeCounts() {
+        int fixed = hospitalLikeService.reconcileLikeCounts();
+        if (fixed > 0) {
+            log.info("병원 좋아요 수 재집계 완료 - 보정 건수={}", fixed);
+        }
+    }
 }
@@ -5,7 +5,12 @@ import com.carecode.core.client.sync.KindergartenSyncService;
 import com.carecode.core.client.sync.NationwideChildcareFacilitySyncService;
 import com.carecode.core.client.sync.PediatricHospitalSyncService;
 import com.carecode.core.client.sync.SyncResult;
+import com.carecode.core.annotation.ClusterExclusive;
+import com.carecode.core.cluster.ClusterMembership;
+import com.carecode.core.cluster.ShardAssignment;
 import com.carecode.core.geocoding.FacilityGeocodingService;
+import com.carecode.domain.careFacility.service.FacilityCapacityCompactionJob;
+import com.carecode.domain.careFacility.service.FacilityCapacityStatsJob;
 import com.carecode.domain.careFacility.service.FacilityVacancyNotifier;
 import com.carecode.domain.policy.service.BenefitReportSolicitor;
 import com.carecode.domain.policy.service.PolicyChangeNotifier;
@@ -16,7 +21,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-/** 공공데이터 주기 동기화. */
+/**
+ * 공공데이터 주기 동기화.
+ *
+ * <p>모든 인스턴스에서 같은 cron 으로 깨어난다. 지역·시설 단위로 나눌 수 있는 작업은 살아 있는 인스턴스끼리
+ * 일관 해시로 나눠 맡고(노드를 늘리면 그만큼 빨리 끝난다), 나눌 수 없는 작업은 {@link ClusterExclusive} 로
+ * 한 곳에서만 돈다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -29,25 +40,29 @@ public class PublicDataSyncScheduler {
     private final FacilityGeocodingService geocodingService;
     private final PolicyChangeNotifier policyChangeNotifier;
     private final PolicyDeadlineNotifier policyDeadlineNotifier;
+    private final FacilityCapacityStatsJob capacityStatsJob;
+    private final FacilityCapacityCompactionJob capacityCompactionJob;
     private final FacilityVacancyNotifier vacancyNotifier;
     private final BenefitReportSolicitor reportSolicitor;
     private final OperationalAlerter alerter;
+    private final ClusterMembership clusterMembership;
 
     /** 전국 어린이집 동기화. */
     @Scheduled(cron = "${app.scheduler.public-data.facility-cron:0 0 3 * * MON}", zone = "Asia/Seoul")
     public void syncChildcareFacilities() {
-        SyncResult result = facilitySyncService.sync();
+        SyncResult result = facilitySyncService.sync(assignment("전국 어린이집"));
         logResult("전국 어린이집", result);
     }
 
     /** 전국 유치원 동기화. 어린이집 작업과 겹치지 않게 시간을 벌린다. */
     @Scheduled(cron = "${app.scheduler.public-data.kindergarten-cron:0 0 4 * * MON}", zone = "Asia/Seoul")
     public void syncKindergartens() {
-        SyncResult result = kindergartenSyncService.sync();
+        SyncResult result = kindergartenSyncService.sync(assignment("전국 유치원"));
         logResult("전국 유치원", result);
     }
 
     /** 정부 지원 서비스(보조금24) 동기화. */
+    @ClusterExclusive
     @Scheduled(cron = "${app.scheduler.public-data.benefit-cron:0 30 3 * * *}", zone = "Asia/Seoul")
     public void syncGovernmentBenefits() {
         SyncResult result = benefitSyncService.sync();
@@ -55,6 +70,7 @@ public class PublicDataSyncScheduler {
     }
 
     /** 소아청소년과 병원 동기화. */
+    @ClusterExclusive(atMostForSeconds = 4 * 3600)
     @Scheduled(cron = "${app.scheduler.public-data.hospital-cron:0 0 3 * * TUE}", zone = "Asia/Seoul")
     public void syncPediatricHospitals() {
         SyncResult result = hospitalSyncService.sync();
@@ -62,41 +78,70 @@ public class PublicDataSyncScheduler {
     }
 
     /** 정책 변경 알림. 동기화가 끝난 뒤 돌아야 그날 바뀐 내용이 잡힌다. */
+    @ClusterExclusive
     @Scheduled(cron = "${app.scheduler.public-data.policy-change-cron:0 0 9 * * *}", zone = "Asia/Seoul")
     public void notifyPolicyChanges() {
         policyChangeNotifier.notifyPendingChanges();
     }
 
+    /**
+     * 시설 정원 요약 갱신. 스냅샷 전체를 한 번 훑으므로 나눌 수 없어 한 곳에서만 돈다.
+     * 빈자리 알림이 이 요약을 읽으므로 알림보다 먼저 끝나야 한다.
+     */
+    @ClusterExclusive
+    @Scheduled(cron = "${app.scheduler.public-data.facility-stats-cron:0 0 6 * * *}", zone = "Asia/Seoul")
+    public void refreshFacilityCapacityStats() {
+        capacityStatsJob.refreshAll();
+    }
+
+    /** 정원 스냅샷 압축. 동기화가 없는 일요일 새벽에 돌린다. 합쳐 읽으므로 언제 돌아도 분석 결과는 같다. */
+    @ClusterExclusive(atMostForSeconds = 2 * 3600)
+    @Scheduled(cron = "${app.scheduler.public-data.capacity-compaction-cron:0 0 2 * * SUN}", zone = "Asia/Seoul")
+    public void compactCapacitySnapshots() {
+        capacityCompactionJob.compact();
+    }
+
     /**
      * 빈자리 알림. 시설 동기화로 새 정원이 들어온 뒤에 돌아야 그날 난 자리가 잡힌다.
      * 대기 걸어둔 사람이 이 앱을 다시 열 가장 강한 이유다.
      */
     @Scheduled(cron = "${app.scheduler.public-data.vacancy-cron:0 30 9 * * *}", zone = "Asia/Seoul")
     public void notifyFacilityVacancies() {
-        vacancyNotifier.notifyNewVacancies();
+        vacancyNotifier.notifyNewVacancies(assignment("빈자리 알림"));
     }
 
     /**
      * 신청 마감 임박 알림. 놓친 뒤에 알려주는 것보다 놓치기 전에 막는 편이 낫다.
      * 마감일까지 남은 일수로 판단하므로 매일 돌아야 D-7·D-1 을 놓치지 않는다.
      */
+    @ClusterExclusive
     @Scheduled(cron = "${app.scheduler.public-data.policy-deadline-cron:0 0 10 * * *}", zone = "Asia/Seoul")
     public void notifyPolicyDeadlines() {
         policyDeadlineNotifier.notifyUpcomingDeadlines();
     }
 
     /** 실수령액 제보 요청. 매일 보내면 소음이라 주 1회만 묻는다. */
+    @ClusterExclusive
     @Scheduled(cron = "${app.scheduler.public-data.report-ask-cron:0 0 10 * * WED}", zone = "Asia/Seoul")
     public void solicitBenefitReports() {
         reportSolicitor.solicitReports();
     }
 
     /** 좌표 보정. 동기화가 끝난 뒤 돌아야 새로 들어온 시설이 대상에 포함된다. */
+    @ClusterExclusive
     @Scheduled(cron = "${app.scheduler.public-data.geocoding-cron:0 0 5 * * *}", zone = "Asia/Seoul")
     public void fillMissingCoordinates() {
         geocodingService.fillMissingCoordinates();
     }
 
+    private ShardAssignment assignment(String label) {
+        ShardAssignment shard = clusterMembership.currentAssignment();
+        if (shard.isPartitioned()) {
+            log.info("{} - 인스턴스 {}개가 나눠 처리합니다. 담당={}", label, shard.getMemberCount(), shard);
+        }
+        return shard;
+    }
+
     private void logResult(String label, SyncResult result) {
         if (!result.isCompleted()) {
             log.warn("{} 동기화 미완료 - {}", label, result);
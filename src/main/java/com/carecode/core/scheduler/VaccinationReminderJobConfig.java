@@ -0,0 +1,141 @@
+package com.carecode.core.scheduler;
+
+import com.carecode.core.batch.BatchJobRunner;
+import com.carecode.core.batch.KeysetPagingItemReader;
+import com.carecode.domain.health.entity.VaccinationSchedule;
+import com.carecode.domain.health.repository.VaccinationScheduleRepository;
+import com.carecode.domain.notification.entity.Notification;
+import com.carecode.domain.notification.service.NotificationCreationService;
+import com.carecode.domain.user.entity.Child;
+import com.carecode.domain.user.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+/**
+ * 예방접종 사전 알림 배치. 대상 전체를 한 트랜잭션에 올리던 방식은 후반부 한 건의 실패가
+ * 앞서 보낸 알림의 markReminderSent 까지 롤백해 다음 날 중복 발송을 낳았다.
+ *
+ * <p>청크 단위로 커밋하므로 실패해도 커밋된 청크는 남고, 재시작하면 그 다음부터 이어서 읽는다.
+ * 발송은 처리기에서 하고 처리기를 비트랜잭션으로 표시해, 쓰기 재시도 때 같은 알림을 다시 보내지 않는다.
+ */
+@Slf4j
+@Configuration
+public class VaccinationReminderJobConfig {
+
+    public static final String JOB_NAME = "vaccinationReminderJob";
+
+    @Value("${app.batch.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.batch.skip-limit:100}")
+    private int skipLimit;
+
+    @Value("${app.batch.retry-limit:3}")
+    private int retryLimit;
+
+    @Bean
+    public Job vaccinationReminderJob(JobRepository jobRepository, Step vaccinationReminderStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(vaccinationReminderStep)
+                .build();
+    }
+
+    @Bean
+    public Step vaccinationReminderStep(JobRepository jobRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        KeysetPagingItemReader<VaccinationSchedule> vaccinationReminderReader,
+                                        ItemProcessor<VaccinationSchedule, VaccinationSchedule> vaccinationReminderProcessor,
+                                        ItemWriter<VaccinationSchedule> vaccinationReminderWriter) {
+        return new StepBuilder("vaccinationReminderStep", jobRepository)
+                .<VaccinationSchedule, VaccinationSchedule>chunk(chunkSize, transactionManager)
+                .reader(vaccinationReminderReader)
+                .processor(vaccinationReminderProcessor)
+                .writer(vaccinationReminderWriter)
+                .faultTolerant()
+                .processorNonTransactional()
+                // DB 일시 장애는 재시도하고, 그 밖의 개별 실패는 건너뛴다.
+                // 건너뛴 일정은 reminderSentAt 이 비어 있어 알림 구간 안이면 다음 날 다시 대상이 된다.
+                .retry(TransientDataAccessException.class)
+                .retryLimit(retryLimit)
+                .skip(Exception.class)
+                .noSkip(TransientDataAccessException.class)
+                .skipLimit(skipLimit)
+                .listener(new SkipListener<VaccinationSchedule, VaccinationSchedule>() {
+                    @Override
+                    public void onSkipInProcess(VaccinationSchedule schedule, Throwable t) {
+                        log.error("예방접종 알림 발송 실패 - scheduleId={}", schedule.getId(), t);
+                    }
+
+                    @Override
+                    public void onSkipInWrite(VaccinationSchedule schedule, Throwable t) {
+                        log.error("예방접종 알림 발송 기록 실패 - scheduleId={}", schedule.getId(), t);
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<VaccinationSchedule> vaccinationReminderReader(
+            VaccinationScheduleRepository scheduleRepository,
+            @Value("#{jobParameters['" + BatchJobRunner.RUN_DATE + "']}") LocalDate runDate,
+            @Value("${app.scheduler.vaccination.reminder-days-before:7}") int reminderDaysBefore) {
+        LocalDate until = runDate.plusDays(reminderDaysBefore);
+        return new KeysetPagingItemReader<>(
+                "vaccinationReminderReader",
+                (lastId, size) -> scheduleRepository.findPendingRemindersAfter(
+                        runDate, until, lastId, PageRequest.of(0, size)),
+                VaccinationSchedule::getId,
+                chunkSize);
+    }
+
+    @Bean
+    @StepScope
+    public ItemProcessor<VaccinationSchedule, VaccinationSchedule> vaccinationReminderProcessor(
+            NotificationCreationService notificationCreationService,
+            @Value("#{jobParameters['" + BatchJobRunner.RUN_DATE + "']}") LocalDate runDate) {
+        return schedule -> {
+            Child child = schedule.getChild();
+            User parent = child != null ? child.getUser() : null;
+            if (parent == null) {
+                return null;
+            }
+
+            long daysLeft = runDate.until(schedule.getDueDate()).getDays();
+            String message = String.format(
+                    "%s의 %s %d차 접종 예정일이 %s 남았습니다. (예정일: %s)",
+                    child.getName(),
+                    schedule.getVaccineType().getDisplayName(),
+                    schedule.getDoseNumber(),
+                    daysLeft <= 0 ? "오늘까지" : daysLeft + "일",
+                    schedule.getDueDate());
+
+            notificationCreationService.createAndSend(
+                    parent, Notification.NotificationType.HEALTH, "예방접종 일정 안내", message);
+
+            schedule.markReminderSent();
+            return schedule;
+        };
+    }
+
+    @Bean
+    public ItemWriter<VaccinationSchedule> vaccinationReminderWriter(VaccinationScheduleRepository scheduleRepository) {
+        return chunk -> scheduleRepository.saveAll(chunk.getItems());
+    }
+}
@@ -0,0 +1,50 @@
+package com.carecode.core.search;
+
+import com.carecode.core.util.BoundingBox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 공간 인덱스(SPATIAL INDEX) 사용 가능 여부와 WKT 변환. H2 등 POINT 컬럼이 없는 DB에서는 끌 수 있다.
+ *
+ * <p>WKT 는 MariaDB 관례대로 "경도 위도" 순서다. MySQL 8 은 SRID 4326 에서 위도를 먼저 읽지만 MariaDB 는
+ * SRID 와 관계없이 X=경도, Y=위도로 다룬다. 순서가 뒤집히면 한국 좌표가 남극 근처로 가서 아무것도 안 잡힌다.
+ */
+@Slf4j
+@Component
+public class SpatialSearchSupport {
+
+    public static final int SRID = 4326;
+
+    private final boolean enabled;
+
+    public SpatialSearchSupport(@Value("${app.search.spatial-enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            log.info("공간 인덱스 검색이 비활성화되어 위경도 범위 검색으로 동작합니다.");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 한 점의 WKT. */
+    public static String point(double latitude, double longitude) {
+        // 기본 Locale 에 따라 소수점이 쉼표가 되면 WKT 파싱이 깨진다. 소수 7자리면 1cm 단위라 충분하다.
+        return String.format(Locale.ROOT, "POINT(%.7f %.7f)", longitude, latitude);
+    }
+
+    /** 사각 범위의 WKT. MBRContains 의 바깥 사각형으로 쓴다. */
+    public static String envelope(BoundingBox box) {
+        return String.format(Locale.ROOT, "POLYGON((%.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f))",
+                box.minLng(), box.minLat(),
+                box.maxLng(), box.minLat(),
+                box.maxLng(), box.maxLat(),
+                box.minLng(), box.maxLat(),
+                box.minLng(), box.minLat());
+    }
+}
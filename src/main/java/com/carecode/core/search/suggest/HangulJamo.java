@@ -0,0 +1,122 @@
+package com.carecode.core.search.suggest;
+
+/**
+ * 자동완성 키 정규화. 한글 음절을 자모로 풀어 두면 입력 중인 음절도 앞부분으로 맞는다.
+ *
+ * <p>모바일 키보드로 "어린이집" 을 치면 검색창에는 "어ㄹ", "어리", "어린", "어린이" 가 차례로 들어온다. 음절 단위로
+ * 비교하면 "어린" 은 "어리니" 의 앞부분이 아니지만, 자모로 풀면 ㅇㅓㄹㅣㄴ 은 ㅇㅓㄹㅣㄴㅣ 의 앞부분이다.
+ * 겹받침(ㄺ)과 겹모음(ㅘ)도 키보드로 따로 치는 자모라 둘로 나눈다. 쌍자음(ㄲ)과 ㅐ·ㅔ 는 한 번에 치므로 그대로 둔다.
+ *
+ * <p>모든 자모는 키보드가 보내는 호환용 자모(U+3131~)로 맞춘다. 공백은 버리고 영문은 소문자로 바꾼다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int VOWELS = 21;
+    private static final int FINALS = 28;
+
+    private static final String[] INITIAL = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] VOWEL = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] FINAL = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    /** 호환용 자모 ㄱ(U+3131)~ㅣ(U+3163) 중 겹자모를 푼 모양. 홑자모는 그대로다. */
+    private static final String[] COMPAT = new String[0x3163 - 0x3131 + 1];
+
+    static {
+        for (int i = 0; i < COMPAT.length; i++) {
+            COMPAT[i] = String.valueOf((char) (0x3131 + i));
+        }
+        compound('ㄳ', "ㄱㅅ");
+        compound('ㄵ', "ㄴㅈ");
+        compound('ㄶ', "ㄴㅎ");
+        compound('ㄺ', "ㄹㄱ");
+        compound('ㄻ', "ㄹㅁ");
+        compound('ㄼ', "ㄹㅂ");
+        compound('ㄽ', "ㄹㅅ");
+        compound('ㄾ', "ㄹㅌ");
+        compound('ㄿ', "ㄹㅍ");
+        compound('ㅀ', "ㄹㅎ");
+        compound('ㅄ', "ㅂㅅ");
+        compound('ㅘ', "ㅗㅏ");
+        compound('ㅙ', "ㅗㅐ");
+        compound('ㅚ', "ㅗㅣ");
+        compound('ㅝ', "ㅜㅓ");
+        compound('ㅞ', "ㅜㅔ");
+        compound('ㅟ', "ㅜㅣ");
+        compound('ㅢ', "ㅡㅣ");
+    }
+
+    private HangulJamo() {
+    }
+
+    /** 이름·검색어를 자모 키로. "어린이 집" → ㅇㅓㄹㅣㄴㅇㅣㅈㅣㅂ */
+    public static String decompose(String text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                out.append(INITIAL[offset / (VOWELS * FINALS)])
+                        .append(VOWEL[offset % (VOWELS * FINALS) / FINALS])
+                        .append(FINAL[offset % FINALS]);
+            } else if (isCompatJamo(c)) {
+                out.append(COMPAT[c - 0x3131]);
+            } else {
+                appendOther(out, c);
+            }
+        }
+        return out.toString();
+    }
+
+    /** 이름을 초성 키로. "햇살 어린이집" → ㅎㅅㅇㄹㅇㅈ. 한글이 아닌 글자는 decompose 와 같게 남긴다. */
+    public static String initials(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                out.append(INITIAL[(c - SYLLABLE_BASE) / (VOWELS * FINALS)]);
+            } else if (isCompatJamo(c)) {
+                out.append(c);
+            } else {
+                appendOther(out, c);
+            }
+        }
+        return out.toString();
+    }
+
+    /** 자음만으로 된 검색어인지. "ㅇㄹㅇㅈ" 같은 입력은 초성 검색으로 본다. 공백은 건너뛴다. */
+    public static boolean isInitialsOnly(String query) {
+        boolean any = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            any = true;
+        }
+        return any;
+    }
+
+    private static boolean isCompatJamo(char c) {
+        return c >= 0x3131 && c <= 0x3163;
+    }
+
+    private static void appendOther(StringBuilder out, char c) {
+        if (!Character.isWhitespace(c)) {
+            out.append(Character.toLowerCase(c));
+        }
+    }
+
+    private static void compound(char jamo, String split) {
+        COMPAT[jamo - 0x3131] = split;
+    }
+}
@@ -0,0 +1,21 @@
+package com.carecode.core.search.suggest;
+
+/**
+ * 자동완성 후보 한 건.
+ *
+ * @param id     시설·병원·정책의 ID. 시군구는 표가 없어 null 이다.
+ * @param text   보여 줄 이름
+ * @param detail 같은 이름을 가르는 보조 문구. 시설·병원은 시도·시군구, 정책은 유형, 시군구는 시도.
+ * @param weight 인기도. 클수록 앞에 온다.
+ */
+public record SearchSuggestion(SuggestionType type, Long id, String text, String detail, long weight) {
+
+    /** 같은 대상인지 가르는 키. 이름이 바뀌어도 같은 시설이면 같다. 시군구는 "중구" 가 여럿이라 시도까지 본다. */
+    String identity() {
+        return type.name() + ':' + (id != null ? id.toString() : detail + '/' + text);
+    }
+
+    SearchSuggestion withWeight(long newWeight) {
+        return new SearchSuggestion(type, id, text, detail, newWeight);
+    }
+}
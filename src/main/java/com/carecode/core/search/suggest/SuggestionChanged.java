@@ -0,0 +1,20 @@
+package com.carecode.core.search.suggest;
+
+/**
+ * 동기화가 시설·병원·정책 하나를 넣거나 고쳤다는 알림. {@link SuggestionIndex} 가 커밋 뒤 그 후보만 트라이에서
+ * 바꿔 끼운다. 인기도는 알림으로 쫓지 않고 주기 재구축 때 맞춘다.
+ */
+public record SuggestionChanged(SuggestionType type, Long id, String text, String detail) {
+
+    public static SuggestionChanged facility(Long id, String name, String address) {
+        return new SuggestionChanged(SuggestionType.FACILITY, id, name, SuggestionLoader.region(address));
+    }
+
+    public static SuggestionChanged hospital(Long id, String name, String address) {
+        return new SuggestionChanged(SuggestionType.HOSPITAL, id, name, SuggestionLoader.region(address));
+    }
+
+    public static SuggestionChanged policy(Long id, String title, String policyType) {
+        return new SuggestionChanged(SuggestionType.POLICY, id, title, policyType);
+    }
+}
@@ -0,0 +1,197 @@
+package com.carecode.core.search.suggest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색창 자동완성. 시설·병원·정책 이름과 시군구를 메모리 트라이에 두고 키 입력마다 상위 후보를 돌려준다.
+ *
+ * <p>DB 검색(LIKE, FULLTEXT)은 키 입력마다 부르기에 느리고 음절 단위라 입력 중인 글자("어ㄹ")를 못 맞춘다.
+ * 여기서는 이름을 자모로 풀어 넣고, 초성 트라이를 따로 두어 "ㅇㄹㅇㅈ" 도 받는다. 조회는 검색어 길이만큼 트라이를
+ * 내려가 미리 골라 둔 상위 목록을 읽는 것이 전부다.
+ *
+ * <p>동기화가 시설 하나를 넣거나 고치면 커밋 뒤 그 후보만 바꿔 끼운다. 삭제·비활성화, 관리자 수정, 인기도 변화,
+ * 다른 인스턴스에서 돈 동기화는 주기 재구축이 반영한다. 재구축이 DB 를 읽는 동안 들어온 변경은 모아 두었다가
+ * 새 판에 다시 적용한다.
+ *
+ * <p>인스턴스마다 따로 들고 있다. 인스턴스 사이 차이는 재구축 주기 안에 맞춰진다.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    /** 노드마다 미리 골라 두는 후보 수. 요청 limit 의 상한이기도 하다. */
+    public static final int TOP_K = 10;
+
+    /** 이름의 둘째 단어부터도 키로 넣는다. "국공립 햇살어린이집" 은 "햇살" 로도 나온다. 단어가 많은 정책명은 앞쪽만. */
+    private static final int MAX_WORD_KEYS = 4;
+
+    private final SuggestionLoader loader;
+
+    private volatile Map<SuggestionType, Tries> tries = emptyTries();
+    /** 지금 판에 든 후보. 바꿔 끼울 때 예전 이름의 키를 찾는 데 쓴다. 쓰는 쪽만 만지며 this 로 잠근다. */
+    private Map<String, SearchSuggestion> entries = new HashMap<>();
+    private List<SuggestionChanged> changedDuringRebuild;
+    private boolean loaded;
+
+    public SuggestionIndex(SuggestionLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * query 로 시작하는 후보를 인기순으로 limit 개까지. 자음만 친 검색어는 초성으로 찾는다.
+     * types 가 비어 있으면 모든 종류에서 찾는다.
+     */
+    public List<SearchSuggestion> suggest(String query, Set<SuggestionType> types, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        boolean initialsOnly = HangulJamo.isInitialsOnly(query);
+        String key = initialsOnly ? HangulJamo.initials(query) : HangulJamo.decompose(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Map<SuggestionType, Tries> current = tries;
+        Collection<SuggestionType> targets = types == null || types.isEmpty() ? current.keySet() : types;
+        List<SearchSuggestion> merged = new ArrayList<>();
+        for (SuggestionType type : targets) {
+            Tries pair = current.get(type);
+            merged.addAll((initialsOnly ? pair.initials() : pair.names()).top(key));
+        }
+        merged.sort(SuggestionTrie.ORDER);
+        return merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged;
+    }
+
+    /** DB 에서 다시 읽어 트라이를 통째로 바꾼다. 실패하면 이전 판으로 계속 답한다. */
+    @Scheduled(fixedDelayString = "${app.search.suggest.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.search.suggest.rebuild-initial-delay-ms:5000}")
+    public void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new ArrayList<>();
+        }
+        List<SearchSuggestion> suggestions;
+        try {
+            suggestions = loader.load();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            log.warn("자동완성 재구축 실패 - 이전 목록으로 계속 답합니다: {}", e.getMessage());
+            return;
+        }
+
+        long started = System.nanoTime();
+        Map<SuggestionType, SuggestionTrie.Builder> names = new EnumMap<>(SuggestionType.class);
+        Map<SuggestionType, SuggestionTrie.Builder> initials = new EnumMap<>(SuggestionType.class);
+        Map<String, SearchSuggestion> loadedEntries = new HashMap<>(suggestions.size() * 2);
+        for (SuggestionType type : SuggestionType.values()) {
+            names.put(type, SuggestionTrie.builder(TOP_K));
+            initials.put(type, SuggestionTrie.builder(TOP_K));
+        }
+        for (SearchSuggestion suggestion : suggestions) {
+            if (loadedEntries.putIfAbsent(suggestion.identity(), suggestion) != null) {
+                continue;
+            }
+            keys(suggestion.text(), false).forEach(key -> names.get(suggestion.type()).add(key, suggestion));
+            keys(suggestion.text(), true).forEach(key -> initials.get(suggestion.type()).add(key, suggestion));
+        }
+        Map<SuggestionType, Tries> built = new EnumMap<>(SuggestionType.class);
+        for (SuggestionType type : SuggestionType.values()) {
+            built.put(type, new Tries(names.get(type).build(), initials.get(type).build()));
+        }
+
+        synchronized (this) {
+            tries = built;
+            entries = loadedEntries;
+            loaded = true;
+            List<SuggestionChanged> pending = changedDuringRebuild;
+            changedDuringRebuild = null;
+            pending.forEach(this::apply);
+        }
+        log.info("자동완성 재구축 - 후보 {}건, {}ms", loadedEntries.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void on(SuggestionChanged event) {
+        if (event.id() == null || event.text() == null || event.text().isBlank()) {
+            return;
+        }
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(event);
+        }
+        if (loaded) {
+            apply(event);
+        }
+    }
+
+    /** 예전 이름의 키를 빼고 새 이름으로 넣는다. 인기도는 예전 값을 잇는다. 쓰는 쪽 잠금 안에서만 부른다. */
+    private void apply(SuggestionChanged event) {
+        SearchSuggestion incoming = new SearchSuggestion(event.type(), event.id(), event.text().trim(), event.detail(), 0);
+        SearchSuggestion previous = entries.get(incoming.identity());
+        if (previous != null) {
+            incoming = incoming.withWeight(previous.weight());
+            if (previous.equals(incoming)) {
+                return;
+            }
+        }
+        Tries pair = tries.get(event.type());
+        SuggestionTrie names = pair.names();
+        SuggestionTrie initials = pair.initials();
+        if (previous != null) {
+            for (String key : keys(previous.text(), false)) {
+                names = names.without(key, previous);
+            }
+            for (String key : keys(previous.text(), true)) {
+                initials = initials.without(key, previous);
+            }
+        }
+        for (String key : keys(incoming.text(), false)) {
+            names = names.with(key, incoming);
+        }
+        for (String key : keys(incoming.text(), true)) {
+            initials = initials.with(key, incoming);
+        }
+        Map<SuggestionType, Tries> next = new EnumMap<>(tries);
+        next.put(event.type(), new Tries(names, initials));
+        entries.put(incoming.identity(), incoming);
+        tries = next;
+    }
+
+    /** 이름 전체와 둘째 단어부터 시작하는 꼬리들. */
+    static Set<String> keys(String text, boolean initials) {
+        String[] words = text.trim().split("\\s+");
+        Set<String> keys = new LinkedHashSet<>();
+        for (int start = 0; start < words.length && start < MAX_WORD_KEYS; start++) {
+            String tail = String.join(" ", List.of(words).subList(start, words.length));
+            String key = initials ? HangulJamo.initials(tail) : HangulJamo.decompose(tail);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static Map<SuggestionType, Tries> emptyTries() {
+        Map<SuggestionType, Tries> empty = new EnumMap<>(SuggestionType.class);
+        for (SuggestionType type : SuggestionType.values()) {
+            empty.put(type, new Tries(SuggestionTrie.empty(TOP_K), SuggestionTrie.empty(TOP_K)));
+        }
+        return empty;
+    }
+
+    /** 한 종류의 자모 트라이와 초성 트라이. */
+    private record Tries(SuggestionTrie names, SuggestionTrie initials) {
+    }
+}
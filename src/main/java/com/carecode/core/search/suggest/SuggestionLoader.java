@@ -0,0 +1,70 @@
+package com.carecode.core.search.suggest;
+
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.health.repository.HospitalRepository;
+import com.carecode.domain.policy.repository.PolicyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성 후보를 DB 에서 처음부터 읽는다. 재구축 주기마다 한 번 돈다.
+ *
+ * <p>엔티티가 아니라 이름·주소·인기도 세 컬럼만 읽는다. 시설 수만 건을 엔티티로 올리면 설명·커리큘럼 TEXT 까지
+ * 따라 올라온다. 시군구는 따로 표가 없어 시설 주소 앞 두 마디로 모으고, 시설 수를 인기도로 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SuggestionLoader {
+
+    private final CareFacilityRepository careFacilityRepository;
+    private final HospitalRepository hospitalRepository;
+    private final PolicyRepository policyRepository;
+
+    public List<SearchSuggestion> load() {
+        List<SearchSuggestion> suggestions = new ArrayList<>();
+        Map<String, long[]> districts = new HashMap<>();
+        for (SuggestionRow row : careFacilityRepository.findSuggestionRows()) {
+            String region = region(row.detail());
+            add(suggestions, SuggestionType.FACILITY, row, region);
+            if (region != null && region.indexOf(' ') > 0) {
+                districts.computeIfAbsent(region, r -> new long[1])[0]++;
+            }
+        }
+        for (SuggestionRow row : hospitalRepository.findSuggestionRows()) {
+            add(suggestions, SuggestionType.HOSPITAL, row, region(row.detail()));
+        }
+        for (SuggestionRow row : policyRepository.findSuggestionRows()) {
+            add(suggestions, SuggestionType.POLICY, row, row.detail());
+        }
+        districts.forEach((region, count) -> {
+            int space = region.indexOf(' ');
+            suggestions.add(new SearchSuggestion(SuggestionType.DISTRICT, null,
+                    region.substring(space + 1), region.substring(0, space), count[0]));
+        });
+        return suggestions;
+    }
+
+    /** 주소의 시도·시군구. "서울특별시 강남구 테헤란로 1" → "서울특별시 강남구". 한 마디뿐이면 그대로, 없으면 null. */
+    static String region(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String[] words = address.trim().split("\\s+", 3);
+        return words.length == 1 ? words[0] : words[0] + ' ' + words[1];
+    }
+
+    private static void add(List<SearchSuggestion> suggestions, SuggestionType type, SuggestionRow row, String detail) {
+        if (row.name() == null || row.name().isBlank()) {
+            return;
+        }
+        suggestions.add(new SearchSuggestion(type, row.id(), row.name().trim(), detail,
+                row.weight() != null ? row.weight() : 0L));
+    }
+}
@@ -0,0 +1,5 @@
+package com.carecode.core.search.suggest;
+
+/** 자동완성 재구축이 읽는 한 줄. 이름과 보조 문구 재료, 인기도만 읽는다. */
+public record SuggestionRow(Long id, String name, String detail, Long weight) {
+}
@@ -0,0 +1,289 @@
+package com.carecode.core.search.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 자동완성 트라이. 분기점에만 노드를 두는 압축 트라이(radix tree)이고, 노드마다 그 아래 후보 중 인기 상위 k 개를
+ * 미리 들고 있다. 조회는 검색어 길이만큼 내려가 그 노드의 목록을 돌려주면 끝나므로 후보 수와 상관이 없다.
+ *
+ * <p>바꿀 수 없는 구조다. 추가·삭제는 바뀐 경로의 노드만 새로 만들어 새 트라이를 돌려주고 나머지 가지는 공유한다.
+ * 읽는 쪽은 잠금 없이 손에 든 판을 끝까지 읽는다.
+ *
+ * <p>한 후보가 여러 키로 들어갈 수 있다(이름의 단어마다). 상위 목록은 {@link SearchSuggestion#identity()} 로
+ * 겹침을 걷어낸다.
+ */
+final class SuggestionTrie {
+
+    /** 인기 내림차순, 같으면 짧은 이름, 그다음 가나다순. 같은 입력에 늘 같은 순서가 나와야 화면이 깜빡이지 않는다. */
+    static final Comparator<SearchSuggestion> ORDER = Comparator
+            .comparingLong(SearchSuggestion::weight).reversed()
+            .thenComparingInt(s -> s.text().length())
+            .thenComparing(SearchSuggestion::text)
+            .thenComparing(SearchSuggestion::identity);
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final SearchSuggestion[] NONE = new SearchSuggestion[0];
+
+    private final Node root;
+    private final int k;
+
+    private SuggestionTrie(Node root, int k) {
+        this.root = root;
+        this.k = k;
+    }
+
+    static SuggestionTrie empty(int k) {
+        return new SuggestionTrie(new Node("", NO_CHILDREN, NONE, k), k);
+    }
+
+    static Builder builder(int k) {
+        return new Builder(k);
+    }
+
+    /** prefix 로 시작하는 키의 후보 중 상위 k 개. */
+    List<SearchSuggestion> top(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            String segment = child.segment;
+            int compare = Math.min(segment.length(), prefix.length() - i);
+            if (!prefix.regionMatches(i, segment, 0, compare)) {
+                return List.of();
+            }
+            // 검색어가 간선 중간에서 끝나도 그 간선 아래 후보는 모두 맞는다.
+            i += compare;
+            node = child;
+        }
+        return Arrays.asList(node.top);
+    }
+
+    SuggestionTrie with(String key, SearchSuggestion suggestion) {
+        return new SuggestionTrie(insert(root, key, 0, suggestion), k);
+    }
+
+    SuggestionTrie without(String key, SearchSuggestion suggestion) {
+        Node removed = remove(root, key, 0, suggestion.identity());
+        return removed == root ? this : new SuggestionTrie(removed != null ? removed : empty(k).root, k);
+    }
+
+    private Node insert(Node node, String key, int i, SearchSuggestion suggestion) {
+        if (i == key.length()) {
+            return node.withValues(replace(node.values, suggestion));
+        }
+        int index = node.indexOf(key.charAt(i));
+        if (index < 0) {
+            Node leaf = new Node(key.substring(i), NO_CHILDREN, new SearchSuggestion[]{suggestion}, k);
+            return node.withChild(-index - 1, leaf, true);
+        }
+        Node child = node.children[index];
+        int common = commonPrefix(child.segment, key, i);
+        if (common < child.segment.length()) {
+            // 간선을 갈라 중간 노드를 세운다.
+            Node tail = child.withSegment(child.segment.substring(common));
+            child = new Node(child.segment.substring(0, common), new Node[]{tail}, NONE, k);
+        }
+        return node.withChild(index, insert(child, key, i + common, suggestion), false);
+    }
+
+    /** 바뀐 게 없으면 같은 노드를, 노드가 비면 null 을 돌려준다. 빈 가지는 남기지 않는다. */
+    private Node remove(Node node, String key, int i, String identity) {
+        if (i == key.length()) {
+            SearchSuggestion[] values = Arrays.stream(node.values)
+                    .filter(s -> !s.identity().equals(identity))
+                    .toArray(SearchSuggestion[]::new);
+            if (values.length == node.values.length) {
+                return node;
+            }
+            return values.length == 0 && node.children.length == 0 ? null : node.withValues(values);
+        }
+        int index = node.indexOf(key.charAt(i));
+        if (index < 0) {
+            return node;
+        }
+        Node child = node.children[index];
+        if (!key.startsWith(child.segment, i)) {
+            return node;
+        }
+        Node updated = remove(child, key, i + child.segment.length(), identity);
+        if (updated == child) {
+            return node;
+        }
+        if (updated != null) {
+            return node.withChild(index, updated, false);
+        }
+        Node pruned = node.withoutChild(index);
+        return pruned.values.length == 0 && pruned.children.length == 0 && !node.segment.isEmpty() ? null : pruned;
+    }
+
+    private static SearchSuggestion[] replace(SearchSuggestion[] values, SearchSuggestion suggestion) {
+        String identity = suggestion.identity();
+        List<SearchSuggestion> result = new ArrayList<>(values.length + 1);
+        for (SearchSuggestion value : values) {
+            if (!value.identity().equals(identity)) {
+                result.add(value);
+            }
+        }
+        result.add(suggestion);
+        return result.toArray(NONE);
+    }
+
+    private static int commonPrefix(String segment, String key, int from) {
+        int max = Math.min(segment.length(), key.length() - from);
+        int n = 0;
+        while (n < max && segment.charAt(n) == key.charAt(from + n)) {
+            n++;
+        }
+        return n;
+    }
+
+    /** 자기 값과 자식들의 상위 목록을 합쳐 상위 k 개를 고른다. 노드를 만들 때 한 번만 한다. */
+    private static SearchSuggestion[] topOf(SearchSuggestion[] values, Node[] children, int k) {
+        List<SearchSuggestion> candidates = new ArrayList<>(values.length + children.length * k);
+        candidates.addAll(Arrays.asList(values));
+        for (Node child : children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(ORDER);
+        List<SearchSuggestion> top = new ArrayList<>(Math.min(k, candidates.size()));
+        Set<String> seen = new HashSet<>();
+        for (SearchSuggestion candidate : candidates) {
+            if (top.size() == k) {
+                break;
+            }
+            if (seen.add(candidate.identity())) {
+                top.add(candidate);
+            }
+        }
+        return top.toArray(NONE);
+    }
+
+    private static final class Node {
+        private final String segment;
+        private final Node[] children;
+        private final char[] firsts;
+        private final SearchSuggestion[] values;
+        private final SearchSuggestion[] top;
+        private final int k;
+
+        private Node(String segment, Node[] children, SearchSuggestion[] values, int k) {
+            this.segment = segment;
+            this.children = children;
+            this.values = values;
+            this.k = k;
+            this.firsts = new char[children.length];
+            for (int i = 0; i < children.length; i++) {
+                firsts[i] = children[i].segment.charAt(0);
+            }
+            this.top = topOf(values, children, k);
+        }
+
+        private Node child(char c) {
+            int index = indexOf(c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private int indexOf(char c) {
+            return Arrays.binarySearch(firsts, c);
+        }
+
+        private Node withSegment(String newSegment) {
+            return new Node(newSegment, children, values, k);
+        }
+
+        private Node withValues(SearchSuggestion[] newValues) {
+            return new Node(segment, children, newValues, k);
+        }
+
+        private Node withChild(int index, Node child, boolean insert) {
+            Node[] next;
+            if (insert) {
+                next = new Node[children.length + 1];
+                System.arraycopy(children, 0, next, 0, index);
+                System.arraycopy(children, index, next, index + 1, children.length - index);
+            } else {
+                next = children.clone();
+            }
+            next[index] = child;
+            return new Node(segment, next, values, k);
+        }
+
+        private Node withoutChild(int index) {
+            Node[] next = new Node[children.length - 1];
+            System.arraycopy(children, 0, next, 0, index);
+            System.arraycopy(children, index + 1, next, index, next.length - index);
+            return new Node(segment, next, values, k);
+        }
+    }
+
+    /**
+     * 전체 재구축용. 하나씩 {@link #with} 로 넣으면 넣을 때마다 경로의 상위 목록을 다시 고르므로, 가변 노드에 다 넣은
+     * 뒤 한 번에 굳히며 아래에서부터 상위 목록을 만든다.
+     */
+    static final class Builder {
+        private final int k;
+        private final Draft root = new Draft("");
+
+        private Builder(int k) {
+            this.k = k;
+        }
+
+        Builder add(String key, SearchSuggestion suggestion) {
+            Draft node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Draft child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    child = new Draft(key.substring(i));
+                    node.children.put(key.charAt(i), child);
+                    node = child;
+                    break;
+                }
+                int common = commonPrefix(child.segment, key, i);
+                if (common < child.segment.length()) {
+                    Draft middle = new Draft(child.segment.substring(0, common));
+                    child.segment = child.segment.substring(common);
+                    middle.children.put(child.segment.charAt(0), child);
+                    node.children.put(key.charAt(i), middle);
+                    child = middle;
+                }
+                i += common;
+                node = child;
+            }
+            node.values.add(suggestion);
+            return this;
+        }
+
+        SuggestionTrie build() {
+            return new SuggestionTrie(freeze(root), k);
+        }
+
+        private Node freeze(Draft draft) {
+            Node[] children = new Node[draft.children.size()];
+            int i = 0;
+            for (Draft child : draft.children.values()) {
+                children[i++] = freeze(child);
+            }
+            return new Node(draft.segment, children, draft.values.toArray(NONE), k);
+        }
+    }
+
+    private static final class Draft {
+        private String segment;
+        private final TreeMap<Character, Draft> children = new TreeMap<>();
+        private final List<SearchSuggestion> values = new ArrayList<>(1);
+
+        private Draft(String segment) {
+            this.segment = segment;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.carecode.core.search.suggest;
+
+/** 자동완성 후보의 종류. 종류마다 트라이를 따로 두어, 한 종류만 물어도 그 종류의 상위 k 개가 온전히 나온다. */
+public enum SuggestionType {
+    FACILITY,
+    HOSPITAL,
+    POLICY,
+    DISTRICT
+}
@@ -0,0 +1,173 @@
+package com.carecode.core.security;
+
+import com.carecode.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 로그인 사용자 조회 결과를 두 단계로 들고 있는다. 요청 안에서는 요청 속성에, 요청 사이에는 이메일 기준 노드 로컬
+ * 캐시에 둔다.
+ *
+ * <p>인증이 필요한 거의 모든 요청이 이메일로 사용자를 다시 읽었고, 소유권 확인처럼 한 요청에서 여러 번 읽는 곳도
+ * 많았다. 같은 사용자가 몇 초 사이에 여러 번 부르는 화면이 대부분이라 짧은 TTL 로도 조회가 크게 준다.
+ *
+ * <p>엔티티를 그대로 나눠 주면 요청마다 다른 스레드가 같은 객체를 고칠 수 있다. 그래서 넣을 때와 꺼낼 때 모두
+ * 단순 필드만 복사한다. 꺼낸 객체는 영속성 컨텍스트 밖의 분리된 엔티티이고 컬렉션 연관(자녀·게시글 등)은
+ * 비어 있다. 연관이 필요하거나 사용자 자체를 고칠 곳은 {@link CurrentUserFacade#requireCurrentUserForUpdate()} 로
+ * DB 에서 읽는다.
+ *
+ * <p>프로필·권한·활성 상태가 바뀌면 바꾼 쪽이 {@link #evict(String)} 를 부른다. 캐시는 인스턴스마다 따로 있어
+ * 다른 인스턴스에는 TTL 만큼 늦게 반영된다. 권한 판단은 JWT 가 하므로 이 지연이 인가를 우회하지는 않는다.
+ */
+@Component
+public class CurrentUserCache {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUserCache.class.getName() + ".user";
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화가 일어날 때마다 오른다. 조회를 시작한 뒤 무효화가 끼어들었다면 읽어 온 값이 이미 낡았을 수 있어
+     * 캐시에 넣지 않는다.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public CurrentUserCache(@Value("${app.security.current-user-cache.ttl:PT30S}") Duration ttl,
+                            @Value("${app.security.current-user-cache.max-size:10000}") int maxSize) {
+        this(ttl, maxSize, Clock.systemUTC());
+    }
+
+    CurrentUserCache(Duration ttl, int maxSize, Clock clock) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 같은 요청에서 이미 찾았으면 그 객체를, 캐시에 있으면 복사본을, 없으면 loader 로 읽어 온 엔티티를 돌려준다.
+     * 요청 밖(스케줄러·비동기)에서는 요청 속성이 없어 캐시만 쓴다.
+     */
+    public Optional<User> get(String email, Function<String, Optional<User>> loader) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null
+                && request.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User memo
+                && email.equals(memo.getEmail())) {
+            return Optional.of(memo);
+        }
+        Optional<User> user = lookup(email, loader);
+        if (request != null) {
+            user.ifPresent(found -> request.setAttribute(REQUEST_ATTRIBUTE, found, RequestAttributes.SCOPE_REQUEST));
+        }
+        return user;
+    }
+
+    private Optional<User> lookup(String email, Function<String, Optional<User>> loader) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return loader.apply(email);
+        }
+        Instant now = clock.instant();
+        Entry cached = entries.get(email);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return Optional.of(copyOf(cached.user()));
+        }
+
+        long stamp = invalidations.get();
+        Optional<User> loaded = loader.apply(email);
+        loaded.ifPresent(user -> {
+            if (invalidations.get() == stamp && hasRoom(now)) {
+                entries.put(email, new Entry(copyOf(user), now.plus(ttl)));
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 이 이메일의 캐시를 지운다. 트랜잭션 안이면 커밋 뒤에 한 번 더 지운다. 커밋 전에 다른 요청이 옛 값을
+     * 다시 읽어 넣을 수 있기 때문이다.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        }
+    }
+
+    private void invalidate(String email) {
+        invalidations.incrementAndGet();
+        entries.remove(email);
+        // 바꾼 요청이 이어서 자기 정보를 다시 읽는 경우. 커밋 콜백은 요청 스레드에서 돌므로 여기서도 지워진다.
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /** 가득 차면 만료된 것부터 치운다. 그래도 가득 차 있으면 이번 값은 넣지 않는다. */
+    private boolean hasRoom(Instant now) {
+        if (entries.size() < maxSize) {
+            return true;
+        }
+        entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        return entries.size() < maxSize;
+    }
+
+    /** 단순 필드만 옮긴다. 컬렉션 연관은 지연 로딩 프록시라 세션 밖에서 건드리면 예외가 난다. */
+    static User copyOf(User user) {
+        return User.builder()
+                .id(user.getId())
+                .userId(user.getUserId())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .name(user.getName())
+                .phoneNumber(user.getPhoneNumber())
+                .birthDate(user.getBirthDate())
+                .gender(user.getGender())
+                .address(user.getAddress())
+                .latitude(user.getLatitude())
+                .longitude(user.getLongitude())
+                .incomePercent(user.getIncomePercent())
+                .householdSize(user.getHouseholdSize())
+                .profileImageUrl(user.getProfileImageUrl())
+                .role(user.getRole())
+                .provider(user.getProvider())
+                .providerId(user.getProviderId())
+                .isActive(user.getIsActive())
+                .emailVerified(user.getEmailVerified())
+                .registrationCompleted(user.getRegistrationCompleted())
+                .deletedAt(user.getDeletedAt())
+                .lastLoginAt(user.getLastLoginAt())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
+    private record Entry(User user, Instant expiresAt) {
+    }
+}
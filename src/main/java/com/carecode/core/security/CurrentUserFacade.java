@@ -11,6 +11,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /** Resolves the authenticated user from SecurityContextHolder and the persistence layer */
 @Slf4j
 @Component
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class CurrentUserFacade {
 
     private final UserRepository userRepository;
+    private final CurrentUserCache currentUserCache;
 
     public String requireCurrentUserEmail() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -37,12 +40,29 @@ public class CurrentUserFacade {
         return authentication.getName();
     }
 
+    /**
+     * 로그인 사용자. 같은 요청 안에서는 처음 찾은 객체를 그대로 돌려주고, 요청 사이에는 {@link CurrentUserCache} 를
+     * 거친다. 돌려받은 엔티티는 분리된 복사본일 수 있으니 고치거나 연관 컬렉션을 읽을 곳은
+     * {@link #requireCurrentUserForUpdate()} 를 쓴다.
+     */
     public User requireCurrentUser() {
+        String email = requireCurrentUserEmail();
+        return findActiveUser(email)
+                .orElseThrow(() -> new CareServiceException("USER_NOT_FOUND", "인증 사용자를 찾을 수 없습니다."));
+    }
+
+    /** 캐시를 거치지 않고 현재 트랜잭션에서 관리되는 엔티티를 읽는다. 사용자 자체를 고칠 때 쓴다. */
+    public User requireCurrentUserForUpdate() {
         String email = requireCurrentUserEmail();
         return userRepository.findByEmailAndDeletedAtIsNull(email)
                 .orElseThrow(() -> new CareServiceException("USER_NOT_FOUND", "인증 사용자를 찾을 수 없습니다."));
     }
 
+    /** 탈퇴하지 않은 사용자를 이메일로 찾는다. 인증 정보를 직접 다루는 서비스도 조회는 이 경로로 태운다. */
+    public Optional<User> findActiveUser(String email) {
+        return currentUserCache.get(email, userRepository::findByEmailAndDeletedAtIsNull);
+    }
+
     public String requireCurrentUserId() {
         return requireCurrentUser().getUserId();
     }
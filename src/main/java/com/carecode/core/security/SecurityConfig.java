@@ -139,6 +139,9 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/facilities/*/rating").authenticated()
                 .requestMatchers("/facilities/*/rating").permitAll()
                 
+                // 검색창 자동완성. 로그인 전 첫 화면에서도 쓴다.
+                .requestMatchers(HttpMethod.GET, "/search/suggest").permitAll()
+
                 // 돌봄시설 공공데이터 API (공개 접근)
                 .requestMatchers("/api/public/care-facilities/**").permitAll()
                 
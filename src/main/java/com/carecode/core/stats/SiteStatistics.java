@@ -0,0 +1,261 @@
+package com.carecode.core.stats;
+
+import com.carecode.domain.careFacility.dto.response.TypeStats;
+import com.carecode.domain.careFacility.entity.FacilityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드·통계 화면이 보는 건수를 메모리에 들고 있는다.
+ *
+ * <p>예전에는 화면을 열 때마다 사용자·병원·정책 count() 와 월별 GROUP BY, 시설 유형별 집계를 돌렸다.
+ * 시설 통계는 공개 API(/facilities/statistics)라 누구나 부를 수 있어 전체 스캔이 요청 수만큼 일어났다.
+ * 이제 가입·등록 이벤트로 카운터를 올리고, 주기적으로 처음부터 다시 세어 어긋난 값을 바로잡는다.
+ *
+ * <p>카운터는 인스턴스마다 따로 있다. 다른 인스턴스에서 일어난 가입은 다음 재집계 때 반영되므로
+ * 최대 재집계 주기만큼 늦을 수 있다. 관리자 화면 숫자로는 충분하다. 같은 이유로 재집계는
+ * {@code @ClusterExclusive} 를 붙이지 않고 인스턴스마다 돈다.
+ */
+@Slf4j
+@Service
+public class SiteStatistics {
+
+    /** 일별 가입 버킷 보관 범위. 대시보드 6개월 추이와 최근 한 달 신규 가입을 모두 덮는다. */
+    static final int SIGNUP_MONTHS = 6;
+
+    /** 대시보드 최근 활동에 종류별로 몇 건씩 보일지. 예전 화면(사용자 2, 병원 2, 정책 1)과 같다. */
+    private static final Map<String, Integer> RECENT_PER_TYPE = Map.of("user", 2, "hospital", 2, "policy", 1);
+
+    private static final Comparator<SiteStatisticsSnapshot.Activity> NEWEST_FIRST = Comparator.comparing(
+            SiteStatisticsSnapshot.Activity::time, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final SiteStatisticsLoader loader;
+    private final Clock clock;
+
+    private volatile Counters counters;
+
+    @Autowired
+    public SiteStatistics(SiteStatisticsLoader loader) {
+        this(loader, Clock.systemDefaultZone());
+    }
+
+    SiteStatistics(SiteStatisticsLoader loader, Clock clock) {
+        this.loader = loader;
+        this.clock = clock;
+    }
+
+    public long totalUsers() {
+        return counters().totalUsers.get();
+    }
+
+    public long activeUsers() {
+        return counters().activeUsers.get();
+    }
+
+    public long verifiedUsers() {
+        return counters().verifiedUsers.get();
+    }
+
+    /** from 날짜(포함) 이후 가입자 수. 일 단위로 센다. */
+    public long newUsersSince(LocalDate from) {
+        long sum = 0;
+        for (Map.Entry<LocalDate, LongAdder> day : counters().dailySignups.entrySet()) {
+            if (!day.getKey().isBefore(from)) {
+                sum += day.getValue().sum();
+            }
+        }
+        return sum;
+    }
+
+    /** 이번 달을 포함한 최근 months 개월의 가입자 수. 가입이 없는 달도 0 으로 채운다. */
+    public Map<YearMonth, Long> monthlySignups(int months) {
+        YearMonth current = YearMonth.now(clock);
+        Map<YearMonth, Long> trend = new LinkedHashMap<>();
+        for (int i = months - 1; i >= 0; i--) {
+            trend.put(current.minusMonths(i), 0L);
+        }
+        for (Map.Entry<LocalDate, LongAdder> day : counters().dailySignups.entrySet()) {
+            trend.computeIfPresent(YearMonth.from(day.getKey()), (month, count) -> count + day.getValue().sum());
+        }
+        return trend;
+    }
+
+    public long hospitals() {
+        return counters().hospitals.get();
+    }
+
+    public long policies() {
+        return counters().policies.get();
+    }
+
+    public long facilities() {
+        return counters().facilities.get();
+    }
+
+    /**
+     * 운영 중인 시설의 유형별 통계. 건수는 등록 이벤트로 바로 오르고, 평균 평점과 조회수 합은
+     * 재집계 시점 값이다. 조회수는 조회마다 바뀌어 이벤트로 쫓을 값이 아니다.
+     */
+    public List<TypeStats> facilityTypeStats() {
+        Counters current = counters();
+        List<TypeStats> result = new ArrayList<>();
+        for (Map.Entry<FacilityType, LongAdder> entry : current.facilitiesByType.entrySet()) {
+            TypeStats reconciled = current.reconciledTypeStats.get(entry.getKey());
+            result.add(new TypeStats(entry.getKey(), entry.getValue().sum(),
+                    reconciled != null ? reconciled.getAverageRating() : 0.0,
+                    reconciled != null ? reconciled.getTotalViews() : 0L));
+        }
+        result.sort(Comparator.comparing(TypeStats::getFacilityType));
+        return result;
+    }
+
+    public List<SiteStatisticsSnapshot.Activity> recentActivities(int limit) {
+        Counters current = counters();
+        List<SiteStatisticsSnapshot.Activity> activities = new ArrayList<>();
+        synchronized (current.recent) {
+            current.recent.values().forEach(activities::addAll);
+        }
+        return activities.stream()
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(SiteStatisticsEvent event) {
+        Counters current = counters;
+        if (current == null) {
+            // 아직 한 번도 세지 않았다. 첫 집계가 이 행까지 DB 에서 센다.
+            return;
+        }
+        if (event instanceof SiteStatisticsEvent.UserSignedUp signup) {
+            LocalDateTime at = orNow(signup.createdAt());
+            current.totalUsers.incrementAndGet();
+            current.activeUsers.incrementAndGet();
+            if (signup.emailVerified()) {
+                current.verifiedUsers.incrementAndGet();
+            }
+            current.dailySignups.computeIfAbsent(at.toLocalDate(), d -> new LongAdder()).increment();
+            current.addRecent(SiteStatisticsSnapshot.Activity.user(signup.name(), at));
+        } else if (event instanceof SiteStatisticsEvent.HospitalRegistered hospital) {
+            current.hospitals.incrementAndGet();
+            current.addRecent(SiteStatisticsSnapshot.Activity.hospital(hospital.name(), orNow(hospital.createdAt())));
+        } else if (event instanceof SiteStatisticsEvent.PolicyRegistered policy) {
+            current.policies.incrementAndGet();
+            current.addRecent(SiteStatisticsSnapshot.Activity.policy(policy.title(), orNow(policy.createdAt())));
+        } else if (event instanceof SiteStatisticsEvent.FacilityRegistered facility) {
+            current.facilities.incrementAndGet();
+            if (facility.facilityType() != null) {
+                current.facilitiesByType.computeIfAbsent(facility.facilityType(), t -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    /**
+     * DB 에서 다시 세어 카운터를 통째로 바꾼다. 탈퇴·비활성화·이메일 인증처럼 이벤트로 쫓지 않는 변화와,
+     * 다른 인스턴스에서 일어난 가입·등록이 여기서 반영된다.
+     *
+     * <p>집계 쿼리와 교체 사이에 들어온 이벤트는 버려진 이전 카운터에 더해져 사라질 수 있다.
+     * 다음 재집계가 다시 세므로 따로 맞추지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.stats.reconcile-initial-delay-ms:30000}")
+    public void reconcile() {
+        try {
+            counters = load();
+        } catch (RuntimeException e) {
+            // 이전 값으로 계속 보여 준다. 다음 주기에 다시 시도한다.
+            log.warn("관리자 통계 재집계 실패: {}", e.getMessage());
+        }
+    }
+
+    private Counters counters() {
+        Counters current = counters;
+        if (current == null) {
+            synchronized (this) {
+                if (counters == null) {
+                    counters = load();
+                }
+                current = counters;
+            }
+        }
+        return current;
+    }
+
+    private Counters load() {
+        return new Counters(loader.load(YearMonth.now(clock).minusMonths(SIGNUP_MONTHS - 1L).atDay(1)));
+    }
+
+    private LocalDateTime orNow(LocalDateTime time) {
+        return time != null ? time : LocalDateTime.now(clock);
+    }
+
+    private static final class Counters {
+        private final AtomicLong totalUsers;
+        private final AtomicLong activeUsers;
+        private final AtomicLong verifiedUsers;
+        private final AtomicLong hospitals;
+        private final AtomicLong policies;
+        private final AtomicLong facilities;
+        private final ConcurrentMap<LocalDate, LongAdder> dailySignups = new ConcurrentHashMap<>();
+        private final ConcurrentMap<FacilityType, LongAdder> facilitiesByType = new ConcurrentHashMap<>();
+        private final Map<FacilityType, TypeStats> reconciledTypeStats = new EnumMap<>(FacilityType.class);
+        private final Map<String, List<SiteStatisticsSnapshot.Activity>> recent = new LinkedHashMap<>();
+
+        private Counters(SiteStatisticsSnapshot snapshot) {
+            totalUsers = new AtomicLong(snapshot.totalUsers());
+            activeUsers = new AtomicLong(snapshot.activeUsers());
+            verifiedUsers = new AtomicLong(snapshot.verifiedUsers());
+            hospitals = new AtomicLong(snapshot.hospitals());
+            policies = new AtomicLong(snapshot.policies());
+            facilities = new AtomicLong(snapshot.facilities());
+            snapshot.dailySignups().forEach((day, count) -> {
+                LongAdder adder = new LongAdder();
+                adder.add(count);
+                dailySignups.put(day, adder);
+            });
+            for (TypeStats stats : snapshot.facilityTypeStats()) {
+                if (stats.getFacilityType() == null) {
+                    continue;
+                }
+                reconciledTypeStats.put(stats.getFacilityType(), stats);
+                LongAdder adder = new LongAdder();
+                adder.add(stats.getCount());
+                facilitiesByType.put(stats.getFacilityType(), adder);
+            }
+            snapshot.recentActivities().forEach(this::addRecent);
+        }
+
+        /** 종류별로 가장 최근 몇 건만 남긴다. */
+        private void addRecent(SiteStatisticsSnapshot.Activity activity) {
+            synchronized (recent) {
+                List<SiteStatisticsSnapshot.Activity> list = recent.computeIfAbsent(activity.type(), t -> new ArrayList<>());
+                list.add(activity);
+                list.sort(NEWEST_FIRST);
+                int keep = RECENT_PER_TYPE.getOrDefault(activity.type(), 1);
+                if (list.size() > keep) {
+                    list.subList(keep, list.size()).clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.carecode.core.stats;
+
+import com.carecode.domain.careFacility.entity.FacilityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 통계 카운터를 움직이는 쓰기 이벤트. 건수가 바뀌는 "새로 생김"만 보낸다.
+ *
+ * <p>수정·탈퇴·비활성화처럼 자주 일어나지 않거나 경로가 많은 변경은 이벤트로 쫓지 않고
+ * {@link SiteStatistics} 의 주기 재집계가 바로잡는다.
+ */
+public sealed interface SiteStatisticsEvent {
+
+    record UserSignedUp(String name, boolean emailVerified, LocalDateTime createdAt) implements SiteStatisticsEvent {
+    }
+
+    record HospitalRegistered(String name, LocalDateTime createdAt) implements SiteStatisticsEvent {
+    }
+
+    record PolicyRegistered(String title, LocalDateTime createdAt) implements SiteStatisticsEvent {
+    }
+
+    record FacilityRegistered(FacilityType facilityType) implements SiteStatisticsEvent {
+    }
+}
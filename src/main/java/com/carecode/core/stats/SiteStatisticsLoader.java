@@ -0,0 +1,68 @@
+package com.carecode.core.stats;
+
+import com.carecode.domain.careFacility.dto.response.TypeStats;
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.repository.HospitalRepository;
+import com.carecode.domain.policy.entity.Policy;
+import com.carecode.domain.policy.repository.PolicyRepository;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 통계를 DB 에서 처음부터 다시 센다. 재집계 주기마다 한 번만 돈다.
+ *
+ * <p>읽기 전용 트랜잭션 하나로 묶어 MySQL(REPEATABLE READ)에서 모든 카운트가 같은 시점을 보게 한다.
+ * 따로 세면 사이에 가입한 사용자가 전체 수에는 있고 일별 수에는 없는 식으로 어긋난다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SiteStatisticsLoader {
+
+    private final UserRepository userRepository;
+    private final HospitalRepository hospitalRepository;
+    private final PolicyRepository policyRepository;
+    private final CareFacilityRepository careFacilityRepository;
+
+    public SiteStatisticsSnapshot load(LocalDate signupsSince) {
+        Map<LocalDate, Long> dailySignups = new HashMap<>();
+        for (Object[] row : userRepository.countUsersGroupedByDaySince(signupsSince.atStartOfDay())) {
+            dailySignups.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+
+        List<SiteStatisticsSnapshot.Activity> activities = new ArrayList<>();
+        for (User user : userRepository.findTop2ByDeletedAtIsNullOrderByCreatedAtDesc()) {
+            activities.add(SiteStatisticsSnapshot.Activity.user(user.getName(), user.getCreatedAt()));
+        }
+        for (Hospital hospital : hospitalRepository.findTop2ByOrderByCreatedAtDesc()) {
+            activities.add(SiteStatisticsSnapshot.Activity.hospital(hospital.getName(), hospital.getCreatedAt()));
+        }
+        for (Policy policy : policyRepository.findTop1ByOrderByCreatedAtDesc()) {
+            activities.add(SiteStatisticsSnapshot.Activity.policy(policy.getTitle(), policy.getCreatedAt()));
+        }
+
+        List<TypeStats> typeStats = careFacilityRepository.getTypeStats();
+        return new SiteStatisticsSnapshot(
+                LocalDateTime.now(),
+                userRepository.count(),
+                userRepository.countActiveUsersNotDeleted(),
+                userRepository.countEmailVerifiedUsersNotDeleted(),
+                dailySignups,
+                hospitalRepository.count(),
+                policyRepository.count(),
+                careFacilityRepository.count(),
+                typeStats,
+                activities);
+    }
+}
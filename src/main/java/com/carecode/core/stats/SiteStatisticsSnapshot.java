@@ -0,0 +1,37 @@
+package com.carecode.core.stats;
+
+import com.carecode.domain.careFacility.dto.response.TypeStats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/** 재집계 한 번의 결과. {@link SiteStatistics} 가 이걸 바탕으로 카운터를 새로 만든다. */
+public record SiteStatisticsSnapshot(
+        LocalDateTime loadedAt,
+        long totalUsers,
+        long activeUsers,
+        long verifiedUsers,
+        Map<LocalDate, Long> dailySignups,
+        long hospitals,
+        long policies,
+        long facilities,
+        List<TypeStats> facilityTypeStats,
+        List<Activity> recentActivities) {
+
+    public record Activity(String type, String description, LocalDateTime time) {
+
+        static Activity user(String name, LocalDateTime time) {
+            return new Activity("user", "신규 사용자 가입: " + name, time);
+        }
+
+        static Activity hospital(String name, LocalDateTime time) {
+            return new Activity("hospital", "병원 등록: " + name, time);
+        }
+
+        static Activity policy(String title, LocalDateTime time) {
+            return new Activity("policy", "정책 등록: " + title, time);
+        }
+    }
+}
@@ -1,13 +1,28 @@
 package com.carecode.core.storage;
 
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Optional;
+
 /** 파일 저장소 추상화. 구현체를 바꾸면 로컬 디스크 ↔ S3 전환이 가능하도록 도메인 코드는 이 인터페이스에만 의존한다. */
 public interface FileStorageService {
 
-    /** 파일을 저장한다. */
-    StoredFile store(MultipartFile file, String directory);
+    /**
+     * 파일을 저장하고 참조 하나를 더한다. 같은 내용이 이미 있으면 새로 쓰지 않고 같은 키를 돌려준다.
+     * 호출한 트랜잭션이 롤백되면 참조도 되돌아간다.
+     */
+    StoredFile store(MultipartFile file);
 
-    /** 저장된 파일을 삭제한다. 없는 키를 지워도 예외를 던지지 않는다. */
+    /** 참조 하나를 푼다. 남은 참조가 없으면 커밋 뒤 파일과 파생 파일을 지운다. 없는 키를 지워도 예외를 던지지 않는다. */
     void delete(String key);
+
+    /** 저장된 파일을 연다. 없는 키나 저장소 밖을 가리키는 키면 비어 있다. 내용은 읽지 않는다. */
+    Optional<Resource> load(String key);
+
+    /** 썸네일처럼 원본에서 만든 파일을 쓴다. 원본이 지워질 때 함께 지워진다. */
+    void storeDerivative(String key, byte[] content);
+
+    /** {@link StoredFile#getUrl()} 로 내준 주소에서 키를 꺼낸다. 이 저장소 주소가 아니면 비어 있다. */
+    Optional<String> keyOf(String url);
 }
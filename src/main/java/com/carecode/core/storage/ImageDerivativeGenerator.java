@@ -0,0 +1,126 @@
+package com.carecode.core.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 새로 올라온 이미지의 썸네일을 만든다. 목록 화면이 폰 사진 원본(수 MB)을 받지 않게 한다.
+ *
+ * <p>업로드 응답을 늦추지 않도록 커밋 뒤 전용 풀에서 만든다. 중복 업로드는 이미 썸네일이 있으니 건너뛴다.
+ * 원본을 통째로 디코딩하면 12MP 사진 하나가 힙 48MB 를 쓰므로, 읽을 때부터 목표 폭의 두 배 정도로 솎아 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final FileStorageService storage;
+
+    @Async("imageExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStored(StoredObjectEvent.Stored event) {
+        if (!event.created() || !ImageDerivatives.hasThumbnail(event.contentType())) {
+            return;
+        }
+        try {
+            generate(event.key());
+        } catch (IOException | RuntimeException e) {
+            // 썸네일이 없으면 원본을 내려주므로 화면은 깨지지 않는다.
+            log.warn("썸네일 생성 실패 - key={}, 사유={}", event.key(), e.getMessage());
+        }
+    }
+
+    void generate(String key) throws IOException {
+        Resource original = storage.load(key).orElse(null);
+        if (original == null) {
+            return;
+        }
+        BufferedImage source;
+        try (InputStream in = original.getInputStream()) {
+            source = readSubsampled(in, ImageDerivatives.THUMBNAIL_WIDTH * 2);
+        }
+        if (source == null) {
+            log.debug("읽을 수 없는 이미지라 썸네일을 건너뜁니다 - key={}", key);
+            return;
+        }
+        storage.storeDerivative(ImageDerivatives.thumbnailKey(key),
+                toJpeg(resize(source, ImageDerivatives.THUMBNAIL_WIDTH)));
+    }
+
+    private BufferedImage readSubsampled(InputStream in, int targetWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int step = Math.max(1, reader.getWidth(0) / targetWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** 작은 이미지는 키우지 않는다. */
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        // JPEG 에는 알파가 없다. 투명 PNG 는 흰 바탕에 올린다.
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
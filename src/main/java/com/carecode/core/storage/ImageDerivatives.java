@@ -0,0 +1,42 @@
+package com.carecode.core.storage;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 원본 키에서 파생 파일(썸네일) 키를 만드는 규칙. 원본 키 뒤에 접미사를 붙여, 파생 키만 보고도 원본을 찾는다.
+ * 썸네일이 아직 없으면 원본을 대신 내려주는 데 쓴다.
+ */
+public final class ImageDerivatives {
+
+    /** 목록 화면의 카드·그리드에 맞춘 폭. 레티나 2배로도 160pt 카드를 채운다. */
+    public static final int THUMBNAIL_WIDTH = 320;
+
+    static final String THUMBNAIL_SUFFIX = ".w" + THUMBNAIL_WIDTH + ".jpg";
+
+    /** JDK ImageIO 가 읽을 수 있는 형식만. WebP·HEIC 는 원본을 그대로 쓴다. */
+    private static final Set<String> THUMBNAIL_SOURCE_TYPES = Set.of("image/jpeg", "image/png", "image/gif");
+
+    private ImageDerivatives() {
+    }
+
+    public static boolean hasThumbnail(String contentType) {
+        return contentType != null && THUMBNAIL_SOURCE_TYPES.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    public static String thumbnailKey(String key) {
+        return key + THUMBNAIL_SUFFIX;
+    }
+
+    /** 이미지가 아니면 null. 썸네일이 아직 없어도 이 주소는 원본을 돌려준다. */
+    public static String thumbnailUrl(String url, String contentType) {
+        return url != null && hasThumbnail(contentType) ? url + THUMBNAIL_SUFFIX : null;
+    }
+
+    public static Optional<String> originalKeyOf(String key) {
+        return key.endsWith(THUMBNAIL_SUFFIX)
+                ? Optional.of(key.substring(0, key.length() - THUMBNAIL_SUFFIX.length()))
+                : Optional.empty();
+    }
+}
@@ -4,20 +4,46 @@ import com.carecode.core.exception.BusinessException;
 import com.carecode.core.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.security.DigestInputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 
-/** 로컬 디스크 기반 파일 저장소. 단일 인스턴스 배포를 전제로 한다. */
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 로컬 디스크 기반 파일 저장소. 단일 인스턴스 배포를 전제로 한다.
+ *
+ * <p>키는 내용에서 정해진다. 예전에는 업로드마다 UUID 이름으로 새로 써서, 같은 예방접종 수첩 사진을 기록마다
+ * 올리면 그 수만큼 디스크를 썼다. 이제 받으면서 해시를 계산하고, 같은 파일이 있으면 임시 파일을 버리고 참조 수만
+ * 올린다. 예전 UUID 키 파일은 그대로 내려주고 지울 수 있다.
+ *
+ * <p>키에 SHA-256 을 그대로 쓰지 않고 서버 비밀값으로 만든 HMAC 을 쓴다. 건강기록 첨부의 URL 은 키 그 자체라,
+ * 내용 해시면 파일을 가진 사람이 URL 을 계산해 다른 사용자가 같은 파일을 올렸는지 확인할 수 있다. 비밀값을
+ * 바꾸면 그 뒤 업로드는 예전 파일과 겹쳐 쓰지 않을 뿐 예전 키는 그대로 내려간다. 같은 내용을 올린 두 사용자가
+ * 같은 URL 을 받는 것은 남는다. 그 URL 을 얻으려면 이미 같은 파일을 갖고 있어야 한다.
+ */
 @Slf4j
 @Service
 public class LocalFileStorageService implements FileStorageService {
@@ -29,24 +55,42 @@ public class LocalFileStorageService implements FileStorageService {
     private static final Set<String> ALLOWED_CONTENT_TYPES =
             Set.of("image/jpeg", "image/png", "image/gif", "image/webp", "image/heic", "application/pdf");
 
-    private static final DateTimeFormatter DATE_PATH = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+    /** 내용 주소 파일을 두는 곳. 해시 앞 네 글자로 두 단계 나눠 한 디렉터리에 파일이 몰리지 않게 한다. */
+    private static final String OBJECT_DIRECTORY = "objects";
+
+    private static final String HMAC = "HmacSHA256";
 
     private final Path rootLocation;
+    private final Path tempLocation;
     private final String publicBaseUrl;
     private final long maxFileSize;
+    private final SecretKeySpec keySecret;
+    private final StoredObjectRepository objectRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LocalFileStorageService(
             @Value("${app.storage.local.root:./uploads}") String root,
             @Value("${app.storage.public-base-url:/files}") String publicBaseUrl,
-            @Value("${app.storage.max-file-size-bytes:10485760}") long maxFileSize) {
+            @Value("${app.storage.max-file-size-bytes:10485760}") long maxFileSize,
+            @Value("${app.storage.key-secret}") String keySecret,
+            StoredObjectRepository objectRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.rootLocation = Paths.get(root).toAbsolutePath().normalize();
+        // 같은 파일시스템이어야 임시 파일을 복사 없이 옮길 수 있다.
+        this.tempLocation = rootLocation.resolve(".tmp");
         this.publicBaseUrl = publicBaseUrl.endsWith("/")
                 ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1)
                 : publicBaseUrl;
         this.maxFileSize = maxFileSize;
+        if (keySecret == null || keySecret.isBlank()) {
+            throw new IllegalStateException("app.storage.key-secret 이 비어 있습니다.");
+        }
+        this.keySecret = new SecretKeySpec(keySecret.getBytes(StandardCharsets.UTF_8), HMAC);
+        this.objectRepository = objectRepository;
+        this.eventPublisher = eventPublisher;
 
         try {
-            Files.createDirectories(rootLocation);
+            Files.createDirectories(tempLocation);
             log.info("파일 저장소 초기화: {}", rootLocation);
         } catch (IOException e) {
             throw new IllegalStateException("파일 저장 디렉터리를 만들 수 없습니다: " + rootLocation, e);
@@ -54,54 +98,168 @@ public class LocalFileStorageService implements FileStorageService {
     }
 
     @Override
-    public StoredFile store(MultipartFile file, String directory) {
+    @Transactional
+    public StoredFile store(MultipartFile file) {
         validate(file);
 
         String extension = extractExtension(file.getOriginalFilename());
-        // 원본 파일명을 그대로 쓰면 경로 조작(../)과 파일명 충돌 위험이 있으므로 UUID 로 대체한다.
-        String storedName = UUID.randomUUID().toString().replace("-", "") + "." + extension;
-        String relativeDir = sanitizeDirectory(directory) + "/" + LocalDate.now().format(DATE_PATH);
-        String key = relativeDir + "/" + storedName;
-
-        Path targetDir = rootLocation.resolve(relativeDir).normalize();
-        if (!targetDir.startsWith(rootLocation)) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 저장 경로입니다.");
-        }
-
+        Path temp = null;
         try {
-            Files.createDirectories(targetDir);
-            try (InputStream in = file.getInputStream()) {
-                Files.copy(in, targetDir.resolve(storedName), StandardCopyOption.REPLACE_EXISTING);
+            temp = Files.createTempFile(tempLocation, "upload-", ".part");
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
             }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String name = objectName(hash);
+            String key = OBJECT_DIRECTORY + "/" + name.substring(0, 2) + "/" + name.substring(2, 4)
+                    + "/" + name + "." + extension;
+            Path target = rootLocation.resolve(key);
+            long size = Files.size(temp);
+
+            // 참조를 먼저 올려 행을 잠근다. 동시에 커밋된 마지막 참조 해제는 이 잠금을 기다렸다가 참조가 남은 것을
+            // 보고 파일을 두거나, 먼저 행과 파일을 지운 뒤 잠금을 넘긴다. 어느 쪽이든 잠금을 쥔 뒤에 본 파일은
+            // 이 트랜잭션이 끝날 때까지 지워지지 않는다.
+            objectRepository.acquire(key, hash, file.getContentType(), size, LocalDateTime.now());
+            boolean duplicate = Files.exists(target);
+            if (!duplicate) {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            eventPublisher.publishEvent(new StoredObjectEvent.Stored(key, file.getContentType(), !duplicate));
+
+            String url = publicBaseUrl + "/" + key;
+            return StoredFile.builder()
+                    .key(key)
+                    .url(url)
+                    .thumbnailUrl(ImageDerivatives.thumbnailUrl(url, file.getContentType()))
+                    .originalFilename(StringUtils.cleanPath(
+                            file.getOriginalFilename() != null ? file.getOriginalFilename() : hash + "." + extension))
+                    .contentType(file.getContentType())
+                    .size(size)
+                    .deduplicated(duplicate)
+                    .build();
         } catch (IOException e) {
-            log.error("파일 저장 실패 - key={}", key, e);
+            log.error("파일 저장 실패 - name={}", file.getOriginalFilename(), e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파일 저장에 실패했습니다.");
+        } finally {
+            deleteQuietly(temp);
         }
-
-        return StoredFile.builder()
-                .key(key)
-                .url(publicBaseUrl + "/" + key)
-                .originalFilename(StringUtils.cleanPath(
-                        file.getOriginalFilename() != null ? file.getOriginalFilename() : storedName))
-                .contentType(file.getContentType())
-                .size(file.getSize())
-                .build();
     }
 
     @Override
+    @Transactional
     public void delete(String key) {
         if (key == null || key.isBlank()) {
             return;
         }
+        objectRepository.release(key);
+        eventPublisher.publishEvent(new StoredObjectEvent.Released(key));
+    }
+
+    @Override
+    public Optional<Resource> load(String key) {
+        if (key == null || key.isBlank()) {
+            return Optional.empty();
+        }
+        return resolveInside(key)
+                .filter(Files::isRegularFile)
+                .map(FileSystemResource::new);
+    }
+
+    @Override
+    public void storeDerivative(String key, byte[] content) {
+        Path target = resolveInside(key).orElseThrow(() ->
+                new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 저장 경로입니다."));
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(tempLocation, "derived-", ".part");
+            Files.write(temp, content);
+            // 반쯤 쓴 썸네일이 내려가지 않도록 다 쓴 뒤 한 번에 바꾼다.
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new IllegalStateException("파생 파일 저장 실패: " + key, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public Optional<String> keyOf(String url) {
+        String prefix = publicBaseUrl + "/";
+        return url != null && url.startsWith(prefix)
+                ? Optional.of(url.substring(prefix.length()))
+                : Optional.empty();
+    }
+
+    /**
+     * 참조가 0 이 된 파일을 지운다. 지우는 행과 같은 트랜잭션에서 파일을 지우면 롤백됐을 때 행만 살아난다.
+     * 행이 없는 예전 UUID 키도 여기서 지워진다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReleased(StoredObjectEvent.Released event) {
+        String key = event.key();
+        if (objectRepository.existsById(key) && objectRepository.deleteIfUnreferenced(key) == 0) {
+            return;
+        }
+        resolveInside(key).ifPresent(this::deleteQuietly);
+        resolveInside(ImageDerivatives.thumbnailKey(key)).ifPresent(this::deleteQuietly);
+    }
+
+    /**
+     * 업로드가 롤백되면 참조 수도 되돌아간다. 이번에 새로 쓴 파일을 아무도 가리키지 않으면 지운다. 같은 파일을 올리는
+     * 중인 다른 업로드가 이 파일을 보고 쓰기를 건너뛰었을 수 있어, 행을 잠가 그쪽 커밋을 기다린 뒤 본다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onStoreRolledBack(StoredObjectEvent.Stored event) {
+        if (event.created() && objectRepository.lockByStorageKey(event.key()).isEmpty()) {
+            resolveInside(event.key()).ifPresent(this::deleteQuietly);
+        }
+    }
+
+    private Optional<Path> resolveInside(String key) {
         try {
             Path target = rootLocation.resolve(key).normalize();
-            if (!target.startsWith(rootLocation)) {
-                log.warn("저장소 밖 경로 삭제 시도를 차단했습니다: {}", key);
-                return;
+            if (target.startsWith(rootLocation)) {
+                return Optional.of(target);
             }
-            Files.deleteIfExists(target);
+        } catch (InvalidPathException ignored) {
+            // 아래에서 경고를 남긴다
+        }
+        log.warn("저장소 밖 경로 접근을 차단했습니다: {}", key);
+        return Optional.empty();
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            log.error("파일 삭제 실패 - key={}", key, e);
+            log.error("파일 삭제 실패 - path={}", path, e);
+        }
+    }
+
+    /** 파일 이름. 내용 해시의 HMAC 이라 같은 내용은 같은 이름이지만 비밀값 없이는 계산할 수 없다. */
+    private String objectName(String hash) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(keySecret);
+            return HexFormat.of().formatHex(mac.doFinal(hash.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC + " 을 쓸 수 없습니다.", e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 쓸 수 없습니다.", e);
         }
     }
 
@@ -135,12 +293,4 @@ public class LocalFileStorageService implements FileStorageService {
         int dot = cleaned.lastIndexOf('.');
         return dot >= 0 ? cleaned.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
     }
-
-    /** 디렉터리 이름에 경로 구분자나 상위 이동이 들어오지 못하게 한다. */
-    private String sanitizeDirectory(String directory) {
-        if (directory == null || directory.isBlank()) {
-            return "misc";
-        }
-        return directory.replaceAll("[^a-zA-Z0-9_-]", "");
-    }
 }
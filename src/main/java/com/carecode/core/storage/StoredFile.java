@@ -14,10 +14,16 @@ public class StoredFile {
     /** 클라이언트가 접근할 수 있는 URL. */
     private final String url;
 
+    /** 목록 화면용 썸네일 URL. 이미지가 아니면 null. 썸네일이 만들어지기 전에는 원본을 돌려준다. */
+    private final String thumbnailUrl;
+
     /** 업로드 당시 원본 파일명. */
     private final String originalFilename;
 
     private final String contentType;
 
     private final long size;
+
+    /** 같은 내용이 이미 있어 새로 쓰지 않고 참조만 더했는지. */
+    private final boolean deduplicated;
 }
@@ -0,0 +1,185 @@
+package com.carecode.core.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 저장된 파일을 내려준다. Range 로 이어받기를 지원하고, 본문을 힙에 올리지 않는다.
+ *
+ * <p>예전에는 정적 리소스 핸들러가 1시간 캐시로 내려주고 ETag 가 없어, 앱이 같은 사진을 한 시간마다 통째로
+ * 다시 받았다. 키는 업로드마다 새로 만들고 덮어쓰지 않으므로 같은 키의 내용은 바뀌지 않는다. 그래서 ETag 는
+ * 키에서 만들고(파일을 읽지 않는다), Cache-Control 은 immutable 로 둔다. 건강기록 첨부라 공유 캐시에는
+ * 남기지 않는다(private).
+ *
+ * <p>톰캣이 sendfile 을 지원하면 파일 경로만 넘기고 커널이 소켓으로 바로 보낸다. 그렇지 않으면
+ * {@link FileChannel#transferTo} 로 구간만 흘려보낸다. 어느 쪽이든 요청 스레드가 파일 전체를 들고 있지 않는다.
+ * 느린 모바일 연결이 요청 스레드를 오래 잡으므로 직접 흘려보내는 동시 전송 수는 제한한다.
+ */
+@Slf4j
+@Component
+public class StoredFileServer {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** 이보다 작은 파일은 sendfile 로 넘기는 준비 비용이 더 크다. 톰캣 DefaultServlet 과 같은 값이다. */
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private static final String CACHE_CONTROL =
+            "private, max-age=" + Duration.ofDays(365).toSeconds() + ", immutable";
+    private static final String CACHE_CONTROL_UNTIL_DERIVED = "private, no-cache";
+
+    private final FileStorageService storage;
+    private final Semaphore streams;
+
+    public StoredFileServer(FileStorageService storage,
+                            @Value("${app.storage.serving.max-concurrent-streams:32}") int maxConcurrentStreams) {
+        this.storage = storage;
+        this.streams = new Semaphore(maxConcurrentStreams);
+    }
+
+    public void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Resource resource = storage.load(key).orElse(null);
+        String cacheControl = CACHE_CONTROL;
+        String etagKey = key;
+        if (resource == null) {
+            // 썸네일이 아직 없으면(생성 중, 예전 파일, 읽을 수 없는 형식) 원본을 준다. 나중에 썸네일로 바뀌도록 캐시는 매번 확인한다.
+            String originalKey = ImageDerivatives.originalKeyOf(key).orElse(null);
+            resource = originalKey == null ? null : storage.load(originalKey).orElse(null);
+            cacheControl = CACHE_CONTROL_UNTIL_DERIVED;
+            etagKey = originalKey;
+        }
+        if (resource == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long length = resource.contentLength();
+        String etag = etag(etagKey);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // If-None-Match, If-Modified-Since 를 보고 304 를 정하고 ETag·Last-Modified 도 붙인다.
+        if (new ServletWebRequest(request, response).checkNotModified(etag, resource.lastModified())) {
+            return;
+        }
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && rangeApplies(request, etag)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+                log.debug("잘못된 Range 헤더 무시 - {}", rangeHeader);
+            }
+            // 여러 구간은 multipart 로 답해야 하는데, 이어받기는 구간 하나만 쓴다. 전체를 주는 것도 허용된 응답이다.
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = Math.min(ranges.get(0).getRangeEnd(length), length - 1);
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                partial = true;
+            }
+        }
+        long count = end - start + 1;
+        boolean head = HttpMethod.HEAD.matches(request.getMethod());
+        boolean sendfile = !head && resource.isFile() && count >= SENDFILE_MIN_BYTES
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT));
+        boolean stream = !head && !sendfile && count > 0;
+
+        if (stream && !streams.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        try {
+            if (partial) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            response.setContentType(MediaTypeFactory.getMediaType(resource)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+            response.setContentLengthLong(count);
+
+            if (sendfile) {
+                request.setAttribute(SENDFILE_FILENAME, resource.getFile().getCanonicalPath());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+            } else if (stream) {
+                copy(resource, start, count, response.getOutputStream());
+            }
+        } catch (IOException e) {
+            // 앱이 내려받다 끊은 경우가 대부분이다. 다음에 Range 로 이어받는다.
+            log.debug("파일 전송 중단 - key={}, 사유={}", key, e.getMessage());
+        } finally {
+            if (stream) {
+                streams.release();
+            }
+        }
+    }
+
+    /** 내용이 키에 묶여 있으니 키만으로 강한 ETag 를 만든다. */
+    static String etag(String key) {
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /** If-Range 가 다른 버전을 가리키면 구간 대신 전체를 준다. */
+    private boolean rangeApplies(HttpServletRequest request, String etag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || !ifRange.startsWith("\"") || ifRange.equals(etag);
+    }
+
+    private void copy(Resource resource, long start, long count, OutputStream out) throws IOException {
+        if (resource.isFile()) {
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long remaining = count;
+                while (remaining > 0) {
+                    long sent = channel.transferTo(position, remaining, target);
+                    if (sent <= 0) {
+                        break;
+                    }
+                    position += sent;
+                    remaining -= sent;
+                }
+            }
+        } else {
+            try (InputStream in = resource.getInputStream()) {
+                StreamUtils.copyRange(in, out, start, start + count - 1);
+            }
+        }
+        out.flush();
+    }
+}
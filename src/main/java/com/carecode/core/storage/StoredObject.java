@@ -0,0 +1,43 @@
+package com.carecode.core.storage;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 중복 제거 저장소의 파일 한 개. 키가 내용 SHA-256 의 HMAC 이라 같은 파일은 몇 번 올려도 한 벌만 남는다.
+ *
+ * <p>refCount 는 이 파일을 가리키는 첨부 수다. 0 이 되면 행을 지우고 커밋 뒤에 파일과 썸네일을 지운다.
+ * 행은 저장소 upsert 로만 만들고 고치므로 엔티티에는 쓰기 메서드가 없다.
+ */
+@Entity
+@Table(name = "TBL_STORED_OBJECT")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredObject {
+
+    @Id
+    @Column(name = "STORAGE_KEY", length = 100)
+    private String storageKey;
+
+    @Column(name = "SHA256", nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "CONTENT_TYPE", length = 100)
+    private String contentType;
+
+    @Column(name = "SIZE_BYTES", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+}
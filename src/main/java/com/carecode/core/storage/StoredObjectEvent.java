@@ -0,0 +1,15 @@
+package com.carecode.core.storage;
+
+/** 저장소 파일의 참조가 바뀐 것을 커밋 뒤 작업(썸네일 생성, 파일 삭제)에 알린다. */
+public sealed interface StoredObjectEvent {
+
+    String key();
+
+    /** 업로드가 파일을 참조했다. created 는 이번 업로드로 디스크에 새로 쓴 경우다. */
+    record Stored(String key, String contentType, boolean created) implements StoredObjectEvent {
+    }
+
+    /** 참조 하나가 풀렸다. 남은 참조가 없으면 커밋 뒤 파일을 지운다. */
+    record Released(String key) implements StoredObjectEvent {
+    }
+}
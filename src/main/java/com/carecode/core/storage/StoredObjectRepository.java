@@ -0,0 +1,46 @@
+package com.carecode.core.storage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, String> {
+
+    /** 참조 하나를 더한다. 처음 보는 키면 행을 만든다. 같은 파일을 동시에 올려도 고유키가 한 행으로 모은다. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_STORED_OBJECT"))
+    @Query(value = "INSERT INTO TBL_STORED_OBJECT "
+            + "(STORAGE_KEY, SHA256, CONTENT_TYPE, SIZE_BYTES, REF_COUNT, CREATED_AT) "
+            + "VALUES (:storageKey, :sha256, :contentType, :sizeBytes, 1, :createdAt) "
+            + "ON DUPLICATE KEY UPDATE REF_COUNT = REF_COUNT + 1",
+            nativeQuery = true)
+    int acquire(@Param("storageKey") String storageKey,
+                @Param("sha256") String sha256,
+                @Param("contentType") String contentType,
+                @Param("sizeBytes") long sizeBytes,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    /** 행을 잠가 읽는다. 아직 커밋되지 않은 같은 키의 참조가 있으면 그 트랜잭션이 끝날 때까지 기다린다. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM StoredObject o WHERE o.storageKey = :storageKey")
+    Optional<StoredObject> lockByStorageKey(@Param("storageKey") String storageKey);
+
+    @Modifying
+    @Query("UPDATE StoredObject o SET o.refCount = o.refCount - 1 "
+            + "WHERE o.storageKey = :storageKey AND o.refCount > 0")
+    int release(@Param("storageKey") String storageKey);
+
+    /** @return 지웠으면 1. 그새 다시 참조됐으면 0 */
+    @Modifying
+    @Query("DELETE FROM StoredObject o WHERE o.storageKey = :storageKey AND o.refCount <= 0")
+    int deleteIfUnreferenced(@Param("storageKey") String storageKey);
+}
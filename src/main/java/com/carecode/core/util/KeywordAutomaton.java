@@ -0,0 +1,142 @@
+package com.carecode.core.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * 키워드 여러 개를 한 번에 찾는 Aho-Corasick 오토마톤. 본문을 한 번 훑으면서 끝나는 키워드마다
+ * 그 키워드에 붙인 값(payload)을 알려 준다.
+ *
+ * <p>만든 뒤에는 바뀌지 않아 여러 스레드가 동시에 써도 된다. 상태마다 나가는 글자를 정렬된 배열로
+ * 들고 이진 탐색한다. 한글 키워드는 글자 범위가 넓어 상태당 전체 표를 두면 메모리만 낭비된다.
+ * 대소문자는 구분하지 않는다. 키워드와 본문 모두 소문자로 비교한다.
+ */
+public final class KeywordAutomaton {
+
+    private static final int[] NONE = new int[0];
+
+    private final char[][] edges;
+    private final int[][] targets;
+    private final int[] fail;
+    /** 이 상태에서 끝나는 키워드(실패 링크로 이어진 짧은 키워드 포함)의 값. 중복 없이 담는다. */
+    private final int[][] outputs;
+
+    private KeywordAutomaton(char[][] edges, int[][] targets, int[] fail, int[][] outputs) {
+        this.edges = edges;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+    }
+
+    /** 키워드 → 값. 같은 키워드를 두 번 넣으면 두 값을 모두 알려 준다. 빈 키워드는 무시한다. */
+    public static KeywordAutomaton build(List<Map.Entry<String, Integer>> keywords) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> payloads = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        payloads.add(new ArrayList<>());
+
+        for (Map.Entry<String, Integer> keyword : keywords) {
+            String text = keyword.getKey();
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = Character.toLowerCase(text.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    payloads.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            payloads.get(state).add(keyword.getValue());
+        }
+
+        int size = trie.size();
+        int[] fail = new int[size];
+        // 너비 우선으로 돌아야 실패 링크가 가리키는 얕은 상태의 출력이 먼저 완성된다.
+        Deque<Integer> queue = new ArrayDeque<>(trie.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+                int child = edge.getValue();
+                int f = fail[state];
+                while (f != 0 && !trie.get(f).containsKey(edge.getKey())) {
+                    f = fail[f];
+                }
+                Integer target = trie.get(f).get(edge.getKey());
+                fail[child] = target != null ? target : 0;
+                for (Integer payload : payloads.get(fail[child])) {
+                    if (!payloads.get(child).contains(payload)) {
+                        payloads.get(child).add(payload);
+                    }
+                }
+                queue.add(child);
+            }
+        }
+
+        char[][] edges = new char[size][];
+        int[][] targets = new int[size][];
+        int[][] outputs = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> children = trie.get(state);
+            edges[state] = new char[children.size()];
+            targets[state] = new int[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : children.entrySet()) {
+                edges[state][i] = edge.getKey();
+                targets[state][i] = edge.getValue();
+                i++;
+            }
+            List<Integer> out = payloads.get(state);
+            outputs[state] = out.isEmpty() ? NONE : out.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new KeywordAutomaton(edges, targets, fail, outputs);
+    }
+
+    /** 키워드가 본문 어디서 끝났는지까지 받는다. end 는 키워드 마지막 글자의 위치다. */
+    @FunctionalInterface
+    public interface MatchListener {
+        void onMatch(int payload, int end);
+    }
+
+    /** 본문을 한 번 훑으며 키워드가 끝날 때마다 값을 넘긴다. 같은 키워드가 여러 번 나오면 그만큼 부른다. */
+    public void scan(CharSequence text, IntConsumer onMatch) {
+        scanPositions(text, (payload, end) -> onMatch.accept(payload));
+    }
+
+    /** {@link #scan(CharSequence, IntConsumer)} 와 같지만 키워드가 끝난 위치도 함께 넘긴다. */
+    public void scanPositions(CharSequence text, MatchListener listener) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = next(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = next(state, c);
+            }
+            state = next < 0 ? 0 : next;
+            for (int payload : outputs[state]) {
+                listener.onMatch(payload, i);
+            }
+        }
+    }
+
+    public int states() {
+        return edges.length;
+    }
+
+    private int next(int state, char c) {
+        int i = Arrays.binarySearch(edges[state], c);
+        return i < 0 ? -1 : targets[state][i];
+    }
+}
@@ -0,0 +1,82 @@
+package com.carecode.core.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 설정 파일 하나를 읽어 만든 값. 파일의 수정 시각이 바뀌면 다시 읽는다.
+ *
+ * <p>기동 시에는 읽지 못하면 바로 예외를 던진다. 사전이 비어 있는 채로 조용히 떠 있는 것보다 낫다.
+ * 운영 중 다시 읽다가 실패하면 이전 값을 계속 쓰고 경고만 남긴다. jar 안의 classpath 리소스는
+ * 수정 시각이 바뀌지 않으므로 file: 경로로 둔 경우에만 실제로 다시 읽힌다.
+ */
+@Slf4j
+public final class ReloadableResource<T> {
+
+    @FunctionalInterface
+    public interface Parser<T> {
+        T parse(Reader reader) throws IOException;
+    }
+
+    private final Resource resource;
+    private final Parser<T> parser;
+    private final String name;
+
+    private volatile T value;
+    private volatile long loadedModified;
+
+    public ReloadableResource(Resource resource, String name, Parser<T> parser) {
+        this.resource = resource;
+        this.name = name;
+        this.parser = parser;
+        this.value = load();
+    }
+
+    public T get() {
+        return value;
+    }
+
+    /** @return 새로 읽었으면 true */
+    public boolean reloadIfModified() {
+        long modified = lastModified();
+        if (modified == loadedModified) {
+            return false;
+        }
+        try {
+            value = load();
+            return true;
+        } catch (RuntimeException e) {
+            // 같은 파일로 매 주기 경고를 쌓지 않도록 이 수정 시각은 본 것으로 친다.
+            loadedModified = modified;
+            log.warn("{}을(를) 다시 읽지 못해 이전 값을 계속 씁니다: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private T load() {
+        long modified = lastModified();
+        try (Reader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            T loaded = parser.parse(reader);
+            loadedModified = modified;
+            log.info("{} 로드 - {}", name, resource.getDescription());
+            return loaded;
+        } catch (IOException e) {
+            throw new IllegalStateException(name + "을(를) 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.carecode.domain.health.dto.response.HealthRecordResponse;
 import com.carecode.domain.health.entity.HealthRecord;
 import com.carecode.domain.health.mapper.HealthRecordMapper;
 import com.carecode.domain.health.repository.HealthRecordRepository;
+import com.carecode.domain.health.service.HealthRecordAttachmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class AdminHealthController {
 
     private final HealthRecordRepository healthRecordRepository;
     private final HealthRecordMapper healthRecordMapper;
+    private final HealthRecordAttachmentService healthRecordAttachmentService;
 
     @GetMapping
     @Operation(summary = "건강기록 목록 조회")
@@ -43,7 +45,9 @@ public class AdminHealthController {
     @Operation(summary = "건강기록 삭제")
     @Transactional
     public ResponseEntity<Void> delete(@PathVariable Long id) {
-        healthRecordRepository.delete(findRecord(id));
+        HealthRecord record = findRecord(id);
+        healthRecordAttachmentService.releaseFiles(record);
+        healthRecordRepository.delete(record);
         return ResponseEntity.noContent().build();
     }
 
@@ -6,6 +6,7 @@ import com.carecode.core.client.sync.NationwideChildcareFacilitySyncService;
 import com.carecode.core.client.sync.PediatricHospitalSyncService;
 import com.carecode.core.client.sync.SyncResult;
 import com.carecode.core.geocoding.FacilityGeocodingService;
+import com.carecode.domain.careFacility.service.FacilityCapacityStatsJob;
 import com.carecode.domain.careFacility.service.FacilityVacancyNotifier;
 import com.carecode.domain.policy.service.PolicyDeadlineNotifier;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,6 +32,7 @@ public class AdminPublicDataController {
     private final GovernmentBenefitSyncService benefitSyncService;
     private final PediatricHospitalSyncService hospitalSyncService;
     private final FacilityGeocodingService geocodingService;
+    private final FacilityCapacityStatsJob capacityStatsJob;
     private final FacilityVacancyNotifier vacancyNotifier;
     private final PolicyDeadlineNotifier policyDeadlineNotifier;
 
@@ -66,6 +68,9 @@ public class AdminPublicDataController {
         body.put("resolved", result.getResolved());
         body.put("failed", result.getFailed());
         body.put("remaining", result.getRemaining());
+        body.put("addresses", result.getAddresses());
+        body.put("cacheHits", result.getCacheHits());
+        body.put("apiCalls", result.getApiCalls());
         body.put("skippedReason", result.getSkippedReason());
         return ResponseEntity.ok(body);
     }
@@ -88,6 +93,18 @@ public class AdminPublicDataController {
         return ResponseEntity.ok(body);
     }
 
+    /** 동기화를 수동으로 돌린 뒤 빈자리 알림 전에 요약을 새로 만들 때 쓴다. */
+    @PostMapping("/facilities/capacity-stats")
+    @Operation(summary = "시설 정원 요약 갱신", description = "인기도·입소 예측·빈자리 알림이 읽는 요약을 다시 계산한다")
+    public ResponseEntity<Map<String, Object>> refreshCapacityStats() {
+        var result = capacityStatsJob.refreshAll();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("facilities", result.getFacilities());
+        body.put("observations", result.getObservations());
+        body.put("removed", result.getRemoved());
+        return ResponseEntity.ok(body);
+    }
+
     @PostMapping("/policies/notify-deadline")
     @Operation(summary = "마감 임박 알림 실행", description = "신청 마감이 임박한 지원금을 대상자에게 알린다")
     public ResponseEntity<Map<String, Object>> notifyDeadlines() {
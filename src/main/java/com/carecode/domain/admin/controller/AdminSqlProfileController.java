@@ -0,0 +1,43 @@
+package com.carecode.domain.admin.controller;
+
+import com.carecode.core.monitoring.SqlProfileRegistry;
+import com.carecode.core.monitoring.SqlProfileRegistry.EndpointSqlProfile;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/** SQL 프로파일 조회 API. 프로파일링이 켜져 있을 때만 등록된다. */
+@RestController
+@RequestMapping("/api/admin/monitoring/sql")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.monitoring.query-count.enabled", havingValue = "true")
+@Tag(name = "어드민 - 모니터링", description = "엔드포인트별 SQL 프로파일 API")
+public class AdminSqlProfileController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final SqlProfileRegistry sqlProfileRegistry;
+
+    @GetMapping("/top")
+    @Operation(summary = "SQL 상위 엔드포인트", description = "sort=queries(평균 쿼리 수)|time(누적 DB 시간)|repeats(최대 반복)")
+    public ResponseEntity<List<EndpointSqlProfile>> top(@RequestParam(defaultValue = "queries") String sort,
+                                                        @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(sqlProfileRegistry.top(sort, Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "SQL 프로파일 초기화", description = "누적 통계를 비운다 (Prometheus 지표는 유지)")
+    public ResponseEntity<Void> reset() {
+        sqlProfileRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,6 +2,7 @@ package com.carecode.domain.admin.controller;
 
 import com.carecode.core.exception.UserNotFoundException;
 import com.carecode.core.handler.ApiSuccess;
+import com.carecode.core.security.CurrentUserCache;
 import com.carecode.domain.admin.dto.AdminUserResponse;
 import com.carecode.domain.admin.dto.AdminUserUpdateRequest;
 import com.carecode.domain.user.dto.response.UserDto;
@@ -46,6 +47,7 @@ public class AdminUserController {
 
     private final UserRepository userRepository;
     private final UserService userService;
+    private final CurrentUserCache currentUserCache;
 
     // ==================== 조회 ====================
 
@@ -131,7 +133,9 @@ public class AdminUserController {
         }
         user.setUpdatedAt(LocalDateTime.now());
 
-        return ResponseEntity.ok(AdminUserResponse.from(userRepository.save(user)));
+        User saved = userRepository.save(user);
+        currentUserCache.evict(saved.getEmail());
+        return ResponseEntity.ok(AdminUserResponse.from(saved));
     }
 
     @PutMapping("/{id}/role")
@@ -170,6 +174,7 @@ public class AdminUserController {
         user.setDeletedAt(LocalDateTime.now());
         user.setIsActive(false);
         userRepository.save(user);
+        currentUserCache.evict(user.getEmail());
         return ResponseEntity.noContent().build();
     }
 
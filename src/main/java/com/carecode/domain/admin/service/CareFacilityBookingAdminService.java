@@ -14,6 +14,7 @@ import com.carecode.domain.admin.dto.AdminStatusUpdateRequest;
 import com.carecode.domain.admin.dto.AdminBookingStatsResponse;
 import com.carecode.domain.careFacility.entity.CareFacilityBooking;
 import com.carecode.domain.careFacility.repository.CareFacilityBookingRepository;
+import com.carecode.domain.careFacility.service.BookingSlotLedger;
 import com.carecode.domain.user.entity.User;
 import com.carecode.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +40,7 @@ public class CareFacilityBookingAdminService {
 
     private final CareFacilityBookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final BookingSlotLedger slotLedger;
 
     // 전체 예약 목록 조회 (페이징)
     @LogExecutionTime
@@ -143,6 +145,7 @@ public class CareFacilityBookingAdminService {
                     .orElseThrow(() -> new CareServiceException("예약을 찾을 수 없습니다: " + bookingId));
             
             CareFacilityBooking.BookingStatus newStatus = CareFacilityBooking.BookingStatus.valueOf(request.getStatus());
+            CareFacilityBooking.BookingStatus previousStatus = booking.getStatus();
             
             switch (newStatus) {
                 case CONFIRMED -> booking.confirm();
@@ -150,6 +153,7 @@ public class CareFacilityBookingAdminService {
                 case CANCELLED -> booking.cancel(request.getReason() != null ? request.getReason() : "관리자에 의해 취소됨");
                 default -> booking.setStatus(newStatus);
             }
+            slotLedger.onStatusChanged(booking, previousStatus);
             
             CareFacilityBooking savedBooking = bookingRepository.save(booking);
             return convertToAdminDetailResponse(savedBooking);
@@ -162,6 +166,9 @@ public class CareFacilityBookingAdminService {
         CareFacilityBooking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new CareServiceException("예약을 찾을 수 없습니다: " + bookingId));
 
+        if (booking.getStatus() != CareFacilityBooking.BookingStatus.CANCELLED) {
+            slotLedger.release(booking.getFacility(), booking.getStartTime(), booking.getEndTime());
+        }
         bookingRepository.delete(booking);
     }
 
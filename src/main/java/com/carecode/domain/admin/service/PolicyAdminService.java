@@ -3,6 +3,7 @@ package com.carecode.domain.admin.service;
 import com.carecode.core.exception.BusinessException;
 import com.carecode.core.exception.ErrorCode;
 import com.carecode.core.exception.PolicyNotFoundException;
+import com.carecode.core.stats.SiteStatisticsEvent;
 import com.carecode.domain.admin.dto.AdminPolicyDetailResponse;
 import com.carecode.domain.admin.dto.AdminPolicyPatchRequest;
 import com.carecode.domain.admin.dto.AdminPolicyRequest;
@@ -16,6 +17,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ public class PolicyAdminService {
     private final PolicyRepository policyRepository;
     private final PolicyCategoryRepository policyCategoryRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AdminPolicyDetailResponse create(AdminPolicyRequest request) {
@@ -42,6 +45,7 @@ public class PolicyAdminService {
         policy.setViewCount(0);
 
         Policy saved = policyRepository.save(policy);
+        eventPublisher.publishEvent(new SiteStatisticsEvent.PolicyRegistered(saved.getTitle(), saved.getCreatedAt()));
         log.info("정책 생성 - policyId={}, code={}", saved.getId(), saved.getPolicyCode());
         return AdminPolicyDetailResponse.from(saved);
     }
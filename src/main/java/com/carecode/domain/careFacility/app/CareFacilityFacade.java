@@ -6,6 +6,7 @@ import com.carecode.domain.careFacility.dto.response.FacilityPopularityResponse;
 import com.carecode.domain.careFacility.dto.request.ReviewRequest;
 import com.carecode.domain.careFacility.dto.request.CreateBookingRequest;
 import com.carecode.domain.careFacility.dto.request.UpdateBookingRequest;
+import com.carecode.domain.careFacility.dto.request.CareFacilityAdvancedSearchRequest;
 import com.carecode.domain.careFacility.dto.request.CareFacilitySearchRequest;
 import com.carecode.domain.careFacility.dto.response.CareFacilityInfo;
 import com.carecode.domain.careFacility.dto.response.CareFacilityListResponse;
@@ -170,18 +171,8 @@ public class CareFacilityFacade {
     }
 
     @Transactional(readOnly = true)
-    public List<CareFacilityInfo> searchFacilitiesAdvanced(
-            com.carecode.domain.careFacility.entity.FacilityType facilityType,
-            Boolean isPublic,
-            Boolean subsidyAvailable,
-            Double minRating,
-            Integer minAvailableSpots,
-            Integer maxTuitionFee,
-            Integer childAge) {
-        return careFacilityService.searchFacilitiesAdvanced(
-                facilityType, isPublic, subsidyAvailable, minRating,
-                minAvailableSpots, maxTuitionFee, childAge
-        );
+    public CareFacilityListResponse searchFacilitiesAdvanced(CareFacilityAdvancedSearchRequest request) {
+        return careFacilityService.searchFacilitiesAdvanced(request);
     }
 
     @Transactional(readOnly = true)
@@ -253,18 +253,10 @@ public class CareFacilityController extends BaseController {
     // 고급 검색 (복합 조건)
     @PostMapping("/advanced-search")
     @LogExecutionTime
-    @Operation(summary = "고급 검색", description = "다양한 조건을 조합하여 시설 검색")
-    public ResponseEntity<List<CareFacilityInfo>> advancedSearch(
+    @Operation(summary = "고급 검색", description = "다양한 조건을 조합하여 시설 검색 (페이징)")
+    public ResponseEntity<CareFacilityListResponse> advancedSearch(
             @Parameter(description = "검색 조건", required = true) @RequestBody CareFacilityAdvancedSearchRequest request) {
-        List<CareFacilityInfo> facilities = careFacilityFacade.searchFacilitiesAdvanced(
-                request.getFacilityType(),
-                request.getIsPublic(),
-                request.getSubsidyAvailable(),
-                request.getMinRating(),
-                request.getMinAvailableSpots(),
-                request.getMaxTuitionFee(),
-                request.getChildAge()
-        );
+        CareFacilityListResponse facilities = careFacilityFacade.searchFacilitiesAdvanced(request);
         return ResponseEntity.ok(facilities);
     }
 
@@ -23,5 +23,9 @@ public class CareFacilityAdvancedSearchRequest {
     private Integer childAge;
     private String sortBy;
     private String sortDirection;
+    /** 0부터 시작. 비어 있으면 첫 페이지. */
+    private Integer page;
+    /** 비어 있으면 20, 많아야 100. */
+    private Integer size;
 }
 
@@ -80,13 +80,13 @@ public class CareFacility {
     @Column(name = "tuition_fee")
     private Integer tuitionFee;
     
-    @Column(name = "additional_fees")
+    @Column(name = "additional_fees", columnDefinition = "TEXT")
     private String additionalFees;
     
-    @Column(name = "facilities")
+    @Column(name = "facilities", columnDefinition = "TEXT")
     private String facilities; // 시설 내 편의시설
     
-    @Column(name = "curriculum")
+    @Column(name = "curriculum", columnDefinition = "TEXT")
     private String curriculum;
     
     @Column(name = "teacher_count")
@@ -107,7 +107,7 @@ public class CareFacility {
     @Column(name = "view_count")
     private Integer viewCount;
     
-    @Column(name = "description")
+    @Column(name = "description", columnDefinition = "TEXT")
     private String description;
     
     @Column(name = "age_range")
@@ -0,0 +1,37 @@
+package com.carecode.domain.careFacility.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시설 하나의 예약 시간칸 하나에 남은 자리 수.
+ *
+ * <p>예약은 자기가 걸친 칸들의 remaining 을 조건부 UPDATE 로 하나씩 줄여 자리를 잡는다. 행은 저장소의
+ * upsert 와 UPDATE 로만 만들고 고치므로 엔티티에는 쓰기 메서드가 없다.
+ */
+@Entity
+@Table(name = "TBL_FACILITY_BOOKING_SLOT",
+        uniqueConstraints = @UniqueConstraint(name = "UK_BOOKING_SLOT_FACILITY_START",
+                columnNames = {"FACILITY_ID", "SLOT_START"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FacilityBookingSlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "FACILITY_ID", nullable = false)
+    private Long facilityId;
+
+    @Column(name = "SLOT_START", nullable = false)
+    private LocalDateTime slotStart;
+
+    @Column(name = "REMAINING", nullable = false)
+    private Integer remaining;
+}
@@ -0,0 +1,68 @@
+package com.carecode.domain.careFacility.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 압축된 정원 이력. 같은 값이 이어진 관측 구간을 한 행으로 접는다.
+ *
+ * <p>정원·현원은 몇 달씩 그대로인 경우가 대부분이라 주간 관측을 그대로 두면 같은 값이 수십 행 쌓인다.
+ * 값이 바뀐 지점(구간의 시작)과 관측 횟수는 남기므로 충원율 평균·추세·자리 열림 횟수는 원본과 같게 나온다.
+ * 구간 안의 개별 관측일만 사라지고, 읽을 때는 첫·마지막 관측일 사이에 고르게 놓는다.
+ */
+@Entity
+@Table(name = "TBL_FACILITY_CAPACITY_RUN",
+        uniqueConstraints = @UniqueConstraint(name = "UK_CAPACITY_RUN_START",
+                columnNames = {"FACILITY_ID", "FIRST_OBSERVED"}))
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FacilityCapacityRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "FACILITY_ID", nullable = false)
+    private Long facilityId;
+
+    @Column(name = "FIRST_OBSERVED", nullable = false)
+    private LocalDate firstObserved;
+
+    @Column(name = "LAST_OBSERVED", nullable = false)
+    private LocalDate lastObserved;
+
+    /** 구간에 접힌 원본 관측 수. 평균과 비율이 원본과 같은 가중치를 갖게 한다. */
+    @Column(name = "OBSERVATION_COUNT", nullable = false)
+    private int observationCount;
+
+    @Column(name = "CAPACITY")
+    private Integer capacity;
+
+    @Column(name = "CURRENT_ENROLLMENT")
+    private Integer currentEnrollment;
+
+    @Column(name = "AVAILABLE_SPOTS")
+    private Integer availableSpots;
+
+    public boolean sameValues(Integer capacity, Integer currentEnrollment, Integer availableSpots) {
+        return Objects.equals(this.capacity, capacity)
+                && Objects.equals(this.currentEnrollment, currentEnrollment)
+                && Objects.equals(this.availableSpots, availableSpots);
+    }
+
+    /** 같은 값이 이어진 관측을 구간 끝에 붙인다. */
+    public void extend(LocalDate observedDate) {
+        this.lastObserved = observedDate;
+        this.observationCount++;
+    }
+}
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-/** 특정 시점의 시설 정원·현원 관측값. 한 번 쓰면 고치지 않는 append-only 기록이다. */
+/**
+ * 특정 시점의 시설 정원·현원 관측값. 최근 관측만 날짜별로 두고, 보존 기간이 지나면
+ * {@link FacilityCapacityRun} 으로 접힌다.
+ */
 @Entity
 @Table(name = "TBL_FACILITY_CAPACITY_SNAPSHOT",
         uniqueConstraints = @UniqueConstraint(name = "UK_FACILITY_SNAPSHOT_DATE",
@@ -50,11 +53,4 @@ public class FacilityCapacitySnapshot {
             createdAt = LocalDateTime.now();
         }
     }
-
-    /** 같은 날 재동기화 시 최신 관측값으로 맞춘다. 날짜별로 한 행만 유지한다. */
-    public void refresh(Integer capacity, Integer currentEnrollment, Integer availableSpots) {
-        this.capacity = capacity;
-        this.currentEnrollment = currentEnrollment;
-        this.availableSpots = availableSpots;
-    }
 }
@@ -0,0 +1,125 @@
+package com.carecode.domain.careFacility.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 시설별 정원 관측 요약. 야간 작업이 스냅샷 전체를 한 번 훑어 미리 계산해 둔다.
+ *
+ * <p>인기도·입소 예측·빈자리 알림이 요청마다 시설 이력을 다시 읽고 다시 계산하던 것을 한 행 조회로 바꾼다.
+ * 요청에 따라 달라지는 값(예측 기간, 아이 월령)은 여기 두지 않고 조회 시점에 계산한다.
+ */
+@Entity
+@Table(name = "TBL_FACILITY_CAPACITY_STATS")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FacilityCapacityStats {
+
+    @Id
+    @Column(name = "FACILITY_ID")
+    private Long facilityId;
+
+    /** 계산 기준일. 관측 기간 창이 이 날짜를 기준으로 잡혀 있다. */
+    @Column(name = "COMPUTED_DATE", nullable = false)
+    private LocalDate computedDate;
+
+    // 인기도 (최근 24개월, 정원이 있는 관측만)
+    @Column(name = "FILL_RATE_OBSERVATIONS", nullable = false)
+    private int fillRateObservations;
+
+    @Column(name = "AVERAGE_FILL_RATE")
+    private Integer averageFillRate;
+
+    @Column(name = "LATEST_FILL_RATE")
+    private Integer latestFillRate;
+
+    @Column(name = "FULL_RATIO")
+    private Integer fullRatio;
+
+    @Column(name = "TREND", length = 10)
+    private String trend;
+
+    @Column(name = "DEMAND_LEVEL", length = 20)
+    private String demandLevel;
+
+    /** 급락 관측일. yyyy-MM-dd 를 쉼표로 잇는다. */
+    @Column(name = "SHARP_DROP_DATES", length = 1000)
+    private String sharpDropDates;
+
+    // 입소 예측 입력 (최근 18개월)
+    @Column(name = "FORECAST_OBSERVATIONS", nullable = false)
+    private int forecastObservations;
+
+    @Column(name = "FORECAST_FIRST_OBSERVED")
+    private LocalDate forecastFirstObserved;
+
+    @Column(name = "FORECAST_COVERED_DAYS", nullable = false)
+    private int forecastCoveredDays;
+
+    @Column(name = "OBSERVED_WITH_SEAT", nullable = false)
+    private int observedWithSeat;
+
+    @Column(name = "SEAT_OPENINGS", nullable = false)
+    private int seatOpenings;
+
+    // 빈자리 변화 (최근 30일의 마지막 두 관측)
+    @Column(name = "LATEST_OBSERVED_DATE")
+    private LocalDate latestObservedDate;
+
+    @Column(name = "LATEST_AVAILABLE_SPOTS")
+    private Integer latestAvailableSpots;
+
+    /** 직전 관측 대비 빈자리 증감. 관측이 하나뿐이거나 빈자리를 알 수 없으면 null. */
+    @Column(name = "VACANCY_INCREASE")
+    private Integer vacancyIncrease;
+
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public List<LocalDate> sharpDropDateList() {
+        if (sharpDropDates == null || sharpDropDates.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(sharpDropDates.split(",")).map(LocalDate::parse).toList();
+    }
+
+    public static String joinDates(List<LocalDate> dates) {
+        return dates.isEmpty() ? null : dates.stream().map(LocalDate::toString).collect(Collectors.joining(","));
+    }
+
+    /** 다시 계산한 값으로 덮어쓴다. 기존 행을 지우고 넣지 않아 조회가 빈 행을 보는 순간이 없다. */
+    public void overwrite(FacilityCapacityStats computed) {
+        this.computedDate = computed.computedDate;
+        this.fillRateObservations = computed.fillRateObservations;
+        this.averageFillRate = computed.averageFillRate;
+        this.latestFillRate = computed.latestFillRate;
+        this.fullRatio = computed.fullRatio;
+        this.trend = computed.trend;
+        this.demandLevel = computed.demandLevel;
+        this.sharpDropDates = computed.sharpDropDates;
+        this.forecastObservations = computed.forecastObservations;
+        this.forecastFirstObserved = computed.forecastFirstObserved;
+        this.forecastCoveredDays = computed.forecastCoveredDays;
+        this.observedWithSeat = computed.observedWithSeat;
+        this.seatOpenings = computed.seatOpenings;
+        this.latestObservedDate = computed.latestObservedDate;
+        this.latestAvailableSpots = computed.latestAvailableSpots;
+        this.vacancyIncrease = computed.vacancyIncrease;
+        this.updatedAt = computed.updatedAt;
+    }
+}
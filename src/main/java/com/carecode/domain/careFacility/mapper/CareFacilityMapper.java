@@ -3,6 +3,7 @@ package com.carecode.domain.careFacility.mapper;
 import com.carecode.core.util.ResponseMapper;
 import com.carecode.domain.careFacility.dto.response.CareFacilityInfo;
 import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.domain.careFacility.repository.CareFacilitySummary;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -32,5 +33,25 @@ public class CareFacilityMapper implements ResponseMapper<CareFacility, CareFaci
                 .updatedAt(facility.getUpdatedAt())
                 .build();
     }
-}
 
+    /** 목록 한 줄. 설명은 쿼리가 잘라 온 앞부분이다. */
+    public CareFacilityInfo toResponse(CareFacilitySummary summary) {
+        return CareFacilityInfo.builder()
+                .id(summary.id())
+                .name(summary.name())
+                .facilityType(summary.facilityType() != null ? summary.facilityType().name() : null)
+                .address(summary.address())
+                .phoneNumber(summary.phone())
+                .email(summary.email())
+                .latitude(summary.latitude())
+                .longitude(summary.longitude())
+                .description(summary.descriptionPreview())
+                .operatingHours(summary.operatingHours())
+                .website(summary.website())
+                .rating(summary.rating())
+                .reviewCount(summary.reviewCount() != null ? summary.reviewCount().longValue() : null)
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.carecode.domain.careFacility.repository;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
+
+import java.time.LocalDate;
+
+/**
+ * 정원 관측 한 건의 값만. 야간 집계가 전체 스냅샷을 훑을 때 엔티티로 읽으면 영속성 컨텍스트에 수십만 건이
+ * 쌓이므로 관리되지 않는 값으로 읽는다.
+ */
+public record CapacityObservation(Long facilityId,
+                                  LocalDate observedDate,
+                                  Integer capacity,
+                                  Integer currentEnrollment,
+                                  Integer availableSpots) {
+
+    public static CapacityObservation of(FacilityCapacitySnapshot snapshot) {
+        return new CapacityObservation(snapshot.getFacilityId(), snapshot.getObservedDate(),
+                snapshot.getCapacity(), snapshot.getCurrentEnrollment(), snapshot.getAvailableSpots());
+    }
+
+    /** 빈자리를 직접 주기도, 정원·현원만 주기도 한다. 둘 다 없으면 알 수 없다. */
+    public Integer spots() {
+        if (availableSpots != null) {
+            return availableSpots;
+        }
+        if (capacity != null && currentEnrollment != null) {
+            return capacity - currentEnrollment;
+        }
+        return null;
+    }
+
+    public boolean hasSeat() {
+        if (availableSpots != null) {
+            return availableSpots > 0;
+        }
+        return capacity != null && currentEnrollment != null && capacity > currentEnrollment;
+    }
+}
@@ -3,9 +3,7 @@ package com.carecode.domain.careFacility.repository;
 import com.carecode.domain.careFacility.entity.CareFacilityBooking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,17 +28,19 @@ public interface CareFacilityBookingRepository extends JpaRepository<CareFacilit
                                                                   @Param("startDate") LocalDateTime startDate,
                                                                   @Param("endDate") LocalDateTime endDate);
 
-    /** 주어진 구간과 실제로 겹치는 유효 예약 수. 겹침 판정은 기존.start < 신규.end AND 기존.end > 신규.start 이다 */
-    // PESSIMISTIC_WRITE: 검사와 저장 사이에 다른 트랜잭션이 같은 구간을 예약하는 경쟁 조건을 막는다.
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    /**
+     * 주어진 구간과 겹치는 유효 예약 수. 예약 장부의 칸 행을 처음 만들 때 시작값을 맞추는 데만 쓴다.
+     * 자리 다툼은 장부의 조건부 UPDATE 가 맡으므로 여기서는 잠그지 않는다.
+     * excludeBookingId 는 지금 자리를 잡는 예약 자신이다. 새 예약이면 null 이다.
+     */
     @Query("SELECT COUNT(cb) FROM CareFacilityBooking cb " +
            "WHERE cb.facility.id = :facilityId " +
            "AND cb.status <> com.carecode.domain.careFacility.entity.CareFacilityBooking.BookingStatus.CANCELLED " +
-           "AND (:excludeBookingId IS NULL OR cb.id <> :excludeBookingId) " +
-           "AND cb.startTime < :newEnd AND cb.endTime > :newStart")
+           "AND cb.startTime < :end AND cb.endTime > :start " +
+           "AND (:excludeBookingId IS NULL OR cb.id <> :excludeBookingId)")
     long countOverlappingBookings(@Param("facilityId") Long facilityId,
-                                  @Param("newStart") LocalDateTime newStart,
-                                  @Param("newEnd") LocalDateTime newEnd,
+                                  @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end,
                                   @Param("excludeBookingId") Long excludeBookingId);
 
     // 상태별 예약 수 조회
@@ -55,6 +55,16 @@ public interface CareFacilityBookingRepository extends JpaRepository<CareFacilit
     List<CareFacilityBooking> findBookingsBetween(@Param("dayStart") LocalDateTime dayStart,
                                                   @Param("dayEnd") LocalDateTime dayEnd);
 
+    /** 리마인더 배치 리더용. 취소 건은 조회 단계에서 뺀다. */
+    @Query("SELECT cb FROM CareFacilityBooking cb LEFT JOIN FETCH cb.facility " +
+           "WHERE cb.startTime >= :dayStart AND cb.startTime < :dayEnd " +
+           "AND cb.status <> com.carecode.domain.careFacility.entity.CareFacilityBooking.BookingStatus.CANCELLED " +
+           "AND cb.id > :lastId ORDER BY cb.id ASC")
+    List<CareFacilityBooking> findRemindableBookingsAfter(@Param("dayStart") LocalDateTime dayStart,
+                                                          @Param("dayEnd") LocalDateTime dayEnd,
+                                                          @Param("lastId") Long lastId,
+                                                          Pageable pageable);
+
     // 시설별 오늘 예약 목록 조회
     @Query("SELECT cb FROM CareFacilityBooking cb WHERE cb.facility.id = :facilityId " +
            "AND cb.startTime >= :dayStart AND cb.startTime < :dayEnd ORDER BY cb.startTime ASC")
@@ -1,5 +1,6 @@
 package com.carecode.domain.careFacility.repository;
 
+import com.carecode.core.search.suggest.SuggestionRow;
 import com.carecode.domain.careFacility.dto.response.TypeStats;
 import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.entity.FacilityType;
@@ -11,12 +12,20 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /** 육아 시설 리포지토리 인터페이스 */
 @Repository
-public interface CareFacilityRepository extends JpaRepository<CareFacility, Long> {
+public interface CareFacilityRepository extends JpaRepository<CareFacility, Long>, CareFacilitySearchRepository {
+
+    /** 목록 한 줄로 읽는 SELECT 절. 설명은 SQL 에서 앞부분만 잘라 온다. */
+    String SUMMARY_SELECT = "SELECT new com.carecode.domain.careFacility.repository.CareFacilitySummary("
+            + "cf.id, cf.name, cf.facilityType, cf.address, cf.phone, cf.email, cf.latitude, cf.longitude, "
+            + "SUBSTRING(cf.description, 1, " + CareFacilitySummary.DESCRIPTION_PREVIEW_LENGTH + "), "
+            + "cf.operatingHours, cf.website, cf.rating, cf.reviewCount, cf.createdAt, cf.updatedAt) "
+            + "FROM CareFacility cf ";
 
     // 시설 코드로 시설 조회
     Optional<CareFacility> findByFacilityCode(String facilityCode);
@@ -28,10 +37,10 @@ public interface CareFacilityRepository extends JpaRepository<CareFacility, Long
     List<CareFacility> findByAddressContaining(String region);
 
     // 연령 범위에 해당하는 시설 조회
-    @Query("SELECT cf FROM CareFacility cf WHERE cf.isActive = true AND " +
+    @Query(SUMMARY_SELECT + "WHERE cf.isActive = true AND " +
            "((cf.ageRangeMin IS NULL OR cf.ageRangeMin <= :childAge) AND " +
            "(cf.ageRangeMax IS NULL OR cf.ageRangeMax >= :childAge))")
-    List<CareFacility> findByChildAge(@Param("childAge") Integer childAge);
+    List<CareFacilitySummary> findByChildAge(@Param("childAge") Integer childAge);
 
     // 최소 평점 이상의 시설 조회
     @Query("SELECT cf FROM CareFacility cf WHERE cf.isActive = true AND cf.rating >= :minRating")
@@ -65,26 +74,6 @@ public interface CareFacilityRepository extends JpaRepository<CareFacility, Long
                                               @Param("longitude") Double longitude,
                                               @Param("radiusKm") Double radiusKm);
 
-    // 복합 조건으로 시설 검색
-    @Query("SELECT cf FROM CareFacility cf WHERE cf.isActive = true " +
-           "AND (:facilityType IS NULL OR cf.facilityType = :facilityType) " +
-           "AND (:isPublic IS NULL OR cf.isPublic = :isPublic) " +
-           "AND (:subsidyAvailable IS NULL OR cf.subsidyAvailable = :subsidyAvailable) " +
-           "AND (:minRating IS NULL OR cf.rating >= :minRating) " +
-           "AND (:minAvailableSpots IS NULL OR cf.availableSpots >= :minAvailableSpots) " +
-           "AND (:maxTuitionFee IS NULL OR cf.tuitionFee <= :maxTuitionFee) " +
-           "AND ((:childAge IS NULL) OR " +
-           "((cf.ageRangeMin IS NULL OR cf.ageRangeMin <= :childAge) AND " +
-           "(cf.ageRangeMax IS NULL OR cf.ageRangeMax >= :childAge))) " +
-           "ORDER BY cf.rating DESC, cf.reviewCount DESC")
-    List<CareFacility> searchFacilities(@Param("facilityType") FacilityType facilityType,
-                                       @Param("isPublic") Boolean isPublic,
-                                       @Param("subsidyAvailable") Boolean subsidyAvailable,
-                                       @Param("minRating") Double minRating,
-                                       @Param("minAvailableSpots") Integer minAvailableSpots,
-                                       @Param("maxTuitionFee") Integer maxTuitionFee,
-                                       @Param("childAge") Integer childAge);
-
     // 전체 조회수 합계 조회
     @Query("SELECT COALESCE(SUM(cf.viewCount), 0) FROM CareFacility cf WHERE cf.isActive = true")
     long getTotalViewCount();
@@ -107,15 +96,21 @@ public interface CareFacilityRepository extends JpaRepository<CareFacility, Long
     List<CareFacility> findByOperatingHours(@Param("operatingHours") String operatingHours);
 
     // 인기 시설 조회 (평점 기준)
-    @Query("SELECT cf FROM CareFacility cf WHERE cf.isActive = true " +
+    @Query(SUMMARY_SELECT + "WHERE cf.isActive = true " +
            "ORDER BY cf.rating DESC, cf.reviewCount DESC")
-    List<CareFacility> findPopularFacilities(org.springframework.data.domain.Pageable pageable);
+    List<CareFacilitySummary> findPopularFacilities(org.springframework.data.domain.Pageable pageable);
 
     // 신규 시설 조회
     @Query("SELECT cf FROM CareFacility cf WHERE cf.isActive = true " +
            "ORDER BY cf.createdAt DESC")
     List<CareFacility> findNewFacilities(org.springframework.data.domain.Pageable pageable);
 
+    /** 자동완성 재구축. 조회수를 인기도로 쓰고, 주소는 시군구 후보와 보조 문구 재료다. */
+    @Query("SELECT new com.carecode.core.search.suggest.SuggestionRow("
+            + "cf.id, cf.name, cf.address, CAST(COALESCE(cf.viewCount, 0) AS Long)) "
+            + "FROM CareFacility cf WHERE cf.isActive = true")
+    List<SuggestionRow> findSuggestionRows();
+
     /** 반경 내 시설 조회. 바운딩 박스로 후보를 좁힌 뒤 정확한 거리를 계산한다. */
     @Query(value = "SELECT cf.* FROM ("
            + "  SELECT c.*, (6371 * acos(LEAST(1, "
@@ -147,6 +142,14 @@ public interface CareFacilityRepository extends JpaRepository<CareFacility, Long
             + "AND cf.address IS NOT NULL AND cf.address <> ''")
     long countMissingCoordinates();
 
+    /** 같은 주소의 시설들에 좌표를 한 문장으로 넣는다. 좌표 보정이 시설마다 UPDATE 하지 않도록 한다. */
+    @Modifying
+    @Query("UPDATE CareFacility cf SET cf.latitude = :latitude, cf.longitude = :longitude, "
+            + "cf.updatedAt = CURRENT_TIMESTAMP WHERE cf.id IN :ids")
+    int updateCoordinates(@Param("ids") Collection<Long> ids,
+                          @Param("latitude") double latitude,
+                          @Param("longitude") double longitude);
+
     /** 전문 검색. LIKE '%키워드%' 와 달리 인덱스를 타고 관련도 순으로 정렬된다. */
     @Query(value = "SELECT * FROM TBL_CARE_FACILITIES "
            + "WHERE IS_ACTIVE = true "
@@ -0,0 +1,14 @@
+package com.carecode.domain.careFacility.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/** 고급 검색. 조건 조합마다 필요한 술어만 붙인 쿼리를 만들어야 해서 @Query 대신 Criteria 로 구현한다. */
+public interface CareFacilitySearchRepository {
+
+    /**
+     * 들어온 조건만 WHERE 에 넣어 한 페이지를 읽는다. 정렬은 평점·리뷰 수·수업료·빈자리·이름·등록일만
+     * 받고, 없으면 평점·리뷰 수 내림차순이다.
+     */
+    Page<CareFacilitySummary> search(FacilitySearchCondition condition, Pageable pageable);
+}
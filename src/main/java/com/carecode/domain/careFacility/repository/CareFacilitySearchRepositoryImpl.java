@@ -0,0 +1,128 @@
+package com.carecode.domain.careFacility.repository;
+
+import com.carecode.domain.careFacility.entity.CareFacility;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 고급 검색 구현. 예전 쿼리는 일곱 조건을 모두 {@code (:p IS NULL OR ...)} 로 묶어 두어, 옵티마이저가 어떤 조건이
+ * 실제로 들어올지 모른 채 실행 계획을 세웠고 결국 활성 시설 전체를 읽은 뒤 걸렀다. 여기서는 들어온 조건만 술어로
+ * 붙이므로 조합마다 SQL 이 달라지고, 각 SQL 이 V28 의 복합 인덱스를 고를 수 있다.
+ *
+ * <p>조회 모양은 {@link CareFacilityRepository#SUMMARY_SELECT} 와 같은 {@link CareFacilitySummary} 투영이다.
+ * 요청마다 {@value #METRIC}{filters=조합} 을 세어, 벤치마크가 재생할 조건 분포를 운영 지표에서 바로 얻는다.
+ */
+@RequiredArgsConstructor
+class CareFacilitySearchRepositoryImpl implements CareFacilitySearchRepository {
+
+    static final String METRIC = "care_facility.search.requests";
+
+    /** 정렬을 받는 필드. 나머지는 인덱스도 없고 쓸 일도 없어 조용히 버린다. */
+    static final Set<String> SORTABLE = Set.of("rating", "reviewCount", "tuitionFee", "availableSpots", "name",
+            "createdAt");
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "rating", "reviewCount");
+
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Page<CareFacilitySummary> search(FacilitySearchCondition condition, Pageable pageable) {
+        meterRegistry.counter(METRIC, "filters", condition.filterKey()).increment();
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CareFacilitySummary> query = cb.createQuery(CareFacilitySummary.class);
+        Root<CareFacility> cf = query.from(CareFacility.class);
+        query.select(cb.construct(CareFacilitySummary.class,
+                        cf.get("id"), cf.get("name"), cf.get("facilityType"), cf.get("address"), cf.get("phone"),
+                        cf.get("email"), cf.get("latitude"), cf.get("longitude"),
+                        cb.substring(cf.get("description"), 1, CareFacilitySummary.DESCRIPTION_PREVIEW_LENGTH),
+                        cf.get("operatingHours"), cf.get("website"), cf.get("rating"), cf.get("reviewCount"),
+                        cf.get("createdAt"), cf.get("updatedAt")))
+                .where(predicates(cb, cf, condition))
+                .orderBy(orders(cb, cf, pageable.getSort()));
+
+        TypedQuery<CareFacilitySummary> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typed.getResultList(), pageable, () -> count(condition));
+    }
+
+    private long count(FacilitySearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<CareFacility> cf = query.from(CareFacility.class);
+        query.select(cb.count(cf)).where(predicates(cb, cf, condition));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /** 활성 여부는 항상 들어간다. V28 인덱스가 모두 IS_ACTIVE 로 시작하는 이유다. */
+    static Predicate[] predicates(CriteriaBuilder cb, Root<CareFacility> cf, FacilitySearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(cf.get("isActive")));
+        if (condition.facilityType() != null) {
+            predicates.add(cb.equal(cf.get("facilityType"), condition.facilityType()));
+        }
+        if (condition.isPublic() != null) {
+            predicates.add(cb.equal(cf.get("isPublic"), condition.isPublic()));
+        }
+        if (condition.subsidyAvailable() != null) {
+            predicates.add(cb.equal(cf.get("subsidyAvailable"), condition.subsidyAvailable()));
+        }
+        if (condition.minRating() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(cf.get("rating"), condition.minRating()));
+        }
+        if (condition.minAvailableSpots() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(cf.get("availableSpots"), condition.minAvailableSpots()));
+        }
+        if (condition.maxTuitionFee() != null) {
+            predicates.add(cb.lessThanOrEqualTo(cf.get("tuitionFee"), condition.maxTuitionFee()));
+        }
+        if (condition.childAge() != null) {
+            // 연령 범위가 비어 있는 시설은 모든 연령을 받는 것으로 본다. 예전 쿼리와 같은 뜻이다.
+            Path<Integer> min = cf.get("ageRangeMin");
+            Path<Integer> max = cf.get("ageRangeMax");
+            predicates.add(cb.or(cb.isNull(min), cb.lessThanOrEqualTo(min, condition.childAge())));
+            predicates.add(cb.or(cb.isNull(max), cb.greaterThanOrEqualTo(max, condition.childAge())));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    /**
+     * 요청 정렬에서 허용된 필드만 남기고 마지막에 id 를 붙인다. 평점이 같은 시설이 많아 id 가 없으면 페이지를 넘길 때
+     * 같은 시설이 두 번 나오거나 빠진다. id 는 앞 정렬과 같은 방향이라 인덱스를 거꾸로 읽는 계획이 깨지지 않는다.
+     */
+    static List<Order> orders(CriteriaBuilder cb, Root<CareFacility> cf, Sort requested) {
+        Sort sort = Sort.by(requested.stream().filter(order -> SORTABLE.contains(order.getProperty())).toList());
+        if (sort.isEmpty()) {
+            sort = DEFAULT_SORT;
+        }
+        List<Order> orders = new ArrayList<>();
+        Sort.Direction last = Sort.Direction.DESC;
+        for (Sort.Order order : sort) {
+            Path<?> path = cf.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+            last = order.getDirection();
+        }
+        orders.add(last.isAscending() ? cb.asc(cf.get("id")) : cb.desc(cf.get("id")));
+        return orders;
+    }
+}
@@ -0,0 +1,29 @@
+package com.carecode.domain.careFacility.repository;
+
+import com.carecode.domain.careFacility.entity.FacilityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시설 목록 한 줄. 엔티티로 읽으면 목록에 쓰지 않는 커리큘럼·편의시설 같은 TEXT 컬럼까지 매 행 올라오므로
+ * 목록 컬럼만 읽고 설명은 SQL 에서 앞부분만 잘라 온다. 상세는 그대로 엔티티를 읽는다.
+ */
+public record CareFacilitySummary(Long id,
+                                  String name,
+                                  FacilityType facilityType,
+                                  String address,
+                                  String phone,
+                                  String email,
+                                  Double latitude,
+                                  Double longitude,
+                                  String descriptionPreview,
+                                  String operatingHours,
+                                  String website,
+                                  Double rating,
+                                  Integer reviewCount,
+                                  LocalDateTime createdAt,
+                                  LocalDateTime updatedAt) {
+
+    /** 목록에 싣는 설명 글자 수. */
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+}
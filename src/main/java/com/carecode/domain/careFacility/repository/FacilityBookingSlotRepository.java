@@ -0,0 +1,66 @@
+package com.carecode.domain.careFacility.repository;
+
+import com.carecode.domain.careFacility.entity.FacilityBookingSlot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface FacilityBookingSlotRepository extends JpaRepository<FacilityBookingSlot, Long> {
+
+    Optional<FacilityBookingSlot> findByFacilityIdAndSlotStart(Long facilityId, LocalDateTime slotStart);
+
+    @Query("SELECT COUNT(s) FROM FacilityBookingSlot s "
+            + "WHERE s.facilityId = :facilityId AND s.slotStart >= :from AND s.slotStart < :to")
+    long countSlots(@Param("facilityId") Long facilityId,
+                    @Param("from") LocalDateTime from,
+                    @Param("to") LocalDateTime to);
+
+    /**
+     * 칸 행이 없으면 만든다. 이미 있으면 건드리지 않는다.
+     *
+     * <p>ON DUPLICATE KEY UPDATE 는 이미 있는 행을 고치는 것이라, 다른 예약이 자리를 잡고 있는 행이면 그 예약이
+     * 끝날 때까지 기다린다. IGNORE 는 고유키만 확인하고 지나간다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_FACILITY_BOOKING_SLOT"))
+    @Query(value = "INSERT IGNORE INTO TBL_FACILITY_BOOKING_SLOT (FACILITY_ID, SLOT_START, REMAINING) "
+            + "VALUES (:facilityId, :slotStart, :remaining)",
+            nativeQuery = true)
+    int seed(@Param("facilityId") Long facilityId,
+             @Param("slotStart") LocalDateTime slotStart,
+             @Param("remaining") int remaining);
+
+    /**
+     * 구간에 걸친 칸마다 자리를 하나씩 잡는다. 돌려준 행 수가 칸 수보다 적으면 어딘가 꽉 찬 것이라
+     * 호출한 트랜잭션을 롤백해야 한다. 칸 행만 잠그므로 다른 시간대 예약과는 서로 기다리지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE FacilityBookingSlot s SET s.remaining = s.remaining - 1 "
+            + "WHERE s.facilityId = :facilityId AND s.slotStart >= :from AND s.slotStart < :to "
+            + "AND s.remaining > 0")
+    int reserve(@Param("facilityId") Long facilityId,
+                @Param("from") LocalDateTime from,
+                @Param("to") LocalDateTime to);
+
+    /** 취소·시간 변경으로 비운 자리를 돌려준다. 칸 행이 없으면 아직 장부에 오른 적 없는 구간이라 할 일이 없다. */
+    @Modifying
+    @Query("UPDATE FacilityBookingSlot s SET s.remaining = s.remaining + 1 "
+            + "WHERE s.facilityId = :facilityId AND s.slotStart >= :from AND s.slotStart < :to")
+    int release(@Param("facilityId") Long facilityId,
+                @Param("from") LocalDateTime from,
+                @Param("to") LocalDateTime to);
+
+    /** 지난 칸은 더 예약될 일이 없다. */
+    @Modifying
+    @Query("DELETE FROM FacilityBookingSlot s WHERE s.slotStart < :before")
+    int deleteBefore(@Param("before") LocalDateTime before);
+}
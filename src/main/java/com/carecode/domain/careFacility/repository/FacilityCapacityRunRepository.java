@@ -0,0 +1,50 @@
+package com.carecode.domain.careFacility.repository;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FacilityCapacityRunRepository extends JpaRepository<FacilityCapacityRun, Long> {
+
+    /** 기간에 걸치는 구간. 시작이 기간 앞이어도 끝이 기간 안이면 포함한다. */
+    @Query("SELECT r FROM FacilityCapacityRun r "
+            + "WHERE r.facilityId = :facilityId AND r.lastObserved >= :from "
+            + "ORDER BY r.firstObserved ASC")
+    List<FacilityCapacityRun> findOverlapping(@Param("facilityId") Long facilityId, @Param("from") LocalDate from);
+
+    /**
+     * 야간 집계용. 원본 스냅샷 스트림과 같은 순서로 돌려줘 둘을 합칠 수 있게 한다.
+     * 구간은 값이 바뀔 때만 생기므로 원본보다 훨씬 적어 한 번에 읽는다. 스트림으로 열면 원본 스트림과
+     * 같은 연결에 결과 집합이 둘 열리고, MariaDB 드라이버는 두 번째 쿼리를 보낼 때 첫 번째를 모두 메모리에 올린다.
+     * 생성자 표현식으로 읽어 영속성 컨텍스트에 올리지 않는다.
+     */
+    @Query("SELECT new com.carecode.domain.careFacility.entity.FacilityCapacityRun("
+            + "r.id, r.facilityId, r.firstObserved, r.lastObserved, r.observationCount, "
+            + "r.capacity, r.currentEnrollment, r.availableSpots) "
+            + "FROM FacilityCapacityRun r WHERE r.lastObserved >= :from "
+            + "ORDER BY r.facilityId ASC, r.firstObserved ASC")
+    List<FacilityCapacityRun> findAllOverlapping(@Param("from") LocalDate from);
+
+    /** 시설별 마지막 구간. 새로 접는 관측이 같은 값이면 이 구간을 늘린다. */
+    @Query("SELECT r FROM FacilityCapacityRun r WHERE r.facilityId IN :facilityIds "
+            + "AND r.lastObserved = (SELECT MAX(r2.lastObserved) FROM FacilityCapacityRun r2 "
+            + "WHERE r2.facilityId = r.facilityId)")
+    List<FacilityCapacityRun> findLatestRuns(@Param("facilityIds") Collection<Long> facilityIds);
+
+    /** 분석 기간보다 오래된 구간. 어떤 화면도 읽지 않는다. */
+    @Modifying
+    @Query("DELETE FROM FacilityCapacityRun r WHERE r.lastObserved < :before")
+    int deleteEndedBefore(@Param("before") LocalDate before);
+
+    @Modifying
+    @Query("DELETE FROM FacilityCapacityRun r WHERE r.facilityId = :facilityId")
+    int deleteByFacilityId(@Param("facilityId") Long facilityId);
+}
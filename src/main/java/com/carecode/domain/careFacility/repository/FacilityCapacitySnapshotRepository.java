@@ -1,27 +1,82 @@
 package com.carecode.domain.careFacility.repository;
 
 import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FacilityCapacitySnapshotRepository extends JpaRepository<FacilityCapacitySnapshot, Long> {
 
     Optional<FacilityCapacitySnapshot> findByFacilityIdAndObservedDate(Long facilityId, LocalDate observedDate);
 
-    /** 예측 입력. 오래된 것부터 줘야 증감을 순서대로 훑을 수 있다. */
+    /**
+     * 시설·관측일 기준 upsert. 같은 날 재동기화하면 값만 고친다.
+     *
+     * <p>조회 후 저장하면 전국 동기화에서 시설마다 SELECT 가 한 번씩 더 나간다. 고유키에 맡기면 한 문장이다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_FACILITY_CAPACITY_SNAPSHOT"))
+    @Query(value = "INSERT INTO TBL_FACILITY_CAPACITY_SNAPSHOT "
+            + "(FACILITY_ID, OBSERVED_DATE, CAPACITY, CURRENT_ENROLLMENT, AVAILABLE_SPOTS, CREATED_AT) "
+            + "VALUES (:facilityId, :observedDate, :capacity, :currentEnrollment, :availableSpots, :createdAt) "
+            + "ON DUPLICATE KEY UPDATE CAPACITY = VALUES(CAPACITY), "
+            + "CURRENT_ENROLLMENT = VALUES(CURRENT_ENROLLMENT), AVAILABLE_SPOTS = VALUES(AVAILABLE_SPOTS)",
+            nativeQuery = true)
+    int upsert(@Param("facilityId") Long facilityId,
+               @Param("observedDate") LocalDate observedDate,
+               @Param("capacity") Integer capacity,
+               @Param("currentEnrollment") Integer currentEnrollment,
+               @Param("availableSpots") Integer availableSpots,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 최근 원본 관측만 있다. 오래된 관측은 압축 구간으로 옮겨 가므로 분석은 FacilityCapacityHistory 로 읽는다.
+     * 오래된 것부터 줘야 증감을 순서대로 훑을 수 있다.
+     */
     @Query("SELECT s FROM FacilityCapacitySnapshot s "
             + "WHERE s.facilityId = :facilityId AND s.observedDate >= :from "
             + "ORDER BY s.observedDate ASC")
     List<FacilityCapacitySnapshot> findHistory(@Param("facilityId") Long facilityId,
                                                @Param("from") LocalDate from);
 
+    /**
+     * 야간 집계용. 시설별로 모여 나오도록 (시설, 관측일) 순으로 정렬해 한 번에 흘려 보낸다.
+     * (FACILITY_ID, OBSERVED_DATE) 고유키와 같은 순서라 인덱스 순으로 읽으면 따로 정렬하지 않는다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.carecode.domain.careFacility.repository.CapacityObservation("
+            + "s.facilityId, s.observedDate, s.capacity, s.currentEnrollment, s.availableSpots) "
+            + "FROM FacilityCapacitySnapshot s WHERE s.observedDate >= :from "
+            + "ORDER BY s.facilityId ASC, s.observedDate ASC")
+    Stream<CapacityObservation> streamObservationsSince(@Param("from") LocalDate from);
+
+    /** 압축 대상. 보존 기간이 지난 원본 관측을 시설별로 모아 읽는다. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.carecode.domain.careFacility.repository.CapacityObservation("
+            + "s.facilityId, s.observedDate, s.capacity, s.currentEnrollment, s.availableSpots) "
+            + "FROM FacilityCapacitySnapshot s WHERE s.observedDate < :before "
+            + "ORDER BY s.facilityId ASC, s.observedDate ASC")
+    Stream<CapacityObservation> streamObservationsBefore(@Param("before") LocalDate before);
+
+    /** 구간으로 접은 원본을 묶음 단위로 지운다. */
+    @Modifying
+    @Query("DELETE FROM FacilityCapacitySnapshot s "
+            + "WHERE s.facilityId IN :facilityIds AND s.observedDate < :before")
+    int deleteObservedBefore(@Param("facilityIds") Collection<Long> facilityIds, @Param("before") LocalDate before);
+
     /** 관측 기간이 얼마나 쌓였는지. 예측 가능 여부 판단에 쓴다. */
     @Query("SELECT MIN(s.observedDate) FROM FacilityCapacitySnapshot s WHERE s.facilityId = :facilityId")
     Optional<LocalDate> findEarliestObservedDate(@Param("facilityId") Long facilityId);
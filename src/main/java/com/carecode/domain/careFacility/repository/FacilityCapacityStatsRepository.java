@@ -0,0 +1,32 @@
+package com.carecode.domain.careFacility.repository;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FacilityCapacityStatsRepository extends JpaRepository<FacilityCapacityStats, Long> {
+
+    /**
+     * 대기자가 있고 빈자리가 늘어난 시설. 빈자리 알림 대상을 쿼리 한 번으로 고른다.
+     *
+     * <p>오래된 요약으로 알리지 않도록 최근에 계산된 행만 본다.
+     */
+    @Query("SELECT s FROM FacilityCapacityStats s "
+            + "WHERE s.vacancyIncrease >= :minIncrease "
+            + "AND s.computedDate >= :computedSince "
+            + "AND s.facilityId IN (SELECT w.facilityId FROM FacilityWaitlist w "
+            + "WHERE w.status = com.carecode.domain.careFacility.entity.FacilityWaitlist.WaitStatus.WAITING)")
+    List<FacilityCapacityStats> findVacancyCandidates(@Param("minIncrease") int minIncrease,
+                                                      @Param("computedSince") LocalDate computedSince);
+
+    @Modifying
+    @Query("DELETE FROM FacilityCapacityStats s WHERE s.computedDate < :date")
+    int deleteByComputedDateBefore(@Param("date") LocalDate date);
+}
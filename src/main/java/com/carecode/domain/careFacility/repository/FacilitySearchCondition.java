@@ -0,0 +1,34 @@
+package com.carecode.domain.careFacility.repository;
+
+import com.carecode.domain.careFacility.entity.FacilityType;
+
+import java.util.StringJoiner;
+
+/**
+ * 고급 검색 조건. null 인 항목은 조건에서 빠진다.
+ *
+ * <p>{@link #filterKey()} 는 들어온 항목 이름을 고정 순서로 이은 것으로, 검색 지표의 태그이자 벤치마크가 재생하는
+ * 조건 분포의 키다. 항목이 일곱 개라 조합은 많아야 128 가지다.
+ */
+public record FacilitySearchCondition(FacilityType facilityType,
+                                      Boolean isPublic,
+                                      Boolean subsidyAvailable,
+                                      Double minRating,
+                                      Integer minAvailableSpots,
+                                      Integer maxTuitionFee,
+                                      Integer childAge) {
+
+    public static final String NO_FILTER = "none";
+
+    public String filterKey() {
+        StringJoiner key = new StringJoiner("+");
+        if (facilityType != null) key.add("facilityType");
+        if (isPublic != null) key.add("isPublic");
+        if (subsidyAvailable != null) key.add("subsidyAvailable");
+        if (minRating != null) key.add("minRating");
+        if (minAvailableSpots != null) key.add("minAvailableSpots");
+        if (maxTuitionFee != null) key.add("maxTuitionFee");
+        if (childAge != null) key.add("childAge");
+        return key.length() == 0 ? NO_FILTER : key.toString();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,4 +44,11 @@ public interface FacilityWaitlistRepository extends JpaRepository<FacilityWaitli
             + "AND w.status = com.carecode.domain.careFacility.entity.FacilityWaitlist.WaitStatus.WAITING "
             + "ORDER BY w.appliedAt ASC")
     List<FacilityWaitlist> findWaiting(@Param("facilityId") Long facilityId);
+
+    /** 여러 시설의 대기자를 한 번에. 빈자리 알림이 시설마다 따로 조회하지 않도록 한다. */
+    @Query("SELECT w FROM FacilityWaitlist w "
+            + "WHERE w.facilityId IN :facilityIds "
+            + "AND w.status = com.carecode.domain.careFacility.entity.FacilityWaitlist.WaitStatus.WAITING "
+            + "ORDER BY w.facilityId ASC, w.appliedAt ASC")
+    List<FacilityWaitlist> findWaitingIn(@Param("facilityIds") Collection<Long> facilityIds);
 }
@@ -5,9 +5,8 @@ import com.carecode.core.analytics.EventType;
 import com.carecode.core.exception.CareServiceException;
 import com.carecode.domain.careFacility.dto.response.AdmissionForecastResponse;
 import com.carecode.domain.careFacility.entity.CareFacility;
-import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
-import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -33,11 +32,10 @@ public class AdmissionForecastService {
     /** 신학기. 승급·졸업으로 자리가 가장 많이 열리는 시점이다. */
     private static final Month NEW_TERM_MONTH = Month.MARCH;
 
-    private static final int LOOKBACK_MONTHS = 18;
     private static final int DEFAULT_HORIZON_MONTHS = 6;
 
     private final CareFacilityRepository careFacilityRepository;
-    private final FacilityCapacitySnapshotRepository snapshotRepository;
+    private final FacilityCapacityStatsReader statsReader;
     private final EventLogger eventLogger;
 
     /** 아이 월령 기준으로 목표 시점까지 자리가 날 확률을 추정한다. */
@@ -51,26 +49,26 @@ public class AdmissionForecastService {
 
         eventLogger.log(EventType.ADMISSION_FORECAST_VIEWED, null, String.valueOf(facilityId));
 
-        List<FacilityCapacitySnapshot> history =
-                snapshotRepository.findHistory(facilityId, today.minusMonths(LOOKBACK_MONTHS));
-
-        long observationDays = history.isEmpty() ? 0
-                : ChronoUnit.DAYS.between(history.get(0).getObservedDate(), today);
+        // 최근 18개월 관측의 집계는 야간 작업이 해 둔다. 예측 기간만 요청마다 다르다.
+        FacilityCapacityStats stats = statsReader.read(facilityId);
+        int observations = stats.getForecastObservations();
+        long observationDays = observations == 0 ? 0
+                : ChronoUnit.DAYS.between(stats.getForecastFirstObserved(), today);
 
         AdmissionForecastResponse.AdmissionForecastResponseBuilder base = AdmissionForecastResponse.builder()
                 .facilityId(facilityId)
                 .facilityName(facility.getName())
-                .observationCount(history.size())
+                .observationCount(observations)
                 .observationDays(observationDays)
                 .targetClass(resolveClassName(childAgeMonths))
                 .targetDate(targetDate);
 
-        String shortage = checkDataSufficiency(history.size(), observationDays);
+        String shortage = checkDataSufficiency(observations, observationDays);
         if (shortage != null) {
             return base.available(false).unavailableReason(shortage).build();
         }
 
-        return buildForecast(base, history, targetDate, today);
+        return buildForecast(base, stats, targetDate, today);
     }
 
     /** 관측이 부족한 이유를 사용자가 이해할 수 있게 돌려준다. */
@@ -89,18 +87,20 @@ public class AdmissionForecastService {
 
     private AdmissionForecastResponse buildForecast(
             AdmissionForecastResponse.AdmissionForecastResponseBuilder base,
-            List<FacilityCapacitySnapshot> history, LocalDate targetDate, LocalDate today) {
+            FacilityCapacityStats stats, LocalDate targetDate, LocalDate today) {
 
         List<String> reasons = new ArrayList<>();
+        int observations = stats.getForecastObservations();
 
         // 1. 관측 구간 중 자리가 있었던 비율 — 예측의 기준선
-        long observedWithSeat = history.stream().filter(this::hasSeat).count();
-        double baseRate = (double) observedWithSeat / history.size();
-        reasons.add(String.format("최근 관측 %d회 중 %d회에 잔여석이 있었습니다.", history.size(), observedWithSeat));
+        int observedWithSeat = stats.getObservedWithSeat();
+        double baseRate = (double) observedWithSeat / observations;
+        reasons.add(String.format("최근 관측 %d회 중 %d회에 잔여석이 있었습니다.", observations, observedWithSeat));
 
         // 2. 자리가 실제로 열린 횟수. 잔여석이 늘어난 전환만 센다.
-        int openings = countSeatOpenings(history);
-        double openingsPerMonth = monthsCovered(history) > 0 ? openings / monthsCovered(history) : 0;
+        int openings = stats.getSeatOpenings();
+        double monthsCovered = stats.getForecastCoveredDays() / 30.0;
+        double openingsPerMonth = monthsCovered > 0 ? openings / monthsCovered : 0;
         if (openings > 0) {
             reasons.add(String.format("관측 기간에 자리가 %d회 열렸습니다 (월 평균 %.1f회).", openings, openingsPerMonth));
         } else {
@@ -118,7 +118,7 @@ public class AdmissionForecastService {
 
         return base.available(true)
                 .probability(probability)
-                .confidence(resolveConfidence(history.size(), openings))
+                .confidence(resolveConfidence(observations, openings))
                 .reasons(reasons)
                 .build();
     }
@@ -136,36 +136,6 @@ public class AdmissionForecastService {
         return (int) Math.round(Math.min(combined, 0.95) * 100);
     }
 
-    /** 잔여석이 0 이하에서 1 이상으로 바뀐 전환 횟수. */
-    private int countSeatOpenings(List<FacilityCapacitySnapshot> history) {
-        int openings = 0;
-        boolean previousHadSeat = hasSeat(history.get(0));
-        for (int i = 1; i < history.size(); i++) {
-            boolean current = hasSeat(history.get(i));
-            if (current && !previousHadSeat) {
-                openings++;
-            }
-            previousHadSeat = current;
-        }
-        return openings;
-    }
-
-    private boolean hasSeat(FacilityCapacitySnapshot snapshot) {
-        Integer spots = snapshot.getAvailableSpots();
-        if (spots != null) {
-            return spots > 0;
-        }
-        Integer capacity = snapshot.getCapacity();
-        Integer enrolled = snapshot.getCurrentEnrollment();
-        return capacity != null && enrolled != null && capacity > enrolled;
-    }
-
-    private double monthsCovered(List<FacilityCapacitySnapshot> history) {
-        long days = ChronoUnit.DAYS.between(
-                history.get(0).getObservedDate(), history.get(history.size() - 1).getObservedDate());
-        return days / 30.0;
-    }
-
     private boolean spansNewTerm(LocalDate from, LocalDate to) {
         LocalDate term = LocalDate.of(from.getYear(), NEW_TERM_MONTH, 1);
         if (term.isBefore(from)) {
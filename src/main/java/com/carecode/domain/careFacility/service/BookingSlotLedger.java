@@ -0,0 +1,132 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.core.exception.CareServiceException;
+import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.domain.careFacility.entity.CareFacilityBooking;
+import com.carecode.domain.careFacility.entity.CareFacilityBooking.BookingStatus;
+import com.carecode.domain.careFacility.repository.CareFacilityBookingRepository;
+import com.carecode.domain.careFacility.repository.FacilityBookingSlotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 시설 예약 장부. 시설 × 시간칸마다 남은 자리를 두고 조건부 UPDATE 로 잡고 돌려준다.
+ *
+ * <p>예전에는 겹치는 예약 수를 PESSIMISTIC_WRITE 로 세었다. 예약 테이블의 인덱스 범위를 잠그기 때문에
+ * 입소 신청이 몰리는 날에는 한 시설의 예약이 시간대와 상관없이 줄을 섰고, 구간이 엇갈린 두 예약이
+ * 서로의 범위를 기다리다 교착에 빠지기도 했다. 이제는 요청이 걸친 칸 행만 잠그고, 세는 대신
+ * {@code remaining > 0} 인 칸만 줄인다. 줄인 칸 수가 모자라면 예외를 던져 트랜잭션째 되돌린다.
+ *
+ * <p>칸은 {@code app.booking.slot-minutes} 단위다. 같은 칸 안에서 겹치지 않는 두 예약(10:00-10:10,
+ * 10:20-10:30)도 같은 칸을 쓰므로, 겹침을 분 단위로 세던 때보다 칸 크기만큼 보수적이다.
+ *
+ * <p>모든 메서드는 호출한 쪽의 트랜잭션 안에서만 돈다. 여러 칸을 줄이다 실패하면 앞서 줄인 칸까지
+ * 함께 롤백되어야 하기 때문이다.
+ */
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class BookingSlotLedger {
+
+    /** 시설에 정원 정보가 없을 때 적용할 동시 예약 허용 건수. */
+    static final int DEFAULT_CONCURRENT_BOOKING_LIMIT = 1;
+
+    private final FacilityBookingSlotRepository slotRepository;
+    private final CareFacilityBookingRepository bookingRepository;
+    private final Duration slotLength;
+
+    public BookingSlotLedger(FacilityBookingSlotRepository slotRepository,
+                             CareFacilityBookingRepository bookingRepository,
+                             @Value("${app.booking.slot-minutes:30}") long slotMinutes) {
+        if (slotMinutes <= 0 || (24 * 60) % slotMinutes != 0) {
+            throw new IllegalArgumentException("app.booking.slot-minutes 는 하루를 나누어떨어지게 하는 양수여야 합니다: " + slotMinutes);
+        }
+        this.slotRepository = slotRepository;
+        this.bookingRepository = bookingRepository;
+        this.slotLength = Duration.ofMinutes(slotMinutes);
+    }
+
+    /** 새 예약의 자리를 잡는다. 구간에 걸친 모든 칸에서 하나씩 잡고, 한 칸이라도 꽉 차 있으면 예외를 던진다. */
+    public void reserve(CareFacility facility, LocalDateTime startTime, LocalDateTime endTime) {
+        reserve(facility, startTime, endTime, null);
+    }
+
+    /**
+     * 이미 저장된 예약의 자리를 잡는다. 시간을 옮기거나 취소에서 되살릴 때 쓴다. 칸 행을 새로 만들 때 이 예약 자신은
+     * 세지 않는다. 시간을 옮기는 중에는 행이 아직 예전 시각이고, 되살릴 때는 바뀐 상태가 먼저 flush 되어 있어서
+     * 그대로 세면 이 예약이 시작값에서 한 번, 자리를 잡으며 또 한 번 빠진다.
+     */
+    public void reserve(CareFacility facility, LocalDateTime startTime, LocalDateTime endTime, Long bookingId) {
+        LocalDateTime from = floor(startTime);
+        LocalDateTime to = ceil(endTime);
+        int slots = (int) (Duration.between(from, to).toMinutes() / slotLength.toMinutes());
+
+        if (slotRepository.countSlots(facility.getId(), from, to) < slots) {
+            seed(facility, from, to, bookingId);
+        }
+
+        if (slotRepository.reserve(facility.getId(), from, to) < slots) {
+            throw new CareServiceException("해당 시간에 예약 가능한 자리가 없습니다. 다른 시간을 선택해주세요.");
+        }
+    }
+
+    /**
+     * 처음 예약되는 칸 행을 만든다. 시작값은 정원에서 이미 그 칸에 걸친 유효 예약을 뺀 값이라 장부가 생기기 전에
+     * 들어온 예약도 한 번 반영된다. 장부가 생긴 뒤의 예약은 칸 행이 있어야만 들어오므로 두 번 세지 않는다.
+     * 여럿이 같은 칸을 동시에 만들면 고유키가 하나만 남긴다.
+     */
+    private void seed(CareFacility facility, LocalDateTime from, LocalDateTime to, Long bookingId) {
+        int capacity = capacityOf(facility);
+        for (LocalDateTime slot = from; slot.isBefore(to); slot = slot.plus(slotLength)) {
+            long booked = bookingRepository.countOverlappingBookings(
+                    facility.getId(), slot, slot.plus(slotLength), bookingId);
+            slotRepository.seed(facility.getId(), slot, (int) Math.max(capacity - booked, 0));
+        }
+    }
+
+    /** 잡아 두었던 자리를 돌려준다. */
+    public void release(CareFacility facility, LocalDateTime startTime, LocalDateTime endTime) {
+        slotRepository.release(facility.getId(), floor(startTime), ceil(endTime));
+    }
+
+    /**
+     * 상태만 바뀐 예약의 자리를 맞춘다. 취소되면 돌려주고, 취소였던 예약이 되살아나면 다시 잡는다.
+     * 자리를 차지하는지는 예전 겹침 계산과 같이 취소 여부로만 본다.
+     */
+    public void onStatusChanged(CareFacilityBooking booking, BookingStatus before) {
+        boolean held = before != BookingStatus.CANCELLED;
+        boolean holds = booking.getStatus() != BookingStatus.CANCELLED;
+        if (held && !holds) {
+            release(booking.getFacility(), booking.getStartTime(), booking.getEndTime());
+        } else if (!held && holds) {
+            reserve(booking.getFacility(), booking.getStartTime(), booking.getEndTime(), booking.getId());
+        }
+    }
+
+    /** 이 시각 이전에 시작하는 칸을 지운다. */
+    public int purgeBefore(LocalDateTime before) {
+        return slotRepository.deleteBefore(floor(before));
+    }
+
+    private LocalDateTime floor(LocalDateTime time) {
+        LocalDateTime midnight = time.truncatedTo(ChronoUnit.DAYS);
+        long minutes = Duration.between(midnight, time).toMinutes();
+        return midnight.plusMinutes(minutes - minutes % slotLength.toMinutes());
+    }
+
+    private LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime floor = floor(time);
+        return floor.equals(time) ? floor : floor.plus(slotLength);
+    }
+
+    private static int capacityOf(CareFacility facility) {
+        return facility.getCapacity() != null && facility.getCapacity() > 0
+                ? facility.getCapacity()
+                : DEFAULT_CONCURRENT_BOOKING_LIMIT;
+    }
+}
@@ -0,0 +1,183 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시설 하나의 정원 관측 이력으로 요약 한 행을 만든다.
+ *
+ * <p>야간 집계와 요약이 없을 때의 즉석 계산이 같은 식을 쓰도록 한곳에 모았다. 인기도는 24개월, 입소 예측은
+ * 18개월, 빈자리 변화는 30일을 보는데, 24개월 이력 하나에서 기간만 잘라 쓰므로 시설당 한 번만 읽으면 된다.
+ */
+final class CapacityStatsCalculator {
+
+    static final int POPULARITY_LOOKBACK_MONTHS = 24;
+    static final int FORECAST_LOOKBACK_MONTHS = 18;
+
+    /** 직전 관측을 찾기 위해 거슬러 올라갈 기간. 동기화는 주 단위라 넉넉히 잡는다. */
+    static final int VACANCY_LOOKBACK_DAYS = 30;
+
+    /** 이 이상이면 사실상 만원으로 본다. 정원 관리 여유를 감안한 값이다. */
+    private static final int FULL_THRESHOLD = 98;
+
+    private static final int IN_DEMAND_THRESHOLD = 90;
+    private static final int UNDERSUBSCRIBED_THRESHOLD = 70;
+
+    /** 충원율이 이만큼 떨어지면 운영 변화 신호로 본다. */
+    private static final int SHARP_DROP_POINTS = 15;
+
+    /** 추세 판정 기준. 전·후반 평균 차이. */
+    private static final int TREND_POINTS = 5;
+
+    private CapacityStatsCalculator() {
+    }
+
+    /**
+     * @param history 최근 24개월 관측. 관측일 오름차순이어야 한다.
+     */
+    static FacilityCapacityStats compute(Long facilityId, List<CapacityObservation> history, LocalDate today) {
+        FacilityCapacityStats.FacilityCapacityStatsBuilder stats = FacilityCapacityStats.builder()
+                .facilityId(facilityId)
+                .computedDate(today)
+                .updatedAt(LocalDateTime.now());
+
+        applyPopularity(stats, history);
+        applyForecastInputs(stats, since(history, today.minusMonths(FORECAST_LOOKBACK_MONTHS)));
+        applyVacancy(stats, since(history, today.minusDays(VACANCY_LOOKBACK_DAYS)));
+        return stats.build();
+    }
+
+    private static List<CapacityObservation> since(List<CapacityObservation> history, LocalDate from) {
+        int start = 0;
+        while (start < history.size() && history.get(start).observedDate().isBefore(from)) {
+            start++;
+        }
+        return history.subList(start, history.size());
+    }
+
+    private record Rate(LocalDate date, int fillRate) {
+    }
+
+    private static void applyPopularity(FacilityCapacityStats.FacilityCapacityStatsBuilder stats,
+                                        List<CapacityObservation> history) {
+        List<Rate> rates = toFillRates(history);
+        stats.fillRateObservations(rates.size());
+        if (rates.isEmpty()) {
+            return;
+        }
+
+        int average = (int) Math.round(rates.stream().mapToInt(Rate::fillRate).average().orElse(0));
+        int fullRatio = (int) Math.round(
+                100.0 * rates.stream().filter(r -> r.fillRate() >= FULL_THRESHOLD).count() / rates.size());
+
+        stats.averageFillRate(average)
+                .latestFillRate(rates.get(rates.size() - 1).fillRate())
+                .fullRatio(fullRatio)
+                .trend(resolveTrend(rates))
+                .demandLevel(resolveDemandLevel(average, fullRatio))
+                .sharpDropDates(FacilityCapacityStats.joinDates(findSharpDrops(rates)));
+    }
+
+    /** 정원이 0 이거나 없는 관측은 비율을 낼 수 없어 버린다. */
+    private static List<Rate> toFillRates(List<CapacityObservation> history) {
+        List<Rate> rates = new ArrayList<>();
+        for (CapacityObservation o : history) {
+            Integer capacity = o.capacity();
+            Integer enrolled = o.currentEnrollment();
+            if (capacity == null || capacity <= 0 || enrolled == null) {
+                continue;
+            }
+            rates.add(new Rate(o.observedDate(), (int) Math.round(100.0 * enrolled / capacity)));
+        }
+        return rates;
+    }
+
+    /** 전반부와 후반부 평균을 비교한다. 관측 간격이 불규칙해 회귀보다 이쪽이 안정적이다. */
+    private static String resolveTrend(List<Rate> rates) {
+        int half = rates.size() / 2;
+        double earlier = rates.subList(0, half).stream().mapToInt(Rate::fillRate).average().orElse(0);
+        double later = rates.subList(half, rates.size()).stream().mapToInt(Rate::fillRate).average().orElse(0);
+
+        double delta = later - earlier;
+        if (delta >= TREND_POINTS) {
+            return "RISING";
+        }
+        return delta <= -TREND_POINTS ? "FALLING" : "STABLE";
+    }
+
+    private static String resolveDemandLevel(int average, int fullRatio) {
+        if (average >= IN_DEMAND_THRESHOLD || fullRatio >= 50) {
+            return "IN_DEMAND";
+        }
+        return average < UNDERSUBSCRIBED_THRESHOLD ? "UNDERSUBSCRIBED" : "STEADY";
+    }
+
+    /** 직전 관측 대비 급락 지점. 3월 신학기 전환은 정상 변동이라 제외한다. */
+    private static List<LocalDate> findSharpDrops(List<Rate> rates) {
+        List<LocalDate> drops = new ArrayList<>();
+        for (int i = 1; i < rates.size(); i++) {
+            Rate current = rates.get(i);
+            int delta = current.fillRate() - rates.get(i - 1).fillRate();
+            if (delta <= -SHARP_DROP_POINTS && current.date().getMonthValue() != 3) {
+                drops.add(current.date());
+            }
+        }
+        return drops;
+    }
+
+    /** 예측 기간과 아이 월령은 요청마다 달라서 그 앞단의 집계까지만 해 둔다. */
+    private static void applyForecastInputs(FacilityCapacityStats.FacilityCapacityStatsBuilder stats,
+                                            List<CapacityObservation> history) {
+        stats.forecastObservations(history.size());
+        if (history.isEmpty()) {
+            return;
+        }
+
+        int withSeat = 0;
+        int openings = 0;
+        boolean previousHadSeat = history.get(0).hasSeat();
+        for (int i = 0; i < history.size(); i++) {
+            boolean current = history.get(i).hasSeat();
+            if (current) {
+                withSeat++;
+            }
+            // 잔여석이 0 이하에서 1 이상으로 바뀐 전환만 센다.
+            if (i > 0 && current && !previousHadSeat) {
+                openings++;
+            }
+            previousHadSeat = current;
+        }
+
+        stats.forecastFirstObserved(history.get(0).observedDate())
+                .forecastCoveredDays((int) ChronoUnit.DAYS.between(
+                        history.get(0).observedDate(), history.get(history.size() - 1).observedDate()))
+                .observedWithSeat(withSeat)
+                .seatOpenings(openings);
+    }
+
+    private static void applyVacancy(FacilityCapacityStats.FacilityCapacityStatsBuilder stats,
+                                     List<CapacityObservation> history) {
+        if (history.isEmpty()) {
+            return;
+        }
+        CapacityObservation latest = history.get(history.size() - 1);
+        stats.latestObservedDate(latest.observedDate())
+                .latestAvailableSpots(latest.spots());
+
+        // 관측이 한 번뿐이면 늘었는지 줄었는지 알 수 없다.
+        if (history.size() < 2) {
+            return;
+        }
+        Integer before = history.get(history.size() - 2).spots();
+        Integer after = latest.spots();
+        if (before != null && after != null) {
+            stats.vacancyIncrease(after - before);
+        }
+    }
+}
@@ -31,12 +31,10 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CareFacilityBookingService {
 
-    /** 시설에 정원 정보가 없을 때 적용할 동시 예약 허용 건수. */
-    private static final int DEFAULT_CONCURRENT_BOOKING_LIMIT = 1;
-
     private final CareFacilityBookingRepository bookingRepository;
     private final CareFacilityRepository careFacilityRepository;
     private final UserRepository userRepository;
+    private final BookingSlotLedger slotLedger;
 
     // 예약 생성
     @LogExecutionTime
@@ -50,8 +48,9 @@ public class CareFacilityBookingService {
         User user = userRepository.findByUserId(userDetails.getUsername())
                 .orElseThrow(() -> new CareServiceException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
 
-        // 예약 시간 중복 확인
-        validateBookingTime(careFacility, request.getStartTime(), request.getEndTime(), null);
+        // 예약 시간 확인 후 장부에서 자리 확보
+        validateBookingTime(request.getStartTime(), request.getEndTime());
+        slotLedger.reserve(careFacility, request.getStartTime(), request.getEndTime());
 
         // 예약 생성
         CareFacilityBooking booking = new CareFacilityBooking(
@@ -130,6 +129,7 @@ public class CareFacilityBookingService {
             }
             
             CareFacilityBooking.BookingStatus newStatus = CareFacilityBooking.BookingStatus.valueOf(status);
+            CareFacilityBooking.BookingStatus previousStatus = booking.getStatus();
             
             switch (newStatus) {
                 case CONFIRMED -> booking.confirm();
@@ -137,6 +137,7 @@ public class CareFacilityBookingService {
                 case CANCELLED -> booking.cancel("사용자에 의해 취소됨");
                 default -> booking.setStatus(newStatus);
             }
+            slotLedger.onStatusChanged(booking, previousStatus);
             
             CareFacilityBooking savedBooking = bookingRepository.save(booking);
             return convertToDto(savedBooking);
@@ -163,6 +164,7 @@ public class CareFacilityBookingService {
         }
 
         booking.cancel("사용자에 의해 취소됨");
+        slotLedger.release(booking.getFacility(), booking.getStartTime(), booking.getEndTime());
         bookingRepository.save(booking);
     }
 
@@ -186,11 +188,14 @@ public class CareFacilityBookingService {
             throw new CareServiceException("완료된 예약은 수정할 수 없습니다.");
         }
 
-        // 예약 시간이 바뀌면 다시 검증한다. 종료 시각만 바뀌어도 겹침 여부가 달라지므로 둘 다 비교한다.
+        // 예약 시간이 바뀌면 다시 검증한다. 종료 시각만 바뀌어도 걸치는 칸이 달라지므로 둘 다 비교한다.
+        // 옛 자리를 먼저 돌려줘야 겹치는 구간으로 옮길 때 자기 자신과 다투지 않는다. 새 자리를 못 잡으면 둘 다 롤백된다.
         boolean timeChanged = !booking.getStartTime().equals(request.getStartTime())
                 || !java.util.Objects.equals(booking.getEndTime(), request.getEndTime());
         if (timeChanged) {
-            validateBookingTime(booking.getFacility(), request.getStartTime(), request.getEndTime(), booking.getId());
+            validateBookingTime(request.getStartTime(), request.getEndTime());
+            slotLedger.release(booking.getFacility(), booking.getStartTime(), booking.getEndTime());
+            slotLedger.reserve(booking.getFacility(), request.getStartTime(), request.getEndTime(), booking.getId());
         }
 
         // 예약 정보 업데이트
@@ -228,13 +233,10 @@ public class CareFacilityBookingService {
                 .collect(Collectors.toList());
     }
 
-    // 예약 시간 중복 확인
+    // 예약 시간 확인
 
-    /** 예약 가능 여부 검증. 이전 구현은 시작 시각 ±1시간만 비교해서 (1) 기존 예약의 종료 시각을 무시했고, (2) 취소된 예약도 충돌로 셌으며 */
-    private void validateBookingTime(CareFacility facility,
-                                     LocalDateTime startTime,
-                                     LocalDateTime endTime,
-                                     Long excludeBookingId) {
+    /** 구간 자체가 올바른지만 본다. 자리가 남았는지는 {@link BookingSlotLedger} 가 자리를 잡으면서 판단한다. */
+    private void validateBookingTime(LocalDateTime startTime, LocalDateTime endTime) {
         if (startTime == null || endTime == null) {
             throw new CareServiceException("예약 시작/종료 시간은 필수입니다.");
         }
@@ -244,17 +246,6 @@ public class CareFacilityBookingService {
         if (startTime.isBefore(LocalDateTime.now())) {
             throw new CareServiceException("과거 시간으로는 예약할 수 없습니다.");
         }
-
-        long overlapping = bookingRepository.countOverlappingBookings(
-                facility.getId(), startTime, endTime, excludeBookingId);
-
-        int capacity = facility.getCapacity() != null && facility.getCapacity() > 0
-                ? facility.getCapacity()
-                : DEFAULT_CONCURRENT_BOOKING_LIMIT;
-
-        if (overlapping >= capacity) {
-            throw new CareServiceException("해당 시간에 예약 가능한 자리가 없습니다. 다른 시간을 선택해주세요.");
-        }
     }
 
     // DTO 변환
@@ -4,8 +4,10 @@ import org.springframework.cache.annotation.Cacheable;
 import com.carecode.core.annotation.LogExecutionTime;
 import com.carecode.core.util.BoundingBox;
 import com.carecode.core.search.FullTextSearchSupport;
+import com.carecode.core.stats.SiteStatistics;
 import com.carecode.core.annotation.ValidateLocation;
 import com.carecode.core.exception.CareFacilityNotFoundException;
+import com.carecode.domain.careFacility.dto.request.CareFacilityAdvancedSearchRequest;
 import com.carecode.domain.careFacility.dto.request.CareFacilitySearchRequest;
 import com.carecode.domain.careFacility.dto.request.ReviewRequest;
 import com.carecode.domain.careFacility.dto.response.CareFacilityInfo;
@@ -17,6 +19,8 @@ import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.entity.FacilityType;
 import com.carecode.domain.careFacility.entity.Review;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.CareFacilitySummary;
+import com.carecode.domain.careFacility.repository.FacilitySearchCondition;
 import com.carecode.domain.careFacility.repository.ReviewRepository;
 import com.carecode.domain.careFacility.mapper.CareFacilityMapper;
 import com.carecode.core.util.CommonUtil;
@@ -44,10 +48,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CareFacilityService {
 
+    /** 고급 검색 한 페이지. 예전에는 조건에 맞는 시설을 전부 돌려줬다. */
+    static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final CareFacilityRepository careFacilityRepository;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final CareFacilityMapper careFacilityMapper;
+    private final SiteStatistics siteStatistics;
     private final FullTextSearchSupport fullTextSearchSupport;
 
     // 공공데이터 API에서 받아온 보육시설 데이터를 DB에 저장
@@ -233,7 +242,7 @@ public class CareFacilityService {
 
     // 돌봄 시설 상세 조회
     @LogExecutionTime
-    @Cacheable(cacheNames = "careFacility", key = "#facilityId")
+    @Cacheable(cacheNames = "careFacility", key = "#facilityId", sync = true)
     public CareFacilityInfo getCareFacilityById(Long facilityId) {
         CareFacility facility = careFacilityRepository.findById(facilityId)
                 .orElseThrow(() -> new CareFacilityNotFoundException("돌봄 시설을 찾을 수 없습니다: " + facilityId));
@@ -333,7 +342,7 @@ public class CareFacilityService {
     @LogExecutionTime
     public List<CareFacilityInfo> getPopularCareFacilities(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        List<CareFacility> facilities = careFacilityRepository.findPopularFacilities(pageable);
+        List<CareFacilitySummary> facilities = careFacilityRepository.findPopularFacilities(pageable);
         return facilities.stream()
                 .map(careFacilityMapper::toResponse)
                 .collect(Collectors.toList());
@@ -376,19 +385,18 @@ public class CareFacilityService {
         careFacilityRepository.save(facility);
     }
 
-    // 돌봄 시설 통계 조회
+    // 돌봄 시설 통계 조회. 공개 API 라 요청마다 시설 테이블을 세지 않도록 메모리 집계에서 읽는다.
     @LogExecutionTime
     public CareFacilityStatsResponse getFacilityStats() {
-        long totalFacilities = careFacilityRepository.count();
-        long totalViews = careFacilityRepository.getTotalViewCount();
-        List<TypeStats> typeStats = careFacilityRepository.getTypeStats();
-        
+        List<TypeStats> typeStats = siteStatistics.facilityTypeStats();
+
         return CareFacilityStatsResponse.builder()
-                .totalFacilities(totalFacilities)
+                .totalFacilities(siteStatistics.facilities())
                 .totalBookings(0L)
-                .activeFacilities(0L)
-                .typeDistribution(null)
-                .typeStats(null)
+                .activeFacilities(typeStats.stream().mapToLong(TypeStats::getCount).sum())
+                .typeDistribution(typeStats.stream().collect(Collectors.toMap(
+                        stats -> stats.getFacilityType().name(), TypeStats::getCount)))
+                .typeStats(typeStats)
                 .todayBookings(0L)
                 .thisWeekBookings(0L)
                 .thisMonthBookings(0L)
@@ -398,7 +406,7 @@ public class CareFacilityService {
     // 아이 연령별 시설 추천
     @LogExecutionTime
     public List<CareFacilityInfo> recommendFacilitiesByChildAge(Integer childAge) {
-        List<CareFacility> facilities = careFacilityRepository.findByChildAge(childAge);
+        List<CareFacilitySummary> facilities = careFacilityRepository.findByChildAge(childAge);
         return facilities.stream()
                 .map(careFacilityMapper::toResponse)
                 .collect(Collectors.toList());
@@ -442,21 +450,38 @@ public class CareFacilityService {
 
     // 복합 조건으로 시설 검색 (고급 검색)
     @LogExecutionTime
-    public List<CareFacilityInfo> searchFacilitiesAdvanced(
-            FacilityType facilityType,
-            Boolean isPublic,
-            Boolean subsidyAvailable,
-            Double minRating,
-            Integer minAvailableSpots,
-            Integer maxTuitionFee,
-            Integer childAge) {
-        List<CareFacility> facilities = careFacilityRepository.searchFacilities(
-                facilityType, isPublic, subsidyAvailable, minRating,
-                minAvailableSpots, maxTuitionFee, childAge
+    public CareFacilityListResponse searchFacilitiesAdvanced(CareFacilityAdvancedSearchRequest request) {
+        FacilitySearchCondition condition = new FacilitySearchCondition(
+                request.getFacilityType(),
+                request.getIsPublic(),
+                request.getSubsidyAvailable(),
+                request.getMinRating(),
+                request.getMinAvailableSpots(),
+                request.getMaxTuitionFee(),
+                request.getChildAge()
         );
-        return facilities.stream()
-                .map(careFacilityMapper::toResponse)
-                .collect(Collectors.toList());
+        // 정렬 필드가 없으면 리포지토리 기본 정렬(평점·리뷰 수)을 쓴다. 허용되지 않은 필드는 리포지토리가 버린다.
+        Sort sort = request.getSortBy() == null || request.getSortBy().isBlank()
+                ? Sort.unsorted()
+                : com.carecode.core.util.SortUtil.createSort(
+                        request.getSortBy(), request.getSortDirection(), "rating", Sort.Direction.DESC);
+        int page = request.getPage() == null ? 0 : Math.max(request.getPage(), 0);
+        int size = request.getSize() == null ? DEFAULT_SEARCH_PAGE_SIZE
+                : Math.min(Math.max(request.getSize(), 1), MAX_SEARCH_PAGE_SIZE);
+
+        Page<CareFacilitySummary> facilityPage = careFacilityRepository.search(
+                condition, PageRequest.of(page, size, sort));
+
+        return CareFacilityListResponse.builder()
+                .facilities(facilityPage.getContent().stream()
+                        .map(careFacilityMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .totalCount(facilityPage.getTotalElements())
+                .currentPage(facilityPage.getNumber())
+                .totalPages(facilityPage.getTotalPages())
+                .hasNext(facilityPage.hasNext())
+                .hasPrevious(facilityPage.hasPrevious())
+                .build();
     }
 
     // 리뷰와 함께 시설 상세 조회
@@ -0,0 +1,101 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 정원 스냅샷 압축.
+ *
+ * <p>동기화는 시설마다 관측일 하나씩 행을 쌓고 지우지 않았다. 전국 시설 수만큼 매주 행이 늘어 테이블과 인덱스가
+ * 끝없이 커졌는데, 정원·현원은 대부분 몇 달씩 그대로라 거의 같은 행이었다. 이제 최근 원본만 날짜별로 두고,
+ * 보존 기간이 지난 관측은 같은 값이 이어진 구간으로 접는다. 분석 기간보다 오래된 구간은 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityCapacityCompactionJob {
+
+    private static final int CHUNK_FACILITIES = 200;
+
+    /** 빈자리 알림은 최근 30일 원본의 마지막 두 관측을 비교한다. 그보다 짧게 잡지 못하게 한다. */
+    private static final int MIN_RAW_RETENTION_DAYS = CapacityStatsCalculator.VACANCY_LOOKBACK_DAYS + 1;
+
+    @Value("${app.facility-capacity.raw-retention-days:90}")
+    private int rawRetentionDays;
+
+    /** 인기도 분석(24개월)보다 여유 있게 둔다. */
+    @Value("${app.facility-capacity.history-retention-months:36}")
+    private int historyRetentionMonths;
+
+    private final FacilityCapacitySnapshotRepository snapshotRepository;
+    private final FacilityCapacityCompactionWriter writer;
+
+    @Getter
+    public static class CompactionResult {
+        private int facilities;
+        private int observationsCompacted;
+        private int runsExpired;
+
+        @Override
+        public String toString() {
+            return String.format("시설 %d곳, 원본 %d건 압축, 만료 구간 %d건 삭제",
+                    facilities, observationsCompacted, runsExpired);
+        }
+    }
+
+    public CompactionResult compact() {
+        LocalDate today = LocalDate.now();
+        return compact(today.minusDays(Math.max(rawRetentionDays, MIN_RAW_RETENTION_DAYS)),
+                today.minusMonths(historyRetentionMonths));
+    }
+
+    /**
+     * @param rawBefore    이 날짜 전의 원본을 구간으로 접는다
+     * @param expireBefore 이 날짜 전에 끝난 구간을 지운다
+     */
+    @Transactional(readOnly = true)
+    public CompactionResult compact(LocalDate rawBefore, LocalDate expireBefore) {
+        CompactionResult result = new CompactionResult();
+        Map<Long, List<CapacityObservation>> chunk = new LinkedHashMap<>();
+
+        try (Stream<CapacityObservation> observations = snapshotRepository.streamObservationsBefore(rawBefore)) {
+            Long currentFacilityId = null;
+            for (CapacityObservation observation : (Iterable<CapacityObservation>) observations::iterator) {
+                // 시설이 바뀌는 시점에만 묶음을 넘긴다. 한 시설의 관측이 두 묶음에 나뉘지 않는다.
+                if (!Objects.equals(observation.facilityId(), currentFacilityId)
+                        && chunk.size() >= CHUNK_FACILITIES) {
+                    flush(chunk, rawBefore, result);
+                }
+                currentFacilityId = observation.facilityId();
+                chunk.computeIfAbsent(currentFacilityId, id -> new ArrayList<>()).add(observation);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, rawBefore, result);
+        }
+
+        result.runsExpired = writer.deleteRunsEndedBefore(expireBefore);
+        log.info("정원 스냅샷 압축 - {}", result);
+        return result;
+    }
+
+    private void flush(Map<Long, List<CapacityObservation>> chunk, LocalDate rawBefore, CompactionResult result) {
+        result.facilities += chunk.size();
+        result.observationsCompacted += writer.compact(new LinkedHashMap<>(chunk), rawBefore);
+        chunk.clear();
+    }
+}
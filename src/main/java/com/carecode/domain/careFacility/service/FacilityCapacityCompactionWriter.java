@@ -0,0 +1,84 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityRun;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import com.carecode.domain.careFacility.repository.FacilityCapacityRunRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시설 묶음 하나를 압축한다. 구간 저장과 원본 삭제를 한 트랜잭션으로 묶어, 중간에 실패해도 관측이
+ * 사라지거나 두 번 세어지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacilityCapacityCompactionWriter {
+
+    private final FacilityCapacitySnapshotRepository snapshotRepository;
+    private final FacilityCapacityRunRepository runRepository;
+
+    /** @return 접은 원본 관측 수 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int compact(Map<Long, List<CapacityObservation>> observationsByFacility, LocalDate before) {
+        Map<Long, FacilityCapacityRun> latestRuns = runRepository.findLatestRuns(observationsByFacility.keySet())
+                .stream()
+                .collect(Collectors.toMap(FacilityCapacityRun::getFacilityId, Function.identity(), (a, b) -> a));
+
+        List<FacilityCapacityRun> changed = new ArrayList<>();
+        observationsByFacility.forEach((facilityId, observations) ->
+                changed.addAll(fold(facilityId, latestRuns.get(facilityId), observations)));
+        runRepository.saveAll(changed);
+
+        return snapshotRepository.deleteObservedBefore(observationsByFacility.keySet(), before);
+    }
+
+    /**
+     * 관측을 같은 값끼리 구간으로 접는다. 마지막 기존 구간과 값이 같으면 그 구간을 늘린다.
+     *
+     * @return 늘어난 기존 구간과 새 구간
+     */
+    static List<FacilityCapacityRun> fold(Long facilityId, FacilityCapacityRun latest,
+                                          List<CapacityObservation> observations) {
+        List<FacilityCapacityRun> changed = new ArrayList<>();
+        FacilityCapacityRun current = latest;
+        for (CapacityObservation o : observations) {
+            // 이미 접힌 날짜다. 재시도로 같은 원본을 두 번 보더라도 두 번 세지 않는다.
+            if (current != null && !o.observedDate().isAfter(current.getLastObserved())) {
+                continue;
+            }
+            if (current != null && current.sameValues(o.capacity(), o.currentEnrollment(), o.availableSpots())) {
+                current.extend(o.observedDate());
+                if (!changed.contains(current)) {
+                    changed.add(current);
+                }
+                continue;
+            }
+            current = FacilityCapacityRun.builder()
+                    .facilityId(facilityId)
+                    .firstObserved(o.observedDate())
+                    .lastObserved(o.observedDate())
+                    .observationCount(1)
+                    .capacity(o.capacity())
+                    .currentEnrollment(o.currentEnrollment())
+                    .availableSpots(o.availableSpots())
+                    .build();
+            changed.add(current);
+        }
+        return changed;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteRunsEndedBefore(LocalDate before) {
+        return runRepository.deleteEndedBefore(before);
+    }
+}
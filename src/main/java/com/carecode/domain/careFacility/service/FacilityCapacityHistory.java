@@ -0,0 +1,118 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityRun;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import com.carecode.domain.careFacility.repository.FacilityCapacityRunRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 정원 관측 이력 읽기. 최근 원본 스냅샷과 압축 구간을 합쳐 관측일 순 하나의 이력으로 돌려준다.
+ *
+ * <p>호출부는 어느 관측이 압축됐는지 알 필요가 없다. 압축 구간은 접힌 관측 수만큼 다시 펼쳐서, 평균이나
+ * 비율을 내는 쪽이 원본과 같은 가중치를 보게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacilityCapacityHistory {
+
+    private static final Comparator<CapacityObservation> ORDER = Comparator
+            .comparing(CapacityObservation::facilityId)
+            .thenComparing(CapacityObservation::observedDate);
+
+    private final FacilityCapacitySnapshotRepository snapshotRepository;
+    private final FacilityCapacityRunRepository runRepository;
+
+    /** 시설 하나의 이력. 오래된 것부터. */
+    public List<CapacityObservation> findHistory(Long facilityId, LocalDate from) {
+        List<CapacityObservation> history = new ArrayList<>();
+        for (FacilityCapacityRun run : runRepository.findOverlapping(facilityId, from)) {
+            expand(run, from).forEach(history::add);
+        }
+        snapshotRepository.findHistory(facilityId, from).stream()
+                .map(CapacityObservation::of)
+                .forEach(history::add);
+        // 압축은 오래된 쪽부터 하므로 보통은 이미 정렬돼 있다. 압축 도중에 읽어도 순서가 어긋나지 않게 한다.
+        history.sort(Comparator.comparing(CapacityObservation::observedDate));
+        return history;
+    }
+
+    /**
+     * 전 시설 이력을 (시설, 관측일) 순으로 흘려 보낸다. 압축 구간은 적어서 먼저 다 읽어 두고, 양이 많은
+     * 원본 스냅샷만 스트림으로 열어 같은 순서로 합친다. 한 연결에 스트리밍 결과 집합은 하나만 열리므로
+     * 드라이버가 원본을 메모리에 모으지 않는다. 트랜잭션 안에서 쓰고 다 쓰면 닫아야 한다.
+     */
+    public Stream<CapacityObservation> streamSince(LocalDate from) {
+        List<FacilityCapacityRun> runs = runRepository.findAllOverlapping(from);
+        Stream<CapacityObservation> raw = snapshotRepository.streamObservationsSince(from);
+        Iterator<CapacityObservation> merged = new MergingIterator(
+                runs.stream().flatMap(run -> expand(run, from)).iterator(), raw.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(raw::close);
+    }
+
+    /**
+     * 구간을 접힌 관측 수만큼 펼친다. 첫·마지막 관측일은 그대로이고 사이는 고르게 놓는다.
+     * 동기화가 일정한 주기로 돌아 실제 관측일과 거의 같다.
+     */
+    static Stream<CapacityObservation> expand(FacilityCapacityRun run, LocalDate from) {
+        int count = Math.max(run.getObservationCount(), 1);
+        long span = ChronoUnit.DAYS.between(run.getFirstObserved(), run.getLastObserved());
+        return IntStream.range(0, count)
+                .mapToObj(i -> count == 1 ? run.getFirstObserved()
+                        : run.getFirstObserved().plusDays(Math.round((double) span * i / (count - 1))))
+                .filter(date -> !date.isBefore(from))
+                .map(date -> new CapacityObservation(run.getFacilityId(), date,
+                        run.getCapacity(), run.getCurrentEnrollment(), run.getAvailableSpots()));
+    }
+
+    private static final class MergingIterator implements Iterator<CapacityObservation> {
+
+        private final Iterator<CapacityObservation> left;
+        private final Iterator<CapacityObservation> right;
+        private CapacityObservation nextLeft;
+        private CapacityObservation nextRight;
+
+        private MergingIterator(Iterator<CapacityObservation> left, Iterator<CapacityObservation> right) {
+            this.left = left;
+            this.right = right;
+            this.nextLeft = left.hasNext() ? left.next() : null;
+            this.nextRight = right.hasNext() ? right.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLeft != null || nextRight != null;
+        }
+
+        @Override
+        public CapacityObservation next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CapacityObservation result;
+            if (nextRight == null || (nextLeft != null && ORDER.compare(nextLeft, nextRight) <= 0)) {
+                result = nextLeft;
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                result = nextRight;
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 시설 정원 요약을 밤에 한 번 다시 계산한다.
+ *
+ * <p>예전에는 인기도·입소 예측 화면을 열 때마다 시설 이력 24개월을 읽어 계산했고, 빈자리 알림은 대기자가 있는
+ * 시설마다 이력 조회와 시설 조회를 따로 했다. 이제 스냅샷 전체를 (시설, 관측일) 순으로 한 번만 흘려 읽으면서
+ * 시설이 바뀔 때마다 요약 한 행을 만든다. 시설별 이력을 메모리에 한 번에 하나만 들고 있어 시설 수와 무관하게
+ * 메모리가 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityCapacityStatsJob {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FacilityCapacityHistory capacityHistory;
+    private final FacilityCapacityStatsWriter writer;
+
+    @Getter
+    public static class RefreshResult {
+        private int facilities;
+        private long observations;
+        private int removed;
+
+        @Override
+        public String toString() {
+            return String.format("시설 %d곳, 관측 %d건 집계, 오래된 요약 %d건 정리", facilities, observations, removed);
+        }
+    }
+
+    /** 스트림은 트랜잭션 안에서만 열려 있다. 쓰기는 writer 가 묶음마다 별도 트랜잭션으로 커밋한다. */
+    @Transactional(readOnly = true)
+    public RefreshResult refreshAll() {
+        LocalDate today = LocalDate.now();
+        RefreshResult result = new RefreshResult();
+
+        List<FacilityCapacityStats> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<CapacityObservation> current = new ArrayList<>();
+        Long currentFacilityId = null;
+
+        try (Stream<CapacityObservation> observations = capacityHistory.streamSince(
+                today.minusMonths(CapacityStatsCalculator.POPULARITY_LOOKBACK_MONTHS))) {
+            for (CapacityObservation observation : (Iterable<CapacityObservation>) observations::iterator) {
+                result.observations++;
+                if (!Objects.equals(observation.facilityId(), currentFacilityId)) {
+                    flush(currentFacilityId, current, today, chunk, result);
+                    currentFacilityId = observation.facilityId();
+                }
+                current.add(observation);
+            }
+        }
+        flush(currentFacilityId, current, today, chunk, result);
+        if (!chunk.isEmpty()) {
+            writer.upsert(chunk);
+        }
+
+        result.removed = writer.deleteComputedBefore(today);
+        log.info("시설 정원 요약 갱신 - {}", result);
+        return result;
+    }
+
+    private void flush(Long facilityId, List<CapacityObservation> history, LocalDate today,
+                       List<FacilityCapacityStats> chunk, RefreshResult result) {
+        if (facilityId == null) {
+            return;
+        }
+        chunk.add(CapacityStatsCalculator.compute(facilityId, List.copyOf(history), today));
+        history.clear();
+        result.facilities++;
+        if (chunk.size() >= CHUNK_SIZE) {
+            writer.upsert(List.copyOf(chunk));
+            chunk.clear();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
+import com.carecode.domain.careFacility.repository.FacilityCapacityStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 시설 정원 요약을 읽는다. 야간 집계가 만든 행이 있으면 한 행 조회로 끝난다.
+ *
+ * <p>집계가 아직 돌지 않았거나(새 배포, 새 시설) 오래 멈춰 있으면 이력을 읽어 그 자리에서 계산한다.
+ * 이때 결과는 저장하지 않는다. 조회 트랜잭션에서 쓰기를 하지 않고, 다음 집계가 어차피 덮어쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacilityCapacityStatsReader {
+
+    /** 요약이 이보다 오래되면 믿지 않는다. 집계가 하루 빠져도 그대로 쓰도록 여유를 둔다. */
+    @Value("${app.facility-stats.max-age-days:2}")
+    private int maxAgeDays;
+
+    private final FacilityCapacityStatsRepository statsRepository;
+    private final FacilityCapacityHistory capacityHistory;
+
+    public FacilityCapacityStats read(Long facilityId) {
+        LocalDate today = LocalDate.now();
+        return statsRepository.findById(facilityId)
+                .filter(stats -> !stats.getComputedDate().isBefore(freshSince(today)))
+                .orElseGet(() -> compute(facilityId, today));
+    }
+
+    /** 이 날짜 이후에 계산된 요약만 유효하다. */
+    public LocalDate freshSince(LocalDate today) {
+        return today.minusDays(maxAgeDays);
+    }
+
+    private FacilityCapacityStats compute(Long facilityId, LocalDate today) {
+        return CapacityStatsCalculator.compute(facilityId, capacityHistory.findHistory(
+                facilityId, today.minusMonths(CapacityStatsCalculator.POPULARITY_LOOKBACK_MONTHS)), today);
+    }
+}
@@ -0,0 +1,55 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
+import com.carecode.domain.careFacility.repository.FacilityCapacityStatsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정원 요약을 묶음 단위로 저장한다. 집계 스트림을 읽는 트랜잭션과 분리해 묶음마다 커밋한다.
+ *
+ * <p>시설 ID 를 키로 직접 넣는 엔티티라 save() 는 새 행에도 SELECT 를 한 번씩 한다. 묶음의 기존 행을 한 번에
+ * 읽어 갱신하고, 없는 것만 persist 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacilityCapacityStatsWriter {
+
+    private final FacilityCapacityStatsRepository statsRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void upsert(List<FacilityCapacityStats> chunk) {
+        Map<Long, FacilityCapacityStats> existing = statsRepository
+                .findAllById(chunk.stream().map(FacilityCapacityStats::getFacilityId).toList())
+                .stream()
+                .collect(Collectors.toMap(FacilityCapacityStats::getFacilityId, Function.identity()));
+
+        for (FacilityCapacityStats computed : chunk) {
+            FacilityCapacityStats row = existing.get(computed.getFacilityId());
+            if (row != null) {
+                row.overwrite(computed);
+            } else {
+                entityManager.persist(computed);
+            }
+        }
+    }
+
+    /** 이번 집계에서 계산되지 않은 행. 24개월 넘게 관측이 끊긴 시설이다. */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteComputedBefore(LocalDate date) {
+        return statsRepository.deleteByComputedDateBefore(date);
+    }
+}
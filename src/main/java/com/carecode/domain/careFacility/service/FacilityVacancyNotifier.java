@@ -2,11 +2,12 @@ package com.carecode.domain.careFacility.service;
 
 import com.carecode.core.analytics.EventLogger;
 import com.carecode.core.analytics.EventType;
+import com.carecode.core.cluster.ShardAssignment;
 import com.carecode.domain.careFacility.entity.CareFacility;
-import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
 import com.carecode.domain.careFacility.entity.FacilityWaitlist;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
-import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacityStatsRepository;
 import com.carecode.domain.careFacility.repository.FacilityWaitlistRepository;
 import com.carecode.domain.notification.entity.Notification;
 import com.carecode.domain.notification.repository.NotificationRepository;
@@ -21,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 대기 걸어둔 시설에 자리가 나면 알린다.
@@ -31,15 +35,16 @@ import java.util.List;
  *
  * <p>판단 기준은 "빈자리가 늘었는가" 다. 빈자리가 계속 있는 시설은 이미 알고 있을 테니
  * 새로 생긴 자리만 알린다.
+ *
+ * <p>빈자리 증감은 야간 정원 요약({@link FacilityCapacityStatsJob})이 계산해 둔다. 대상 시설은 쿼리 한 번으로
+ * 고르고, 시설과 대기자도 대상 전체를 한 번에 읽는다. 예전처럼 대기자가 있는 시설마다 이력·시설·대기자를
+ * 따로 조회하지 않는다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FacilityVacancyNotifier {
 
-    /** 직전 관측을 찾기 위해 거슬러 올라갈 기간. 동기화는 주 단위라 넉넉히 잡는다. */
-    private static final int LOOKBACK_DAYS = 30;
-
     /** 같은 사람에게 다시 빈자리를 알리기까지의 최소 간격. */
     @Value("${app.facility-vacancy.min-interval-days:14}")
     private int minIntervalDays;
@@ -49,7 +54,8 @@ public class FacilityVacancyNotifier {
     private int minIncrease;
 
     private final FacilityWaitlistRepository waitlistRepository;
-    private final FacilityCapacitySnapshotRepository snapshotRepository;
+    private final FacilityCapacityStatsRepository statsRepository;
+    private final FacilityCapacityStatsReader statsReader;
     private final CareFacilityRepository facilityRepository;
     private final NotificationRepository notificationRepository;
     private final NotificationDispatcher dispatcher;
@@ -70,24 +76,41 @@ public class FacilityVacancyNotifier {
 
     @Transactional
     public VacancyNotifyResult notifyNewVacancies() {
+        return notifyNewVacancies(ShardAssignment.ALL);
+    }
+
+    /** 여러 인스턴스가 나눠 돌 때는 이 인스턴스가 맡은 시설만 확인한다. 시설 단위로 나누므로 한 시설의 대기자는 한 곳에서만 알림을 받는다. */
+    @Transactional
+    public VacancyNotifyResult notifyNewVacancies(ShardAssignment shard) {
         VacancyNotifyResult result = new VacancyNotifyResult();
 
-        List<Long> facilityIds = waitlistRepository.findFacilityIdsWithWaiting();
-        if (facilityIds.isEmpty()) {
+        List<FacilityCapacityStats> candidates = statsRepository
+                .findVacancyCandidates(minIncrease, statsReader.freshSince(LocalDate.now()))
+                .stream()
+                .filter(stats -> shard.owns(stats.getFacilityId()))
+                .toList();
+        if (candidates.isEmpty()) {
             return result;
         }
 
-        for (Long facilityId : facilityIds) {
+        List<Long> facilityIds = candidates.stream().map(FacilityCapacityStats::getFacilityId).toList();
+        Map<Long, CareFacility> facilities = facilityRepository.findAllById(facilityIds).stream()
+                .collect(Collectors.toMap(CareFacility::getId, Function.identity()));
+        Map<Long, List<FacilityWaitlist>> waiting = waitlistRepository.findWaitingIn(facilityIds).stream()
+                .collect(Collectors.groupingBy(FacilityWaitlist::getFacilityId));
+
+        for (FacilityCapacityStats stats : candidates) {
             result.facilitiesChecked++;
             try {
-                int sent = notifyIfVacancyAppeared(facilityId);
+                int sent = notifyWaiting(facilities.get(stats.getFacilityId()), stats,
+                        waiting.getOrDefault(stats.getFacilityId(), List.of()));
                 if (sent > 0) {
                     result.facilitiesWithVacancy++;
                     result.notificationsSent += sent;
                 }
             } catch (Exception e) {
                 // 한 시설의 실패가 나머지 대기자들의 알림을 막아서는 안 된다.
-                log.warn("빈자리 알림 실패 - facilityId={}, 사유={}", facilityId, e.getMessage());
+                log.warn("빈자리 알림 실패 - facilityId={}, 사유={}", stats.getFacilityId(), e.getMessage());
             }
         }
 
@@ -95,34 +118,17 @@ public class FacilityVacancyNotifier {
         return result;
     }
 
-    private int notifyIfVacancyAppeared(Long facilityId) {
-        List<FacilityCapacitySnapshot> history = snapshotRepository.findHistory(
-                facilityId, LocalDate.now().minusDays(LOOKBACK_DAYS));
-
-        // 관측이 한 번뿐이면 늘었는지 줄었는지 알 수 없다.
-        if (history.size() < 2) {
-            return 0;
-        }
-
-        FacilityCapacitySnapshot latest = history.get(history.size() - 1);
-        FacilityCapacitySnapshot previous = history.get(history.size() - 2);
-
-        int increase = vacancyIncrease(previous, latest);
-        if (increase < minIncrease) {
-            return 0;
-        }
-
-        CareFacility facility = facilityRepository.findById(facilityId).orElse(null);
+    private int notifyWaiting(CareFacility facility, FacilityCapacityStats stats, List<FacilityWaitlist> waiting) {
         if (facility == null || !Boolean.TRUE.equals(facility.getIsActive())) {
             return 0;
         }
 
-        LocalDate observedDate = latest.getObservedDate();
+        LocalDate observedDate = stats.getLatestObservedDate();
         String title = String.format("%s에 자리가 났습니다", facility.getName());
-        String message = buildMessage(facility, latest, increase);
+        String message = buildMessage(facility, stats);
 
         int sent = 0;
-        for (FacilityWaitlist entry : waitlistRepository.findWaiting(facilityId)) {
+        for (FacilityWaitlist entry : waiting) {
             if (!entry.canNotifyVacancy(observedDate, minIntervalDays)) {
                 continue;
             }
@@ -145,43 +151,18 @@ public class FacilityVacancyNotifier {
         return sent;
     }
 
-    /**
-     * 빈자리가 얼마나 늘었는지.
-     *
-     * <p>공공데이터는 빈자리를 직접 주기도 하고 정원·현원만 주기도 한다. 둘 다 없으면
-     * 판단할 근거가 없으므로 0으로 본다.
-     */
-    private int vacancyIncrease(FacilityCapacitySnapshot before, FacilityCapacitySnapshot after) {
-        Integer beforeSpots = availableSpots(before);
-        Integer afterSpots = availableSpots(after);
-
-        if (beforeSpots == null || afterSpots == null) {
-            return 0;
-        }
-        return afterSpots - beforeSpots;
-    }
-
-    private Integer availableSpots(FacilityCapacitySnapshot snapshot) {
-        if (snapshot.getAvailableSpots() != null) {
-            return snapshot.getAvailableSpots();
-        }
-        if (snapshot.getCapacity() != null && snapshot.getCurrentEnrollment() != null) {
-            return snapshot.getCapacity() - snapshot.getCurrentEnrollment();
-        }
-        return null;
-    }
-
     /**
      * 관측 사실만 쓰고 넘겨짚지 않는다.
      *
      * <p>공공데이터는 시설 전체 정원만 주므로 어느 반에 자리가 났는지는 알 수 없다.
      * 반이 다르면 헛걸음이라 그 한계를 문구에 그대로 밝힌다.
      */
-    private String buildMessage(CareFacility facility, FacilityCapacitySnapshot latest, int increase) {
-        Integer spots = availableSpots(latest);
+    private String buildMessage(CareFacility facility, FacilityCapacityStats stats) {
+        int increase = stats.getVacancyIncrease();
+        Integer spots = stats.getLatestAvailableSpots();
         return String.format(
                 "대기 등록해 두신 %s의 빈자리가 %d자리 늘어 현재 %d자리입니다. (%s 관측 기준) "
                         + "시설 전체 기준이라 해당 반에 자리가 있는지는 시설에 확인해 보세요.",
-                facility.getName(), increase, spots == null ? increase : spots, latest.getObservedDate());
+                facility.getName(), increase, spots == null ? increase : spots, stats.getLatestObservedDate());
     }
 }
@@ -0,0 +1,156 @@
+package com.carecode.domain.chatbot.intent;
+
+import com.carecode.core.util.KeywordAutomaton;
+import com.carecode.core.util.ReloadableResource;
+import com.carecode.domain.chatbot.entity.ChatMessage.IntentType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챗봇 메시지의 의도와 신뢰도를 키워드 사전으로 정한다.
+ *
+ * <p>예전에는 의도마다 정규식 두 개를 돌려 처음 걸린 의도를 고르고, 신뢰도를 내려고 같은 정규식을 다시
+ * 돌렸다. 메시지 하나에 정규식이 최대 20번 돌았고, 의도 순서가 HashMap 순서라 "지원금"처럼 여러 의도에
+ * 걸리는 말은 어느 의도가 될지 정해져 있지 않았다. 이제 사전 전체를 {@link KeywordAutomaton} 하나로
+ * 묶어 메시지를 한 번만 훑고, 걸린 묶음의 가중치를 의도별로 더해 가장 높은 의도를 고른다.
+ *
+ * <p>사전은 {@code app.chatbot.intent.dictionary} 에서 읽는다. 파일이 바뀌면 주기적으로 다시 읽고,
+ * 새 사전이 잘못돼 있으면 이전 사전을 계속 쓴다.
+ */
+@Component
+public class IntentClassifier {
+
+    /** 걸린 것이 없을 때의 신뢰도. 예전 값과 같다. */
+    static final double UNKNOWN_CONFIDENCE = 0.1;
+
+    private final ReloadableResource<Compiled> dictionary;
+
+    public IntentClassifier(@Value("${app.chatbot.intent.dictionary:classpath:chatbot/intent-keywords.txt}")
+                            Resource dictionary) {
+        this.dictionary = new ReloadableResource<>(dictionary, "의도 사전", Compiled::parse);
+    }
+
+    public Classification classify(String message) {
+        Compiled current = dictionary.get();
+        if (message == null || message.isEmpty()) {
+            return new Classification(IntentType.UNKNOWN, UNKNOWN_CONFIDENCE);
+        }
+
+        boolean[] hit = new boolean[current.groupIntents.length];
+        current.automaton.scan(message, group -> hit[group] = true);
+
+        double[] scores = new double[IntentType.values().length];
+        for (int group = 0; group < hit.length; group++) {
+            if (hit[group]) {
+                scores[current.groupIntents[group].ordinal()] += current.groupWeights[group];
+            }
+        }
+
+        IntentType best = IntentType.UNKNOWN;
+        double bestScore = 0;
+        // 사전에 먼저 나온 의도부터 본다. 점수가 같으면 앞의 의도가 남는다.
+        for (IntentType intent : current.priority) {
+            if (scores[intent.ordinal()] > bestScore) {
+                best = intent;
+                bestScore = scores[intent.ordinal()];
+            }
+        }
+        if (best == IntentType.UNKNOWN) {
+            return new Classification(IntentType.UNKNOWN, UNKNOWN_CONFIDENCE);
+        }
+        // 묶음 하나 0.5, 둘 0.7, 상한 0.9. 가중치 1 로 두면 예전 정규식 방식과 같은 값이 나온다.
+        return new Classification(best, Math.min(0.9, 0.3 + bestScore * 0.2));
+    }
+
+    /** 사전 파일이 바뀌었으면 다시 읽는다. 새 사전이 잘못돼 있으면 이전 사전을 계속 쓴다. */
+    @Scheduled(fixedDelayString = "${app.chatbot.intent.reload-interval-ms:30000}",
+            initialDelayString = "${app.chatbot.intent.reload-interval-ms:30000}")
+    public void reloadIfModified() {
+        dictionary.reloadIfModified();
+    }
+
+    int groups() {
+        return dictionary.get().groupIntents.length;
+    }
+
+    public record Classification(IntentType intent, double confidence) {
+    }
+
+    private static final class Compiled {
+        private final KeywordAutomaton automaton;
+        private final IntentType[] groupIntents;
+        private final double[] groupWeights;
+        private final List<IntentType> priority;
+
+        private Compiled(KeywordAutomaton automaton, IntentType[] groupIntents, double[] groupWeights,
+                         List<IntentType> priority) {
+            this.automaton = automaton;
+            this.groupIntents = groupIntents;
+            this.groupWeights = groupWeights;
+            this.priority = priority;
+        }
+
+        /** "의도 가중치 키워드|키워드" 한 줄이 한 묶음이다. 잘못된 줄이 있으면 사전 전체를 거부한다. */
+        static Compiled parse(Reader source) throws IOException {
+            BufferedReader reader = new BufferedReader(source);
+            List<Map.Entry<String, Integer>> keywords = new ArrayList<>();
+            List<IntentType> intents = new ArrayList<>();
+            List<Double> weights = new ArrayList<>();
+            LinkedHashSet<IntentType> priority = new LinkedHashSet<>();
+
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = trimmed.split("\\s+", 3);
+                if (parts.length < 3) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄 형식이 잘못되었습니다: " + trimmed);
+                }
+                IntentType intent;
+                double weight;
+                try {
+                    intent = IntentType.valueOf(parts[0]);
+                    weight = Double.parseDouble(parts[1]);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄의 의도나 가중치가 잘못되었습니다: " + trimmed, e);
+                }
+                if (intent == IntentType.UNKNOWN || weight <= 0) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄은 쓸 수 없는 의도나 가중치입니다: " + trimmed);
+                }
+
+                int group = intents.size();
+                intents.add(intent);
+                weights.add(weight);
+                priority.add(intent);
+                for (String keyword : parts[2].split("\\|")) {
+                    String word = keyword.trim();
+                    if (!word.isEmpty()) {
+                        keywords.add(Map.entry(word, group));
+                    }
+                }
+            }
+            if (intents.isEmpty()) {
+                throw new IllegalArgumentException("의도 사전이 비어 있습니다.");
+            }
+
+            return new Compiled(KeywordAutomaton.build(keywords),
+                    intents.toArray(IntentType[]::new),
+                    weights.stream().mapToDouble(Double::doubleValue).toArray(),
+                    List.copyOf(priority));
+        }
+    }
+}
@@ -36,4 +36,8 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     // 키워드 검색
     @Query("SELECT cm FROM ChatMessage cm WHERE cm.user = :user AND (cm.message LIKE %:keyword% OR cm.response LIKE %:keyword%) ORDER BY cm.createdAt DESC")
     List<ChatMessage> findByUserAndKeyword(@Param("user") User user, @Param("keyword") String keyword);
-} 
\ No newline at end of file
+
+    /** 내 데이터 내려받기용 keyset 페이지. id 오름차순으로 afterId 다음부터 읽는다. */
+    @Query("SELECT cm FROM ChatMessage cm WHERE cm.user.id = :userId AND cm.id > :afterId ORDER BY cm.id")
+    List<ChatMessage> findExportPage(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+}
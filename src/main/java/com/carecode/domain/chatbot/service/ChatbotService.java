@@ -8,6 +8,7 @@ import com.carecode.domain.chatbot.dto.response.ChatbotChatHistoryDtoResponse;
 import com.carecode.domain.chatbot.dto.response.ChatbotSessionDtoResponse;
 import com.carecode.domain.chatbot.entity.ChatMessage;
 import com.carecode.domain.chatbot.entity.ChatSession;
+import com.carecode.domain.chatbot.intent.IntentClassifier;
 import com.carecode.domain.chatbot.repository.ChatMessageRepository;
 import com.carecode.domain.chatbot.repository.ChatSessionRepository;
 import com.carecode.domain.chatbot.llm.ChatCompletionClient;
@@ -27,7 +28,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /** 챗봇 서비스 클래스 육아 관련 챗봇 기능을 제공 */
@@ -44,65 +44,7 @@ public class ChatbotService {
     private final CareFacilityRepository careFacilityRepository;
     private final CareKnowledgeRetriever knowledgeRetriever;
     private final ChatCompletionClient chatCompletionClient;
-
-    // 의도 분석을 위한 키워드 패턴
-    private static final Map<ChatMessage.IntentType, List<Pattern>> INTENT_PATTERNS = new HashMap<>();
-    
-    static {
-        // 인사 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.GREETING, Arrays.asList(
-            Pattern.compile("안녕|하이|헬로|반가워|만나서"),
-            Pattern.compile("안녕하세요|안녕하신가요|반갑습니다")
-        ));
-        
-        // 질문 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.QUESTION, Arrays.asList(
-            Pattern.compile("무엇|뭐|어떻게|언제|어디서|왜|어떤"),
-            Pattern.compile("\\?|\\?\\?|물어보고|궁금해|알려줘")
-        ));
-        
-        // 불만/문의 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.COMPLAINT, Arrays.asList(
-            Pattern.compile("문제|불만|어려워|힘들어|도와줘|해결"),
-            Pattern.compile("안되|안돼|오류|에러|버그")
-        ));
-        
-        // 감사 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.THANKS, Arrays.asList(
-            Pattern.compile("감사|고마워|고맙습니다|감사합니다|thank"),
-            Pattern.compile("도움|도움이|좋아|좋은")
-        ));
-        
-        // 작별인사 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.GOODBYE, Arrays.asList(
-            Pattern.compile("안녕|잘가|바이|goodbye|bye"),
-            Pattern.compile("다음에|나중에|끝|종료")
-        ));
-        
-        // 건강 정보 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.HEALTH_INFO, Arrays.asList(
-            Pattern.compile("건강|병원|의사|약|증상|아프|열|기침"),
-            Pattern.compile("예방접종|백신|검진|진찰|치료")
-        ));
-        
-        // 정책 정보 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.POLICY_INFO, Arrays.asList(
-            Pattern.compile("정책|지원|보조금|혜택|혜택|도움"),
-            Pattern.compile("신청|지원금|수당|급여|복지")
-        ));
-        
-        // 시설 정보 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.FACILITY_INFO, Arrays.asList(
-            Pattern.compile("어린이집|유치원|보육|시설|원"),
-            Pattern.compile("위치|주소|전화|연락처|운영시간")
-        ));
-        
-        // 교육 정보 패턴
-        INTENT_PATTERNS.put(ChatMessage.IntentType.EDUCATION_INFO, Arrays.asList(
-            Pattern.compile("교육|학습|공부|프로그램|강의"),
-            Pattern.compile("육아|양육|부모|아이|아동")
-        ));
-    }
+    private final IntentClassifier intentClassifier;
 
     // 챗봇 메시지 처리
     @LogExecutionTime
@@ -118,8 +60,9 @@ public class ChatbotService {
             ChatSession session = getOrCreateSession(user, request.getSessionId());
             
             // 의도 분석
-            ChatMessage.IntentType intentType = analyzeIntent(request.getMessage());
-            double confidence = calculateConfidence(request.getMessage(), intentType);
+            IntentClassifier.Classification classification = intentClassifier.classify(request.getMessage());
+            ChatMessage.IntentType intentType = classification.intent();
+            double confidence = classification.confidence();
             
             // 응답 생성 (LLM 우선, 실패 시 규칙 기반 폴백)
             String response = generateReply(request.getMessage(), intentType, user);
@@ -382,40 +325,6 @@ public class ChatbotService {
                 .orElseThrow(() -> new CareServiceException("사용자를 찾을 수 없습니다: " + userIdOrEmail));
     }
 
-    // 의도 분석
-    private ChatMessage.IntentType analyzeIntent(String message) {
-        String lowerMessage = message.toLowerCase();
-        
-        for (Map.Entry<ChatMessage.IntentType, List<Pattern>> entry : INTENT_PATTERNS.entrySet()) {
-            for (Pattern pattern : entry.getValue()) {
-                if (pattern.matcher(lowerMessage).find()) {
-                    return entry.getKey();
-                }
-            }
-        }
-        
-        return ChatMessage.IntentType.UNKNOWN;
-    }
-
-    // 신뢰도 계산
-    private double calculateConfidence(String message, ChatMessage.IntentType intentType) {
-        if (intentType == ChatMessage.IntentType.UNKNOWN) {
-            return 0.1;
-        }
-        
-        String lowerMessage = message.toLowerCase();
-        int matchCount = 0;
-        
-        List<Pattern> patterns = INTENT_PATTERNS.get(intentType);
-        for (Pattern pattern : patterns) {
-            if (pattern.matcher(lowerMessage).find()) {
-                matchCount++;
-            }
-        }
-        
-        return Math.min(0.9, 0.3 + (matchCount * 0.2));
-    }
-
     /** 응답 생성. DB 에서 관련 정책·시설을 검색해 근거로 넘기고 LLM 이 답하게 한다(RAG) */
     private String generateReply(String message, ChatMessage.IntentType intentType, User user) {
         // 인사·감사·작별처럼 검색이 필요 없는 의도는 정형 응답이 더 빠르고 안정적이다.
@@ -518,7 +427,7 @@ public class ChatbotService {
     // 시설 정보 응답 생성
     private String generateFacilityInfoResponse(String message) {
         String topFacilities = careFacilityRepository.findPopularFacilities(PageRequest.of(0, 3)).stream()
-                .map(f -> "- " + f.getName())
+                .map(f -> "- " + f.name())
                 .collect(Collectors.joining("\n"));
 
         if (message.contains("어린이집") || message.contains("유치원")) {
@@ -8,6 +8,8 @@ import com.carecode.domain.community.entity.Comment;
 import com.carecode.domain.community.entity.Post;
 import com.carecode.domain.community.entity.Tag;
 import com.carecode.domain.community.repository.CommentRepository;
+import com.carecode.domain.community.repository.PostSummary;
+import com.carecode.domain.community.repository.PostTagName;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -50,6 +52,26 @@ public class CommunityMapper {
                 .build();
     }
 
+    /** 목록 한 줄. 본문은 쿼리가 잘라 온 앞부분이다. 전체 본문은 상세에서만 내려간다. */
+    public CommunityPostResponse toPostResponse(PostSummary summary, List<String> tagNames) {
+        return CommunityPostResponse.builder()
+                .postId(summary.postId())
+                .title(summary.title())
+                .content(summary.contentPreview())
+                .category(summary.category().name())
+                .authorName(summary.authorName())
+                .authorId(summary.authorId() != null ? summary.authorId().toString() : null)
+                .isAnonymous(summary.isAnonymous())
+                .createdAt(summary.createdAt().toString())
+                .viewCount(summary.viewCount())
+                .likeCount(summary.likeCount())
+                .commentCount(summary.commentCount())
+                .tags(tagNames)
+                .isLiked(false)
+                .isBookmarked(false)
+                .build();
+    }
+
     // Post 엔티티를 PostDetailResponse DTO로 변환
     public CommunityPostDetailResponse toPostDetailResponse(Post post) {
         // 활성 댓글 전체를 한 번에 읽고 트리는 메모리에서 만든다.
@@ -153,6 +175,15 @@ public class CommunityMapper {
                 .collect(Collectors.toList());
     }
 
+    // 목록 한 페이지를 PostResponse DTO 리스트로 변환. 태그는 페이지 전체를 한 번에 읽은 것을 나눠 붙인다.
+    public List<CommunityPostResponse> toPostResponseList(List<PostSummary> summaries, List<PostTagName> tags) {
+        Map<Long, List<String>> tagNamesByPost = tags.stream().collect(Collectors.groupingBy(
+                PostTagName::postId, Collectors.mapping(PostTagName::name, Collectors.toList())));
+        return summaries.stream()
+                .map(summary -> toPostResponse(summary, tagNamesByPost.getOrDefault(summary.postId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     // Comment 엔티티 리스트를 CommentResponse DTO 리스트로 변환 (평면)
     public List<CommunityCommentResponse> toCommentResponseList(List<Comment> comments) {
         return comments.stream()
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,14 +25,23 @@ import java.util.Optional;
  * 필드 접근 엔티티의 프록시는 {@code getId()} 호출만으로도 초기화되어 게시글 수만큼
  * 사용자 조회가 나갔다. author 는 ToOne 이라 페이징과 함께 fetch 해도 안전하다.
  * (태그는 컬렉션이라 fetch join 대신 Post 쪽 {@code @BatchSize} 로 처리한다.)
+ *
+ * <p>목록 피드는 엔티티 대신 {@link PostSummary} 로 읽는다. 한 페이지에 본문 전체와 게시글 엔티티
+ * 20개를 올려 두고 앞부분만 응답에 쓰던 것을, 목록 컬럼과 잘라 낸 본문만 가져오게 했다.
  */
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /** 목록 한 줄로 읽는 SELECT 절. 본문은 SQL 에서 앞부분만 잘라 온다. */
+    String SUMMARY_SELECT = "SELECT new com.carecode.domain.community.repository.PostSummary("
+            + "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummary.CONTENT_PREVIEW_LENGTH + "), p.category, "
+            + "p.authorName, p.author.id, p.isAnonymous, p.createdAt, p.viewCount, p.likeCount, p.commentCount) "
+            + "FROM Post p ";
+
     /** 게시글 목록 (기본 정렬은 호출부의 Pageable 을 따른다). */
-    @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT p FROM Post p WHERE p.isActive = true")
-    Page<Post> findAllActive(Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isActive = true")
+    Page<PostSummary> findActiveSummaries(Pageable pageable);
 
     /** 상세 조회. 숨김 처리된 글은 ID 를 알아도 열리지 않아야 한다. */
     @EntityGraph(attributePaths = {"author", "tags"})
@@ -39,19 +49,25 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Optional<Post> findActiveById(@Param("postId") Long postId);
 
     // 제목 또는 내용으로 검색
-    @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT p FROM Post p WHERE p.isActive = true AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
-    Page<Post> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)",
+           countQuery = "SELECT COUNT(p) FROM Post p "
+                   + "WHERE p.isActive = true AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
+    Page<PostSummary> findSummariesByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // 인기 게시글 조회 (좋아요 순) - 페이징
-    @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT p FROM Post p WHERE p.isActive = true ORDER BY p.likeCount DESC, p.createdAt DESC")
-    Page<Post> findPopularPosts(Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true ORDER BY p.likeCount DESC, p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isActive = true")
+    Page<PostSummary> findPopularSummaries(Pageable pageable);
 
     // 최신 게시글 조회 - 페이징
-    @EntityGraph(attributePaths = {"author"})
-    @Query("SELECT p FROM Post p WHERE p.isActive = true ORDER BY p.createdAt DESC")
-    Page<Post> findLatestPosts(Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isActive = true")
+    Page<PostSummary> findLatestSummaries(Pageable pageable);
+
+    /** 목록 한 페이지의 태그를 한 번에 읽는다. */
+    @Query("SELECT new com.carecode.domain.community.repository.PostTagName(p.id, t.name) "
+            + "FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagName> findTagNamesByPostIds(@Param("postIds") Collection<Long> postIds);
 
     // 태그별 게시글 목록 조회
     @EntityGraph(attributePaths = {"author"})
@@ -64,4 +80,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Post p SET p.viewCount = COALESCE(p.viewCount, 0) + 1 WHERE p.id = :postId AND p.isActive = true")
     int incrementViewCount(@Param("postId") Long postId);
+
+    /** 내 데이터 내려받기용 keyset 페이지. id 오름차순으로 afterId 다음부터 읽는다. */
+    @Query("SELECT p FROM Post p WHERE p.author.id = :userId AND p.id > :afterId ORDER BY p.id")
+    List<Post> findExportPage(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,25 @@
+package com.carecode.domain.community.repository;
+
+import com.carecode.domain.community.entity.PostCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 줄. 목록은 본문 앞부분만 보여 주므로 본문 전체(TEXT)를 엔티티로 읽지 않고 SQL 에서 잘라 온다.
+ * 관리되지 않는 값이라 영속성 컨텍스트에도 쌓이지 않는다.
+ */
+public record PostSummary(Long postId,
+                          String title,
+                          String contentPreview,
+                          PostCategory category,
+                          String authorName,
+                          Long authorId,
+                          Boolean isAnonymous,
+                          LocalDateTime createdAt,
+                          Integer viewCount,
+                          Integer likeCount,
+                          Integer commentCount) {
+
+    /** 목록에 싣는 본문 글자 수. 카드 두세 줄 분량이다. */
+    public static final int CONTENT_PREVIEW_LENGTH = 200;
+}
@@ -0,0 +1,5 @@
+package com.carecode.domain.community.repository;
+
+/** 목록에 실린 게시글들의 태그 이름. 태그 엔티티와 게시글 컬렉션을 초기화하지 않고 한 번에 읽는다. */
+public record PostTagName(Long postId, String name) {
+}
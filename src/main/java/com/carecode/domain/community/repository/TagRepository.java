@@ -1,8 +1,12 @@
 package com.carecode.domain.community.repository;
 
+import com.carecode.core.cache.CacheRegions;
 import com.carecode.domain.community.entity.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,8 +16,13 @@ import java.util.Optional;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
     
+    /** 글을 쓸 때마다 태그 수만큼 불린다. 결과를 쿼리 캐시에 두고 태그 자체는 2차 캐시에서 꺼낸다. */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TAG_QUERIES)})
     Optional<Tag> findByName(String name);
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.TAG_QUERIES)})
     List<Tag> findByIsActiveTrue();
     
     @Query("SELECT t FROM Tag t WHERE t.name LIKE %:keyword% AND t.isActive = true")
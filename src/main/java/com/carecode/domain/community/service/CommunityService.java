@@ -4,6 +4,7 @@ import com.carecode.core.exception.CareServiceException;
 import com.carecode.core.exception.CommentAccessDeniedException;
 import com.carecode.core.exception.PostAccessDeniedException;
 import com.carecode.core.exception.ResourceNotFoundException;
+import com.carecode.core.security.CurrentUserFacade;
 import com.carecode.domain.community.dto.request.CommunityCreatePostRequest;
 import com.carecode.domain.community.dto.request.CommunityUpdatePostRequest;
 import com.carecode.domain.community.dto.request.CommunityCreateCommentRequest;
@@ -19,6 +20,8 @@ import com.carecode.domain.community.entity.PostCategory;
 import com.carecode.domain.community.entity.Tag;
 import com.carecode.domain.community.repository.CommentRepository;
 import com.carecode.domain.community.repository.PostRepository;
+import com.carecode.domain.community.repository.PostSummary;
+import com.carecode.domain.community.repository.PostTagName;
 import com.carecode.domain.community.repository.TagRepository;
 import com.carecode.domain.community.repository.PostLikeRepository;
 import com.carecode.domain.community.repository.BookmarkRepository;
@@ -56,6 +59,8 @@ public class CommunityService {
     private final PostLikeRepository postLikeRepository;
     private final BookmarkRepository bookmarkRepository;
     private final CommunityMapper communityMapper;
+    private final ContentFilter contentFilter;
+    private final CurrentUserFacade currentUserFacade;
 
     /**
      * 게시글 목록 조회 (페이징).
@@ -72,21 +77,8 @@ public class CommunityService {
             sortBy, sortDirection, "createdAt", Sort.Direction.DESC
         );
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Post> postPage = postRepository.findAllActive(pageable);
-
-        List<CommunityPostResponse> postResponses = communityMapper.toPostResponseList(postPage.getContent());
-
-        return CommunityPageResponse.<CommunityPostResponse>builder()
-                .content(postResponses)
-                .page(postPage.getNumber())
-                .size(postPage.getSize())
-                .totalElements(postPage.getTotalElements())
-                .totalPages(postPage.getTotalPages())
-                .first(postPage.isFirst())
-                .last(postPage.isLast())
-                .hasNext(postPage.hasNext())
-                .hasPrevious(postPage.hasPrevious())
-                .build();
+        Page<PostSummary> postPage = postRepository.findActiveSummaries(pageable);
+        return toPostPage(postPage);
     }
     
     // 레거시 전체 조회 메서드 제거 (페이징 API로 일원화)
@@ -115,6 +107,8 @@ public class CommunityService {
 
     // 게시글 작성
     public CommunityPostResponse createPost(CommunityCreatePostRequest request) {
+            contentFilter.check(request.getTitle(), request.getContent());
+
             // 현재 인증된 사용자 가져오기
             User author = getCurrentUser();
             
@@ -147,6 +141,7 @@ public class CommunityService {
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
 
         requirePostOwnership(post);
+        contentFilter.check(request.getTitle(), request.getContent());
 
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
@@ -194,6 +189,8 @@ public class CommunityService {
     // 댓글 작성
     public CommunityCommentResponse createComment(Long postId, CommunityCreateCommentRequest request) {
         log.info("댓글 작성 - 게시글 ID: {}, 부모 댓글 ID: {}", postId, request.getParentCommentId());
+        // 아래 catch 가 모든 예외를 서버 오류로 바꾸므로 걸러내기는 그 밖에서 한다.
+        contentFilter.check(request.getContent());
         try {
             Post post = postRepository.findById(postId)
                     .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: " + postId));
@@ -236,6 +233,7 @@ public class CommunityService {
                 .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다. ID: " + commentId));
 
         requireCommentOwnership(comment);
+        contentFilter.check(request.getContent());
 
         comment.setContent(request.getContent());
         Comment updatedComment = commentRepository.save(comment);
@@ -305,7 +303,7 @@ public class CommunityService {
             throw new CareServiceException("유효하지 않은 사용자 정보입니다.");
         }
 
-        return userRepository.findByEmailAndDeletedAtIsNull(userEmail)
+        return currentUserFacade.findActiveUser(userEmail)
                 .orElseThrow(() -> {
                     log.error("getCurrentUser() - 사용자를 찾을 수 없음: {}", userEmail);
                     return new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userEmail);
@@ -379,21 +377,8 @@ public class CommunityService {
     // 게시글 검색 (페이징)
     public CommunityPageResponse<CommunityPostResponse> searchPosts(String keyword, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Post> postPage = postRepository.findByKeyword(keyword, pageable);
-
-        List<CommunityPostResponse> postResponses = communityMapper.toPostResponseList(postPage.getContent());
-
-        return CommunityPageResponse.<CommunityPostResponse>builder()
-                .content(postResponses)
-                .page(postPage.getNumber())
-                .size(postPage.getSize())
-                .totalElements(postPage.getTotalElements())
-                .totalPages(postPage.getTotalPages())
-                .first(postPage.isFirst())
-                .last(postPage.isLast())
-                .hasNext(postPage.hasNext())
-                .hasPrevious(postPage.hasPrevious())
-                .build();
+        Page<PostSummary> postPage = postRepository.findSummariesByKeyword(keyword, pageable);
+        return toPostPage(postPage);
     }
     
     // 레거시 전체 검색 메서드 제거 (페이징 API로 일원화)
@@ -401,21 +386,8 @@ public class CommunityService {
     // 인기 게시글 조회 (페이징)
     public CommunityPageResponse<CommunityPostResponse> getPopularPosts(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> postPage = postRepository.findPopularPosts(pageable);
-
-        List<CommunityPostResponse> postResponses = communityMapper.toPostResponseList(postPage.getContent());
-
-        return CommunityPageResponse.<CommunityPostResponse>builder()
-                .content(postResponses)
-                .page(postPage.getNumber())
-                .size(postPage.getSize())
-                .totalElements(postPage.getTotalElements())
-                .totalPages(postPage.getTotalPages())
-                .first(postPage.isFirst())
-                .last(postPage.isLast())
-                .hasNext(postPage.hasNext())
-                .hasPrevious(postPage.hasPrevious())
-                .build();
+        Page<PostSummary> postPage = postRepository.findPopularSummaries(pageable);
+        return toPostPage(postPage);
     }
 
     // 레거시 인기 게시글 리스트 메서드 제거 (페이징 API로 일원화)
@@ -423,9 +395,15 @@ public class CommunityService {
     // 최신 게시글 조회 (페이징)
     public CommunityPageResponse<CommunityPostResponse> getLatestPosts(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> postPage = postRepository.findLatestPosts(pageable);
+        Page<PostSummary> postPage = postRepository.findLatestSummaries(pageable);
+        return toPostPage(postPage);
+    }
 
-        List<CommunityPostResponse> postResponses = communityMapper.toPostResponseList(postPage.getContent());
+    /** 목록 한 페이지. 태그는 게시글마다가 아니라 페이지 단위로 한 번 읽는다. */
+    private CommunityPageResponse<CommunityPostResponse> toPostPage(Page<PostSummary> postPage) {
+        List<Long> postIds = postPage.getContent().stream().map(PostSummary::postId).toList();
+        List<PostTagName> tags = postIds.isEmpty() ? List.of() : postRepository.findTagNamesByPostIds(postIds);
+        List<CommunityPostResponse> postResponses = communityMapper.toPostResponseList(postPage.getContent(), tags);
 
         return CommunityPageResponse.<CommunityPostResponse>builder()
                 .content(postResponses)
@@ -20,6 +20,7 @@ import com.carecode.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -40,6 +41,7 @@ public class ModerationService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final CurrentUserFacade currentUserFacade;
+    private final ReportCounter reportCounter;
 
     /** 이 횟수 이상 신고되면 관리자 확인 전까지 자동으로 숨긴다. */
     @Value("${app.community.auto-hide-report-threshold:5}")
@@ -56,11 +58,6 @@ public class ModerationService {
             throw new BusinessException(ErrorCode.INVALID_INPUT, "본인의 글은 신고할 수 없습니다.");
         }
 
-        if (reportRepository.existsByReporterIdAndTargetTypeAndTargetId(
-                reporter.getId(), request.getTargetType(), request.getTargetId())) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT, "이미 신고한 대상입니다.");
-        }
-
         Report report = Report.builder()
                 .reporter(reporter)
                 .targetType(request.getTargetType())
@@ -70,7 +67,13 @@ public class ModerationService {
                 .status(Report.ReportStatus.PENDING)
                 .build();
 
-        Report saved = reportRepository.save(report);
+        // 중복 신고는 미리 조회하지 않고 uk_report_reporter_target 에 맡긴다. 동시에 두 번 눌러도 한 건만 남는다.
+        Report saved;
+        try {
+            saved = reportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "이미 신고한 대상입니다.");
+        }
 
         applyAutoHideIfNeeded(request.getTargetType(), request.getTargetId());
 
@@ -92,8 +95,12 @@ public class ModerationService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("신고를 찾을 수 없습니다: " + reportId));
 
+        boolean wasCounted = report.getStatus() != Report.ReportStatus.REJECTED;
         report.resolve(status, note);
 
+        if (status == Report.ReportStatus.REJECTED && wasCounted) {
+            reportCounter.decrement(report.getTargetType(), report.getTargetId());
+        }
         if (status == Report.ReportStatus.ACCEPTED) {
             hideTarget(report.getTargetType(), report.getTargetId());
         }
@@ -134,7 +141,7 @@ public class ModerationService {
     // ====================
     // 내부 ====================
     private void applyAutoHideIfNeeded(Report.TargetType targetType, Long targetId) {
-        long reportCount = reportRepository.countActiveReports(targetType, targetId);
+        long reportCount = reportCounter.increment(targetType, targetId);
         if (reportCount >= autoHideThreshold) {
             log.warn("신고 누적으로 자동 숨김 처리 - type={}, id={}, 신고수={}", targetType, targetId, reportCount);
             hideTarget(targetType, targetId);
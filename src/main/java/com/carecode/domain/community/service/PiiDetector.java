@@ -0,0 +1,94 @@
+package com.carecode.domain.community.service;
+
+/**
+ * 글에 들어간 휴대전화 번호와 주민등록번호를 찾는다.
+ *
+ * <p>정규식 대신 숫자 덩어리를 한 번만 훑는다. 숫자 사이의 구분자(- . 공백) 하나는 같은 덩어리로 보고,
+ * 덩어리가 끝나면 자릿수와 앞자리로 판정한다. 10KB 글에서도 글자당 한 번씩만 본다.
+ * 덩어리 단위라 더 긴 숫자(계좌번호 등)의 일부는 걸리지 않는다.
+ *
+ * <p>유선 번호(02-, 031- 등)는 어린이집·병원 연락처를 나누는 글이 많아 잡지 않는다.
+ */
+final class PiiDetector {
+
+    enum Kind {
+        MOBILE_PHONE("휴대전화 번호"),
+        RESIDENT_REGISTRATION_NUMBER("주민등록번호");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+
+    /** 가장 긴 대상(주민등록번호 13자리)보다 길면 더 볼 필요가 없다. */
+    private static final int MAX_DIGITS = 13;
+
+    private PiiDetector() {
+    }
+
+    /** 처음 찾은 개인정보 종류. 없으면 null. */
+    static Kind find(CharSequence text) {
+        char[] digits = new char[MAX_DIGITS];
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            if (!isDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int count = 0;
+            int j = i;
+            while (j < length) {
+                char c = text.charAt(j);
+                if (isDigit(c)) {
+                    if (count < MAX_DIGITS) {
+                        digits[count] = c;
+                    }
+                    count++;
+                    j++;
+                } else if (isSeparator(c) && j + 1 < length && isDigit(text.charAt(j + 1))) {
+                    j++;
+                } else {
+                    break;
+                }
+            }
+            Kind kind = classify(digits, count);
+            if (kind != null) {
+                return kind;
+            }
+            i = j;
+        }
+        return null;
+    }
+
+    private static Kind classify(char[] d, int count) {
+        // 010·011·016·017·018·019 로 시작하는 10~11자리
+        if ((count == 10 || count == 11) && d[0] == '0' && d[1] == '1'
+                && (d[2] == '0' || d[2] == '1' || (d[2] >= '6' && d[2] <= '9'))) {
+            return Kind.MOBILE_PHONE;
+        }
+        // 생년월일 6자리 + 성별 1~8. 2020년 10월 이후 번호는 검증 숫자가 없어 마지막 자리는 보지 않는다.
+        if (count == 13) {
+            int month = (d[2] - '0') * 10 + (d[3] - '0');
+            int day = (d[4] - '0') * 10 + (d[5] - '0');
+            if (month >= 1 && month <= 12 && day >= 1 && day <= 31 && d[6] >= '1' && d[6] <= '8') {
+                return Kind.RESIDENT_REGISTRATION_NUMBER;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == '.' || c == ' ';
+    }
+}
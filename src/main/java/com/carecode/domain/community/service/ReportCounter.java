@@ -0,0 +1,117 @@
+package com.carecode.domain.community.service;
+
+import com.carecode.domain.community.entity.Report;
+import com.carecode.domain.community.repository.ReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 대상별 유효 신고 수를 Redis 카운터로 센다. 자동 숨김 판단에 쓴다.
+ *
+ * <p>예전에는 신고가 들어올 때마다 report 테이블을 COUNT 했다. 논란 글 하나에 신고가 몰리면 같은 대상의
+ * 행을 매번 다시 세면서 신고 API 가 느려졌다. 이제 INCR 한 번으로 끝나고, COUNT 는 키가 없을 때
+ * (대상의 첫 신고, 만료나 Redis 재시작으로 키를 잃은 뒤) 시작값을 맞출 때만 한다.
+ *
+ * <p>신고 트랜잭션이 롤백되면 올린 카운터를 되돌린다. 숨김 판단은 커밋 전에 해야 해서 커밋 뒤로 미룰 수 없다.
+ *
+ * <p>Redis 를 쓸 수 없으면 예전처럼 COUNT 로 판단한다. 신고 접수 자체가 막히면 안 된다.
+ */
+@Slf4j
+@Component
+public class ReportCounter {
+
+    static final String KEY_PREFIX = "community:reports:";
+
+    /** 키가 있을 때만 올린다. 없으면 nil 을 돌려줘 DB 에서 시작값을 맞추게 한다. */
+    static final DefaultRedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('incr', KEYS[1]) end return false",
+            Long.class);
+
+    /**
+     * 키가 없으면 ARGV[1](이번 신고를 뺀 DB 값)로 만들고, 있든 없든 하나 올린다. 한 번에 돌므로 COUNT 와 시작값
+     * 사이에 다른 신고가 끼어도 그 신고는 자기 INCR 로 한 번만 더해진다.
+     */
+    static final DefaultRedisScript<Long> SEED_AND_INCREMENT = new DefaultRedisScript<>(
+            "redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) return redis.call('incr', KEYS[1])",
+            Long.class);
+
+    /** 키가 있을 때만 줄인다. 없는 키를 DECR 하면 -1 로 생겨 이후 신고가 하나씩 덜 세어진다. */
+    static final DefaultRedisScript<Long> DECREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('decr', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReportRepository reportRepository;
+    private final Duration ttl;
+
+    public ReportCounter(StringRedisTemplate redisTemplate, ReportRepository reportRepository,
+                         @Value("${app.community.moderation.report-counter-ttl:P90D}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.reportRepository = reportRepository;
+        this.ttl = ttl;
+    }
+
+    /** 방금 저장한 신고를 반영한 유효 신고 수. 신고가 DB 에 flush 된 뒤에 불러야 한다. */
+    public long increment(Report.TargetType targetType, Long targetId) {
+        String key = key(targetType, targetId);
+        try {
+            Long count = redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key));
+            if (count == null) {
+                // 키가 없었다. 이번 신고는 스크립트의 INCR 로 더하므로 DB 값에서 뺀다.
+                long others = reportRepository.countActiveReports(targetType, targetId) - 1;
+                count = redisTemplate.execute(SEED_AND_INCREMENT, List.of(key),
+                        String.valueOf(Math.max(others, 0)), String.valueOf(ttl.toMillis()));
+                if (count == null) {
+                    throw new IllegalStateException("INCR 응답 없음");
+                }
+            }
+            undoOnRollback(targetType, targetId);
+            return count;
+        } catch (RuntimeException e) {
+            log.warn("신고 카운터 사용 불가 - DB 로 셉니다. key={}: {}", key, e.getMessage());
+            return reportRepository.countActiveReports(targetType, targetId);
+        }
+    }
+
+    /** 반려된 신고를 뺀다. 키가 없으면 다음 신고 때 DB 에서 다시 맞추므로 건드리지 않는다. */
+    public void decrement(Report.TargetType targetType, Long targetId) {
+        String key = key(targetType, targetId);
+        try {
+            redisTemplate.execute(DECREMENT_IF_EXISTS, List.of(key));
+        } catch (RuntimeException e) {
+            log.warn("신고 카운터 감소 실패 - 키를 지워 다음 신고 때 다시 셉니다. key={}: {}", key, e.getMessage());
+            try {
+                redisTemplate.delete(key);
+            } catch (RuntimeException ignored) {
+                // Redis 가 죽어 있으면 어차피 increment 가 DB 로 센다.
+            }
+        }
+    }
+
+    /** 신고가 롤백되면 이미 올린 카운터만 남아 다음 신고들이 하나씩 더 세어진다. */
+    private void undoOnRollback(Report.TargetType targetType, Long targetId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    decrement(targetType, targetId);
+                }
+            }
+        });
+    }
+
+    private static String key(Report.TargetType targetType, Long targetId) {
+        return KEY_PREFIX + targetType.name().toLowerCase() + ":" + targetId;
+    }
+}
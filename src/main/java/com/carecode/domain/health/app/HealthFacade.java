@@ -15,8 +15,11 @@ import com.carecode.core.exception.HospitalNotFoundException;
 import com.carecode.core.exception.HospitalReviewNotFoundException;
 import com.carecode.core.exception.HospitalReviewAccessDeniedException;
 import com.carecode.domain.health.service.HealthService;
+import com.carecode.domain.health.service.HospitalLikeService;
+import com.carecode.domain.health.service.PopularHospitalRanking;
+import com.carecode.core.search.SpatialSearchSupport;
+import com.carecode.core.util.BoundingBox;
 import com.carecode.domain.health.entity.Hospital;
-import com.carecode.domain.health.entity.HospitalLike;
 import com.carecode.domain.health.entity.HospitalReview;
 import com.carecode.domain.health.repository.HospitalRepository;
 import com.carecode.domain.health.repository.HospitalLikeRepository;
@@ -36,12 +39,18 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class HealthFacade {
 
+    /** 근처 병원 한 번에 돌려줄 최대 건수. 도심에서 반경을 크게 잡으면 수천 건이 한 응답에 실렸다. */
+    static final int MAX_NEARBY_HOSPITALS = 200;
+
     private final HealthService healthService;
     private final HospitalRepository hospitalRepository;
     private final HospitalLikeRepository hospitalLikeRepository;
     private final HospitalReviewRepository hospitalReviewRepository;
     private final HospitalMapper hospitalMapper;
     private final HospitalReviewMapper hospitalReviewMapper;
+    private final SpatialSearchSupport spatialSearchSupport;
+    private final HospitalLikeService hospitalLikeService;
+    private final PopularHospitalRanking popularHospitalRanking;
 
     // ==================== 건강 기록 관리 ====================
     // 트랜잭션은 Service 계층에서 관리하므로 Facade에서는 제거
@@ -162,39 +171,15 @@ public class HealthFacade {
     }
 
     public boolean likeHospital(Long id, Long userId) {
-        Hospital hospital = hospitalRepository.findById(id)
-                .orElseThrow(() -> new HospitalNotFoundException(id));
-        
-        // 이미 좋아요를 누른 경우 false 반환
-        if (hospitalLikeRepository.existsByHospitalIdAndUserId(id, userId)) {
-            return false;
-        }
-        
-        HospitalLike like = HospitalLike.builder()
-                .hospital(hospital)
-                .userId(userId)
-                .createdAt(java.time.LocalDateTime.now())
-                .build();
-        hospitalLikeRepository.save(like);
-        return true;
+        return hospitalLikeService.like(id, userId);
     }
 
     public boolean unlikeHospital(Long id, Long userId) {
-        hospitalRepository.findById(id).orElseThrow(() -> new HospitalNotFoundException(id));
-        
-        // 좋아요를 누르지 않은 경우 false 반환
-        if (!hospitalLikeRepository.existsByHospitalIdAndUserId(id, userId)) {
-            return false;
-        }
-        
-        hospitalLikeRepository.deleteByHospitalIdAndUserId(id, userId);
-        return true;
+        return hospitalLikeService.unlike(id, userId);
     }
 
     public long getLikeCount(Long id) {
-        hospitalRepository.findById(id).orElseThrow(() -> new HospitalNotFoundException(id));
-
-        return hospitalLikeRepository.countByHospitalId(id);
+        return hospitalRepository.findLikeCountById(id).orElseThrow(() -> new HospitalNotFoundException(id));
     }
 
     /** 현재 사용자가 이 병원을 찜했는지 여부. 이 값이 없으면 클라이언트가 찜 상태를 화면에 유지할 수 없어 새로고침마다 초기화된다. */
@@ -204,11 +189,18 @@ public class HealthFacade {
         return hospitalLikeRepository.existsByHospitalIdAndUserId(id, userId);
     }
 
-    public List<HospitalInfoResponse> getNearbyHospitals(double lat, double lng, double radius) {
-        // 반경을 미터 단위로 변환 (km -> m)
-        double radiusInMeters = radius * 1000;
-        
-        return hospitalRepository.findNearby(lat, lng, radiusInMeters).stream()
+    /** 반경(km) 안의 병원을 가까운 순으로 limit 건까지 돌려준다. */
+    public List<HospitalInfoResponse> getNearbyHospitals(double lat, double lng, double radius, int limit) {
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_NEARBY_HOSPITALS);
+        BoundingBox box = BoundingBox.around(lat, lng, radius);
+
+        List<Hospital> hospitals = spatialSearchSupport.isEnabled()
+                // 공간 함수의 거리는 미터 단위다 (km -> m)
+                ? hospitalRepository.findNearbyWithinEnvelope(SpatialSearchSupport.point(lat, lng),
+                        SpatialSearchSupport.envelope(box), radius * 1000, safeLimit)
+                : hospitalRepository.findNearbyWithinBoundingBox(lat, lng, radius,
+                        box.minLat(), box.maxLat(), box.minLng(), box.maxLng(), safeLimit);
+        return hospitals.stream()
                 .map(hospitalMapper::toResponse)
                 .toList();
     }
@@ -219,12 +211,8 @@ public class HealthFacade {
                 .toList();
     }
 
-    public List<HospitalInfoResponse> getPopularHospitals(int limit) {
-        int safeLimit = Math.max(limit, 1);
-        return hospitalRepository.findPopularHospitals(PageRequest.of(0, safeLimit)).stream()
-                .limit(safeLimit)
-                .map(hospitalMapper::toResponse)
-                .toList();
+    public List<HospitalInfoResponse> getPopularHospitals(String type, String region, int limit) {
+        return popularHospitalRanking.top(type, region, limit);
     }
 
     // ====================
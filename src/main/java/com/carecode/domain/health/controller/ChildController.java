@@ -112,7 +112,8 @@ public class ChildController {
     @LogExecutionTime
     @Operation(summary = "성장 곡선 조회",
             description = "기록된 키/몸무게를 WHO 성장 표준과 비교한 백분위와 함께 반환"
-                    + "백분위는 참고 지표이며 진단은 의료진 판단을 따릅니다.")
+                    + "백분위는 참고 지표이며 진단은 의료진 판단을 따릅니다. 체중·신장만 지원하며, "
+                    + "WHO 표 기준점(6개월 간격) 사이 개월은 보간한 근사입니다(referenceInterpolated).")
     public ResponseEntity<List<GrowthPointResponse>> getGrowthChart(
             @PathVariable Long childId,
             @Parameter(description = "지표 (WEIGHT 또는 HEIGHT)")
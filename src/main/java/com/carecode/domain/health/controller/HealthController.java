@@ -224,12 +224,13 @@ public class HealthController extends BaseController {
     @PreAuthorize("permitAll()")
     @GetMapping("/hospitals/nearby")
     @LogExecutionTime
-    @Operation(summary = "근처 병원 조회", description = "위치 기반으로 근처 병원 조회")
+    @Operation(summary = "근처 병원 조회", description = "위치 기반으로 근처 병원을 가까운 순으로 조회")
     public ResponseEntity<List<HospitalInfoResponse>> getNearbyHospitals(@Parameter(description = "위도", required = true) @RequestParam double lat,
                                                                          @Parameter(description = "경도", required = true) @RequestParam double lng,
-                                                                         @Parameter(description = "반경(km)", required = true) @RequestParam double radius) {
+                                                                         @Parameter(description = "반경(km)", required = true) @RequestParam double radius,
+                                                                         @Parameter(description = "가까운 순 최대 건수 (최대 200)") @RequestParam(defaultValue = "200") int limit) {
 
-        List<HospitalInfoResponse> hospitals = healthFacade.getNearbyHospitals(lat, lng, radius);
+        List<HospitalInfoResponse> hospitals = healthFacade.getNearbyHospitals(lat, lng, radius, limit);
 
         return ResponseEntity.ok(hospitals);
     }
@@ -308,10 +309,12 @@ public class HealthController extends BaseController {
     @PreAuthorize("permitAll()")
     @GetMapping("/hospitals/popular")
     @LogExecutionTime
-    @Operation(summary = "인기 병원 조회", description = "좋아요가 많은 인기 병원들 조회")
-    public ResponseEntity<List<HospitalInfoResponse>> getPopularHospitals(@Parameter(description = "조회할 개수", required = false) @RequestParam(defaultValue = "10") int limit) {
+    @Operation(summary = "인기 병원 조회", description = "좋아요가 많은 인기 병원들 조회. 진료과목·지역(시도)으로 좁힐 수 있다")
+    public ResponseEntity<List<HospitalInfoResponse>> getPopularHospitals(@Parameter(description = "조회할 개수 (최대 50)", required = false) @RequestParam(defaultValue = "10") int limit,
+                                                                          @Parameter(description = "진료과목", required = false) @RequestParam(required = false) String type,
+                                                                          @Parameter(description = "지역 (주소 앞부분, 예: 서울특별시)", required = false) @RequestParam(required = false) String region) {
 
-        List<HospitalInfoResponse> hospitals = healthFacade.getPopularHospitals(limit);
+        List<HospitalInfoResponse> hospitals = healthFacade.getPopularHospitals(type, region, limit);
 
         return ResponseEntity.ok(hospitals);
     }
@@ -1,5 +1,6 @@
 package com.carecode.domain.health.dto.response;
 
+import com.carecode.core.storage.ImageDerivatives;
 import com.carecode.domain.health.entity.HealthRecordAttachment;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,8 @@ public class AttachmentResponse {
     private final Long id;
     private final Long healthRecordId;
     private final String fileUrl;
+    /** 목록에서 쓸 작은 이미지. 이미지가 아니면 null. */
+    private final String thumbnailUrl;
     private final String fileName;
     private final String fileType;
     private final Long fileSize;
@@ -27,6 +30,7 @@ public class AttachmentResponse {
                 .healthRecordId(attachment.getHealthRecord() != null
                         ? attachment.getHealthRecord().getId() : null)
                 .fileUrl(attachment.getFileUrl())
+                .thumbnailUrl(ImageDerivatives.thumbnailUrl(attachment.getFileUrl(), attachment.getFileType()))
                 .fileName(attachment.getFileName())
                 .fileType(attachment.getFileType())
                 .fileSize(attachment.getFileSize())
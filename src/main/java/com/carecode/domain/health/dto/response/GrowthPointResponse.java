@@ -7,7 +7,10 @@ import lombok.Getter;
 
 import java.time.LocalDate;
 
-/** 성장 곡선의 한 지점. 백분위는 성별/생년월일이 없거나 WHO 표준 적용 범위(0~60개월)를 벗어나면 null 이다. */
+/**
+ * 성장 곡선의 한 지점. 백분위는 성별/생년월일이 없거나 WHO 표준 적용 범위(0~60개월)를 벗어나면 null 이다.
+ * referenceInterpolated 가 true 면 그 개월의 기준값이 WHO 표 기준점(6개월 간격) 사이를 보간한 근사다.
+ */
 @Getter
 @Builder
 public class GrowthPointResponse {
@@ -23,6 +26,7 @@ public class GrowthPointResponse {
     private final Double medianValue;
     private final String interpretation;
     private final Boolean needsAttention;
+    private final Boolean referenceInterpolated;
 
     public static GrowthPointResponse of(LocalDate recordDate,
                                          int ageMonths,
@@ -41,7 +45,8 @@ public class GrowthPointResponse {
                     .zScore(percentileResult.zScore())
                     .medianValue(percentileResult.medianValue())
                     .interpretation(percentileResult.interpretation())
-                    .needsAttention(percentileResult.needsAttention());
+                    .needsAttention(percentileResult.needsAttention())
+                    .referenceInterpolated(percentileResult.interpolated());
         }
 
         return builder.build();
@@ -29,6 +29,7 @@ public class HospitalInfoResponse {
     private String phoneNumber;
     private Double latitude;
     private Double longitude;
+    private long likeCount;
     private String createdAt;
     private String updatedAt;
 }
@@ -1,7 +1,11 @@
 package com.carecode.domain.health.entity;
 
+import com.carecode.core.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -9,6 +13,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.HOSPITAL)
 @Table(name = "TBL_HOSPITAL")
 @Getter
 @Setter
@@ -46,6 +52,16 @@ public class Hospital {
     @Column
     private String phone;
 
+    /**
+     * 좋아요 수. 인기 병원 정렬을 좋아요 테이블 GROUP BY 없이 하려고 둔 비정규화 값이다.
+     * 좋아요·취소가 UPDATE 한 문장으로 올리고 내리므로 엔티티 저장이 덮어쓰지 않게 쓰기에서 뺀다.
+     * 그 UPDATE 는 병원 테이블을 동기화 공간으로 선언해 이 인스턴스의 병원 캐시를 비우고, 다른 인스턴스는 좋아요 서비스가
+     * 알려서 그 병원 하나만 지운다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "LIKE_COUNT", nullable = false, insertable = false, updatable = false)
+    private long likeCount;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -25,15 +25,56 @@ public final class GrowthPercentileCalculator {
                     measuredValue,
                     standard.m(),
                     round(zScore, 2),
-                    round(percentile, 1));
+                    round(percentile, 1),
+                    !GrowthStandardTable.isPublished(metric, sex, ageMonths));
         });
     }
 
+    /**
+     * 한 아이의 측정 이력을 한 번에 계산한다. 결과는 입력과 같은 순서이며, 계산할 수 없는 칸
+     * (측정값 0 이하, 적용 범위 밖)은 null 이다. 기록마다 표를 찾고 LMS 객체를 만드는 대신
+     * 지표·성별 배열을 한 번 잡아 두고 개월 수로 바로 접근한다.
+     */
+    public static GrowthPercentileResult[] calculateAll(GrowthMetric metric,
+                                                       Sex sex,
+                                                       int[] ageMonths,
+                                                       double[] measuredValues) {
+        if (ageMonths.length != measuredValues.length) {
+            throw new IllegalArgumentException("개월 수와 측정값의 길이가 다릅니다");
+        }
+
+        GrowthPercentileResult[] results = new GrowthPercentileResult[ageMonths.length];
+        GrowthStandardTable.Series series = GrowthStandardTable.series(metric, sex);
+        if (series == null) {
+            return results;
+        }
+
+        for (int i = 0; i < ageMonths.length; i++) {
+            int age = ageMonths[i];
+            double value = measuredValues[i];
+            if (value <= 0 || !series.covers(age)) {
+                continue;
+            }
+
+            double median = series.m[age];
+            double zScore = toZScore(value, series.l[age], median, series.s[age]);
+            results[i] = new GrowthPercentileResult(
+                    metric,
+                    age,
+                    value,
+                    median,
+                    round(zScore, 2),
+                    round(normalCdf(zScore) * 100.0, 1),
+                    !series.published[age]);
+        }
+        return results;
+    }
+
     private static double toZScore(double value, GrowthStandard standard) {
-        double l = standard.l();
-        double m = standard.m();
-        double s = standard.s();
+        return toZScore(value, standard.l(), standard.m(), standard.s());
+    }
 
+    private static double toZScore(double value, double l, double m, double s) {
         if (Math.abs(l) < 1e-9) {
             return Math.log(value / m) / s;
         }
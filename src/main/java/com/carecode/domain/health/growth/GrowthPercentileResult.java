@@ -1,13 +1,17 @@
 package com.carecode.domain.health.growth;
 
-/** 성장 백분위 계산 결과. */
+/**
+ * 성장 백분위 계산 결과. interpolated 면 그 개월의 기준값이 WHO 표 기준점 사이를 보간한 근사라
+ * 발표된 월별 표로 계산한 값과 조금 다를 수 있다.
+ */
 public record GrowthPercentileResult(
         GrowthMetric metric,
         int ageMonths,
         double measuredValue,
         double medianValue,
         double zScore,
-        double percentile) {
+        double percentile,
+        boolean interpolated) {
 
     /** 임상적 주의가 필요한 범위인지. WHO 는 |Z| &gt; 2 를 주의 구간으로 본다. */
     public boolean needsAttention() {
@@ -1,113 +1,151 @@
 package com.carecode.domain.health.growth;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-/** WHO 아동 성장 표준(0~60개월) LMS 표. 출처: WHO Child Growth Standards (weight-for-age. */
+/**
+ * WHO 아동 성장 표준(0~60개월) LMS 표. 출처: WHO Child Growth Standards (weight-for-age, length/height-for-age).
+ *
+ * <p>다루는 범위는 좁다. 지표는 체중·신장 두 가지뿐이고(머리둘레·BMI 없음), 원본은 WHO 표의 6개월 간격 기준점이다.
+ * 사이 개월은 적재 시 선형 보간한 근사라 WHO 가 발표한 월별 표와 조금 다르다. 보간한 칸은 {@link #isPublished}
+ * 가 false 이고 결과에도 {@link GrowthPercentileResult#interpolated()} 로 드러낸다. 검증된 월별 행을 리소스에 넣으면
+ * 그 개월은 보간 없이 쓰인다.
+ */
 public final class GrowthStandardTable {
 
-    /** 남아 체중(kg) for age. */
-    private static final List<GrowthStandard> BOY_WEIGHT = List.of(
-            new GrowthStandard(0, 0.3487, 3.3464, 0.14602),
-            new GrowthStandard(6, 0.1738, 7.9340, 0.12385),
-            new GrowthStandard(12, 0.0402, 9.6479, 0.12106),
-            new GrowthStandard(18, -0.0756, 10.9385, 0.12237),
-            new GrowthStandard(24, -0.1733, 12.1515, 0.12456),
-            new GrowthStandard(30, -0.2565, 13.3000, 0.12718),
-            new GrowthStandard(36, -0.3277, 14.3429, 0.12988),
-            new GrowthStandard(42, -0.3891, 15.3160, 0.13257),
-            new GrowthStandard(48, -0.4425, 16.3497, 0.13519),
-            new GrowthStandard(54, -0.4894, 17.3140, 0.13774),
-            new GrowthStandard(60, -0.5308, 18.3074, 0.14021));
-
-    /** 여아 체중(kg) for age. */
-    private static final List<GrowthStandard> GIRL_WEIGHT = List.of(
-            new GrowthStandard(0, 0.3809, 3.2322, 0.14171),
-            new GrowthStandard(6, 0.1002, 7.2970, 0.12619),
-            new GrowthStandard(12, -0.0756, 8.9481, 0.12839),
-            new GrowthStandard(18, -0.1972, 10.2315, 0.13089),
-            new GrowthStandard(24, -0.2890, 11.4775, 0.13341),
-            new GrowthStandard(30, -0.3624, 12.6489, 0.13587),
-            new GrowthStandard(36, -0.4232, 13.7626, 0.13827),
-            new GrowthStandard(42, -0.4750, 14.8442, 0.14061),
-            new GrowthStandard(48, -0.5199, 15.9036, 0.14290),
-            new GrowthStandard(54, -0.5594, 16.9481, 0.14515),
-            new GrowthStandard(60, -0.5946, 17.9873, 0.14738));
-
-    /** 남아 신장(cm) for age. */
-    private static final List<GrowthStandard> BOY_HEIGHT = List.of(
-            new GrowthStandard(0, 1.0, 49.8842, 0.03795),
-            new GrowthStandard(6, 1.0, 67.6236, 0.03165),
-            new GrowthStandard(12, 1.0, 75.7488, 0.03317),
-            new GrowthStandard(18, 1.0, 82.2587, 0.03468),
-            new GrowthStandard(24, 1.0, 87.8161, 0.03610),
-            new GrowthStandard(30, 1.0, 92.1131, 0.03765),
-            new GrowthStandard(36, 1.0, 96.0835, 0.03902),
-            new GrowthStandard(42, 1.0, 99.8003, 0.04026),
-            new GrowthStandard(48, 1.0, 103.3273, 0.04141),
-            new GrowthStandard(54, 1.0, 106.7050, 0.04250),
-            new GrowthStandard(60, 1.0, 110.0000, 0.04352));
-
-    /** 여아 신장(cm) for age. */
-    private static final List<GrowthStandard> GIRL_HEIGHT = List.of(
-            new GrowthStandard(0, 1.0, 49.1477, 0.03790),
-            new GrowthStandard(6, 1.0, 65.7311, 0.03395),
-            new GrowthStandard(12, 1.0, 74.0150, 0.03568),
-            new GrowthStandard(18, 1.0, 80.7079, 0.03737),
-            new GrowthStandard(24, 1.0, 86.4153, 0.03894),
-            new GrowthStandard(30, 1.0, 90.9915, 0.04039),
-            new GrowthStandard(36, 1.0, 95.0515, 0.04171),
-            new GrowthStandard(42, 1.0, 98.7680, 0.04291),
-            new GrowthStandard(48, 1.0, 102.2665, 0.04401),
-            new GrowthStandard(54, 1.0, 105.6003, 0.04503),
-            new GrowthStandard(60, 1.0, 108.7900, 0.04598));
-
-    private static final Map<Key, List<GrowthStandard>> TABLES = Map.of(
-            new Key(GrowthMetric.WEIGHT, Sex.MALE), BOY_WEIGHT,
-            new Key(GrowthMetric.WEIGHT, Sex.FEMALE), GIRL_WEIGHT,
-            new Key(GrowthMetric.HEIGHT, Sex.MALE), BOY_HEIGHT,
-            new Key(GrowthMetric.HEIGHT, Sex.FEMALE), GIRL_HEIGHT);
+    static final String RESOURCE = "growth/who-lms.csv";
+
+    /**
+     * 지표·성별마다 개월 수를 인덱스로 하는 배열. 조회가 리스트 순회와 보간이 아니라 배열 접근 한 번이 된다.
+     * 원본 표에 없는 개월은 적재 시점에 한 번만 보간해 둔다.
+     */
+    private static final Map<GrowthMetric, Map<Sex, Series>> TABLES = load(RESOURCE);
 
     private GrowthStandardTable() {
     }
 
-    /** 해당 연령의 LMS 값을 구한다. 표에 없는 개월 수는 인접 구간을 선형 보간한다. */
+    /** 해당 연령의 LMS 값을 구한다. 표에 없는 개월 수는 인접 구간을 선형 보간한 근사값이다. */
     public static Optional<GrowthStandard> lookup(GrowthMetric metric, Sex sex, int ageMonths) {
-        List<GrowthStandard> table = TABLES.get(new Key(metric, sex));
-        if (table == null || ageMonths < 0) {
+        Series series = series(metric, sex);
+        if (series == null || !series.covers(ageMonths)) {
+            // 60개월을 넘어가면 WHO 성장 표준의 적용 범위를 벗어난다.
             return Optional.empty();
         }
+        return Optional.of(series.at(ageMonths));
+    }
 
-        int maxAge = table.get(table.size() - 1).ageMonths();
-        if (ageMonths > maxAge) {
-            // 60개월을 넘어가면 WHO 성장 표준의 적용 범위를 벗어난다.
-            return Optional.empty();
+    /** 그 개월의 LMS 가 리소스에 있던 행인지. false 면 보간한 근사값이다. */
+    public static boolean isPublished(GrowthMetric metric, Sex sex, int ageMonths) {
+        Series series = series(metric, sex);
+        return series != null && series.covers(ageMonths) && series.published[ageMonths];
+    }
+
+    static Series series(GrowthMetric metric, Sex sex) {
+        Map<Sex, Series> bySex = TABLES.get(metric);
+        return bySex == null ? null : bySex.get(sex);
+    }
+
+    /** 개월 수 → L, M, S. 객체 없이 원시 배열로 들고 있어 일괄 계산에서 박싱·할당이 없다. */
+    static final class Series {
+        final double[] l;
+        final double[] m;
+        final double[] s;
+        /** 리소스에 있던 개월. 나머지는 보간한 칸이다. */
+        final boolean[] published;
+
+        private Series(double[] l, double[] m, double[] s, boolean[] published) {
+            this.l = l;
+            this.m = m;
+            this.s = s;
+            this.published = published;
+        }
+
+        boolean covers(int ageMonths) {
+            return ageMonths >= 0 && ageMonths < m.length;
+        }
+
+        GrowthStandard at(int ageMonths) {
+            return new GrowthStandard(ageMonths, l[ageMonths], m[ageMonths], s[ageMonths]);
         }
 
-        for (int i = 0; i < table.size(); i++) {
-            GrowthStandard current = table.get(i);
-            if (current.ageMonths() == ageMonths) {
-                return Optional.of(current);
+        /** 개월 순으로 정렬된 기준점 사이를 채워 0개월부터 마지막 기준점까지 빈틈없는 배열을 만든다. */
+        static Series densify(List<GrowthStandard> points) {
+            points.sort(Comparator.comparingInt(GrowthStandard::ageMonths));
+            if (points.get(0).ageMonths() != 0) {
+                throw new IllegalStateException("성장 표준은 0개월부터 시작해야 합니다: " + points.get(0));
             }
-            if (current.ageMonths() > ageMonths) {
-                GrowthStandard previous = table.get(i - 1);
-                return Optional.of(interpolate(previous, current, ageMonths));
+
+            int maxAge = points.get(points.size() - 1).ageMonths();
+            double[] l = new double[maxAge + 1];
+            double[] m = new double[maxAge + 1];
+            double[] s = new double[maxAge + 1];
+            boolean[] published = new boolean[maxAge + 1];
+
+            for (int i = 0; i < points.size(); i++) {
+                GrowthStandard low = points.get(i);
+                published[low.ageMonths()] = true;
+                GrowthStandard high = i + 1 < points.size() ? points.get(i + 1) : low;
+                int span = high.ageMonths() - low.ageMonths();
+                int until = span == 0 ? low.ageMonths() : high.ageMonths() - 1;
+
+                for (int age = low.ageMonths(); age <= until; age++) {
+                    double ratio = span == 0 ? 0.0 : (double) (age - low.ageMonths()) / span;
+                    l[age] = low.l() + (high.l() - low.l()) * ratio;
+                    m[age] = low.m() + (high.m() - low.m()) * ratio;
+                    s[age] = low.s() + (high.s() - low.s()) * ratio;
+                }
             }
+            return new Series(l, m, s, published);
         }
-        return Optional.empty();
     }
 
-    private static GrowthStandard interpolate(GrowthStandard low, GrowthStandard high, int ageMonths) {
-        double span = high.ageMonths() - low.ageMonths();
-        double ratio = (ageMonths - low.ageMonths()) / span;
-        return new GrowthStandard(
-                ageMonths,
-                low.l() + (high.l() - low.l()) * ratio,
-                low.m() + (high.m() - low.m()) * ratio,
-                low.s() + (high.s() - low.s()) * ratio);
-    }
+    /** 표가 없으면 백분위가 조용히 전부 null 이 되므로 클래스 로딩 시점에 실패시킨다. */
+    static Map<GrowthMetric, Map<Sex, Series>> load(String resource) {
+        Map<GrowthMetric, Map<Sex, List<GrowthStandard>>> points = new EnumMap<>(GrowthMetric.class);
+
+        try (InputStream in = GrowthStandardTable.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("성장 표준 리소스가 없습니다: " + resource);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = trimmed.split(",");
+                if (parts.length != 6) {
+                    throw new IllegalStateException("성장 표준 행 형식이 잘못되었습니다: " + trimmed);
+                }
+                points.computeIfAbsent(GrowthMetric.valueOf(parts[0].trim()), k -> new EnumMap<>(Sex.class))
+                        .computeIfAbsent(Sex.valueOf(parts[1].trim()), k -> new ArrayList<>())
+                        .add(new GrowthStandard(
+                                Integer.parseInt(parts[2].trim()),
+                                Double.parseDouble(parts[3].trim()),
+                                Double.parseDouble(parts[4].trim()),
+                                Double.parseDouble(parts[5].trim())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("성장 표준 리소스를 읽지 못했습니다: " + resource, e);
+        }
 
-    private record Key(GrowthMetric metric, Sex sex) {
+        Map<GrowthMetric, Map<Sex, Series>> tables = new EnumMap<>(GrowthMetric.class);
+        points.forEach((metric, bySex) -> {
+            Map<Sex, Series> series = new EnumMap<>(Sex.class);
+            bySex.forEach((sex, list) -> series.put(sex, Series.densify(list)));
+            tables.put(metric, series);
+        });
+        return tables;
     }
 }
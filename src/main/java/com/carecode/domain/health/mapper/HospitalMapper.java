@@ -18,6 +18,7 @@ public class HospitalMapper implements ResponseMapper<Hospital, HospitalInfoResp
                 .phoneNumber(hospital.getPhone())
                 .latitude(hospital.getLatitude())
                 .longitude(hospital.getLongitude())
+                .likeCount(hospital.getLikeCount())
                 .createdAt(hospital.getCreatedAt() != null ? hospital.getCreatedAt().toString() : null)
                 .updatedAt(hospital.getUpdatedAt() != null ? hospital.getUpdatedAt().toString() : null)
                 .build();
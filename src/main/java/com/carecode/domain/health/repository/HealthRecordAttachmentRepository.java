@@ -2,7 +2,10 @@ package com.carecode.domain.health.repository;
 
 import com.carecode.domain.health.entity.HealthRecord;
 import com.carecode.domain.health.entity.HealthRecordAttachment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +15,9 @@ public interface HealthRecordAttachmentRepository extends JpaRepository<HealthRe
     List<HealthRecordAttachment> findByHealthRecordIdOrderByDisplayOrderAsc(Long healthRecordId);
 
     long countByHealthRecordId(Long healthRecordId);
+
+    /** 내 데이터 내려받기용 keyset 페이지. id 오름차순으로 afterId 다음부터 읽는다. */
+    @Query("SELECT a FROM HealthRecordAttachment a WHERE a.healthRecord.user.id = :userId AND a.id > :afterId ORDER BY a.id")
+    List<HealthRecordAttachment> findExportPage(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                Pageable pageable);
 }
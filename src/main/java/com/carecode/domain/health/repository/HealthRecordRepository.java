@@ -71,4 +71,10 @@ public interface HealthRecordRepository extends JpaRepository<HealthRecord, Long
 
     // 아동별 특정 타입의 건강 기록 조회
     List<HealthRecord> findByChildIdAndRecordType(Long childId, HealthRecord.RecordType recordType);
-} 
\ No newline at end of file
+
+    /** 내 데이터 내려받기용 keyset 페이지. id 오름차순으로 afterId 다음부터 읽는다. */
+    @Query("SELECT r FROM HealthRecord r WHERE r.user.id = :userId AND r.id > :afterId ORDER BY r.id")
+    List<HealthRecord> findExportPage(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    long countByUserId(Long userId);
+}
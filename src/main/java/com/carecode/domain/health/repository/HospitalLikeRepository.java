@@ -1,12 +1,27 @@
 package com.carecode.domain.health.repository;
 
-import com.carecode.domain.health.entity.Hospital;
 import com.carecode.domain.health.entity.HospitalLike;
-import com.carecode.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface HospitalLikeRepository extends JpaRepository<HospitalLike, Long> {
     long countByHospitalId(Long hospitalId);
     boolean existsByHospitalIdAndUserId(Long hospitalId, Long userId);
-    void deleteByHospitalIdAndUserId(Long hospitalId, Long userId);
-} 
\ No newline at end of file
+
+    /** 이미 있으면 0, 새로 넣었으면 1. 확인 후 저장하면 동시 요청 둘이 모두 통과해 카운터가 두 번 오른다. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_HOSPITAL_LIKE"))
+    @Query(value = "INSERT IGNORE INTO TBL_HOSPITAL_LIKE (HOSPITAL_ID, USER_ID, CREATED_AT) "
+           + "VALUES (:hospitalId, :userId, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertIfAbsent(@Param("hospitalId") Long hospitalId, @Param("userId") Long userId);
+
+    /** 지운 건수. 0 이면 좋아요가 없었던 것이다. */
+    @Modifying
+    @Query("DELETE FROM HospitalLike hl WHERE hl.hospital.id = :hospitalId AND hl.userId = :userId")
+    int deleteByHospitalIdAndUserId(@Param("hospitalId") Long hospitalId, @Param("userId") Long userId);
+}
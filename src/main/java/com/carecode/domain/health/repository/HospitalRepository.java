@@ -1,8 +1,13 @@
 package com.carecode.domain.health.repository;
 
+import com.carecode.core.search.suggest.SuggestionRow;
 import com.carecode.domain.health.entity.Hospital;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
@@ -14,17 +19,102 @@ public interface HospitalRepository extends JpaRepository<Hospital, Long> {
     /** 공공데이터 동기화 시 중복 적재 방지용 조회. */
     Optional<Hospital> findByExternalCode(String externalCode);
 
-    @Query("SELECT h FROM Hospital h WHERE FUNCTION('ST_Distance_Sphere', point(h.longitude, h.latitude), point(:lng, :lat)) <= :radius")
-    List<Hospital> findNearby(@Param("lat") double lat, @Param("lng") double lng, @Param("radius") double radius);
+    /**
+     * 반경 내 병원을 가까운 순으로 최대 limit 건 조회한다. 반경은 미터 단위다.
+     *
+     * <p>MBRContains 가 SPATIAL INDEX(R-tree)로 사각 범위 안의 후보만 꺼내고, 정확한 구면 거리는 그 후보에만
+     * 계산한다. 예전 쿼리는 모든 행에 ST_Distance_Sphere 를 계산하는 풀 스캔이었다.
+     */
+    @Query(value = "SELECT h.* FROM TBL_HOSPITAL h "
+           + "WHERE MBRContains(ST_GeomFromText(:envelope, 4326), h.LOCATION) "
+           + "  AND h.LATITUDE IS NOT NULL "
+           + "  AND ST_Distance_Sphere(h.LOCATION, ST_GeomFromText(:origin, 4326)) <= :radius "
+           + "ORDER BY ST_Distance_Sphere(h.LOCATION, ST_GeomFromText(:origin, 4326)) "
+           + "LIMIT :limit",
+           nativeQuery = true)
+    List<Hospital> findNearbyWithinEnvelope(@Param("origin") String origin,
+                                            @Param("envelope") String envelope,
+                                            @Param("radius") double radiusMeters,
+                                            @Param("limit") int limit);
+
+    /**
+     * 공간 인덱스가 없는 DB(H2 등)용. 위경도 BETWEEN 으로 후보를 좁힌 뒤 하버사인 거리(km)로 거른다.
+     * 결과는 {@link #findNearbyWithinEnvelope} 와 같다.
+     */
+    @Query(value = "SELECT hd.* FROM ("
+           + "  SELECT h.*, (6371 * acos(LEAST(1, "
+           + "    cos(radians(:latitude)) * cos(radians(h.LATITUDE)) * "
+           + "    cos(radians(h.LONGITUDE) - radians(:longitude)) + "
+           + "    sin(radians(:latitude)) * sin(radians(h.LATITUDE))))) AS distance "
+           + "  FROM TBL_HOSPITAL h "
+           + "  WHERE h.LATITUDE BETWEEN :minLat AND :maxLat "
+           + "    AND h.LONGITUDE BETWEEN :minLng AND :maxLng"
+           + ") hd WHERE hd.distance <= :radius ORDER BY hd.distance LIMIT :limit",
+           nativeQuery = true)
+    List<Hospital> findNearbyWithinBoundingBox(@Param("latitude") double latitude,
+                                               @Param("longitude") double longitude,
+                                               @Param("radius") double radiusKm,
+                                               @Param("minLat") double minLat,
+                                               @Param("maxLat") double maxLat,
+                                               @Param("minLng") double minLng,
+                                               @Param("maxLng") double maxLng,
+                                               @Param("limit") int limit);
+
+    /** LOCATION 은 엔티티에 매핑하지 않은 컬럼이라 위경도가 바뀔 때 직접 맞춘다. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_HOSPITAL"))
+    @Query(value = "UPDATE TBL_HOSPITAL SET LOCATION = ST_GeomFromText(:point, 4326) WHERE ID = :id",
+           nativeQuery = true)
+    int updateLocation(@Param("id") Long id, @Param("point") String point);
 
     List<Hospital> findTop2ByOrderByCreatedAtDesc();
 
-    @Query("""
-           SELECT h
-           FROM Hospital h
-           LEFT JOIN HospitalLike hl ON hl.hospital.id = h.id
-           GROUP BY h
-           ORDER BY COUNT(hl.id) DESC
-           """)
-    List<Hospital> findPopularHospitals(Pageable pageable);
+    /** 자동완성 재구축. 좋아요 수를 인기도로 쓴다. */
+    @Query("SELECT new com.carecode.core.search.suggest.SuggestionRow(h.id, h.name, h.address, h.likeCount) "
+            + "FROM Hospital h")
+    List<SuggestionRow> findSuggestionRows();
+
+    /*
+     * 인기 병원 후보. 좋아요 수 내림차순이라 LIKE_COUNT 인덱스를 거꾸로 읽다가 limit 건에서 멈춘다.
+     * 예전에는 요청마다 좋아요 테이블 전체를 병원별로 GROUP BY 했다.
+     */
+    List<Hospital> findAllByOrderByLikeCountDescIdAsc(Pageable pageable);
+
+    List<Hospital> findByTypeOrderByLikeCountDescIdAsc(String type, Pageable pageable);
+
+    List<Hospital> findByAddressStartingWithOrderByLikeCountDescIdAsc(String region, Pageable pageable);
+
+    List<Hospital> findByTypeAndAddressStartingWithOrderByLikeCountDescIdAsc(String type, String region,
+                                                                           Pageable pageable);
+
+    @Query("SELECT h.likeCount FROM Hospital h WHERE h.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    /**
+     * 좋아요 수만 올린다. 동기화 공간은 실제로 고치는 병원 테이블이다. 그래야 병원을 읽은 캐시 쿼리 결과가 낡은 것으로
+     * 표시된다. 다른 인스턴스의 병원 항목과 쿼리 결과는 호출한 쪽이 커밋 뒤 알려서 지운다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_HOSPITAL"))
+    @Query(value = "UPDATE TBL_HOSPITAL SET LIKE_COUNT = LIKE_COUNT + 1 WHERE ID = :id", nativeQuery = true)
+    int incrementLikeCount(@Param("id") Long id);
+
+    /** 재집계 전에 취소가 먼저 오는 경우처럼 값이 어긋나 있어도 음수로 내려가지 않게 한다. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_HOSPITAL"))
+    @Query(value = "UPDATE TBL_HOSPITAL SET LIKE_COUNT = LIKE_COUNT - 1 WHERE ID = :id AND LIKE_COUNT > 0",
+           nativeQuery = true)
+    int decrementLikeCount(@Param("id") Long id);
+
+    /**
+     * 좋아요 수를 좋아요 테이블에서 다시 센다. 값이 다른 병원만 고치고 고친 건수를 돌려준다.
+     * 회원 탈퇴로 좋아요가 ON DELETE CASCADE 로 지워질 때는 카운터가 내려가지 않아 여기서 맞춘다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "TBL_HOSPITAL"))
+    @Query(value = "UPDATE TBL_HOSPITAL h "
+           + "SET LIKE_COUNT = (SELECT COUNT(*) FROM TBL_HOSPITAL_LIKE l WHERE l.HOSPITAL_ID = h.ID) "
+           + "WHERE LIKE_COUNT <> (SELECT COUNT(*) FROM TBL_HOSPITAL_LIKE l WHERE l.HOSPITAL_ID = h.ID)",
+           nativeQuery = true)
+    int reconcileLikeCounts();
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.carecode.domain.health.repository;
 
 import com.carecode.domain.health.entity.VaccinationSchedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,18 @@ public interface VaccinationScheduleRepository extends JpaRepository<Vaccination
     List<VaccinationSchedule> findPendingReminders(@Param("from") LocalDate from,
                                                    @Param("to") LocalDate to);
 
+    /** 배치 리더용. 처리한 일정이 조건에서 빠지므로 offset 이 아니라 id 기준으로 다음 페이지를 읽는다. */
+    @Query("SELECT vs FROM VaccinationSchedule vs " +
+           "JOIN FETCH vs.child c JOIN FETCH c.user " +
+           "WHERE vs.status = com.carecode.domain.health.entity.VaccinationSchedule.VaccinationStatus.SCHEDULED " +
+           "AND vs.reminderSentAt IS NULL " +
+           "AND vs.dueDate BETWEEN :from AND :to " +
+           "AND vs.id > :lastId ORDER BY vs.id ASC")
+    List<VaccinationSchedule> findPendingRemindersAfter(@Param("from") LocalDate from,
+                                                        @Param("to") LocalDate to,
+                                                        @Param("lastId") Long lastId,
+                                                        Pageable pageable);
+
     @Query("SELECT vs FROM VaccinationSchedule vs " +
            "WHERE vs.child.id = :childId " +
            "AND vs.status = com.carecode.domain.health.entity.VaccinationSchedule.VaccinationStatus.SCHEDULED " +
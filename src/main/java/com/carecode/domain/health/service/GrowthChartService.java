@@ -49,21 +49,30 @@ public class GrowthChartService {
                 ? HealthRecord::getWeight
                 : HealthRecord::getHeight;
 
-        List<GrowthPointResponse> points = new ArrayList<>();
-        List<HealthRecord> records = healthRecordRepository.findByChildOrderByRecordDateDesc(child);
-
-        for (HealthRecord record : records) {
-            Double value = valueExtractor.apply(record);
-            if (value == null || record.getRecordDate() == null) {
-                continue;
+        List<HealthRecord> measured = new ArrayList<>();
+        for (HealthRecord record : healthRecordRepository.findByChildOrderByRecordDateDesc(child)) {
+            if (valueExtractor.apply(record) != null && record.getRecordDate() != null) {
+                measured.add(record);
             }
+        }
+
+        int[] ageMonths = new int[measured.size()];
+        double[] values = new double[measured.size()];
+        for (int i = 0; i < measured.size(); i++) {
+            HealthRecord record = measured.get(i);
+            ageMonths[i] = (int) ChronoUnit.MONTHS.between(child.getBirthDate(), record.getRecordDate());
+            values[i] = valueExtractor.apply(record);
+        }
 
-            int ageMonths = (int) ChronoUnit.MONTHS.between(child.getBirthDate(), record.getRecordDate());
-            GrowthPercentileResult percentile = sex
-                    .flatMap(s -> GrowthPercentileCalculator.calculate(metric, s, ageMonths, value))
-                    .orElse(null);
+        // 이력 전체를 한 번에 계산한다. 성별을 모르면 백분위 없이 측정값만 내려준다.
+        GrowthPercentileResult[] percentiles = sex
+                .map(s -> GrowthPercentileCalculator.calculateAll(metric, s, ageMonths, values))
+                .orElseGet(() -> new GrowthPercentileResult[measured.size()]);
 
-            points.add(GrowthPointResponse.of(record.getRecordDate(), ageMonths, value, metric, percentile));
+        List<GrowthPointResponse> points = new ArrayList<>(measured.size());
+        for (int i = 0; i < measured.size(); i++) {
+            points.add(GrowthPointResponse.of(
+                    measured.get(i).getRecordDate(), ageMonths[i], values[i], metric, percentiles[i]));
         }
 
         points.sort(Comparator.comparing(GrowthPointResponse::getRecordDate));
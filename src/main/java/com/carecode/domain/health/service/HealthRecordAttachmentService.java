@@ -25,8 +25,6 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class HealthRecordAttachmentService {
 
-    private static final String DIRECTORY = "health-records";
-
     private final HealthRecordRepository healthRecordRepository;
     private final HealthRecordAttachmentRepository attachmentRepository;
     private final FileStorageService fileStorageService;
@@ -36,7 +34,7 @@ public class HealthRecordAttachmentService {
     public AttachmentResponse upload(Long recordId, MultipartFile file, String description) {
         HealthRecord record = requireOwnedRecord(recordId);
 
-        StoredFile stored = fileStorageService.store(file, DIRECTORY);
+        StoredFile stored = fileStorageService.store(file);
 
         HealthRecordAttachment attachment = HealthRecordAttachment.builder()
                 .healthRecord(record)
@@ -71,6 +69,19 @@ public class HealthRecordAttachmentService {
         }
 
         attachmentRepository.delete(attachment);
+        // 같은 파일을 다른 기록도 가리킬 수 있어 참조만 푼다. 마지막 참조였으면 커밋 뒤 지워진다.
+        fileStorageService.keyOf(attachment.getFileUrl()).ifPresent(fileStorageService::delete);
+    }
+
+    /**
+     * 기록을 지우기 직전에 부른다. 첨부 행은 기록과 함께 cascade 로 지워지지만 저장 파일의 참조 수는 여기서만 줄어든다.
+     * 부르지 않으면 중복 제거된 파일이 참조 0 에 닿지 못해 영영 남는다.
+     */
+    @Transactional
+    public void releaseFiles(HealthRecord record) {
+        for (HealthRecordAttachment attachment : record.getHealthRecordAttachments()) {
+            fileStorageService.keyOf(attachment.getFileUrl()).ifPresent(fileStorageService::delete);
+        }
     }
 
     /** 건강기록 조회 + 소유권 검증. 건강기록은 민감정보이므로 본인 기록만 접근할 수 있어야 한다. */
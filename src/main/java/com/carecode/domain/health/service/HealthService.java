@@ -23,12 +23,12 @@ import com.carecode.domain.health.dto.response.ChildInfoResponse;
 import com.carecode.domain.health.entity.HealthRecord;
 import com.carecode.domain.health.entity.HealthRecordAttachment;
 import com.carecode.domain.policy.entity.Policy;
-import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.health.repository.HealthRecordAttachmentRepository;
 import com.carecode.domain.health.repository.HealthRecordRepository;
 import com.carecode.domain.health.repository.VaccinationScheduleRepository;
 import com.carecode.domain.policy.repository.PolicyRepository;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.CareFacilitySummary;
 import com.carecode.domain.user.entity.Child;
 import com.carecode.domain.user.entity.User;
 import com.carecode.domain.user.repository.ChildRepository;
@@ -71,6 +71,7 @@ public class HealthService {
     private final VaccinationScheduleRepository vaccinationScheduleRepository;
     private final ConsentGuard consentGuard;
     private final HealthRecordAttachmentRepository healthRecordAttachmentRepository;
+    private final HealthRecordAttachmentService healthRecordAttachmentService;
     private final ChildRepository childRepository;
     private final UserRepository userRepository;
     private final PolicyRepository policyRepository;
@@ -207,6 +208,7 @@ public class HealthService {
                 .orElseThrow(() -> new HealthRecordNotFoundException(recordId));
         assertHealthRecordOwnedByUser(record, actorUserId);
         
+        healthRecordAttachmentService.releaseFiles(record);
         healthRecordRepository.delete(record);
         log.info("건강 기록이 삭제되었습니다: 기록ID={}", recordId);
     }
@@ -521,7 +523,7 @@ public class HealthService {
                 .collect(Collectors.toList());
         List<String> recommendedFacilities = careFacilityRepository.findByChildAge(childAge).stream()
                 .limit(3)
-                .map(CareFacility::getName)
+                .map(CareFacilitySummary::name)
                 .collect(Collectors.toList());
 
         Map<String, Object> recommendations = new HashMap<>();
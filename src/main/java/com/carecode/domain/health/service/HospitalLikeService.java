@@ -0,0 +1,65 @@
+package com.carecode.domain.health.service;
+
+import com.carecode.core.cache.SecondLevelCacheInvalidator;
+import com.carecode.core.exception.HospitalNotFoundException;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.repository.HospitalLikeRepository;
+import com.carecode.domain.health.repository.HospitalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 병원 좋아요와 병원 행의 좋아요 수(LIKE_COUNT)를 한 트랜잭션에서 함께 바꾼다.
+ *
+ * <p>좋아요 행이 실제로 생기거나 지워졌을 때만 카운터를 움직인다. 같은 사용자가 동시에 두 번 눌러도
+ * INSERT IGNORE 하나만 1 을 돌려주므로 카운터는 한 번만 오른다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class HospitalLikeService {
+
+    private final HospitalRepository hospitalRepository;
+    private final HospitalLikeRepository hospitalLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    /** 새로 좋아요를 눌렀으면 true, 이미 눌러 둔 상태였으면 false. */
+    public boolean like(Long hospitalId, Long userId) {
+        Hospital hospital = hospitalRepository.findById(hospitalId)
+                .orElseThrow(() -> new HospitalNotFoundException(hospitalId));
+        if (hospitalLikeRepository.insertIfAbsent(hospitalId, userId) == 0) {
+            return false;
+        }
+        hospitalRepository.incrementLikeCount(hospitalId);
+        secondLevelCacheInvalidator.evictAfterCommit(Hospital.class, hospitalId);
+        publish(hospital);
+        return true;
+    }
+
+    /** 좋아요를 취소했으면 true, 누른 적이 없었으면 false. */
+    public boolean unlike(Long hospitalId, Long userId) {
+        Hospital hospital = hospitalRepository.findById(hospitalId)
+                .orElseThrow(() -> new HospitalNotFoundException(hospitalId));
+        if (hospitalLikeRepository.deleteByHospitalIdAndUserId(hospitalId, userId) == 0) {
+            return false;
+        }
+        hospitalRepository.decrementLikeCount(hospitalId);
+        secondLevelCacheInvalidator.evictAfterCommit(Hospital.class, hospitalId);
+        publish(hospital);
+        return true;
+    }
+
+    /** 좋아요 수를 좋아요 테이블 기준으로 바로잡는다. 고친 병원 수를 돌려준다. */
+    public int reconcileLikeCounts() {
+        return hospitalRepository.reconcileLikeCounts();
+    }
+
+    private void publish(Hospital hospital) {
+        // UPDATE 문은 영속성 컨텍스트를 거치지 않아 엔티티의 값은 이전 값이다. 방금 바뀐 값을 다시 읽는다.
+        long likeCount = hospitalRepository.findLikeCountById(hospital.getId()).orElse(0L);
+        eventPublisher.publishEvent(new PopularHospitalRanking.LikeChanged(hospital, likeCount));
+    }
+}
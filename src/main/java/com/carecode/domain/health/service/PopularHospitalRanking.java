@@ -0,0 +1,180 @@
+package com.carecode.domain.health.service;
+
+import com.carecode.domain.health.dto.response.HospitalInfoResponse;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.mapper.HospitalMapper;
+import com.carecode.domain.health.repository.HospitalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 인기 병원 순위를 진료과목·지역 조합별로 메모리에 들고 있는다.
+ *
+ * <p>조합마다 처음 요청될 때 DB 에서 상위 {@link #DEPTH} 건을 읽고, 이후에는 좋아요 이벤트로 해당 병원의 자리만
+ * 옮긴다. 화면에 내보내는 건 최대 {@link #MAX_LIMIT} 건이고 그 두 배를 들고 있어, 목록 밖 병원이 취소로
+ * 내려간 병원을 앞지르는 경우는 꼬리 쪽에서만 잠깐 어긋난다. 주기 갱신이 처음부터 다시 읽어 바로잡는다.
+ *
+ * <p>순위는 인스턴스마다 따로 있다. 다른 인스턴스에서 누른 좋아요는 다음 갱신 때 반영된다. 인기 목록으로는
+ * 충분하다. 같은 이유로 갱신은 {@code @ClusterExclusive} 없이 인스턴스마다 돈다.
+ */
+@Slf4j
+@Service
+public class PopularHospitalRanking {
+
+    /** 한 번에 내보내는 최대 건수. */
+    public static final int MAX_LIMIT = 50;
+
+    /** 조합마다 들고 있는 건수. */
+    static final int DEPTH = MAX_LIMIT * 2;
+
+    /**
+     * 조합 수 상한. 지역은 사용자가 보낸 문자열이라 제한이 없으면 아무 값이나 보내 순위표를 끝없이 만들 수 있다.
+     * 시도 17개 × 진료과목 몇 개면 이 안에 들어온다. 넘치면 캐시하지 않고 DB 에서 바로 읽는다.
+     */
+    static final int MAX_BOARDS = 256;
+
+    private static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::likeCount).reversed()
+            .thenComparingLong(Entry::hospitalId);
+
+    private final HospitalRepository hospitalRepository;
+    private final HospitalMapper hospitalMapper;
+
+    private final ConcurrentMap<Key, Board> boards = new ConcurrentHashMap<>();
+
+    public PopularHospitalRanking(HospitalRepository hospitalRepository, HospitalMapper hospitalMapper) {
+        this.hospitalRepository = hospitalRepository;
+        this.hospitalMapper = hospitalMapper;
+    }
+
+    /** 좋아요가 많은 순으로 limit 건. type·region 이 비어 있으면 그 조건은 보지 않는다. region 은 주소 앞부분(시도)이다. */
+    public List<HospitalInfoResponse> top(String type, String region, int limit) {
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        Key key = Key.of(type, region);
+        Board board = boards.get(key);
+        if (board == null) {
+            if (boards.size() >= MAX_BOARDS) {
+                return load(key, safeLimit).stream().map(Entry::response).toList();
+            }
+            board = boards.computeIfAbsent(key, k -> new Board(load(k, DEPTH)));
+        }
+        return board.top(safeLimit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(LikeChanged event) {
+        Hospital hospital = event.hospital();
+        Entry entry = null;
+        for (Map.Entry<Key, Board> board : boards.entrySet()) {
+            if (!board.getKey().matches(hospital)) {
+                continue;
+            }
+            if (entry == null) {
+                HospitalInfoResponse response = hospitalMapper.toResponse(hospital);
+                response.setLikeCount(event.likeCount());
+                entry = new Entry(hospital.getId(), event.likeCount(), response);
+            }
+            board.getValue().update(entry);
+        }
+    }
+
+    /**
+     * 읽어 둔 조합을 모두 DB 에서 다시 읽는다. 다른 인스턴스의 좋아요, 병원 정보 변경, 재집계로 고쳐진 값이
+     * 여기서 반영된다. 실패한 조합은 이전 순위를 계속 쓴다.
+     */
+    @Scheduled(fixedDelayString = "${app.health.popular-hospitals.refresh-interval-ms:300000}",
+            initialDelayString = "${app.health.popular-hospitals.refresh-interval-ms:300000}")
+    public void refresh() {
+        for (Key key : boards.keySet()) {
+            try {
+                boards.put(key, new Board(load(key, DEPTH)));
+            } catch (RuntimeException e) {
+                log.warn("인기 병원 순위 갱신 실패 - {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private List<Entry> load(Key key, int size) {
+        Pageable page = PageRequest.of(0, size);
+        List<Hospital> hospitals;
+        if (key.type() != null && key.region() != null) {
+            hospitals = hospitalRepository.findByTypeAndAddressStartingWithOrderByLikeCountDescIdAsc(
+                    key.type(), key.region(), page);
+        } else if (key.type() != null) {
+            hospitals = hospitalRepository.findByTypeOrderByLikeCountDescIdAsc(key.type(), page);
+        } else if (key.region() != null) {
+            hospitals = hospitalRepository.findByAddressStartingWithOrderByLikeCountDescIdAsc(key.region(), page);
+        } else {
+            hospitals = hospitalRepository.findAllByOrderByLikeCountDescIdAsc(page);
+        }
+        return hospitals.stream()
+                .map(h -> new Entry(h.getId(), h.getLikeCount(), hospitalMapper.toResponse(h)))
+                .toList();
+    }
+
+    /** 좋아요 수가 바뀐 병원. 커밋 뒤에 순위에 반영한다. */
+    public record LikeChanged(Hospital hospital, long likeCount) {
+    }
+
+    record Key(String type, String region) {
+
+        static Key of(String type, String region) {
+            return new Key(StringUtils.hasText(type) ? type.trim() : null,
+                    StringUtils.hasText(region) ? region.trim() : null);
+        }
+
+        boolean matches(Hospital hospital) {
+            return (type == null || type.equals(hospital.getType()))
+                    && (region == null || (hospital.getAddress() != null && hospital.getAddress().startsWith(region)));
+        }
+    }
+
+    private record Entry(long hospitalId, long likeCount, HospitalInfoResponse response) {
+    }
+
+    /** 한 조합의 순위. 건수가 작아 정렬된 리스트에 끼워 넣는 것으로 충분하다. */
+    private static final class Board {
+
+        private final List<Entry> entries;
+        /** 처음 읽을 때 DEPTH 건을 못 채웠으면 조건에 맞는 병원이 전부 들어 있는 것이다. */
+        private final boolean complete;
+
+        private Board(List<Entry> loaded) {
+            this.entries = new ArrayList<>(loaded);
+            this.complete = loaded.size() < DEPTH;
+        }
+
+        synchronized List<HospitalInfoResponse> top(int limit) {
+            return entries.stream().limit(limit).map(Entry::response).toList();
+        }
+
+        synchronized void update(Entry entry) {
+            boolean member = entries.removeIf(e -> e.hospitalId() == entry.hospitalId());
+            // 목록 밖 병원은 꼴찌보다 앞설 때만 들어온다. 목록 안 병원은 자리만 옮긴다.
+            if (!member && !complete && entries.size() >= DEPTH
+                    && RANK.compare(entry, entries.get(entries.size() - 1)) > 0) {
+                return;
+            }
+            int index = 0;
+            while (index < entries.size() && RANK.compare(entries.get(index), entry) < 0) {
+                index++;
+            }
+            entries.add(index, entry);
+            if (entries.size() > DEPTH) {
+                entries.remove(entries.size() - 1);
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.carecode.domain.notification.entity;
 
+import com.carecode.core.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,6 +16,8 @@ import java.time.LocalDateTime;
 
 /** 알림 템플릿 엔티티 */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.NOTIFICATION_TEMPLATE)
 @Table(name = "TBL_NOTIFICATION_TEMPLATES")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -61,4 +61,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.id IN :notificationIds AND n.user.id = :userId")
     void markAsReadByIdsForUser(@Param("notificationIds") List<Long> notificationIds, @Param("userId") Long userId);
-} 
\ No newline at end of file
+
+    /** 내 데이터 내려받기용 keyset 페이지. id 오름차순으로 afterId 다음부터 읽는다. */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.id > :afterId ORDER BY n.id")
+    List<Notification> findExportPage(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+}
@@ -1,10 +1,13 @@
 package com.carecode.domain.policy.entity;
 
+import com.carecode.core.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,6 +18,8 @@ import java.util.List;
 
 /** 정책 카테고리 엔티티 */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.POLICY_CATEGORY)
 @Table(name = "TBL_POLICY_CATEGORIES")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
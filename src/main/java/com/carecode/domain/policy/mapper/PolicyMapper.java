@@ -2,7 +2,9 @@ package com.carecode.domain.policy.mapper;
 
 import com.carecode.core.util.ResponseMapper;
 import com.carecode.domain.policy.dto.response.PolicyDto;
+import com.carecode.domain.policy.dto.response.PolicyInfoResponse;
 import com.carecode.domain.policy.entity.Policy;
+import com.carecode.domain.policy.repository.PolicySummary;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -35,6 +37,25 @@ public class PolicyMapper implements ResponseMapper<Policy, PolicyDto> {
                 .build();
     }
 
+    /** 검색 목록 한 줄. 설명은 쿼리가 잘라 온 앞부분이다. */
+    public PolicyInfoResponse toInfoResponse(PolicySummary summary) {
+        return PolicyInfoResponse.builder()
+                .id(summary.id() != null ? summary.id().toString() : null)
+                .title(summary.title())
+                .description(summary.descriptionPreview())
+                .category(summary.category())
+                .district(summary.targetRegion())
+                .benefitAmount(summary.benefitAmount() != null ? summary.benefitAmount().toString() : null)
+                .applicationMethod(summary.applicationUrl())
+                .requiredDocuments(summary.requiredDocuments())
+                .contactInfo(summary.contactInfo())
+                .status(Boolean.TRUE.equals(summary.isActive()) ? "ACTIVE" : "INACTIVE")
+                .viewCount(summary.viewCount() != null ? summary.viewCount() : 0)
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .build();
+    }
+
     private String formatApplicationPeriod(LocalDate startDate, LocalDate endDate) {
         if (startDate == null && endDate == null) return "상시 신청";
         if (startDate == null) return "~ " + endDate.format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
@@ -1,8 +1,12 @@
 package com.carecode.domain.policy.repository;
 
+import com.carecode.core.cache.CacheRegions;
 import com.carecode.domain.policy.entity.PolicyCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +15,8 @@ import java.util.Optional;
 @Repository
 public interface PolicyCategoryRepository extends JpaRepository<PolicyCategory, Long> {
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.POLICY_CATEGORY_QUERIES)})
     List<PolicyCategory> findByIsActiveTrueOrderByDisplayOrderAsc();
 
     boolean existsByName(String name);
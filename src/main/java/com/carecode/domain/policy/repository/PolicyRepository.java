@@ -1,5 +1,6 @@
 package com.carecode.domain.policy.repository;
 
+import com.carecode.core.search.suggest.SuggestionRow;
 import com.carecode.domain.policy.dto.response.PolicyCategoryStatsResponse;
 import com.carecode.domain.policy.entity.Policy;
 import org.springframework.data.domain.Page;
@@ -18,6 +19,13 @@ import java.util.Optional;
 @Repository
 public interface PolicyRepository extends JpaRepository<Policy, Long> {
 
+    /** 목록 한 줄로 읽는 SELECT 절. 설명은 SQL 에서 앞부분만 자르고 카테고리 이름은 조인으로 함께 읽는다. */
+    String SUMMARY_SELECT = "SELECT new com.carecode.domain.policy.repository.PolicySummary("
+            + "p.id, p.title, SUBSTRING(p.description, 1, " + PolicySummary.DESCRIPTION_PREVIEW_LENGTH + "), "
+            + "COALESCE(pc.name, p.policyType), p.targetRegion, p.benefitAmount, p.applicationUrl, "
+            + "p.requiredDocuments, p.contactInfo, p.isActive, p.viewCount, p.createdAt, p.updatedAt) "
+            + "FROM Policy p LEFT JOIN p.policyCategory pc ";
+
     // 정책 코드로 정책 조회
     Optional<Policy> findByPolicyCode(String policyCode);
 
@@ -38,6 +46,12 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
 
     List<Policy> findTop1ByOrderByCreatedAtDesc();
 
+    /** 자동완성 재구축. 조회수를 인기도로 쓴다. */
+    @Query("SELECT new com.carecode.core.search.suggest.SuggestionRow("
+            + "p.id, p.title, p.policyType, CAST(COALESCE(p.viewCount, 0) AS Long)) "
+            + "FROM Policy p WHERE p.isActive = true")
+    List<SuggestionRow> findSuggestionRows();
+
     // 지역별 정책 조회
     List<Policy> findByTargetRegion(String targetRegion);
 
@@ -58,7 +72,7 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
     List<Policy> searchByKeyword(@Param("keyword") String keyword);
 
     // 복합 조건으로 정책 검색
-    @Query("SELECT p FROM Policy p WHERE p.isActive = true " +
+    @Query(SUMMARY_SELECT + "WHERE p.isActive = true " +
            "AND (:policyType IS NULL OR p.policyType = :policyType) " +
            "AND (:targetRegion IS NULL OR p.targetRegion = :targetRegion) " +
            "AND (:benefitType IS NULL OR p.benefitType = :benefitType) " +
@@ -66,10 +80,10 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
            "((p.targetAgeMin IS NULL OR p.targetAgeMin <= :childAge) AND " +
            "(p.targetAgeMax IS NULL OR p.targetAgeMax >= :childAge))) " +
            "ORDER BY p.priority DESC, p.createdAt DESC")
-    List<Policy> searchPolicies(@Param("policyType") String policyType,
-                               @Param("targetRegion") String targetRegion,
-                               @Param("benefitType") String benefitType,
-                               @Param("childAge") Integer childAge);
+    List<PolicySummary> searchPolicies(@Param("policyType") String policyType,
+                                      @Param("targetRegion") String targetRegion,
+                                      @Param("benefitType") String benefitType,
+                                      @Param("childAge") Integer childAge);
 
     // 연령대별 정책 조회
     @Query("SELECT p FROM Policy p WHERE p.isActive = true AND " +
@@ -97,6 +111,19 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
                                       @Param("location") String location, @Param("minAge") Integer minAge,
                                       @Param("maxAge") Integer maxAge, Pageable pageable);
 
+    /** 정책 검색 목록. 조건은 {@link #findBySearchCriteria} 와 같고 목록 컬럼만 읽는다. */
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true " +
+           "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
+           "AND (:category IS NULL OR p.policyType = :category) " +
+           "AND (:location IS NULL OR p.targetRegion LIKE %:location%)",
+           countQuery = "SELECT COUNT(p) FROM Policy p WHERE p.isActive = true " +
+           "AND (:keyword IS NULL OR p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
+           "AND (:category IS NULL OR p.policyType = :category) " +
+           "AND (:location IS NULL OR p.targetRegion LIKE %:location%)")
+    Page<PolicySummary> findSummariesBySearchCriteria(@Param("keyword") String keyword,
+                                                      @Param("category") String category,
+                                                      @Param("location") String location, Pageable pageable);
+
     @Query("SELECT COALESCE(SUM(p.viewCount), 0) FROM Policy p WHERE p.isActive = true")
     long getTotalViewCount();
 
@@ -0,0 +1,25 @@
+package com.carecode.domain.policy.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 목록 한 줄. 정책 설명은 TEXT 라 목록 20건이면 설명 전체가 20번 올라오고 카테고리도 건마다 따로 읽혔다.
+ * 목록 컬럼만 읽고 설명은 SQL 에서 앞부분만, 카테고리 이름은 같은 쿼리의 조인으로 가져온다.
+ */
+public record PolicySummary(Long id,
+                            String title,
+                            String descriptionPreview,
+                            String category,
+                            String targetRegion,
+                            Integer benefitAmount,
+                            String applicationUrl,
+                            String requiredDocuments,
+                            String contactInfo,
+                            Boolean isActive,
+                            Integer viewCount,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt) {
+
+    /** 목록에 싣는 설명 글자 수. */
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+}
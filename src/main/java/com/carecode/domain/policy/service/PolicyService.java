@@ -7,6 +7,7 @@ import com.carecode.core.util.SortUtil;
 import com.carecode.domain.policy.dto.request.PolicySearchRequest;
 import com.carecode.domain.policy.entity.Policy;
 import com.carecode.domain.policy.repository.PolicyRepository;
+import com.carecode.domain.policy.repository.PolicySummary;
 import com.carecode.domain.policy.mapper.PolicyMapper;
 import com.carecode.domain.policy.dto.response.PolicyListResponse;
 import com.carecode.domain.policy.dto.response.PolicyInfoResponse;
@@ -57,7 +58,7 @@ public class PolicyService {
 
     // 정책 상세 조회
     @LogExecutionTime
-    @Cacheable(cacheNames = "policy", key = "#policyId")
+    @Cacheable(cacheNames = "policy", key = "#policyId", sync = true)
     public PolicyDto getPolicyById(Long policyId) {
         log.info("정책 상세 조회: 정책ID={}", policyId);
         
@@ -81,41 +82,15 @@ public class PolicyService {
         );
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
         
-        Page<Policy> policyPage = policyRepository.findBySearchCriteria(
+        Page<PolicySummary> policyPage = policyRepository.findSummariesBySearchCriteria(
                 request.getKeyword(),
                 request.getCategory(),
                 request.getCity(),
-                null,
-                null,
                 pageable
         );
-        
-        List<PolicyDto> policies = policyPage.getContent().stream()
-                .map(policyMapper::toResponse)
-                .collect(Collectors.toList());
 
-        List<PolicyInfoResponse> policiesResponse = policies.stream()
-                .map(dto -> PolicyInfoResponse.builder()
-                        .id(dto.getId() != null ? dto.getId().toString() : null)
-                        .title(dto.getTitle())
-                        .description(dto.getDescription())
-                        .category(dto.getCategory())
-                        .subCategory(null)
-                        .city(null)
-                        .district(dto.getLocation())
-                        .targetAge(null)
-                        .incomeLevel(null)
-                        .benefitAmount(dto.getSupportAmount() != null ? dto.getSupportAmount().toString() : null)
-                        .applicationMethod(dto.getApplicationMethod())
-                        .requiredDocuments(dto.getRequiredDocuments())
-                        .contactInfo(dto.getContactInfo())
-                        .startDate(null)
-                        .endDate(null)
-                        .status(Boolean.TRUE.equals(dto.getIsActive()) ? "ACTIVE" : "INACTIVE")
-                        .viewCount(dto.getViewCount() != null ? dto.getViewCount() : 0)
-                        .createdAt(dto.getCreatedAt())
-                        .updatedAt(dto.getUpdatedAt())
-                        .build())
+        List<PolicyInfoResponse> policiesResponse = policyPage.getContent().stream()
+                .map(policyMapper::toInfoResponse)
                 .collect(Collectors.toList());
         
         return PolicyListResponse.builder()
@@ -4,12 +4,18 @@ import com.carecode.core.annotation.LogExecutionTime;
 import com.carecode.core.util.ClientIpResolver;
 import com.carecode.domain.user.dto.request.ConsentUpdateRequest;
 import com.carecode.domain.user.dto.response.ConsentStatusResponse;
+import com.carecode.domain.user.dto.response.DataExportResponse;
 import com.carecode.domain.user.service.PrivacyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -59,6 +65,33 @@ public class PrivacyController {
         return ResponseEntity.ok(privacyService.exportMyData());
     }
 
+    @PostMapping("/exports")
+    @LogExecutionTime
+    @Operation(summary = "내 데이터 전체 내려받기 요청",
+            description = "건강기록·첨부 목록·챗봇 대화·알림·게시글을 zip 으로 만듭니다. 준비되면 알림을 보냅니다")
+    public ResponseEntity<DataExportResponse> requestExport() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(privacyService.requestExport());
+    }
+
+    @GetMapping("/exports/{exportId}")
+    @LogExecutionTime
+    @Operation(summary = "내 데이터 내려받기 상태")
+    public ResponseEntity<DataExportResponse> getExport(@PathVariable Long exportId) {
+        return ResponseEntity.ok(privacyService.getExport(exportId));
+    }
+
+    @GetMapping("/exports/{exportId}/download")
+    @Operation(summary = "내 데이터 zip 내려받기", description = "Range 요청으로 이어받을 수 있습니다")
+    public ResponseEntity<Resource> downloadExport(@PathVariable Long exportId) {
+        Resource file = privacyService.openExport(exportId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("carecode-my-data-" + exportId + ".zip").build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-store")
+                .body(file);
+    }
+
     @DeleteMapping("/account")
     @LogExecutionTime
     @Operation(summary = "회원 탈퇴",
@@ -0,0 +1,35 @@
+package com.carecode.domain.user.dto.response;
+
+import com.carecode.domain.user.entity.DataExport;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/** 내 데이터 내려받기 요청 상태. */
+@Getter
+@Builder
+public class DataExportResponse {
+
+    private final Long exportId;
+    private final String status;
+    private final Long sizeBytes;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime completedAt;
+    private final LocalDateTime expiresAt;
+    /** 준비되었을 때만 채운다. */
+    private final String downloadPath;
+
+    public static DataExportResponse from(DataExport export, LocalDateTime now) {
+        return DataExportResponse.builder()
+                .exportId(export.getId())
+                .status(export.getStatus().name())
+                .sizeBytes(export.getSizeBytes())
+                .requestedAt(export.getRequestedAt())
+                .completedAt(export.getCompletedAt())
+                .expiresAt(export.getExpiresAt())
+                .downloadPath(export.isDownloadable(now)
+                        ? "/users/privacy/exports/" + export.getId() + "/download" : null)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.carecode.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** 내 데이터 내려받기 요청. 파일은 백그라운드에서 만들고, 준비되면 알림으로 알린 뒤 보관 기간이 지나면 지운다. */
+@Entity
+@Table(
+    name = "TBL_DATA_EXPORT",
+    indexes = {
+        @Index(name = "idx_data_export_user", columnList = "user_id,requested_at"),
+        @Index(name = "idx_data_export_expiry", columnList = "status,expires_at")
+    }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DataExport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    /** 내보내기 디렉터리 안의 파일 이름. 준비되기 전에는 비어 있다. */
+    @Column(name = "file_name", length = 100)
+    private String fileName;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public boolean isDownloadable(LocalDateTime now) {
+        return status == Status.READY && expiresAt != null && expiresAt.isAfter(now);
+    }
+
+    public enum Status {
+        PENDING, RUNNING, READY, FAILED, EXPIRED
+    }
+}
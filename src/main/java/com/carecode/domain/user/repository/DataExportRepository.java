@@ -0,0 +1,75 @@
+package com.carecode.domain.user.repository;
+
+import com.carecode.domain.user.entity.DataExport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DataExportRepository extends JpaRepository<DataExport, Long> {
+
+    Optional<DataExport> findByIdAndUserId(Long id, Long userId);
+
+    /** 진행 중인 요청. requestedSince 보다 오래된 것은 서버가 내려가 멈춘 것으로 보고 새 요청을 받는다. */
+    @Query("SELECT e FROM DataExport e WHERE e.userId = :userId "
+            + "AND e.status IN (com.carecode.domain.user.entity.DataExport.Status.PENDING, "
+            + "com.carecode.domain.user.entity.DataExport.Status.RUNNING) "
+            + "AND e.requestedAt >= :requestedSince ORDER BY e.id DESC")
+    List<DataExport> findInProgress(@Param("userId") Long userId,
+                                    @Param("requestedSince") LocalDateTime requestedSince);
+
+    @Query("SELECT e FROM DataExport e WHERE e.status = com.carecode.domain.user.entity.DataExport.Status.READY "
+            + "AND e.expiresAt < :now")
+    List<DataExport> findExpired(@Param("now") LocalDateTime now);
+
+    @Query("SELECT e.fileName FROM DataExport e WHERE e.userId = :userId AND e.fileName IS NOT NULL")
+    List<String> findFileNamesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 탈퇴한 사용자의 요청을 모두 만료로 돌린다. 진행 중인 작업은 준비 완료로 바꾸지 못하고 파일을 지운다.
+     * 탈퇴 트랜잭션 안에서 부르며, 수정 중인 사용자 엔티티가 있어 영속성 컨텍스트를 비우지 않는다.
+     */
+    @Modifying
+    @Query("UPDATE DataExport e SET e.status = com.carecode.domain.user.entity.DataExport.Status.EXPIRED, "
+            + "e.fileName = NULL WHERE e.userId = :userId")
+    int expireAllByUserId(@Param("userId") Long userId);
+
+    // 상태 변경은 백그라운드 스레드에서 각자 짧게 커밋한다. 파일을 쓰는 동안 트랜잭션을 잡고 있지 않는다.
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DataExport e SET e.status = com.carecode.domain.user.entity.DataExport.Status.RUNNING "
+            + "WHERE e.id = :id AND e.status = com.carecode.domain.user.entity.DataExport.Status.PENDING")
+    int markRunning(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DataExport e SET e.status = com.carecode.domain.user.entity.DataExport.Status.READY, "
+            + "e.fileName = :fileName, e.sizeBytes = :sizeBytes, e.completedAt = :completedAt, "
+            + "e.expiresAt = :expiresAt WHERE e.id = :id "
+            + "AND e.status = com.carecode.domain.user.entity.DataExport.Status.RUNNING")
+    int markReady(@Param("id") Long id,
+                  @Param("fileName") String fileName,
+                  @Param("sizeBytes") long sizeBytes,
+                  @Param("completedAt") LocalDateTime completedAt,
+                  @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DataExport e SET e.status = com.carecode.domain.user.entity.DataExport.Status.FAILED, "
+            + "e.failureReason = :reason, e.completedAt = :completedAt WHERE e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("reason") String reason,
+                   @Param("completedAt") LocalDateTime completedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DataExport e SET e.status = com.carecode.domain.user.entity.DataExport.Status.EXPIRED, "
+            + "e.fileName = NULL WHERE e.id = :id")
+    int markExpired(@Param("id") Long id);
+}
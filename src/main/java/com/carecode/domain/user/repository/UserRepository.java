@@ -87,13 +87,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.deletedAt IS NULL AND u.createdAt >= :since")
     long countNewUsersSince(@Param("since") LocalDateTime since);
 
+    /** 일별 가입자 수. 행은 [LocalDate, Long] 이다. 월별 추이도 이 값을 묶어 만든다. */
     @Query("""
-           SELECT YEAR(u.createdAt), MONTH(u.createdAt), COUNT(u)
+           SELECT CAST(u.createdAt AS LocalDate), COUNT(u)
            FROM User u
            WHERE u.deletedAt IS NULL AND u.createdAt >= :since
-           GROUP BY YEAR(u.createdAt), MONTH(u.createdAt)
+           GROUP BY CAST(u.createdAt AS LocalDate)
            """)
-    List<Object[]> countUsersGroupedByMonthSince(@Param("since") LocalDateTime since);
+    List<Object[]> countUsersGroupedByDaySince(@Param("since") LocalDateTime since);
 
     // OAuth2 제공자와 프로바이더 ID로 사용자 조회 (삭제되지 않은 사용자만)
     @Query("SELECT u FROM User u WHERE u.provider = :provider AND u.providerId = :providerId AND u.deletedAt IS NULL")
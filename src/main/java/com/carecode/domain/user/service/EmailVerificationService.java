@@ -1,5 +1,6 @@
 package com.carecode.domain.user.service;
 
+import com.carecode.core.security.CurrentUserCache;
 import com.carecode.domain.user.entity.EmailVerificationToken;
 import com.carecode.domain.user.entity.User;
 import com.carecode.domain.user.repository.EmailVerificationTokenRepository;
@@ -51,6 +52,7 @@ public class EmailVerificationService {
 
     private final EmailVerificationTokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final CurrentUserCache currentUserCache;
     private final JavaMailSender mailSender;
     private final RedisTemplate<String, String> redisTemplate;
 
@@ -100,6 +102,7 @@ public class EmailVerificationService {
         user.setEmailVerified(true);
         verificationToken.setUsed(true);
         userRepository.save(user);
+        currentUserCache.evict(user.getEmail());
         tokenRepository.save(verificationToken);
         return true;
     }
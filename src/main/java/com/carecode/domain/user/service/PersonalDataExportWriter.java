@@ -0,0 +1,259 @@
+package com.carecode.domain.user.service;
+
+import com.carecode.domain.chatbot.entity.ChatMessage;
+import com.carecode.domain.chatbot.repository.ChatMessageRepository;
+import com.carecode.domain.community.entity.Post;
+import com.carecode.domain.community.repository.PostRepository;
+import com.carecode.domain.health.entity.HealthRecord;
+import com.carecode.domain.health.entity.HealthRecordAttachment;
+import com.carecode.domain.health.repository.HealthRecordAttachmentRepository;
+import com.carecode.domain.health.repository.HealthRecordRepository;
+import com.carecode.domain.notification.entity.Notification;
+import com.carecode.domain.notification.repository.NotificationRepository;
+import com.carecode.domain.user.entity.Child;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.entity.UserConsent;
+import com.carecode.domain.user.repository.ChildRepository;
+import com.carecode.domain.user.repository.UserConsentRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 내 데이터를 도메인별 JSON 파일로 나눠 zip 하나에 흘려 쓴다.
+ *
+ * <p>예전에는 전부 Map 으로 모은 뒤 한 번에 직렬화해, 몇 년 쓴 사용자는 건강기록·대화·알림이 통째로 힙에 올라갔다.
+ * 이제 도메인마다 id keyset 으로 한 페이지씩 읽어 바로 JsonGenerator 로 쓰고 버린다. 한 번에 힙에 있는 것은
+ * 페이지 하나뿐이라 계정 크기와 상관없이 메모리가 일정하다. 페이지 조회마다 영속성 컨텍스트가 닫히도록
+ * 트랜잭션 밖에서 부른다.
+ */
+@Component
+public class PersonalDataExportWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ChildRepository childRepository;
+    private final UserConsentRepository consentRepository;
+    private final HealthRecordRepository healthRecordRepository;
+    private final HealthRecordAttachmentRepository attachmentRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final NotificationRepository notificationRepository;
+    private final PostRepository postRepository;
+    private final int pageSize;
+
+    public PersonalDataExportWriter(ObjectMapper objectMapper,
+                                    ChildRepository childRepository,
+                                    UserConsentRepository consentRepository,
+                                    HealthRecordRepository healthRecordRepository,
+                                    HealthRecordAttachmentRepository attachmentRepository,
+                                    ChatMessageRepository chatMessageRepository,
+                                    NotificationRepository notificationRepository,
+                                    PostRepository postRepository,
+                                    @Value("${app.privacy.export.page-size:500}") int pageSize) {
+        this.objectMapper = objectMapper;
+        this.childRepository = childRepository;
+        this.consentRepository = consentRepository;
+        this.healthRecordRepository = healthRecordRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.notificationRepository = notificationRepository;
+        this.postRepository = postRepository;
+        this.pageSize = pageSize;
+    }
+
+    /** 비밀번호 등 인증 정보는 넣지 않는다. out 은 닫지 않는다. */
+    public void write(User user, OutputStream out) throws IOException {
+        Long userId = user.getId();
+        ZipOutputStream zip = new ZipOutputStream(out);
+
+        entry(zip, "profile.json", gen -> {
+            gen.writeStartObject();
+            gen.writeObjectField("exportedAt", LocalDateTime.now());
+            gen.writeStringField("userId", user.getUserId());
+            gen.writeStringField("email", user.getEmail());
+            gen.writeStringField("name", user.getName());
+            gen.writeStringField("phoneNumber", user.getPhoneNumber());
+            gen.writeObjectField("birthDate", user.getBirthDate());
+            gen.writeStringField("address", user.getAddress());
+            gen.writeStringField("role", user.getRole() != null ? user.getRole().name() : null);
+            gen.writeObjectField("createdAt", user.getCreatedAt());
+            gen.writeObjectField("lastLoginAt", user.getLastLoginAt());
+            gen.writeEndObject();
+        });
+
+        // 아이·동의 이력은 사람마다 몇 건이라 한 번에 읽는다.
+        entry(zip, "children.json", gen -> {
+            gen.writeStartArray();
+            for (Child child : childRepository.findByUserIdOrderByCreatedAtDesc(userId)) {
+                gen.writeStartObject();
+                gen.writeNumberField("id", child.getId());
+                gen.writeStringField("name", child.getName());
+                gen.writeObjectField("birthDate", child.getBirthDate());
+                gen.writeStringField("gender", child.getGender());
+                gen.writeStringField("specialNeeds", child.getSpecialNeeds());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        });
+
+        entry(zip, "consents.json", gen -> {
+            gen.writeStartArray();
+            for (UserConsent consent : consentRepository.findByUserIdOrderByCreatedAtDesc(userId)) {
+                gen.writeStartObject();
+                gen.writeStringField("consentType", consent.getConsentType().name());
+                gen.writeBooleanField("granted", consent.isGranted());
+                gen.writeStringField("policyVersion", consent.getPolicyVersion());
+                gen.writeStringField("ipAddress", consent.getIpAddress());
+                gen.writeObjectField("createdAt", consent.getCreatedAt());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        });
+
+        entry(zip, "health-records.json", gen -> pages(gen,
+                (afterId, page) -> healthRecordRepository.findExportPage(userId, afterId, page),
+                HealthRecord::getId, (HealthRecord r) -> {
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", r.getId());
+                    // 프록시에서 id 만 꺼내면 아이 행을 읽지 않는다.
+                    gen.writeObjectField("childId", r.getChild() != null ? r.getChild().getId() : null);
+                    gen.writeStringField("recordType", r.getRecordType() != null ? r.getRecordType().name() : null);
+                    gen.writeStringField("title", r.getTitle());
+                    gen.writeStringField("description", r.getDescription());
+                    gen.writeObjectField("recordDate", r.getRecordDate());
+                    gen.writeObjectField("nextDate", r.getNextDate());
+                    gen.writeStringField("location", r.getLocation());
+                    gen.writeStringField("hospitalName", r.getHospitalName());
+                    gen.writeStringField("doctorName", r.getDoctorName());
+                    gen.writeObjectField("height", r.getHeight());
+                    gen.writeObjectField("weight", r.getWeight());
+                    gen.writeObjectField("temperature", r.getTemperature());
+                    gen.writeStringField("bloodPressure", r.getBloodPressure());
+                    gen.writeObjectField("pulseRate", r.getPulseRate());
+                    gen.writeStringField("vaccineName", r.getVaccineName());
+                    gen.writeStringField("vaccineBatch", r.getVaccineBatch());
+                    gen.writeStringField("symptoms", r.getSymptoms());
+                    gen.writeStringField("diagnosis", r.getDiagnosis());
+                    gen.writeStringField("treatment", r.getTreatment());
+                    gen.writeStringField("medication", r.getMedication());
+                    gen.writeStringField("notes", r.getNotes());
+                    gen.writeObjectField("createdAt", r.getCreatedAt());
+                    gen.writeEndObject();
+                }));
+
+        // 첨부 파일 자체는 넣지 않는다. 사진이 수백 MB 일 수 있어 목록과 주소만 두고 각자 내려받게 한다.
+        entry(zip, "attachments.json", gen -> pages(gen,
+                (afterId, page) -> attachmentRepository.findExportPage(userId, afterId, page),
+                HealthRecordAttachment::getId, (HealthRecordAttachment a) -> {
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", a.getId());
+                    gen.writeObjectField("healthRecordId",
+                            a.getHealthRecord() != null ? a.getHealthRecord().getId() : null);
+                    gen.writeStringField("fileName", a.getFileName());
+                    gen.writeStringField("fileType", a.getFileType());
+                    gen.writeObjectField("fileSize", a.getFileSize());
+                    gen.writeStringField("fileUrl", a.getFileUrl());
+                    gen.writeStringField("description", a.getDescription());
+                    gen.writeObjectField("createdAt", a.getCreatedAt());
+                    gen.writeEndObject();
+                }));
+
+        entry(zip, "chat-messages.json", gen -> pages(gen,
+                (afterId, page) -> chatMessageRepository.findExportPage(userId, afterId, page),
+                ChatMessage::getId, (ChatMessage m) -> {
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", m.getId());
+                    gen.writeStringField("sessionId", m.getSessionId());
+                    gen.writeStringField("message", m.getMessage());
+                    gen.writeStringField("response", m.getResponse());
+                    gen.writeStringField("intentType", m.getIntentType() != null ? m.getIntentType().name() : null);
+                    gen.writeObjectField("createdAt", m.getCreatedAt());
+                    gen.writeEndObject();
+                }));
+
+        entry(zip, "notifications.json", gen -> pages(gen,
+                (afterId, page) -> notificationRepository.findExportPage(userId, afterId, page),
+                Notification::getId, (Notification n) -> {
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", n.getId());
+                    gen.writeStringField("type",
+                            n.getNotificationType() != null ? n.getNotificationType().name() : null);
+                    gen.writeStringField("title", n.getTitle());
+                    gen.writeStringField("message", n.getMessage());
+                    gen.writeObjectField("isRead", n.getIsRead());
+                    gen.writeObjectField("createdAt", n.getCreatedAt());
+                    gen.writeEndObject();
+                }));
+
+        entry(zip, "community-posts.json", gen -> pages(gen,
+                (afterId, page) -> postRepository.findExportPage(userId, afterId, page),
+                Post::getId, (Post p) -> {
+                    gen.writeStartObject();
+                    gen.writeNumberField("id", p.getId());
+                    gen.writeStringField("title", p.getTitle());
+                    gen.writeStringField("content", p.getContent());
+                    gen.writeStringField("category", p.getCategory() != null ? p.getCategory().name() : null);
+                    gen.writeObjectField("isAnonymous", p.getIsAnonymous());
+                    gen.writeObjectField("createdAt", p.getCreatedAt());
+                    gen.writeEndObject();
+                }));
+
+        zip.finish();
+    }
+
+    private void entry(ZipOutputStream zip, String name, JsonBody body) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        JsonGenerator gen = objectMapper.createGenerator(zip, JsonEncoding.UTF8);
+        // 항목 하나를 끝냈다고 zip 까지 닫으면 안 된다.
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        body.write(gen);
+        gen.close();
+        zip.closeEntry();
+    }
+
+    private <T> void pages(JsonGenerator gen, PageLoader<T> loader, Function<T, Long> idOf, RowWriter<T> row)
+            throws IOException {
+        gen.writeStartArray();
+        Pageable page = PageRequest.of(0, pageSize);
+        long afterId = 0;
+        while (true) {
+            List<T> rows = loader.load(afterId, page);
+            for (T item : rows) {
+                row.write(item);
+            }
+            if (rows.size() < pageSize) {
+                break;
+            }
+            afterId = idOf.apply(rows.get(rows.size() - 1));
+            // 쓴 만큼 압축기로 넘겨 버퍼가 페이지 단위를 넘지 않게 한다.
+            gen.flush();
+        }
+        gen.writeEndArray();
+    }
+
+    @FunctionalInterface
+    private interface JsonBody {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface PageLoader<T> {
+        List<T> load(Long afterId, Pageable page);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T item) throws IOException;
+    }
+}
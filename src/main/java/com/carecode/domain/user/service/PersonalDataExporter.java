@@ -0,0 +1,187 @@
+package com.carecode.domain.user.service;
+
+import com.carecode.domain.notification.entity.Notification;
+import com.carecode.domain.notification.service.NotificationCreationService;
+import com.carecode.domain.user.entity.DataExport;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.repository.DataExportRepository;
+import com.carecode.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내 데이터 내려받기 파일을 백그라운드에서 만들고, 다 되면 알림을 보낸다.
+ *
+ * <p>파일은 로컬 디스크에 두고 보관 기간이 지나면 지운다. 업로드 저장소와 같이 단일 인스턴스 배포를 전제로 한다.
+ * 업로드 저장소(/files)는 키만 알면 로그인한 누구나 받을 수 있어 쓰지 않는다. 내려받기는 본인 확인 뒤에만 연다.
+ */
+@Slf4j
+@Component
+public class PersonalDataExporter {
+
+    /** 서버가 내려가 멈춘 요청을 다시 받을 수 있게 되는 시간. 가장 큰 계정도 이 안에 끝난다. */
+    static final long STALE_AFTER_MINUTES = 60;
+
+    static final String BUSY_REASON = "요청이 많아 지금은 만들 수 없습니다. 잠시 후 다시 요청해 주세요.";
+
+    private final DataExportRepository exportRepository;
+    private final UserRepository userRepository;
+    private final PersonalDataExportWriter writer;
+    private final NotificationCreationService notificationCreationService;
+    private final ThreadPoolTaskExecutor exportExecutor;
+    private final Path exportDirectory;
+    private final int retentionDays;
+
+    public PersonalDataExporter(DataExportRepository exportRepository,
+                                UserRepository userRepository,
+                                PersonalDataExportWriter writer,
+                                NotificationCreationService notificationCreationService,
+                                @Qualifier("exportExecutor") ThreadPoolTaskExecutor exportExecutor,
+                                @Value("${app.privacy.export.dir:./exports}") String exportDirectory,
+                                @Value("${app.privacy.export.retention-days:7}") int retentionDays) {
+        this.exportRepository = exportRepository;
+        this.userRepository = userRepository;
+        this.writer = writer;
+        this.notificationCreationService = notificationCreationService;
+        this.exportExecutor = exportExecutor;
+        this.exportDirectory = Paths.get(exportDirectory).toAbsolutePath().normalize();
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 요청 행이 커밋된 뒤에 시작해야 백그라운드 스레드가 그 행을 본다. 자리를 확인한 뒤 풀이 먼저 찼으면 요청을
+     * 실패로 남긴다. 진행 중으로 남겨 두면 멈춘 요청으로 볼 때까지 다시 요청할 수도 없다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRequested(DataExportRequested event) {
+        try {
+            exportExecutor.execute(() -> run(event.exportId()));
+        } catch (TaskRejectedException e) {
+            log.warn("내 데이터 내려받기 거절 - 작업 풀이 가득 참. exportId={}", event.exportId());
+            exportRepository.markFailed(event.exportId(), BUSY_REASON, LocalDateTime.now());
+        }
+    }
+
+    /** 지금 새 요청을 받을 자리가 있는지. 없으면 요청을 만들지 않고 잠시 후 다시 하라고 돌려보낸다. */
+    public boolean hasCapacity() {
+        return exportExecutor.getActiveCount() < exportExecutor.getMaxPoolSize()
+                || exportExecutor.getQueueSize() < exportExecutor.getQueueCapacity();
+    }
+
+    void run(Long exportId) {
+        if (exportRepository.markRunning(exportId) == 0) {
+            return;   // 이미 다른 스레드가 잡았거나 취소됐다
+        }
+        DataExport export = exportRepository.findById(exportId).orElseThrow();
+        Path temp = null;
+        try {
+            User user = userRepository.findById(export.getUserId())
+                    .orElseThrow(() -> new IllegalStateException("사용자가 없습니다: " + export.getUserId()));
+
+            Files.createDirectories(exportDirectory);
+            temp = Files.createTempFile(exportDirectory, "export-" + exportId + "-", ".part");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+                writer.write(user, out);
+            }
+            String fileName = "export-" + exportId + ".zip";
+            Path target = exportDirectory.resolve(fileName);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            LocalDateTime now = LocalDateTime.now();
+            if (exportRepository.markReady(exportId, fileName, Files.size(target), now, now.plusDays(retentionDays)) == 0) {
+                // 쓰는 동안 탈퇴해 요청이 만료됐다. 만든 파일을 남기지 않는다.
+                deleteQuietly(target);
+                log.info("내 데이터 내려받기 취소 - 작업 중 요청이 만료됨. exportId={}", exportId);
+                return;
+            }
+            log.info("내 데이터 내려받기 준비 완료 - exportId={}, userId={}, bytes={}",
+                    exportId, user.getId(), Files.size(target));
+
+            notificationCreationService.createAndSend(user, Notification.NotificationType.SYSTEM,
+                    "내 데이터 내려받기 준비 완료",
+                    "요청하신 개인정보 내려받기 파일이 준비되었습니다. " + retentionDays + "일 동안 내려받을 수 있습니다.");
+        } catch (Exception e) {
+            log.error("내 데이터 내려받기 실패 - exportId={}", exportId, e);
+            exportRepository.markFailed(exportId, abbreviate(e.getMessage()), LocalDateTime.now());
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /** 본인 확인은 호출하는 쪽이 한다. */
+    public Optional<Resource> open(DataExport export) {
+        if (!export.isDownloadable(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        Path file = exportDirectory.resolve(export.getFileName()).normalize();
+        return file.startsWith(exportDirectory) && Files.isRegularFile(file)
+                ? Optional.of(new FileSystemResource(file))
+                : Optional.empty();
+    }
+
+    /** 보관 기간이 지난 파일을 지운다. @return 지운 수 */
+    public int purgeExpired() {
+        int purged = 0;
+        for (DataExport export : exportRepository.findExpired(LocalDateTime.now())) {
+            if (export.getFileName() != null) {
+                deleteQuietly(exportDirectory.resolve(export.getFileName()).normalize());
+            }
+            exportRepository.markExpired(export.getId());
+            purged++;
+        }
+        return purged;
+    }
+
+    /** 탈퇴로 만료된 요청의 파일. 행이 커밋된 뒤에 지워야 탈퇴가 롤백됐을 때 파일만 사라지지 않는다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDiscarded(DataExportsDiscarded event) {
+        for (String fileName : event.fileNames()) {
+            deleteQuietly(exportDirectory.resolve(fileName).normalize());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null || !path.startsWith(exportDirectory)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("내려받기 파일 삭제 실패 - path={}, 사유={}", path, e.getMessage());
+        }
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    /** 요청이 저장됐다. 커밋 뒤 파일 만들기를 시작한다. */
+    public record DataExportRequested(Long exportId) {
+    }
+
+    /** 탈퇴로 요청이 모두 만료됐다. 커밋 뒤 남은 파일을 지운다. */
+    public record DataExportsDiscarded(List<String> fileNames) {
+    }
+}
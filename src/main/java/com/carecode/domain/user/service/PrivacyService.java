@@ -1,18 +1,27 @@
 package com.carecode.domain.user.service;
 
+import com.carecode.core.exception.BusinessException;
+import com.carecode.core.exception.ErrorCode;
+import com.carecode.core.exception.RateLimitExceededException;
+import com.carecode.core.security.CurrentUserCache;
 import com.carecode.core.security.CurrentUserFacade;
 import com.carecode.domain.community.repository.PostRepository;
 import com.carecode.domain.health.repository.HealthRecordRepository;
 import com.carecode.domain.user.dto.request.ConsentUpdateRequest;
 import com.carecode.domain.user.dto.response.ConsentStatusResponse;
+import com.carecode.domain.user.dto.response.DataExportResponse;
 import com.carecode.domain.user.entity.ConsentType;
+import com.carecode.domain.user.entity.DataExport;
 import com.carecode.domain.user.entity.User;
 import com.carecode.domain.user.entity.UserConsent;
 import com.carecode.domain.user.repository.ChildRepository;
+import com.carecode.domain.user.repository.DataExportRepository;
 import com.carecode.domain.user.repository.UserConsentRepository;
 import com.carecode.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +43,11 @@ public class PrivacyService {
     private final ChildRepository childRepository;
     private final HealthRecordRepository healthRecordRepository;
     private final PostRepository postRepository;
+    private final DataExportRepository dataExportRepository;
+    private final PersonalDataExporter personalDataExporter;
+    private final ApplicationEventPublisher eventPublisher;
     private final CurrentUserFacade currentUserFacade;
+    private final CurrentUserCache currentUserCache;
 
     // ====================
     // 동의 관리 ====================
@@ -96,7 +109,10 @@ public class PrivacyService {
     // ====================
     // 데이터 열람 ====================
 
-    /** 내 데이터 전체 내려받기. 정보주체의 열람권 행사에 대응한다. 비밀번호 등 인증 정보는 포함하지 않는다. */
+    /**
+     * 내 데이터 요약. 프로필·아이·동의 이력과 건수만 바로 돌려준다. 기록 전체는 {@link #requestExport()} 로
+     * 만든 zip 으로 받는다. 비밀번호 등 인증 정보는 포함하지 않는다.
+     */
     public Map<String, Object> exportMyData() {
         User user = currentUserFacade.requireCurrentUser();
 
@@ -120,20 +136,70 @@ public class PrivacyService {
                         "birthDate", String.valueOf(child.getBirthDate()),
                         "gender", String.valueOf(child.getGender())))
                 .toList());
-        export.put("healthRecordCount", healthRecordRepository.findByUserOrderByRecordDateDesc(user).size());
+        // 건수만 필요한데 예전에는 기록 전체를 읽어 size() 를 셌다.
+        export.put("healthRecordCount", healthRecordRepository.countByUserId(user.getId()));
         export.put("postCount", postRepository.countByAuthorId(user.getId()));
         export.put("consentHistory", getConsentHistory());
 
         return export;
     }
 
+    /**
+     * 내 데이터 전체 내려받기(열람권 행사) 요청. 파일은 백그라운드에서 만들고 준비되면 알림으로 알린다.
+     * 진행 중인 요청이 있으면 새로 만들지 않고 그 요청을 돌려준다. 작업 풀이 가득 차 있으면 429 로 잠시 후 다시
+     * 요청하라고 알린다.
+     */
+    @Transactional
+    public DataExportResponse requestExport() {
+        User user = currentUserFacade.requireCurrentUser();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<DataExport> inProgress = dataExportRepository.findInProgress(user.getId(),
+                now.minusMinutes(PersonalDataExporter.STALE_AFTER_MINUTES));
+        if (!inProgress.isEmpty()) {
+            return DataExportResponse.from(inProgress.get(0), now);
+        }
+        if (!personalDataExporter.hasCapacity()) {
+            throw new RateLimitExceededException("내려받기 요청이 많아 지금은 받을 수 없습니다. 잠시 후 다시 요청해 주세요.");
+        }
+
+        DataExport export = dataExportRepository.save(DataExport.builder()
+                .userId(user.getId())
+                .status(DataExport.Status.PENDING)
+                .requestedAt(now)
+                .build());
+        eventPublisher.publishEvent(new PersonalDataExporter.DataExportRequested(export.getId()));
+        return DataExportResponse.from(export, now);
+    }
+
+    public DataExportResponse getExport(Long exportId) {
+        return DataExportResponse.from(requireOwnedExport(exportId), LocalDateTime.now());
+    }
+
+    /** 준비된 파일. 만료됐거나 아직 없으면 404 다. */
+    public Resource openExport(Long exportId) {
+        return personalDataExporter.open(requireOwnedExport(exportId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "내려받을 수 있는 파일이 없습니다."));
+    }
+
+    /** 남의 요청 id 는 없는 것과 똑같이 답한다. */
+    private DataExport requireOwnedExport(Long exportId) {
+        User user = currentUserFacade.requireCurrentUser();
+        return dataExportRepository.findByIdAndUserId(exportId, user.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "내려받기 요청을 찾을 수 없습니다: " + exportId));
+    }
+
     // ====================
     // 파기 ====================
 
     /** 회원 탈퇴(파기 요청). 즉시 물리 삭제하지 않는 이유: 게시글·댓글 등 참조 데이터가 함께 사라지면 다른 이용자의 대화 맥락이 깨지고 */
     @Transactional
     public void deleteMyAccount() {
-        User user = currentUserFacade.requireCurrentUser();
+        User user = currentUserFacade.requireCurrentUserForUpdate();
+        // 아래에서 이메일을 바꾸므로 캐시 키인 원래 이메일로 먼저 비운다.
+        currentUserCache.evict(user.getEmail());
 
         String anonymized = "deleted_" + user.getId();
         user.setName("탈퇴한 사용자");
@@ -149,6 +215,11 @@ public class PrivacyService {
         user.setDeletedAt(LocalDateTime.now());
 
         userRepository.save(user);
+
+        // 내려받기 파일은 개인정보 전체 사본이다. 보관 기간(7일)을 기다리지 않고 탈퇴와 함께 만료시킨다.
+        List<String> exportFiles = dataExportRepository.findFileNamesByUserId(user.getId());
+        dataExportRepository.expireAllByUserId(user.getId());
+        eventPublisher.publishEvent(new PersonalDataExporter.DataExportsDiscarded(exportFiles));
         log.info("회원 탈퇴 처리 완료 - userId={}", user.getId());
     }
 }
@@ -5,6 +5,9 @@ import com.carecode.core.analytics.EventType;
 import com.carecode.core.annotation.LogExecutionTime;
 import com.carecode.core.annotation.RequireAuthentication;
 import com.carecode.core.exception.UserNotFoundException;
+import com.carecode.core.security.CurrentUserCache;
+import com.carecode.core.stats.SiteStatistics;
+import com.carecode.core.stats.SiteStatisticsEvent;
 import com.carecode.domain.user.dto.request.PasswordChangeRequestDto;
 import com.carecode.domain.user.dto.response.UserDto;
 import com.carecode.domain.user.dto.response.UserStatsResponse;
@@ -14,6 +17,7 @@ import com.carecode.domain.user.entity.Gender;
 import com.carecode.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -47,6 +51,9 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final RestTemplate restTemplate;
     private final EventLogger eventLogger;
+    private final SiteStatistics siteStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CurrentUserCache currentUserCache;
 
     // 사용자 상세 조회 (String ID) - 삭제되지 않은 사용자만
     @LogExecutionTime
@@ -100,7 +107,7 @@ public class UserService {
     // User 엔티티 저장
     @Transactional
     public User saveUser(User user) {
-        return userRepository.save(user);
+        return saveAndEvict(user);
     }
 
     // 카카오 API를 통해 사용자 정보 조회
@@ -159,29 +166,17 @@ public class UserService {
         }
     }
 
-    // 사용자 통계 조회
+    // 사용자 통계 조회. 관리자 화면을 열 때마다 사용자 테이블을 세지 않도록 메모리 집계에서 읽는다.
     @LogExecutionTime
     public UserStatsResponse getUserStatistics() {
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.countActiveUsersNotDeleted();
-        long verifiedUsers = userRepository.countEmailVerifiedUsersNotDeleted();
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
-        LocalDateTime startOfWeek = now.minusWeeks(1);
-        LocalDateTime startOfMonth = now.minusMonths(1);
-
-        long newUsersToday = userRepository.countNewUsersSince(startOfToday);
-        long newUsersThisWeek = userRepository.countNewUsersSince(startOfWeek);
-        long newUsersThisMonth = userRepository.countNewUsersSince(startOfMonth);
-
+        LocalDate today = LocalDate.now();
         return UserStatsResponse.builder()
-                .totalUsers(totalUsers)
-                .activeUsers(activeUsers)
-                .verifiedUsers(verifiedUsers)
-                .newUsersToday(newUsersToday)
-                .newUsersThisWeek(newUsersThisWeek)
-                .newUsersThisMonth(newUsersThisMonth)
+                .totalUsers(siteStatistics.totalUsers())
+                .activeUsers(siteStatistics.activeUsers())
+                .verifiedUsers(siteStatistics.verifiedUsers())
+                .newUsersToday(siteStatistics.newUsersSince(today))
+                .newUsersThisWeek(siteStatistics.newUsersSince(today.minusWeeks(1)))
+                .newUsersThisMonth(siteStatistics.newUsersSince(today.minusMonths(1)))
                 .build();
     }
 
@@ -222,7 +217,7 @@ public class UserService {
         user.setRegistrationCompleted(true); // 가입 프로세스 완료로 설정
         user.setUpdatedAt(LocalDateTime.now());
         
-        User updatedUser = userRepository.save(user);
+        User updatedUser = saveAndEvict(user);
         log.info("카카오 사용자 가입 프로세스 완료: email={}, name={}, role={}", email, name, role);
         return convertToDto(updatedUser);
     }
@@ -276,6 +271,8 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
         eventLogger.log(EventType.SIGNED_UP, savedUser.getId(), null);
+        eventPublisher.publishEvent(new SiteStatisticsEvent.UserSignedUp(
+                savedUser.getName(), Boolean.TRUE.equals(savedUser.getEmailVerified()), savedUser.getCreatedAt()));
         return convertToDto(savedUser);
     }
 
@@ -295,7 +292,7 @@ public class UserService {
         // 새 비밀번호로 변경
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         user.setUpdatedAt(LocalDateTime.now());
-        userRepository.save(user);
+        saveAndEvict(user);
     }
 
     // 사용자 비활성화 (String ID)
@@ -310,7 +307,7 @@ public class UserService {
                     .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
             user.setIsActive(false);
             user.setUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
+            saveAndEvict(user);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("잘못된 사용자 ID 형식입니다: " + userId);
         }
@@ -328,7 +325,7 @@ public class UserService {
                     .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
             user.setIsActive(true);
             user.setUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
+            saveAndEvict(user);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("잘못된 사용자 ID 형식입니다: " + userId);
         }
@@ -363,7 +360,7 @@ public class UserService {
         user.setRole(role);
         user.setUpdatedAt(LocalDateTime.now());
 
-        userRepository.save(user);
+        saveAndEvict(user);
     }
 
     // 프로필 이미지 업데이트 (String ID)
@@ -378,7 +375,7 @@ public class UserService {
                     .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
             user.setProfileImageUrl(imageUrl);
             user.setUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
+            saveAndEvict(user);
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("잘못된 사용자 ID 형식입니다: " + userId);
         }
@@ -450,7 +447,7 @@ public class UserService {
         user.setLatitude(latitude);
         user.setLongitude(longitude);
         user.setUpdatedAt(LocalDateTime.now());
-        User updatedUser = userRepository.save(user);
+        User updatedUser = saveAndEvict(user);
         return convertToDto(updatedUser);
     }
 
@@ -534,7 +531,7 @@ public class UserService {
         user.setDeletedAt(LocalDateTime.now());
         user.setIsActive(false);
         user.setUpdatedAt(LocalDateTime.now());
-        userRepository.save(user);
+        saveAndEvict(user);
     }
 
     /**
@@ -574,7 +571,7 @@ public class UserService {
         user.setIsActive(true);
         user.setDeletedAt(null); // 삭제 시간 초기화
         user.setUpdatedAt(LocalDateTime.now());
-        userRepository.save(user);
+        saveAndEvict(user);
         
         log.info("사용자 계정 복구 완료: 사용자ID={}, 복구시간={}", userId, user.getUpdatedAt());
     }
@@ -613,4 +610,11 @@ public class UserService {
     }
 
     // 최근 업데이트된 사용자 조회 -> 나중에 사용 @LogExecutionTime public List<UserDto> getRecentlyUpdatedUsers(int
-} 
\ No newline at end of file
+
+    /** 사용자 정보를 바꾼 뒤에는 로그인 사용자 캐시도 비운다. 안 비우면 TTL 동안 바뀌기 전 이름·권한·상태가 보인다. */
+    private User saveAndEvict(User user) {
+        User saved = userRepository.save(user);
+        currentUserCache.evict(saved.getEmail());
+        return saved;
+    }
+}
@@ -1,6 +1,7 @@
 package com.carecode.domain.user.service.impl;
 
 import com.carecode.core.exception.CareServiceException;
+import com.carecode.core.stats.SiteStatisticsEvent;
 import com.carecode.core.util.KakaoUtil;
 import com.carecode.domain.user.dto.response.KakaoOAuthToken;
 import com.carecode.domain.user.dto.response.KakaoProfile;
@@ -16,6 +17,7 @@ import com.carecode.domain.user.service.UserService;
 import com.carecode.domain.user.service.refreshtoken.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -31,6 +33,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtService jwtService;
     private final UserService userService;
     private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TokenDto oAuthLoginOrRegister(String accessCode) {
@@ -89,6 +92,8 @@ public class AuthServiceImpl implements AuthService {
                 user = createNewUser(kakaoProfile, email, providerId, nickname);
                 userRepository.save(user);
                 isNewUser = true;
+                eventPublisher.publishEvent(new SiteStatisticsEvent.UserSignedUp(
+                        user.getName(), Boolean.TRUE.equals(user.getEmailVerified()), user.getCreatedAt()));
             }
 
             String message = isNewUser ? "카카오 회원가입 성공!" : "카카오 로그인 성공!";
@@ -0,0 +1,28 @@
+-- 시설별 정원 관측 요약. 야간 집계가 스냅샷 전체를 한 번 훑어 시설당 한 행으로 만든다.
+-- 인기도·입소 예측 화면은 이 행 하나만 읽고, 빈자리 알림은 VACANCY_INCREASE 로 대상 시설을 한 번에 고른다.
+CREATE TABLE TBL_FACILITY_CAPACITY_STATS (
+    FACILITY_ID BIGINT PRIMARY KEY COMMENT '시설 ID',
+    COMPUTED_DATE DATE NOT NULL COMMENT '계산 기준일',
+    FILL_RATE_OBSERVATIONS INT NOT NULL DEFAULT 0 COMMENT '충원율을 낼 수 있었던 관측 수 (24개월)',
+    AVERAGE_FILL_RATE INT COMMENT '평균 충원율 (%)',
+    LATEST_FILL_RATE INT COMMENT '최근 충원율 (%)',
+    FULL_RATIO INT COMMENT '만원이었던 관측 비율 (%)',
+    TREND VARCHAR(10) COMMENT 'RISING / FALLING / STABLE',
+    DEMAND_LEVEL VARCHAR(20) COMMENT 'IN_DEMAND / UNDERSUBSCRIBED / STEADY',
+    SHARP_DROP_DATES VARCHAR(1000) COMMENT '충원율 급락일 (쉼표 구분)',
+    FORECAST_OBSERVATIONS INT NOT NULL DEFAULT 0 COMMENT '관측 수 (18개월)',
+    FORECAST_FIRST_OBSERVED DATE COMMENT '18개월 내 첫 관측일',
+    FORECAST_COVERED_DAYS INT NOT NULL DEFAULT 0 COMMENT '18개월 내 첫·마지막 관측 사이 일수',
+    OBSERVED_WITH_SEAT INT NOT NULL DEFAULT 0 COMMENT '잔여석이 있었던 관측 수',
+    SEAT_OPENINGS INT NOT NULL DEFAULT 0 COMMENT '잔여석이 없다가 생긴 횟수',
+    LATEST_OBSERVED_DATE DATE COMMENT '최근 30일 내 마지막 관측일',
+    LATEST_AVAILABLE_SPOTS INT COMMENT '마지막 관측의 잔여석',
+    VACANCY_INCREASE INT COMMENT '직전 관측 대비 잔여석 증감',
+    UPDATED_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT FK_CAPACITY_STATS_FACILITY FOREIGN KEY (FACILITY_ID)
+        REFERENCES TBL_CARE_FACILITIES (ID) ON DELETE CASCADE
+) COMMENT '시설 정원 관측 요약 (야간 집계)';
+
+-- 빈자리 알림 대상 조회용. 증가한 시설만 범위로 읽는다.
+CREATE INDEX IDX_CAPACITY_STATS_VACANCY
+    ON TBL_FACILITY_CAPACITY_STATS (VACANCY_INCREASE, COMPUTED_DATE);
@@ -0,0 +1,22 @@
+-- 압축된 정원 이력. 보존 기간이 지난 스냅샷을 같은 값이 이어진 구간 한 행으로 접는다.
+-- 정원·현원은 몇 달씩 그대로인 경우가 대부분이라 주간 스냅샷 수십 행이 한 행이 된다.
+CREATE TABLE TBL_FACILITY_CAPACITY_RUN (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    FACILITY_ID BIGINT NOT NULL COMMENT '시설 ID',
+    FIRST_OBSERVED DATE NOT NULL COMMENT '구간 첫 관측일 (값이 바뀐 날)',
+    LAST_OBSERVED DATE NOT NULL COMMENT '구간 마지막 관측일',
+    OBSERVATION_COUNT INT NOT NULL COMMENT '구간에 접힌 관측 수',
+    CAPACITY INT COMMENT '정원',
+    CURRENT_ENROLLMENT INT COMMENT '현원',
+    AVAILABLE_SPOTS INT COMMENT '잔여석',
+    CONSTRAINT UK_CAPACITY_RUN_START UNIQUE (FACILITY_ID, FIRST_OBSERVED),
+    CONSTRAINT FK_CAPACITY_RUN_FACILITY FOREIGN KEY (FACILITY_ID)
+        REFERENCES TBL_CARE_FACILITIES (ID) ON DELETE CASCADE
+) COMMENT '시설 정원 변동 압축 이력';
+
+-- 기간 조회는 구간 끝으로 자른다. 만료 삭제도 이 인덱스를 쓴다.
+CREATE INDEX IDX_CAPACITY_RUN_FACILITY_LAST
+    ON TBL_FACILITY_CAPACITY_RUN (FACILITY_ID, LAST_OBSERVED);
+
+CREATE INDEX IDX_CAPACITY_RUN_LAST
+    ON TBL_FACILITY_CAPACITY_RUN (LAST_OBSERVED);
@@ -0,0 +1,9 @@
+-- 주소→좌표 캐시. 같은 주소를 쓰는 시설과 재수집으로 좌표가 비워진 시설이 외부 API 를 다시 부르지 않게 한다.
+-- 좌표가 비어 있는 행은 "찾을 수 없음" 이다. RESOLVED_AT 이 오래되면 다시 물어본다.
+CREATE TABLE TBL_GEOCODED_ADDRESS (
+    ADDRESS_KEY VARCHAR(255) NOT NULL PRIMARY KEY COMMENT '정규화한 주소',
+    LATITUDE DOUBLE COMMENT '위도 (없으면 찾을 수 없음)',
+    LONGITUDE DOUBLE COMMENT '경도',
+    PROVIDER VARCHAR(20) NOT NULL COMMENT '지오코딩 공급자',
+    RESOLVED_AT DATETIME NOT NULL COMMENT '조회 시각'
+) COMMENT '주소 좌표 캐시';
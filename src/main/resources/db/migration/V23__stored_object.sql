@@ -0,0 +1,10 @@
+-- 중복 제거 파일 저장소. 키는 내용 SHA-256 의 HMAC 이라 같은 파일은 한 벌만 두고 참조 수를 센다.
+-- 내용 해시를 알아도 키(곧 URL)를 짐작할 수 없다.
+CREATE TABLE TBL_STORED_OBJECT (
+    STORAGE_KEY VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '저장소 키 (objects/ab/cd/<HMAC(sha256)>.<확장자>)',
+    SHA256 VARCHAR(64) NOT NULL COMMENT '내용 해시',
+    CONTENT_TYPE VARCHAR(100) COMMENT '업로드 당시 MIME 타입',
+    SIZE_BYTES BIGINT NOT NULL COMMENT '파일 크기',
+    REF_COUNT INT NOT NULL COMMENT '이 파일을 가리키는 첨부 수',
+    CREATED_AT DATETIME NOT NULL COMMENT '처음 저장한 시각'
+) COMMENT '저장 파일 참조 수';
@@ -0,0 +1,16 @@
+-- 내 데이터 내려받기 요청. 파일은 백그라운드에서 만들고 보관 기간이 지나면 지운다.
+CREATE TABLE TBL_DATA_EXPORT (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL COMMENT '요청한 사용자',
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING, RUNNING, READY, FAILED, EXPIRED',
+    file_name VARCHAR(100) COMMENT '내보내기 디렉터리 안의 파일 이름',
+    size_bytes BIGINT COMMENT '파일 크기',
+    failure_reason VARCHAR(500) COMMENT '실패 사유',
+    requested_at DATETIME NOT NULL,
+    completed_at DATETIME,
+    expires_at DATETIME COMMENT '이 시각이 지나면 파일을 지운다',
+    CONSTRAINT FK_DATA_EXPORT_USER FOREIGN KEY (user_id) REFERENCES TBL_USER (ID)
+) COMMENT '내 데이터 내려받기 요청';
+
+CREATE INDEX idx_data_export_user ON TBL_DATA_EXPORT (user_id, requested_at);
+CREATE INDEX idx_data_export_expiry ON TBL_DATA_EXPORT (status, expires_at);
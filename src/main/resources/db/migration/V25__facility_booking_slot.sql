@@ -0,0 +1,14 @@
+-- 시설 예약 장부. 시설 × 시간칸마다 남은 자리 수를 둔다.
+-- 예약은 걸친 칸들을 조건부 UPDATE 로 하나씩 줄여 자리를 잡는다. 칸 행은 처음 예약될 때 만든다.
+CREATE TABLE TBL_FACILITY_BOOKING_SLOT (
+    ID BIGINT AUTO_INCREMENT PRIMARY KEY,
+    FACILITY_ID BIGINT NOT NULL COMMENT '시설 ID',
+    SLOT_START DATETIME NOT NULL COMMENT '칸 시작 시각 (app.booking.slot-minutes 단위)',
+    REMAINING INT NOT NULL COMMENT '남은 자리 수',
+    CONSTRAINT UK_BOOKING_SLOT_FACILITY_START UNIQUE (FACILITY_ID, SLOT_START),
+    CONSTRAINT FK_BOOKING_SLOT_FACILITY FOREIGN KEY (FACILITY_ID)
+        REFERENCES TBL_CARE_FACILITIES (ID) ON DELETE CASCADE
+) COMMENT '시설 예약 시간칸별 남은 자리';
+
+-- 지난 칸 정리용
+CREATE INDEX IDX_BOOKING_SLOT_START ON TBL_FACILITY_BOOKING_SLOT (SLOT_START);
@@ -0,0 +1,21 @@
+-- V26: 병원 반경 검색용 POINT 컬럼과 공간 인덱스.
+-- V4 의 (LATITUDE, LONGITUDE) 복합 인덱스는 위도 범위만 인덱스로 좁히고 경도는 걸러 내기만 해서,
+-- 병원이 몰린 위도대(서울)에서는 후보가 많았다. R-tree 는 위경도 사각형을 한 번에 좁힌다.
+--
+-- MariaDB 는 MySQL 8 의 "SRID 4326" 대신 REF_SYSTEM_ID 로 좌표계를 적는다. 좌표 순서는 POINT(경도 위도)다.
+-- 공간 인덱스 컬럼은 NOT NULL 이어야 해서 좌표가 없는 병원은 (0, 0) 에 둔다. 반경 검색 범위(국내)에
+-- 걸리지 않고, 조회 쿼리도 LATITUDE IS NOT NULL 을 함께 본다.
+-- 엔티티가 INSERT 할 때 이 컬럼을 모르므로 기본값을 둔다. 좌표는 HospitalUpsertService 가 저장 직후 맞춘다.
+
+ALTER TABLE TBL_HOSPITAL ADD COLUMN LOCATION POINT NULL REF_SYSTEM_ID = 4326;
+
+UPDATE TBL_HOSPITAL
+SET LOCATION = ST_GeomFromText(CONCAT('POINT(', LONGITUDE, ' ', LATITUDE, ')'), 4326)
+WHERE LATITUDE IS NOT NULL AND LONGITUDE IS NOT NULL;
+
+UPDATE TBL_HOSPITAL SET LOCATION = ST_GeomFromText('POINT(0 0)', 4326) WHERE LOCATION IS NULL;
+
+ALTER TABLE TBL_HOSPITAL
+    MODIFY LOCATION POINT NOT NULL DEFAULT (ST_GeomFromText('POINT(0 0)', 4326)) REF_SYSTEM_ID = 4326;
+
+CREATE SPATIAL INDEX sp_hospital_location ON TBL_HOSPITAL (LOCATION);
@@ -0,0 +1,11 @@
+-- V27: 병원 좋아요 수 비정규화. 인기 병원 목록이 요청마다 좋아요 테이블 전체를 병원별로 GROUP BY 하던 것을
+-- 병원 행의 LIKE_COUNT 정렬로 바꾼다. 좋아요·취소가 원자적으로 올리고 내리며, 어긋난 값은 매일 재집계가 고친다.
+
+ALTER TABLE TBL_HOSPITAL ADD COLUMN LIKE_COUNT BIGINT NOT NULL DEFAULT 0;
+
+UPDATE TBL_HOSPITAL h
+SET LIKE_COUNT = (SELECT COUNT(*) FROM TBL_HOSPITAL_LIKE l WHERE l.HOSPITAL_ID = h.ID);
+
+-- 전체·진료과목별 순위. 지역별은 주소 접두어라 인덱스로 좁히기 어렵지만 캐시가 앞에 있어 자주 오지 않는다.
+CREATE INDEX idx_hospital_like_count ON TBL_HOSPITAL (LIKE_COUNT);
+CREATE INDEX idx_hospital_type_like_count ON TBL_HOSPITAL (TYPE, LIKE_COUNT);
@@ -0,0 +1,15 @@
+-- V28: 시설 고급 검색 인덱스. 검색이 조건 조합마다 들어온 술어만 붙이도록 바뀌어, 자주 오는 조합이 탈 복합 인덱스를
+-- 둔다. 모든 검색이 IS_ACTIVE = true 를 거니 IS_ACTIVE 가 앞에 온다.
+
+-- 유형·공립 여부로 좁힌 뒤 평점·리뷰 수 순서 그대로 읽는다. 기본 정렬이 같아 정렬 없이 첫 페이지에서 멈춘다.
+-- 유형만 오는 검색도 앞 두 컬럼을 쓴다.
+CREATE INDEX idx_facility_search_type_public_rating
+    ON TBL_CARE_FACILITIES (IS_ACTIVE, FACILITY_TYPE, IS_PUBLIC, RATING, REVIEW_COUNT);
+
+-- 자녀 나이 검색. 범위 조건이라 AGE_RANGE_MAX 는 인덱스 조건 푸시다운으로 걸러져 테이블까지 가는 행이 준다.
+CREATE INDEX idx_facility_search_age_range
+    ON TBL_CARE_FACILITIES (IS_ACTIVE, AGE_RANGE_MIN, AGE_RANGE_MAX);
+
+-- 수업료 상한 검색.
+CREATE INDEX idx_facility_search_tuition
+    ON TBL_CARE_FACILITIES (IS_ACTIVE, TUITION_FEE);
@@ -0,0 +1,107 @@
+package com.carecode.core.aspect;
+
+import com.carecode.core.annotation.LogExecutionTime;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("실행 시간 측정 Aspect")
+class LoggingAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("성공과 실패를 결과 태그로 나눠 Timer 에 기록한다")
+    void recordsOutcome() {
+        SampleService service = proxy(new SampleService());
+
+        service.succeed();
+        service.succeed();
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("succeed", "SUCCESS").count()).isEqualTo(2);
+        assertThat(timer("fail", "ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Error 로 끝난 호출도 실패로 기록한다")
+    void recordsErrorAsFailure() {
+        SampleService service = proxy(new SampleService());
+
+        assertThatThrownBy(service::overflow).isInstanceOf(StackOverflowError.class);
+
+        assertThat(timer("overflow", "ERROR").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖 호출은 메서드 실행 전에 추적 ID 를 채우고 끝나면 지운다")
+    void setsTraceIdBeforeProceeding() {
+        SampleService service = proxy(new SampleService());
+
+        assertThat(service.currentTraceId()).isNotBlank();
+        assertThat(MDC.get("traceId")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 있는 추적 ID 는 그대로 쓰고 지우지 않는다")
+    void keepsExistingTraceId() {
+        SampleService service = proxy(new SampleService());
+        MDC.put("traceId", "req-1");
+        try {
+            assertThat(service.currentTraceId()).isEqualTo("req-1");
+            assertThat(MDC.get("traceId")).isEqualTo("req-1");
+        } finally {
+            MDC.remove("traceId");
+        }
+    }
+
+    @Test
+    @DisplayName("SLO 버킷을 함께 내보낸다")
+    void publishesSloBuckets() {
+        proxy(new SampleService()).succeed();
+
+        assertThat(timer("succeed", "SUCCESS").takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get(LoggingAspect.METRIC_NAME)
+                .tags("class", "SampleService", "method", method, "outcome", outcome)
+                .timer();
+    }
+
+    private SampleService proxy(SampleService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LoggingAspect(meterRegistry, 0.0));
+        return factory.getProxy();
+    }
+
+    static class SampleService {
+
+        @LogExecutionTime
+        public String succeed() {
+            return "ok";
+        }
+
+        @LogExecutionTime(warnThreshold = 1000)
+        public String fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        @LogExecutionTime
+        public String overflow() {
+            throw new StackOverflowError();
+        }
+
+        @LogExecutionTime
+        public String currentTraceId() {
+            return MDC.get("traceId");
+        }
+    }
+}
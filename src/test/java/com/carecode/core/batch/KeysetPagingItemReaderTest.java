@@ -0,0 +1,78 @@
+package com.carecode.core.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("keyset 페이징 배치 리더")
+class KeysetPagingItemReaderTest {
+
+    @Test
+    @DisplayName("처리한 행이 조건에서 빠져도 다음 페이지를 건너뛰지 않는다")
+    void doesNotSkipWhenProcessedRowsLeaveTheQuery() {
+        // offset 페이징이면 앞 페이지가 빠지면서 4~6 이 통째로 누락된다
+        List<Long> pending = new ArrayList<>(LongStream.rangeClosed(1, 7).boxed().toList());
+        List<Integer> pageSizes = new ArrayList<>();
+        KeysetPagingItemReader<Long> reader = new KeysetPagingItemReader<>("test", (lastId, size) -> {
+            pageSizes.add(size);
+            return pending.stream().filter(id -> id > lastId).limit(size).toList();
+        }, Function.identity(), 3);
+        reader.open(new ExecutionContext());
+
+        List<Long> read = new ArrayList<>();
+        Long id;
+        while ((id = reader.read()) != null) {
+            read.add(id);
+            pending.remove(id);
+        }
+
+        assertThat(read).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        // 마지막 페이지가 짧으면 빈 페이지를 한 번 더 조회하지 않는다
+        assertThat(pageSizes).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("재시작하면 마지막으로 커밋된 항목 다음부터 읽는다")
+    void resumesAfterLastCommittedItem() {
+        List<Long> rows = LongStream.rangeClosed(1, 10).boxed().toList();
+        KeysetPagingItemReader<Long> first = reader(rows);
+        ExecutionContext context = new ExecutionContext();
+        first.open(context);
+        first.read();
+        first.read();
+        first.read();
+        // 청크 커밋 시점에 저장되는 상태
+        first.update(context);
+        // 기존 실행 컨텍스트와 같은 키라 이전 버전에서 실패한 잡도 이어서 읽는다
+        assertThat(context.getLong("test.last.id")).isEqualTo(3L);
+        // 커밋되지 않은 읽기는 재시작 위치에 반영되지 않는다
+        first.read();
+
+        KeysetPagingItemReader<Long> restarted = reader(rows);
+        restarted.open(context);
+
+        assertThat(restarted.read()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 바로 끝난다")
+    void returnsNullWhenEmpty() {
+        KeysetPagingItemReader<Long> reader = reader(List.of());
+        reader.open(new ExecutionContext());
+
+        assertThat(reader.read()).isNull();
+    }
+
+    private static KeysetPagingItemReader<Long> reader(List<Long> rows) {
+        return new KeysetPagingItemReader<>("test",
+                (lastId, size) -> rows.stream().filter(id -> id > lastId).limit(size).toList(),
+                Function.identity(), 3);
+    }
+}
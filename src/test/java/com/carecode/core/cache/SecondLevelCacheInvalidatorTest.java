@@ -0,0 +1,125 @@
+package com.carecode.core.cache;
+
+import com.carecode.core.cluster.ClusterMembership;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@DisplayName("2차 캐시 인스턴스 간 무효화")
+class SecondLevelCacheInvalidatorTest {
+
+    private static final String ENTITY = "com.carecode.domain.community.entity.Tag";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheImplementor cache = mock(CacheImplementor.class);
+    private final TimestampsCache timestampsCache = mock(TimestampsCache.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final StatelessSession session =
+            mock(StatelessSession.class, withSettings().extraInterfaces(SharedSessionContractImplementor.class));
+    private final String[] querySpaces = {"TBL_TAG"};
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        EntityIdentifierMapping identifierMapping = mock(EntityIdentifierMapping.class);
+        doReturn(LongJavaType.INSTANCE).when(identifierMapping).getJavaType();
+        EntityPersister persister = mock(EntityPersister.class);
+        when(persister.getIdentifierMapping()).thenReturn(identifierMapping);
+        when(persister.getSynchronizedQuerySpaces()).thenReturn(querySpaces);
+        MappingMetamodelImplementor metamodel = mock(MappingMetamodelImplementor.class);
+        when(metamodel.findEntityDescriptor(ENTITY)).thenReturn(persister);
+
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        when(cache.getTimestampsCache()).thenReturn(timestampsCache);
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(metamodel);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        ClusterMembership membership = mock(ClusterMembership.class);
+        when(membership.getInstanceId()).thenReturn("node-a");
+
+        invalidator = new SecondLevelCacheInvalidator(entityManagerFactory, redisTemplate, membership, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 알림이면 그 항목을 지우고 그 테이블의 쿼리 결과만 낡게 만든다")
+    void evictsEntryFromOtherInstance() {
+        invalidator.onMessage(message("node-b\t" + ENTITY + "\t42"), null);
+
+        verify(cache).evictEntityData(ENTITY, 42L);
+        verify(timestampsCache).invalidate(same(querySpaces), any());
+        verify(session).close();
+        // 다른 엔티티를 읽은 쿼리 결과(정책 분류, 템플릿 등)는 남긴다
+        verify(cache, never()).evictQueryRegions();
+        assertThat(count("received")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자기가 보낸 알림은 무시한다")
+    void ignoresOwnMessage() {
+        invalidator.onMessage(message("node-a\t" + ENTITY + "\t42"), null);
+
+        verify(cache, never()).evictEntityData(anyString(), any());
+        verify(timestampsCache, never()).invalidate(any(), any());
+    }
+
+    @Test
+    @DisplayName("식별자를 읽을 수 없으면 그 엔티티 영역을 통째로 지운다")
+    void evictsWholeRegionWhenIdentifierIsUnreadable() {
+        invalidator.onMessage(message("node-b\t" + ENTITY + "\tnot-a-number"), null);
+
+        verify(cache).evictEntityData(ENTITY);
+        verify(timestampsCache).invalidate(same(querySpaces), any());
+    }
+
+    @Test
+    @DisplayName("Redis 로 알리지 못해도 자기 캐시는 지우고 실패만 센다")
+    void publishFailureDoesNotPropagate() {
+        doThrow(new RedisConnectionFailureException("down")).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        invalidator.evictAfterCommit(Long.class, 7L);
+        invalidator.evictAfterCommit(Long.class, 8L);
+
+        verify(cache).evictEntityData(Long.class.getName(), 7L);
+        assertThat(count("failed")).isEqualTo(2);
+        assertThat(count("sent")).isZero();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get(SecondLevelCacheInvalidator.METRIC).tag("outcome", outcome).counter().count();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SecondLevelCacheInvalidator.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
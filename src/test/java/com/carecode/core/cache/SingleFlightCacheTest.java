@@ -0,0 +1,263 @@
+package com.carecode.core.cache;
+
+import com.carecode.core.cluster.ClusterLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("캐시 미스 단일 조회")
+class SingleFlightCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClusterLock clusterLock = mock(ClusterLock.class);
+    private final ClusterLock.Lease lease = mock(ClusterLock.Lease.class);
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private Cache store;
+    private SingleFlightCache cache;
+
+    @BeforeEach
+    void setUp() {
+        store = new ConcurrentMapCache("policy", false);
+        cache = new SingleFlightCache(store, clusterLock, TTL, Duration.ofMillis(300), Duration.ofMillis(10), 1.0,
+                meterRegistry, clock, () -> 0.5);
+        when(clusterLock.tryAcquire(anyString(), any())).thenReturn(Optional.of(lease));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("cache.single_flight").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 한 번만 읽고 모두 같은 값을 받는다")
+    void coalescesConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get(1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "정책-1";
+        })));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                return "중복 조회";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("정책-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(1L).get()).isEqualTo("정책-1");
+        verify(clusterLock, times(1)).tryAcquire("cache:policy:1", Duration.ofMillis(300));
+        verify(lease).release(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 쥐고 있으면 그쪽이 채운 값을 기다려 쓴다")
+    void waitsForRemoteLoader() throws Exception {
+        when(clusterLock.tryAcquire(anyString(), any())).thenReturn(Optional.empty());
+        when(clusterLock.isHeld("cache:policy:1")).thenReturn(true);
+        executor.submit(() -> {
+            Thread.sleep(50);
+            store.put(1L, "다른 인스턴스가 읽은 값");
+            return null;
+        });
+
+        String value = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "직접 읽은 값";
+        });
+
+        assertThat(value).isEqualTo("다른 인스턴스가 읽은 값");
+        assertThat(loads).hasValue(0);
+        assertThat(count("remote_wait")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("락을 쥔 쪽이 락 보유 시간 안에 채우지 않으면 직접 읽는다")
+    void fallsBackWhenRemoteNeverFills() {
+        when(clusterLock.tryAcquire(anyString(), any())).thenReturn(Optional.empty());
+        when(clusterLock.isHeld("cache:policy:1")).thenReturn(true);
+
+        String value = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "직접 읽은 값";
+        });
+
+        assertThat(value).isEqualTo("직접 읽은 값");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("락을 쥔 쪽이 채우지 못하고 풀면 락 보유 시간을 기다리지 않고 직접 읽는다")
+    void stopsWaitingWhenRemoteReleasesWithoutValue() {
+        cache = new SingleFlightCache(store, clusterLock, TTL, Duration.ofSeconds(5), Duration.ofMillis(10), 1.0,
+                meterRegistry, clock, () -> 0.5);
+        when(clusterLock.tryAcquire(anyString(), any())).thenReturn(Optional.empty());
+        // 두 번 확인하는 동안은 쥐고 있다가, 읽기에 실패해 아무것도 쓰지 않고 푼다.
+        when(clusterLock.isHeld("cache:policy:1")).thenReturn(true, true, false);
+
+        long started = System.nanoTime();
+        String value = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "직접 읽은 값";
+        });
+
+        assertThat(value).isEqualTo("직접 읽은 값");
+        assertThat(loads).hasValue(1);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("락을 확인할 수 없으면(fail-closed 로 못 잡은 Redis 장애) 기다리지 않고 바로 읽는다")
+    void loadsAtOnceWhenLockIsUnreachable() {
+        cache = new SingleFlightCache(store, clusterLock, TTL, Duration.ofSeconds(5), Duration.ofMillis(10), 1.0,
+                meterRegistry, clock, () -> 0.5);
+        when(clusterLock.tryAcquire(anyString(), any())).thenReturn(Optional.empty());
+        when(clusterLock.isHeld(anyString())).thenReturn(false);
+
+        long started = System.nanoTime();
+        String value = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "직접 읽은 값";
+        });
+
+        assertThat(value).isEqualTo("직접 읽은 값");
+        assertThat(loads).hasValue(1);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("만료가 멀면 캐시 값을 쓰고, 읽기 시간에 비해 만료가 가까우면 한 번 미리 읽는다")
+    void refreshesEarlyNearExpiry() {
+        cache.get(1L, () -> {
+            clock.advance(Duration.ofMillis(200));
+            return "처음 값";
+        });
+
+        clock.advance(TTL.minusSeconds(1));
+        assertThat(cache.get(1L, () -> "새 값")).isEqualTo("처음 값");
+
+        // 남은 시간 100ms < 200ms × -ln(0.5) ≈ 139ms
+        clock.advance(Duration.ofMillis(900));
+        assertThat(cache.get(1L, () -> "새 값")).isEqualTo("새 값");
+        assertThat(cache.get(1L, () -> "또 새 값")).isEqualTo("새 값");
+        assertThat(count("early_refresh")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 미리 읽는 중이면 기다리지 않고 지금 값을 쓴다")
+    void earlyRefreshYieldsToRemote() {
+        cache.get(1L, () -> {
+            clock.advance(Duration.ofMillis(200));
+            return "처음 값";
+        });
+        clock.advance(TTL.minusMillis(50));
+        when(clusterLock.tryAcquire(anyString(), any())).thenReturn(Optional.empty());
+
+        String value = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "새 값";
+        });
+
+        assertThat(value).isEqualTo("처음 값");
+        assertThat(loads).hasValue(0);
+        assertThat(count("remote_wait")).isZero();
+    }
+
+    @Test
+    @DisplayName("읽기가 실패하면 기다리던 호출도 같은 예외를 받고, 다음 호출은 다시 읽는다")
+    void propagatesFailure() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            throw new IllegalStateException("db down");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> cache.get(1L, () -> "중복 조회"));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("db down");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("db down");
+        assertThat(cache.get(1L, () -> "복구")).isEqualTo("복구");
+    }
+
+    @Test
+    @DisplayName("null 은 저장하지 않는다")
+    void doesNotStoreNull() {
+        String value = cache.get(1L, () -> null);
+
+        assertThat(value).isNull();
+        assertThat(store.get(1L)).isNull();
+        verify(lease).release(Duration.ZERO);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now = Instant.parse("2025-03-15T03:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.carecode.core.client.sync;
+
+import com.carecode.core.search.SpatialSearchSupport;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.repository.HospitalRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("병원 적재 - 공간 컬럼 동기화")
+class HospitalUpsertServiceTest {
+
+    private static final String ROW = """
+            {"ykiho":"JDQ4MTYyMiM1MSMkMSMkMCMkODkkMzgxMzUxIzExIyQxIyQzIyQ4OSQyNjE4MzIjNDEjJDEjJDgjJDgz",
+             "yadmNm":"서울아동병원","clCdNm":"병원","addr":"서울특별시 중구 세종대로 110",
+             "telno":"02-000-0000","XPos":"126.978","YPos":"37.5665"}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HospitalRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(HospitalRepository.class);
+        when(repository.save(any(Hospital.class))).thenAnswer(invocation -> {
+            Hospital hospital = invocation.getArgument(0);
+            if (hospital.getId() == null) {
+                hospital.setId(1L);
+            }
+            return hospital;
+        });
+    }
+
+    @Test
+    @DisplayName("새 병원은 저장 직후 LOCATION 을 경도, 위도 순서로 맞춘다")
+    void syncsLocationForNewHospital() throws Exception {
+        when(repository.findByExternalCode(anyString())).thenReturn(Optional.empty());
+
+        service(true).upsert(objectMapper.readTree(ROW), "소아청소년과");
+
+        verify(repository).updateLocation(1L, "POINT(126.9780000 37.5665000)");
+    }
+
+    @Test
+    @DisplayName("좌표가 그대로면 LOCATION 을 다시 쓰지 않는다")
+    void skipsUnchangedLocation() throws Exception {
+        Hospital existing = Hospital.builder().id(7L).externalCode("x").name("서울아동병원")
+                .latitude(37.5665).longitude(126.978).build();
+        when(repository.findByExternalCode(anyString())).thenReturn(Optional.of(existing));
+
+        service(true).upsert(objectMapper.readTree(ROW), "소아청소년과");
+
+        verify(repository, never()).updateLocation(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("공간 검색을 끈 DB 에서는 LOCATION 을 건드리지 않는다")
+    void skipsWhenSpatialDisabled() throws Exception {
+        when(repository.findByExternalCode(anyString())).thenReturn(Optional.empty());
+
+        service(false).upsert(objectMapper.readTree(ROW), "소아청소년과");
+
+        verify(repository, never()).updateLocation(anyLong(), anyString());
+    }
+
+    private HospitalUpsertService service(boolean spatialEnabled) {
+        return new HospitalUpsertService(repository, mock(ApplicationEventPublisher.class),
+                new SpatialSearchSupport(spatialEnabled));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -44,7 +45,8 @@ class KindergartenUpsertServiceTest {
     void setUp() {
         repository = mock(CareFacilityRepository.class);
         when(repository.findByFacilityCode(anyString())).thenReturn(Optional.empty());
-        service = new KindergartenUpsertService(repository, mock(CapacitySnapshotRecorder.class));
+        service = new KindergartenUpsertService(repository, mock(CapacitySnapshotRecorder.class),
+                mock(ApplicationEventPublisher.class));
     }
 
     @Test
@@ -0,0 +1,155 @@
+package com.carecode.core.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("분산 락")
+class ClusterLockTest {
+
+    private static final String KEY = "cluster:lock:job";
+    private static final Duration AT_MOST = Duration.ofMinutes(30);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("SET NX 로 잡고, 다른 인스턴스가 쥐고 있으면 비어 있는 값을 돌려준다")
+    void acquiresWithSetNx() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(AT_MOST))).thenReturn(true, false);
+        ClusterLock lock = new ClusterLock(redisTemplate, true);
+
+        assertThat(lock.tryAcquire("job", AT_MOST)).isPresent();
+        assertThat(lock.tryAcquire("job", AT_MOST)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해제는 잡을 때 넣은 토큰으로만 한다")
+    void releasesWithOwnToken() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(AT_MOST))).thenReturn(true);
+        ClusterLock lock = new ClusterLock(redisTemplate, true);
+
+        ClusterLock.Lease first = lock.tryAcquire("job", AT_MOST).orElseThrow();
+        ClusterLock.Lease second = lock.tryAcquire("job", AT_MOST).orElseThrow();
+        first.release(Duration.ZERO);
+        second.release(Duration.ZERO);
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2)).setIfAbsent(eq(KEY), stored.capture(), eq(AT_MOST));
+        List<String> tokens = stored.getAllValues();
+        assertThat(tokens.get(0)).isNotEqualTo(tokens.get(1));
+        verify(redisTemplate).execute(ClusterLock.RELEASE, List.of(KEY), tokens.get(0), "0");
+        verify(redisTemplate).execute(ClusterLock.RELEASE, List.of(KEY), tokens.get(1), "0");
+    }
+
+    @Test
+    @DisplayName("최소 보유 시간이 남았으면 남은 만큼만 키를 남긴다")
+    void keepsKeyForRemainingMinimum() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(AT_MOST))).thenReturn(true);
+        ClusterLock.Lease lease = new ClusterLock(redisTemplate, true).tryAcquire("job", AT_MOST).orElseThrow();
+
+        lease.release(Duration.ofMinutes(10));
+
+        long keepMs = Long.parseLong(releasedKeepMs());
+        assertThat(keepMs).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(10).toMillis())
+                .isGreaterThan(Duration.ofMinutes(9).toMillis());
+    }
+
+    @Test
+    @DisplayName("최소 보유 시간이 이미 지났으면 0 을 넘겨 키를 지우게 한다")
+    void deletesKeyWhenMinimumHasPassed() throws InterruptedException {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(AT_MOST))).thenReturn(true);
+        ClusterLock.Lease lease = new ClusterLock(redisTemplate, true).tryAcquire("job", AT_MOST).orElseThrow();
+        Thread.sleep(20);
+
+        lease.release(Duration.ofMillis(5));
+
+        assertThat(releasedKeepMs()).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 fail-open 이면 잠그지 않고 실행하고, 해제도 Redis 를 건드리지 않는다")
+    void failsOpen() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        ClusterLock lock = new ClusterLock(redisTemplate, true);
+
+        Optional<ClusterLock.Lease> lease = lock.tryAcquire("job", AT_MOST);
+
+        assertThat(lease).isPresent();
+        lease.get().release(Duration.ofMinutes(10));
+        verify(redisTemplate, never()).execute(eq(ClusterLock.RELEASE), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 fail-closed 면 실행하지 않는다")
+    void failsClosed() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(new ClusterLock(redisTemplate, false).tryAcquire("job", AT_MOST)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SET NX 응답이 없으면 장애로 보고 설정을 따른다")
+    void treatsMissingReplyAsFailure() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(null);
+
+        assertThat(new ClusterLock(redisTemplate, true).tryAcquire("job", AT_MOST)).isPresent();
+        assertThat(new ClusterLock(redisTemplate, false).tryAcquire("job", AT_MOST)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해제에 실패해도 예외를 던지지 않는다. atMostFor 가 지나면 풀린다")
+    void swallowsReleaseFailure() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(AT_MOST))).thenReturn(true);
+        when(redisTemplate.execute(eq(ClusterLock.RELEASE), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        ClusterLock.Lease lease = new ClusterLock(redisTemplate, true).tryAcquire("job", AT_MOST).orElseThrow();
+
+        assertThatCode(() -> lease.release(Duration.ZERO)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("쥐고 있는지 확인하다 Redis 를 쓸 수 없으면 쥔 쪽이 없다고 본다")
+    void isHeld() {
+        when(redisTemplate.hasKey(KEY)).thenReturn(true);
+        ClusterLock lock = new ClusterLock(redisTemplate, true);
+        assertThat(lock.isHeld("job")).isTrue();
+
+        when(redisTemplate.hasKey(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(lock.isHeld("job")).isFalse();
+    }
+
+    private String releasedKeepMs() {
+        ArgumentCaptor<String> keep = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).execute(eq(ClusterLock.RELEASE), eq(List.of(KEY)), anyString(), keep.capture());
+        return keep.getValue();
+    }
+}
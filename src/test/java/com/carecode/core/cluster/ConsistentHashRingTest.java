@@ -0,0 +1,80 @@
+package com.carecode.core.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("작업 분배 일관 해시")
+class ConsistentHashRingTest {
+
+    private static final List<String> REGIONS = IntStream.range(0, 2000)
+            .mapToObj(i -> String.valueOf(11000 + i))
+            .toList();
+
+    @Test
+    @DisplayName("멤버 목록이 같으면 순서와 무관하게 같은 주인이 나온다")
+    void sameMembersYieldSameOwner() {
+        ConsistentHashRing a = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"));
+        ConsistentHashRing b = new ConsistentHashRing(List.of("node-c", "node-a", "node-b"));
+
+        for (String region : REGIONS) {
+            assertThat(a.ownerOf(region)).isEqualTo(b.ownerOf(region));
+        }
+    }
+
+    @Test
+    @DisplayName("몫이 멤버 사이에 고르게 나뉜다")
+    void distributesEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"));
+
+        Map<String, Integer> counts = new HashMap<>();
+        REGIONS.forEach(region -> counts.merge(ring.ownerOf(region), 1, Integer::sum));
+
+        assertThat(counts).hasSize(4);
+        // 평균 500. 가상 노드 덕분에 한 멤버가 두 배 가까이 떠안는 일은 없어야 한다
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(350, 650));
+    }
+
+    @Test
+    @DisplayName("멤버가 하나 늘면 새 멤버 몫만 옮겨 간다")
+    void addingMemberMovesOnlyItsShare() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"));
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-a", "node-b", "node-c", "node-d"));
+
+        long moved = REGIONS.stream()
+                .filter(region -> !before.ownerOf(region).equals(after.ownerOf(region)))
+                .peek(region -> assertThat(after.ownerOf(region)).isEqualTo("node-d"))
+                .count();
+
+        // 이상적으로는 1/4. 모듈러 분배였다면 3/4 가 움직인다
+        assertThat(moved).isBetween(300L, 700L);
+    }
+
+    @Test
+    @DisplayName("모든 키는 정확히 한 멤버에게만 배정된다")
+    void everyKeyHasExactlyOneOwner() {
+        List<String> members = List.of("node-a", "node-b", "node-c");
+        List<ShardAssignment> shards = members.stream()
+                .map(self -> ShardAssignment.of(self, members))
+                .toList();
+
+        for (String region : REGIONS) {
+            assertThat(shards.stream().filter(shard -> shard.owns(region)).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("혼자면 나누지 않고 전부 맡는다")
+    void singleMemberOwnsEverything() {
+        ShardAssignment shard = ShardAssignment.of("node-a", List.of("node-a"));
+
+        assertThat(shard.isPartitioned()).isFalse();
+        assertThat(REGIONS).allMatch(shard::owns);
+    }
+}
@@ -0,0 +1,85 @@
+package com.carecode.core.config;
+
+import com.carecode.core.cache.SingleFlightCache;
+import com.carecode.core.cluster.ClusterLock;
+import com.carecode.domain.policy.dto.response.PolicyDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Redis 캐시 직렬화")
+class CacheConfigTest {
+
+    private final GenericJackson2JsonRedisSerializer serializer =
+            new GenericJackson2JsonRedisSerializer(CacheConfig.cacheObjectMapper());
+
+    @Test
+    @DisplayName("모든 캐시는 트랜잭션 인식 데코레이터 안쪽에서 단일 조회로 감싼다")
+    void wrapsCachesInSingleFlight() throws Exception {
+        CacheManager cacheManager = new CacheConfig().cacheManager(mock(RedisConnectionFactory.class),
+                mock(ClusterLock.class), new SimpleMeterRegistry(), Duration.ofSeconds(5), Duration.ofMillis(50), 1.0);
+        ((InitializingBean) cacheManager).afterPropertiesSet();
+
+        assertThat(cacheManager.getCacheNames()).contains("policy", "healthRecords", "statistics");
+        assertThat(cacheManager.getCache("policy")).isInstanceOfSatisfying(TransactionAwareCacheDecorator.class,
+                cache -> assertThat(cache.getTargetCache()).isInstanceOf(SingleFlightCache.class));
+        // 진행 중인 조회를 모으려면 같은 이름에 같은 인스턴스가 나와야 한다
+        assertThat(cacheManager.getCache("policy")).isSameAs(cacheManager.getCache("policy"));
+        assertThat(cacheManager.getCache("runtime-created")).isInstanceOf(TransactionAwareCacheDecorator.class);
+    }
+
+    @Test
+    @DisplayName("저장 형식이 바뀐 캐시는 예전 인스턴스와 다른 키에 쓴다")
+    void versionsKeyPrefix() {
+        // 예전 형식의 키는 "policy::1" 이었다. 롤링 배포 중 예전 인스턴스가 새 형식의 값을 읽지 않게 한다.
+        assertThat(new CacheConfig().defaultCacheConfig().getKeyPrefixFor("policy")).isEqualTo("v2:policy::");
+    }
+
+    @Test
+    @DisplayName("단일 조회가 저장한 항목은 값 타입과 읽기 시간·만료 시각을 그대로 되살린다")
+    void singleFlightEntryRoundTrips() {
+        Cache store = new ConcurrentMapCache("policy", false);
+        SingleFlightCache cache = new SingleFlightCache(store, mock(ClusterLock.class),
+                Duration.ofMinutes(30), Duration.ofSeconds(5), Duration.ofMillis(50), 1.0, new SimpleMeterRegistry());
+        cache.put(1L, PolicyDto.builder().id(1L).title("첫만남이용권").createdAt(LocalDateTime.of(2025, 3, 1, 9, 0)).build());
+        Object stored = store.get(1L).get();
+
+        Object restored = serializer.deserialize(serializer.serialize(stored));
+
+        assertThat(restored).isInstanceOf(SingleFlightCache.Entry.class);
+        SingleFlightCache.Entry entry = (SingleFlightCache.Entry) restored;
+        assertThat(entry.getExpiresAt()).isEqualTo(((SingleFlightCache.Entry) stored).getExpiresAt());
+        assertThat(entry.getValue()).isInstanceOfSatisfying(PolicyDto.class, policy -> {
+            assertThat(policy.getTitle()).isEqualTo("첫만남이용권");
+            assertThat(policy.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 3, 1, 9, 0));
+        });
+    }
+
+    @Test
+    @DisplayName("이 형식 전에 저장된 값도 그대로 읽는다")
+    void readsLegacyValues() {
+        Cache store = new ConcurrentMapCache("policy", false);
+        store.put(1L, PolicyDto.builder().id(1L).title("부모급여").build());
+        SingleFlightCache cache = new SingleFlightCache(store, mock(ClusterLock.class),
+                Duration.ofMinutes(30), Duration.ofSeconds(5), Duration.ofMillis(50), 1.0, new SimpleMeterRegistry());
+
+        PolicyDto policy = cache.get(1L, () -> {
+            throw new AssertionError("다시 읽으면 안 된다");
+        });
+
+        assertThat(policy.getTitle()).isEqualTo("부모급여");
+    }
+}
@@ -0,0 +1,130 @@
+package com.carecode.core.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("복제 지연 감시")
+class ReplicaLagMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("첫 측정 전에는 쓸 수 있는 복제본이 없다")
+    void nothingAvailableBeforeFirstCheck() throws SQLException {
+        ReplicaLagMonitor monitor = monitor(Map.of("replica-0", replicaWithLag(0L)));
+
+        assertThat(monitor.availableReplicas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허용 지연을 넘은 복제본은 빼고 따라잡으면 다시 넣는다")
+    void excludesLaggingReplica() throws SQLException {
+        AtomicReference<Long> lag = new AtomicReference<>(30L);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replicaWithLag(1L));
+        replicas.put("replica-1", replica(lag));
+        ReplicaLagMonitor monitor = monitor(replicas);
+
+        monitor.check();
+        assertThat(monitor.availableReplicas()).containsExactly("replica-0");
+        assertThat(lagGauge("replica-1")).isEqualTo(30);
+        assertThat(availableGauge("replica-1")).isZero();
+
+        lag.set(5L);
+        monitor.check();
+        assertThat(monitor.availableReplicas()).containsExactly("replica-0", "replica-1");
+        assertThat(availableGauge("replica-1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제가 멈췄거나 연결할 수 없으면 뺀다")
+    void excludesStoppedOrUnreachableReplica() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replicaWithLag(null));
+        replicas.put("replica-1", unreachable);
+        ReplicaLagMonitor monitor = monitor(replicas);
+
+        monitor.check();
+
+        assertThat(monitor.availableReplicas()).isEmpty();
+        assertThat(lagGauge("replica-0")).isEqualTo(ReplicaLagMonitor.UNKNOWN);
+        assertThat(lagGauge("replica-1")).isEqualTo(ReplicaLagMonitor.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("복제 상태가 없는 DB 는 지연 0 으로 본다")
+    void standaloneDatabaseCountsAsUpToDate() throws SQLException {
+        ResultSet empty = mock(ResultSet.class);
+        when(empty.next()).thenReturn(false);
+        ReplicaLagMonitor monitor = monitor(Map.of("replica-0", dataSource(empty)));
+
+        monitor.check();
+
+        assertThat(monitor.availableReplicas()).containsExactly("replica-0");
+        assertThat(lagGauge("replica-0")).isZero();
+    }
+
+    private ReplicaLagMonitor monitor(Map<String, DataSource> replicas) {
+        meterRegistry.clear();
+        return new ReplicaLagMonitor(replicas, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private double lagGauge(String pool) {
+        return meterRegistry.get(ReplicaLagMonitor.METRIC_LAG).tag("pool", pool).gauge().value();
+    }
+
+    private double availableGauge(String pool) {
+        return meterRegistry.get(ReplicaLagMonitor.METRIC_AVAILABLE).tag("pool", pool).gauge().value();
+    }
+
+    /** lag 가 null 이면 Seconds_Behind_Master 가 NULL 인 복제본(복제 스레드 정지). */
+    private static DataSource replicaWithLag(Long lag) throws SQLException {
+        return replica(new AtomicReference<>(lag));
+    }
+
+    /** 잴 때마다 lag 의 현재 값을 돌려준다. */
+    private static DataSource replica(AtomicReference<Long> lag) throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenAnswer(invocation -> {
+            Long current = lag.get();
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.next()).thenReturn(true, false);
+            when(rs.getLong("Seconds_Behind_Master")).thenReturn(current == null ? 0L : current);
+            when(rs.wasNull()).thenReturn(current == null);
+            return rs;
+        });
+        return dataSource(statement);
+    }
+
+    private static DataSource dataSource(ResultSet rs) throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        return dataSource(statement);
+    }
+
+    private static DataSource dataSource(Statement statement) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,146 @@
+package com.carecode.core.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("읽기 복제본 라우팅")
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica0Connection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Instant now = Instant.parse("2026-10-19T00:00:00Z");
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", dataSource(replica0Connection));
+        replicas.put("replica-1", dataSource(replica1Connection));
+        when(lagMonitor.availableReplicas()).thenReturn(List.of("replica-0", "replica-1"));
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        });
+        routing = new ReplicaRoutingDataSource(dataSource(primaryConnection), replicas, lagMonitor, tracker,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖은 주 DB 로 간다")
+    void writesGoToPrimary() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routeCount("write")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 쓸 수 있는 복제본을 돌아가며 쓴다")
+    void readOnlyRoundRobinsReplicas() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(replica0Connection);
+        assertThat(routing.getConnection()).isSameAs(replica1Connection);
+        assertThat(routing.getConnection()).isSameAs(replica0Connection);
+        assertThat(routeCount("replica")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("허용 지연 안의 복제본이 없으면 읽기 전용이어도 주 DB 로 간다")
+    void fallsBackToPrimaryWithoutHealthyReplica() throws SQLException {
+        when(lagMonitor.availableReplicas()).thenReturn(List.of());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routeCount("replica_unavailable")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방금 쓴 사용자의 읽기는 창이 지날 때까지 주 DB 로 가고 다른 사용자는 복제본으로 간다")
+    void readYourWritesStickiness() throws SQLException {
+        login("writer@example.com");
+        routing.getConnection();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routeCount("read_your_writes")).isEqualTo(1);
+
+        login("reader@example.com");
+        assertThat(routing.getConnection()).isSameAs(replica0Connection);
+
+        login("writer@example.com");
+        now = now.plusSeconds(10);
+        assertThat(routing.getConnection()).isSameAs(replica1Connection);
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 쓰기는 읽기 경로를 바꾸지 않는다")
+    void anonymousWritesAreNotTracked() throws SQLException {
+        routing.getConnection();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replica0Connection);
+    }
+
+    private double routeCount(String route) {
+        return meterRegistry.get(ReplicaRoutingDataSource.METRIC_ROUTING).tag("route", route).counter().count();
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_PARENT"))));
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,34 @@
+package com.carecode.core.geocoding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("주소 정규화")
+class AddressNormalizerTest {
+
+    @Test
+    @DisplayName("참고항목, 상세주소, 겹친 공백을 지운다")
+    void stripsDetails() {
+        assertThat(AddressNormalizer.normalize(" 서울특별시  강남구 테헤란로 123 (역삼동, 래미안아파트), 2층 201호 "))
+                .isEqualTo("서울특별시 강남구 테헤란로 123");
+        assertThat(AddressNormalizer.normalize("부산광역시 해운대구 [우편 48094] 센텀로 1"))
+                .isEqualTo("부산광역시 해운대구 센텀로 1");
+    }
+
+    @Test
+    @DisplayName("자모가 풀린 주소도 같은 키가 된다")
+    void composesHangul() {
+        String decomposed = java.text.Normalizer.normalize("서울특별시 종로구", java.text.Normalizer.Form.NFD);
+
+        assertThat(AddressNormalizer.normalize(decomposed)).isEqualTo("서울특별시 종로구");
+    }
+
+    @Test
+    @DisplayName("남는 것이 없으면 null 이다")
+    void returnsNullForBlank() {
+        assertThat(AddressNormalizer.normalize(null)).isNull();
+        assertThat(AddressNormalizer.normalize("  (없음) ")).isNull();
+    }
+}
@@ -5,37 +5,56 @@ import com.carecode.domain.careFacility.repository.CareFacilityRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @DisplayName("시설 좌표 보정")
 class FacilityGeocodingServiceTest {
 
     private CareFacilityRepository repository;
+    private GeocodedAddressRepository cacheRepository;
+    private EntityManager entityManager;
     private Geocoder geocoder;
     private FacilityGeocodingService service;
+    private long nextId;
 
     @BeforeEach
     void setUp() {
         repository = mock(CareFacilityRepository.class);
-        geocoder = mock(Geocoder.class);
+        cacheRepository = mock(GeocodedAddressRepository.class);
+        entityManager = mock(EntityManager.class);
+        // lookup() 기본 구현이 스텁한 geocode() 를 부르게 둔다
+        geocoder = mock(Geocoder.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
         when(geocoder.isAvailable()).thenReturn(true);
+        when(geocoder.getProviderName()).thenReturn("test");
 
-        service = new FacilityGeocodingService(repository, geocoder);
+        GeocodingWriter writer = new GeocodingWriter(cacheRepository, repository);
+        ReflectionTestUtils.setField(writer, "entityManager", entityManager);
+
+        // 호출 스레드에서 바로 실행하고, 테스트에서 대기하지 않도록 속도를 넉넉히 둔다
+        service = new FacilityGeocodingService(repository, geocoder, writer, Runnable::run, 10_000);
         ReflectionTestUtils.setField(service, "batchSize", 100);
-        // 테스트에서 대기하지 않도록 간격을 0 으로 둔다
-        ReflectionTestUtils.setField(service, "delayMs", 0L);
+        ReflectionTestUtils.setField(service, "notFoundRetryDays", 30);
+        ReflectionTestUtils.setField(service, "writeChunkSize", 2);
     }
 
     @Test
@@ -61,9 +80,9 @@ class FacilityGeocodingServiceTest {
         var result = service.fillMissingCoordinates();
 
         assertThat(result.getResolved()).isEqualTo(1);
-        assertThat(facility.getLatitude()).isEqualTo(37.5806);
-        assertThat(facility.getLongitude()).isEqualTo(126.9662);
-        verify(repository).save(facility);
+        verify(repository).updateCoordinates(List.of(facility.getId()), 37.5806, 126.9662);
+        verify(entityManager).persist(argThat(row -> row instanceof GeocodedAddress a
+                && a.getAddressKey().equals("서울특별시 종로구 자하문로 69") && a.isFound()));
     }
 
     @Test
@@ -92,7 +111,89 @@ class FacilityGeocodingServiceTest {
         var result = service.fillMissingCoordinates();
 
         assertThat(result.getResolved()).isZero();
-        verify(repository, never()).save(any());
+        verify(repository, never()).updateCoordinates(anyCollection(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("같은 주소를 쓰는 시설은 한 번만 묻고 함께 채운다")
+    void geocodesSharedAddressOnce() {
+        CareFacility daycare = facility("서울특별시 종로구 자하문로 69 (청운동)");
+        CareFacility kindergarten = facility("서울특별시  종로구 자하문로 69, 2층");
+        when(repository.findMissingCoordinates(any(Pageable.class))).thenReturn(List.of(daycare, kindergarten));
+        when(geocoder.geocode("서울특별시 종로구 자하문로 69"))
+                .thenReturn(Optional.of(new Geocoder.Coordinates(37.5806, 126.9662)));
+
+        var result = service.fillMissingCoordinates();
+
+        assertThat(result.getResolved()).isEqualTo(2);
+        assertThat(result.getAddresses()).isEqualTo(1);
+        assertThat(result.getApiCalls()).isEqualTo(1);
+        verify(geocoder, times(1)).geocode(anyString());
+        verify(repository).updateCoordinates(List.of(daycare.getId(), kindergarten.getId()), 37.5806, 126.9662);
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 주소는 외부 API 를 부르지 않는다")
+    void usesCachedCoordinates() {
+        CareFacility facility = facility("주소1");
+        when(repository.findMissingCoordinates(any(Pageable.class))).thenReturn(List.of(facility));
+        when(cacheRepository.findAllById(any())).thenReturn(List.of(
+                new GeocodedAddress("주소1", 37.5, 127.0, "test", LocalDateTime.now().minusYears(1))));
+
+        var result = service.fillMissingCoordinates();
+
+        assertThat(result.getResolved()).isEqualTo(1);
+        assertThat(result.getCacheHits()).isEqualTo(1);
+        verify(geocoder, never()).geocode(anyString());
+        verify(repository).updateCoordinates(List.of(facility.getId()), 37.5, 127.0);
+    }
+
+    @Test
+    @DisplayName("찾을 수 없다는 답은 보존 기간이 지나면 다시 묻는다")
+    void retriesStaleNotFound() {
+        when(repository.findMissingCoordinates(any(Pageable.class)))
+                .thenReturn(List.of(facility("최근주소"), facility("오래된주소")));
+        when(cacheRepository.findAllById(any())).thenReturn(List.of(
+                new GeocodedAddress("최근주소", null, null, "test", LocalDateTime.now().minusDays(1)),
+                new GeocodedAddress("오래된주소", null, null, "test", LocalDateTime.now().minusDays(60))));
+        when(geocoder.geocode("오래된주소")).thenReturn(Optional.of(new Geocoder.Coordinates(37.5, 127.0)));
+
+        var result = service.fillMissingCoordinates();
+
+        assertThat(result.getCacheHits()).isEqualTo(1);
+        assertThat(result.getApiCalls()).isEqualTo(1);
+        assertThat(result.getResolved()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(geocoder, never()).geocode("최근주소");
+    }
+
+    @Test
+    @DisplayName("호출 오류는 캐시하지 않아 다음 실행에서 다시 묻는다")
+    void doesNotCacheErrors() {
+        when(repository.findMissingCoordinates(any(Pageable.class))).thenReturn(List.of(facility("주소1")));
+        when(geocoder.lookup("주소1")).thenReturn(Geocoder.Lookup.error());
+
+        var result = service.fillMissingCoordinates();
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    @DisplayName("한 묶음의 저장 실패는 실패로 세고 다음 묶음을 계속 처리한다")
+    void continuesAfterWriteFailure() {
+        List<CareFacility> targets = List.of(facility("주소1"), facility("주소2"), facility("주소3"));
+        when(repository.findMissingCoordinates(any(Pageable.class))).thenReturn(targets);
+        when(geocoder.geocode(anyString())).thenReturn(Optional.of(new Geocoder.Coordinates(37.5, 127.0)));
+        when(repository.updateCoordinates(List.of(targets.get(0).getId()), 37.5, 127.0))
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+
+        var result = service.fillMissingCoordinates();
+
+        // 묶음 크기가 2라 첫 묶음(주소1, 주소2)은 실패, 주소3 은 저장된다
+        assertThat(result.getResolved()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        verify(repository).updateCoordinates(List.of(targets.get(2).getId()), 37.5, 127.0);
     }
 
     @Test
@@ -106,6 +207,6 @@ class FacilityGeocodingServiceTest {
     }
 
     private CareFacility facility(String address) {
-        return CareFacility.builder().name("테스트시설").address(address).isActive(true).build();
+        return CareFacility.builder().id(++nextId).name("테스트시설").address(address).isActive(true).build();
     }
 }
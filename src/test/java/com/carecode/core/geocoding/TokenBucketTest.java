@@ -0,0 +1,43 @@
+package com.carecode.core.geocoding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("토큰 버킷")
+class TokenBucketTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("버스트만큼은 기다리지 않고 그다음부터 간격을 둔다")
+    void spacesCallsAfterBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(100 * MS);
+        // 먼저 빌린 호출 뒤로 줄을 선다
+        assertThat(bucket.reserve()).isEqualTo(200 * MS);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 다시 차되 버스트를 넘지 않는다")
+    void refillsUpToBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        clock.addAndGet(10_000 * MS);
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isEqualTo(100 * MS);
+    }
+}
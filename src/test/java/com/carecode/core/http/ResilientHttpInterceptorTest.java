@@ -0,0 +1,86 @@
+package com.carecode.core.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("외부 호출 벌크헤드·차단기")
+class ResilientHttpInterceptorTest {
+
+    private static final String URL = "https://apis.data.go.kr/test?serviceKey=secret";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpClientSettings settings = new HttpClientSettings(
+            Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(30), 2, 2, 2, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("5xx 가 이어지면 차단되어 상대에게 요청을 보내지 않는다")
+    void opensOnServerErrors() {
+        RestTemplate rest = new RestTemplate();
+        ResilientHttpInterceptor interceptor = new ResilientHttpInterceptor("data-go-kr", settings, meterRegistry);
+        rest.getInterceptors().add(interceptor);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(rest).build();
+        server.expect(times(2), requestTo(URL)).andRespond(withServerError());
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> rest.getForObject(URL, String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThatThrownBy(() -> rest.getForObject(URL, String.class))
+                .isInstanceOf(ResourceAccessException.class);
+
+        server.verify();
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.get(ResilientHttpInterceptor.METRIC_REJECTED)
+                .tags("client", "data-go-kr", "reason", "circuit_open").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("4xx 는 상대 장애가 아니므로 차단하지 않는다")
+    void clientErrorsDoNotOpen() {
+        RestTemplate rest = new RestTemplate();
+        ResilientHttpInterceptor interceptor = new ResilientHttpInterceptor("data-go-kr", settings, meterRegistry);
+        rest.getInterceptors().add(interceptor);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(rest).build();
+        server.expect(times(3), requestTo(URL)).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> rest.getForObject(URL, String.class));
+        }
+
+        server.verify();
+        assertThat(interceptor.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("지표는 호스트까지만 태그로 남기고 경로·쿼리(서비스 키)는 남기지 않는다")
+    void tagsByHostOnly() {
+        RestTemplate rest = new RestTemplate();
+        rest.getInterceptors().add(new ResilientHttpInterceptor("data-go-kr", settings, meterRegistry));
+        MockRestServiceServer server = MockRestServiceServer.bindTo(rest).build();
+        server.expect(requestTo(URL)).andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        rest.getForObject(URL, String.class);
+
+        assertThat(meterRegistry.get(ResilientHttpInterceptor.METRIC_REQUESTS)
+                .tags("client", "data-go-kr", "host", "apis.data.go.kr", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.getMeters()).noneMatch(m -> m.getId().getTags().toString().contains("secret"));
+    }
+}
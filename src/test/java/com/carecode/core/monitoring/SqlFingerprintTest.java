@@ -0,0 +1,33 @@
+package com.carecode.core.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL 지문")
+class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("리터럴 값만 다른 쿼리는 같은 지문이 된다")
+    void literalsCollapse() {
+        String a = SqlFingerprint.normalize("select * from users where id = 10 and name = 'kim'");
+        String b = SqlFingerprint.normalize("SELECT *  FROM users\n WHERE id = 42 AND name = 'o''brien'");
+
+        assertThat(a).isEqualTo(b).isEqualTo("select * from users where id = ? and name = ?");
+    }
+
+    @Test
+    @DisplayName("IN 목록은 길이와 상관없이 하나로 접힌다")
+    void inListCollapses() {
+        assertThat(SqlFingerprint.normalize("select c1_0.id from child c1_0 where c1_0.user_id in (?, ?, ?)"))
+                .isEqualTo(SqlFingerprint.normalize("select c1_0.id from child c1_0 where c1_0.user_id in (?)"));
+    }
+
+    @Test
+    @DisplayName("Hibernate 별칭의 숫자는 값으로 보지 않는다")
+    void keepsAliases() {
+        assertThat(SqlFingerprint.normalize("select h1_0.id from hospital h1_0 limit 10"))
+                .isEqualTo("select h1_0.id from hospital h1_0 limit ?");
+    }
+}
@@ -0,0 +1,60 @@
+package com.carecode.core.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("엔드포인트별 SQL 프로파일")
+class SqlProfileRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlProfileRegistry registry = new SqlProfileRegistry(meterRegistry, 5);
+
+    @Test
+    @DisplayName("같은 지문이 임계치만큼 반복되면 N+1 로 집계한다")
+    void detectsRepeatedFingerprint() {
+        QueryProfile profile = new QueryProfile();
+        profile.record("select * from users where id = 1");
+        for (long id = 1; id <= 6; id++) {
+            profile.record("select * from child where user_id = " + id);
+        }
+        profile.addElapsed(3_000_000);
+
+        registry.record("GET", "/api/users/{id}/children", profile);
+
+        SqlProfileRegistry.EndpointSqlProfile top = registry.top("repeats", 10).get(0);
+        assertThat(top.getEndpoint()).isEqualTo("GET /api/users/{id}/children");
+        assertThat(top.getMaxQueries()).isEqualTo(7);
+        assertThat(top.getWorstRepeat()).isEqualTo(6);
+        assertThat(top.getWorstFingerprint()).isEqualTo("select * from child where user_id = ?");
+        assertThat(top.getRepeatedRequests()).isEqualTo(1);
+        assertThat(top.getAvgDbTimeMs()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("sql.request.n_plus_one",
+                "method", "GET", "uri", "/api/users/{id}/children").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.summary("sql.request.queries",
+                "method", "GET", "uri", "/api/users/{id}/children").max()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("정렬 기준에 따라 상위 엔드포인트가 달라진다")
+    void sortsBy() {
+        QueryProfile many = new QueryProfile();
+        for (int i = 0; i < 10; i++) {
+            many.record("select * from t" + (char) ('a' + i));
+        }
+        QueryProfile slow = new QueryProfile();
+        slow.record("select * from report");
+        slow.addElapsed(500_000_000);
+
+        registry.record("GET", "/many", many);
+        registry.record("GET", "/slow", slow);
+
+        assertThat(registry.top("queries", 1).get(0).getEndpoint()).isEqualTo("GET /many");
+        assertThat(registry.top("time", 1).get(0).getEndpoint()).isEqualTo("GET /slow");
+
+        registry.reset();
+        assertThat(registry.top("queries", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,41 @@
+package com.carecode.core.search;
+
+import com.carecode.core.util.BoundingBox;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("공간 검색 WKT 변환")
+class SpatialSearchSupportTest {
+
+    @Test
+    @DisplayName("점은 경도, 위도 순서로 쓴다")
+    void pointIsLongitudeFirst() {
+        assertThat(SpatialSearchSupport.point(37.5665, 126.978))
+                .isEqualTo("POINT(126.9780000 37.5665000)");
+    }
+
+    @Test
+    @DisplayName("사각 범위는 닫힌 다각형이고 꼭짓점도 경도, 위도 순서다")
+    void envelopeIsClosedPolygon() {
+        String wkt = SpatialSearchSupport.envelope(new BoundingBox(37.0, 38.0, 126.0, 127.0));
+
+        assertThat(wkt).isEqualTo("POLYGON((126.0000000 37.0000000, 127.0000000 37.0000000, "
+                + "127.0000000 38.0000000, 126.0000000 38.0000000, 126.0000000 37.0000000))");
+    }
+
+    @Test
+    @DisplayName("기본 Locale 이 소수점에 쉼표를 써도 WKT 는 점을 쓴다")
+    void ignoresDefaultLocale() {
+        Locale original = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.GERMANY);
+            assertThat(SpatialSearchSupport.point(37.5, 127.25)).isEqualTo("POINT(127.2500000 37.5000000)");
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+}
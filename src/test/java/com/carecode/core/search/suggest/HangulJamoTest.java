@@ -0,0 +1,48 @@
+package com.carecode.core.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자동완성 자모 키")
+class HangulJamoTest {
+
+    @Test
+    @DisplayName("입력 중인 음절도 완성된 이름의 앞부분이 된다")
+    void partialSyllableIsPrefix() {
+        String name = HangulJamo.decompose("어린이집");
+
+        assertThat(name).startsWith(HangulJamo.decompose("어ㄹ"));
+        assertThat(name).startsWith(HangulJamo.decompose("어리"));
+        assertThat(name).startsWith(HangulJamo.decompose("어린"));
+        assertThat(name).startsWith(HangulJamo.decompose("어린이"));
+    }
+
+    @Test
+    @DisplayName("겹받침·겹모음은 따로 치는 자모로 나누고, 공백은 버리고 영문은 소문자로")
+    void splitsCompoundsAndNormalizes() {
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("화")).isEqualTo("ㅎㅗㅏ");
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(HangulJamo.decompose("강남 ABC")).isEqualTo("ㄱㅏㅇㄴㅏㅁabc");
+        assertThat(HangulJamo.decompose("도")).isEqualTo(HangulJamo.decompose("돠").substring(0, 2));
+    }
+
+    @Test
+    @DisplayName("초성 키는 음절마다 첫 자음만 남긴다")
+    void initials() {
+        assertThat(HangulJamo.initials("햇살 어린이집")).isEqualTo("ㅎㅅㅇㄹㅇㅈ");
+        assertThat(HangulJamo.initials("까치 KIDS")).isEqualTo("ㄲㅊkids");
+    }
+
+    @Test
+    @DisplayName("자음만 친 검색어만 초성 검색으로 본다")
+    void initialsOnly() {
+        assertThat(HangulJamo.isInitialsOnly("ㅇㄹㅇㅈ")).isTrue();
+        assertThat(HangulJamo.isInitialsOnly("ㅎㅅ ㅇㄹ")).isTrue();
+        assertThat(HangulJamo.isInitialsOnly("ㅇㄹ어")).isFalse();
+        assertThat(HangulJamo.isInitialsOnly("ㅏ")).isFalse();
+        assertThat(HangulJamo.isInitialsOnly("  ")).isFalse();
+    }
+}
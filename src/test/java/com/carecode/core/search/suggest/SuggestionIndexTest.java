@@ -0,0 +1,112 @@
+package com.carecode.core.search.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("검색창 자동완성 색인")
+class SuggestionIndexTest {
+
+    private SuggestionLoader loader;
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        loader = mock(SuggestionLoader.class);
+        index = new SuggestionIndex(loader);
+        when(loader.load()).thenReturn(List.of(
+                new SearchSuggestion(SuggestionType.FACILITY, 1L, "국공립 햇살어린이집", "서울특별시 강남구", 30),
+                new SearchSuggestion(SuggestionType.FACILITY, 2L, "햇님어린이집", "서울특별시 서초구", 50),
+                new SearchSuggestion(SuggestionType.HOSPITAL, 10L, "햇살소아과의원", "서울특별시 강남구", 40),
+                new SearchSuggestion(SuggestionType.POLICY, 20L, "첫만남이용권", "출산", 70),
+                new SearchSuggestion(SuggestionType.DISTRICT, null, "강남구", "서울특별시", 2)));
+        index.rebuild();
+    }
+
+    private List<Long> ids(String query, Set<SuggestionType> types) {
+        return index.suggest(query, types, SuggestionIndex.TOP_K).stream().map(SearchSuggestion::id).toList();
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절로도 종류를 섞어 인기순으로 찾는다")
+    void mergesTypesByWeight() {
+        assertThat(ids("햇", Set.of())).containsExactly(2L, 10L, 1L);
+        assertThat(ids("햇ㅅ", Set.of())).containsExactly(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("이름 중간 단어로도 찾는다")
+    void matchesLaterWords() {
+        assertThat(ids("햇살어", Set.of(SuggestionType.FACILITY))).containsExactly(1L);
+        assertThat(ids("국공립", Set.of())).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("자음만 친 검색어는 초성으로 찾는다")
+    void initialsQuery() {
+        assertThat(ids("ㅊㅁㄴ", Set.of())).containsExactly(20L);
+        assertThat(ids("ㅎㅅ", Set.of())).containsExactly(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("종류를 고르면 그 종류만, limit 만큼만 돌려준다")
+    void filtersTypesAndLimit() {
+        assertThat(ids("햇", Set.of(SuggestionType.HOSPITAL))).containsExactly(10L);
+        assertThat(index.suggest("햇", Set.of(), 1)).extracting(SearchSuggestion::id).containsExactly(2L);
+        assertThat(index.suggest("강남", Set.of(SuggestionType.DISTRICT), 5))
+                .extracting(SearchSuggestion::text).containsExactly("강남구");
+        assertThat(index.suggest(" ", Set.of(), 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름이 바뀐 이벤트는 예전 키를 빼고 새 이름으로 넣으며 인기도는 잇는다")
+    void renameKeepsWeight() {
+        index.on(SuggestionChanged.facility(2L, "달님어린이집", "서울특별시 서초구 반포대로 1"));
+
+        assertThat(ids("햇님", Set.of())).isEmpty();
+        List<SearchSuggestion> renamed = index.suggest("달님", Set.of(), 5);
+        assertThat(renamed).singleElement().satisfies(s -> {
+            assertThat(s.weight()).isEqualTo(50);
+            assertThat(s.detail()).isEqualTo("서울특별시 서초구");
+        });
+    }
+
+    @Test
+    @DisplayName("새 시설은 재구축을 기다리지 않고 바로 나온다")
+    void newEntryAppearsImmediately() {
+        index.on(SuggestionChanged.hospital(11L, "해맑은소아청소년과", "경기도 성남시 분당구"));
+
+        assertThat(ids("해맑", Set.of())).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("재구축이 DB 를 읽는 동안 들어온 변경은 새 판에 다시 적용된다")
+    void replaysChangesDuringRebuild() {
+        when(loader.load()).thenAnswer(invocation -> {
+            index.on(SuggestionChanged.policy(21L, "부모급여", "양육"));
+            return List.of(new SearchSuggestion(SuggestionType.POLICY, 20L, "첫만남이용권", "출산", 70));
+        });
+
+        index.rebuild();
+
+        assertThat(ids("부모", Set.of())).containsExactly(21L);
+        assertThat(ids("햇", Set.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구축이 실패하면 이전 판으로 계속 답한다")
+    void keepsPreviousOnFailure() {
+        when(loader.load()).thenThrow(new IllegalStateException("db down"));
+
+        index.rebuild();
+
+        assertThat(ids("햇", Set.of())).containsExactly(2L, 10L, 1L);
+    }
+}
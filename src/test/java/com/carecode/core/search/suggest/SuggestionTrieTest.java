@@ -0,0 +1,92 @@
+package com.carecode.core.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자동완성 압축 트라이")
+class SuggestionTrieTest {
+
+    private static SearchSuggestion facility(long id, String name, long weight) {
+        return new SearchSuggestion(SuggestionType.FACILITY, id, name, null, weight);
+    }
+
+    private static String key(String text) {
+        return HangulJamo.decompose(text);
+    }
+
+    @Test
+    @DisplayName("접두어 아래 후보를 인기순으로 k 개까지 돌려준다")
+    void topKByWeight() {
+        SuggestionTrie trie = SuggestionTrie.empty(2);
+        trie = trie.with(key("햇살어린이집"), facility(1, "햇살어린이집", 5));
+        trie = trie.with(key("햇님어린이집"), facility(2, "햇님어린이집", 9));
+        trie = trie.with(key("해바라기어린이집"), facility(3, "해바라기어린이집", 7));
+        trie = trie.with(key("별빛어린이집"), facility(4, "별빛어린이집", 100));
+
+        assertThat(trie.top(key("해"))).extracting(SearchSuggestion::id).containsExactly(2L, 3L);
+        assertThat(trie.top(key("햇"))).extracting(SearchSuggestion::id).containsExactly(2L, 1L);
+        assertThat(trie.top(key("햇살"))).extracting(SearchSuggestion::id).containsExactly(1L);
+        assertThat(trie.top(key("달"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어가 간선 중간에서 끝나도 그 아래 후보가 나온다")
+    void prefixEndingInsideEdge() {
+        SuggestionTrie trie = SuggestionTrie.empty(5).with(key("무지개어린이집"), facility(1, "무지개어린이집", 1));
+
+        assertThat(trie.top(key("무지ㄱ"))).hasSize(1);
+        assertThat(trie.top(key("무지개어린"))).hasSize(1);
+        assertThat(trie.top(key("무지개유"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 후보가 여러 키로 들어가도 상위 목록에는 한 번만 나온다")
+    void deduplicatesByIdentity() {
+        SearchSuggestion suggestion = facility(1, "해님 해솔", 3);
+        SuggestionTrie trie = SuggestionTrie.empty(5)
+                .with(key("해님 해솔"), suggestion)
+                .with(key("해솔"), suggestion);
+
+        assertThat(trie.top(key("해"))).containsExactly(suggestion);
+    }
+
+    @Test
+    @DisplayName("빼면 빈 가지는 걷어내고, 예전 판은 그대로 남는다")
+    void removeIsPersistent() {
+        SearchSuggestion first = facility(1, "새싹어린이집", 1);
+        SearchSuggestion second = facility(2, "새봄어린이집", 2);
+        SuggestionTrie before = SuggestionTrie.empty(5).with(key(first.text()), first).with(key(second.text()), second);
+
+        SuggestionTrie after = before.without(key(first.text()), first);
+
+        assertThat(after.top(key("새"))).containsExactly(second);
+        assertThat(after.top(key("새싹"))).isEmpty();
+        assertThat(before.top(key("새"))).containsExactly(second, first);
+        assertThat(after.without(key("없는이름"), first)).isSameAs(after);
+    }
+
+    @Test
+    @DisplayName("빌더로 한 번에 만든 트라이와 하나씩 넣은 트라이는 같은 답을 준다")
+    void builderMatchesIncremental() {
+        Random random = new Random(7);
+        String[] words = {"햇살", "햇님", "해솔", "하늘", "한빛", "새싹", "새봄", "별빛", "꿈나무", "푸른"};
+        SuggestionTrie.Builder builder = SuggestionTrie.builder(3);
+        SuggestionTrie incremental = SuggestionTrie.empty(3);
+        for (int i = 0; i < 300; i++) {
+            String name = words[random.nextInt(words.length)] + words[random.nextInt(words.length)] + i;
+            SearchSuggestion suggestion = facility(i, name, random.nextInt(50));
+            builder.add(key(name), suggestion);
+            incremental = incremental.with(key(name), suggestion);
+        }
+        SuggestionTrie built = builder.build();
+
+        for (String prefix : List.of("ㅎ", "햇", "해ㅅ", "새봄", "꿈나무푸", "별빛별빛1", "ㅋ")) {
+            assertThat(built.top(key(prefix))).as(prefix).isEqualTo(incremental.top(key(prefix)));
+        }
+    }
+}
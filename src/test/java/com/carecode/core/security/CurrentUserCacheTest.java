@@ -0,0 +1,125 @@
+package com.carecode.core.security;
+
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.entity.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("로그인 사용자 캐시")
+class CurrentUserCacheTest {
+
+    private static final String EMAIL = "me@example.com";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<User>> loader = email -> {
+        loads.incrementAndGet();
+        return Optional.of(User.builder().id(1L).email(email).name("나").role(UserRole.PARENT).build());
+    };
+
+    private Instant now = Instant.parse("2026-10-19T00:00:00Z");
+    private CurrentUserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CurrentUserCache(Duration.ofSeconds(30), 100, new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 다시 읽지 않고 매번 새 복사본을 준다")
+    void servesCopiesWithinTtl() {
+        User first = cache.get(EMAIL, loader).orElseThrow();
+        User second = cache.get(EMAIL, loader).orElseThrow();
+        User third = cache.get(EMAIL, loader).orElseThrow();
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isNotSameAs(third);
+        assertThat(second.getName()).isEqualTo("나");
+
+        // 한 요청이 고쳐도 다른 요청이 받는 값은 그대로다.
+        second.setName("바뀜");
+        assertThat(cache.get(EMAIL, loader).orElseThrow().getName()).isEqualTo("나");
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 읽는다")
+    void reloadsAfterTtl() {
+        cache.get(EMAIL, loader);
+        now = now.plusSeconds(31);
+
+        cache.get(EMAIL, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 읽는다")
+    void evictForcesReload() {
+        cache.get(EMAIL, loader);
+
+        cache.evict(EMAIL);
+        cache.get(EMAIL, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화가 끼어들면 읽어 온 값을 캐시에 넣지 않는다")
+    void skipsValueLoadedAcrossEviction() {
+        cache.get(EMAIL, email -> {
+            cache.evict(email);
+            return loader.apply(email);
+        });
+
+        cache.get(EMAIL, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서는 같은 객체를 돌려준다")
+    void memoisesPerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        User first = cache.get(EMAIL, loader).orElseThrow();
+        User second = cache.get(EMAIL, loader).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+}
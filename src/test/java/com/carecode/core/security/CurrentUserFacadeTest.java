@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -19,6 +20,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +44,8 @@ class CurrentUserFacadeTest {
     private static final String ME_EMAIL = "me@example.com";
 
     @Mock private UserRepository userRepository;
+    /** 캐시를 끈 상태. 여기서는 본인 확인 계약만 본다. */
+    @Spy private CurrentUserCache currentUserCache = new CurrentUserCache(Duration.ZERO, 0, Clock.systemUTC());
 
     @InjectMocks private CurrentUserFacade currentUserFacade;
 
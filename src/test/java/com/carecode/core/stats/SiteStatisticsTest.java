@@ -0,0 +1,134 @@
+package com.carecode.core.stats;
+
+import com.carecode.domain.careFacility.dto.response.TypeStats;
+import com.carecode.domain.careFacility.entity.FacilityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("관리자 통계 메모리 집계")
+class SiteStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+    private static final Clock CLOCK = Clock.fixed(
+            TODAY.atTime(12, 0).atZone(ZoneId.of("Asia/Seoul")).toInstant(), ZoneId.of("Asia/Seoul"));
+
+    private SiteStatisticsLoader loader;
+    private SiteStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        loader = mock(SiteStatisticsLoader.class);
+        statistics = new SiteStatistics(loader, CLOCK);
+        when(loader.load(any())).thenReturn(snapshot(10, Map.of(
+                TODAY, 1L,
+                TODAY.minusDays(3), 2L,
+                LocalDate.of(2025, 1, 20), 4L)));
+    }
+
+    @Test
+    @DisplayName("처음 읽을 때 한 번만 DB 에서 세고, 6개월 전 1일부터 일별 가입을 가져온다")
+    void loadsLazilyOnce() {
+        assertThat(statistics.totalUsers()).isEqualTo(10);
+        assertThat(statistics.hospitals()).isEqualTo(3);
+
+        verify(loader, times(1)).load(LocalDate.of(2024, 10, 1));
+    }
+
+    @Test
+    @DisplayName("가입 이벤트는 전체 수, 일별 버킷, 최근 활동에 바로 반영된다")
+    void appliesSignup() {
+        statistics.totalUsers();
+
+        statistics.on(new SiteStatisticsEvent.UserSignedUp("새 사용자", true, TODAY.atTime(11, 0)));
+
+        assertThat(statistics.totalUsers()).isEqualTo(11);
+        assertThat(statistics.activeUsers()).isEqualTo(9);
+        assertThat(statistics.verifiedUsers()).isEqualTo(6);
+        assertThat(statistics.newUsersSince(TODAY)).isEqualTo(2);
+        assertThat(statistics.newUsersSince(TODAY.minusWeeks(1))).isEqualTo(4);
+        assertThat(statistics.recentActivities(1))
+                .extracting(SiteStatisticsSnapshot.Activity::description)
+                .containsExactly("신규 사용자 가입: 새 사용자");
+    }
+
+    @Test
+    @DisplayName("월별 추이는 가입이 없는 달도 0 으로 채운다")
+    void monthlyTrendFillsGaps() {
+        Map<YearMonth, Long> trend = statistics.monthlySignups(6);
+
+        assertThat(trend.keySet()).containsExactly(
+                YearMonth.of(2024, 10), YearMonth.of(2024, 11), YearMonth.of(2024, 12),
+                YearMonth.of(2025, 1), YearMonth.of(2025, 2), YearMonth.of(2025, 3));
+        assertThat(trend.values()).containsExactly(0L, 0L, 0L, 4L, 0L, 3L);
+    }
+
+    @Test
+    @DisplayName("최근 활동은 종류별 상한을 지키고 최신순으로 정렬된다")
+    void recentActivitiesKeepPerTypeLimit() {
+        statistics.totalUsers();
+
+        statistics.on(new SiteStatisticsEvent.PolicyRegistered("새 정책", TODAY.atTime(10, 0)));
+        statistics.on(new SiteStatisticsEvent.HospitalRegistered("새 병원", TODAY.atTime(9, 0)));
+
+        assertThat(statistics.policies()).isEqualTo(5);
+        assertThat(statistics.recentActivities(5))
+                .extracting(SiteStatisticsSnapshot.Activity::description)
+                .containsExactly("정책 등록: 새 정책", "병원 등록: 새 병원", "병원 등록: 기존 병원", "신규 사용자 가입: 기존 사용자");
+    }
+
+    @Test
+    @DisplayName("시설 등록은 유형별 건수를 올리고, 평점·조회수는 재집계 값을 유지한다")
+    void facilityTypeStats() {
+        statistics.on(new SiteStatisticsEvent.FacilityRegistered(FacilityType.DAYCARE));
+        statistics.totalUsers();
+        statistics.on(new SiteStatisticsEvent.FacilityRegistered(FacilityType.DAYCARE));
+
+        assertThat(statistics.facilities()).isEqualTo(21);
+        assertThat(statistics.facilityTypeStats()).singleElement().satisfies(stats -> {
+            assertThat(stats.getCount()).isEqualTo(8);
+            assertThat(stats.getAverageRating()).isEqualTo(4.5);
+            assertThat(stats.getTotalViews()).isEqualTo(100);
+        });
+    }
+
+    @Test
+    @DisplayName("재집계는 카운터를 DB 값으로 바꾸고, 실패하면 이전 값을 유지한다")
+    void reconcileReplacesCounters() {
+        statistics.totalUsers();
+        statistics.on(new SiteStatisticsEvent.UserSignedUp("새 사용자", false, TODAY.atTime(11, 0)));
+        assertThat(statistics.totalUsers()).isEqualTo(11);
+
+        when(loader.load(any())).thenReturn(snapshot(8, Map.of()));
+        statistics.reconcile();
+        assertThat(statistics.totalUsers()).isEqualTo(8);
+        assertThat(statistics.newUsersSince(TODAY)).isZero();
+
+        when(loader.load(any())).thenThrow(new IllegalStateException("db down"));
+        statistics.reconcile();
+        assertThat(statistics.totalUsers()).isEqualTo(8);
+    }
+
+    private static SiteStatisticsSnapshot snapshot(long users, Map<LocalDate, Long> dailySignups) {
+        return new SiteStatisticsSnapshot(
+                LocalDateTime.now(CLOCK), users, users - 2, 5, dailySignups, 3, 4, 20,
+                List.of(new TypeStats(FacilityType.DAYCARE, 7, 4.5, 100)),
+                List.of(SiteStatisticsSnapshot.Activity.user("기존 사용자", TODAY.minusDays(3).atStartOfDay()),
+                        SiteStatisticsSnapshot.Activity.hospital("기존 병원", TODAY.minusDays(1).atStartOfDay())));
+    }
+}
@@ -0,0 +1,77 @@
+package com.carecode.core.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("썸네일 생성")
+class ImageDerivativeGeneratorTest {
+
+    private static final String KEY = "objects/ab/cd/abcd.png";
+
+    private final FileStorageService storage = mock(FileStorageService.class);
+    private final ImageDerivativeGenerator generator = new ImageDerivativeGenerator(storage);
+
+    @Test
+    @DisplayName("비율을 지켜 목표 폭의 JPEG 로 줄인다")
+    void resizesToThumbnailWidth() throws Exception {
+        when(storage.load(KEY)).thenReturn(Optional.of(new ByteArrayResource(png(1600, 1200))));
+
+        generator.onStored(new StoredObjectEvent.Stored(KEY, "image/png", true));
+
+        verify(storage).storeDerivative(eq(ImageDerivatives.thumbnailKey(KEY)), argThat(bytes -> {
+            BufferedImage thumbnail = read(bytes);
+            return thumbnail.getWidth() == ImageDerivatives.THUMBNAIL_WIDTH && thumbnail.getHeight() == 240;
+        }));
+    }
+
+    @Test
+    @DisplayName("중복 업로드와 이미지가 아닌 파일은 건너뛴다")
+    void skipsDuplicatesAndNonImages() {
+        generator.onStored(new StoredObjectEvent.Stored(KEY, "image/png", false));
+        generator.onStored(new StoredObjectEvent.Stored("objects/ab/cd/abcd.pdf", "application/pdf", true));
+
+        verify(storage, never()).load(anyString());
+        verify(storage, never()).storeDerivative(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("깨진 이미지는 조용히 건너뛴다")
+    void ignoresUnreadableImage() {
+        when(storage.load(KEY)).thenReturn(Optional.of(new ByteArrayResource(new byte[]{1, 2, 3})));
+
+        generator.onStored(new StoredObjectEvent.Stored(KEY, "image/png", true));
+
+        verify(storage, never()).storeDerivative(anyString(), any());
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] bytes) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
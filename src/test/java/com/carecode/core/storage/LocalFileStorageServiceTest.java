@@ -0,0 +1,152 @@
+package com.carecode.core.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("내용 주소 파일 저장소")
+class LocalFileStorageServiceTest {
+
+    private static final String SECRET = "storage-key-secret-for-test";
+
+    @TempDir
+    Path root;
+
+    private StoredObjectRepository objectRepository;
+    private ApplicationEventPublisher events;
+    private LocalFileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        objectRepository = mock(StoredObjectRepository.class);
+        events = mock(ApplicationEventPublisher.class);
+        storage = new LocalFileStorageService(root.toString(), "/files", 1024 * 1024, SECRET, objectRepository, events);
+    }
+
+    @Test
+    @DisplayName("키는 내용에서 정해지고 같은 내용은 한 벌만 쓴다")
+    void deduplicatesIdenticalContent() throws Exception {
+        StoredFile first = storage.store(image("수첩.jpg", "같은 사진"));
+        StoredFile second = storage.store(image("다른이름.jpg", "같은 사진"));
+
+        assertThat(first.getKey()).matches("objects/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.jpg");
+        assertThat(second.getKey()).isEqualTo(first.getKey());
+        assertThat(first.isDeduplicated()).isFalse();
+        assertThat(second.isDeduplicated()).isTrue();
+        assertThat(second.getOriginalFilename()).isEqualTo("다른이름.jpg");
+        assertThat(regularFiles()).hasSize(1);
+        verify(objectRepository, times(2)).acquire(eq(first.getKey()), any(), any(), anyLong(), any());
+        verify(events).publishEvent(new StoredObjectEvent.Stored(first.getKey(), "image/jpeg", true));
+        verify(events).publishEvent(new StoredObjectEvent.Stored(first.getKey(), "image/jpeg", false));
+    }
+
+    @Test
+    @DisplayName("키는 내용 해시가 아니라 비밀값으로 만든 HMAC 이라 파일만으로는 URL 을 계산할 수 없다")
+    void keyIsNotTheContentHash() throws Exception {
+        byte[] body = "진료 기록 사진".getBytes(StandardCharsets.UTF_8);
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+
+        StoredFile stored = storage.store(new MockMultipartFile("file", "a.jpg", "image/jpeg", body));
+        StoredFile otherSecret = new LocalFileStorageService(root.resolve("other").toString(), "/files", 1024 * 1024,
+                "another-secret", objectRepository, events)
+                .store(new MockMultipartFile("file", "a.jpg", "image/jpeg", body));
+
+        assertThat(stored.getKey()).doesNotContain(sha256);
+        assertThat(otherSecret.getKey()).isNotEqualTo(stored.getKey());
+        // 원래 해시는 행에만 남긴다.
+        verify(objectRepository).acquire(eq(stored.getKey()), eq(sha256), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("참조를 먼저 잡고, 그새 마지막 참조 해제가 파일을 지웠으면 다시 쓴다")
+    void rewritesFileRemovedByConcurrentRelease() throws Exception {
+        StoredFile first = storage.store(image("a.jpg", "사진"));
+        Files.delete(root.resolve(first.getKey()));
+
+        StoredFile second = storage.store(image("a.jpg", "사진"));
+
+        assertThat(second.isDeduplicated()).isFalse();
+        assertThat(root.resolve(second.getKey())).hasContent("사진");
+        verify(events, times(2)).publishEvent(new StoredObjectEvent.Stored(second.getKey(), "image/jpeg", true));
+    }
+
+    @Test
+    @DisplayName("내용이 다르면 키도 다르다")
+    void separatesDifferentContent() {
+        StoredFile a = storage.store(image("a.jpg", "사진 A"));
+        StoredFile b = storage.store(image("b.jpg", "사진 B"));
+
+        assertThat(a.getKey()).isNotEqualTo(b.getKey());
+        assertThat(a.getThumbnailUrl()).isEqualTo(a.getUrl() + ImageDerivatives.THUMBNAIL_SUFFIX);
+    }
+
+    @Test
+    @DisplayName("마지막 참조가 풀리면 원본과 썸네일을 지운다")
+    void deletesFilesWhenUnreferenced() throws Exception {
+        StoredFile stored = storage.store(image("a.jpg", "사진"));
+        storage.storeDerivative(ImageDerivatives.thumbnailKey(stored.getKey()), new byte[]{1});
+        when(objectRepository.existsById(stored.getKey())).thenReturn(true);
+        when(objectRepository.deleteIfUnreferenced(stored.getKey())).thenReturn(1);
+
+        storage.onReleased(new StoredObjectEvent.Released(stored.getKey()));
+
+        assertThat(regularFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 참조가 남아 있으면 파일을 두고, 업로드 롤백은 새로 쓴 파일만 치운다")
+    void keepsReferencedFiles() throws Exception {
+        StoredFile stored = storage.store(image("a.jpg", "사진"));
+        when(objectRepository.existsById(stored.getKey())).thenReturn(true);
+        when(objectRepository.deleteIfUnreferenced(stored.getKey())).thenReturn(0);
+        when(objectRepository.lockByStorageKey(stored.getKey())).thenReturn(Optional.of(mock(StoredObject.class)));
+
+        storage.onReleased(new StoredObjectEvent.Released(stored.getKey()));
+        storage.onStoreRolledBack(new StoredObjectEvent.Stored(stored.getKey(), "image/jpeg", true));
+
+        assertThat(regularFiles()).hasSize(1);
+
+        when(objectRepository.lockByStorageKey(stored.getKey())).thenReturn(Optional.empty());
+        storage.onStoreRolledBack(new StoredObjectEvent.Stored(stored.getKey(), "image/jpeg", true));
+
+        assertThat(regularFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주소에서 키를 꺼내고, 다른 주소는 무시한다")
+    void extractsKeyFromUrl() {
+        assertThat(storage.keyOf("/files/objects/ab/cd/x.jpg")).contains("objects/ab/cd/x.jpg");
+        assertThat(storage.keyOf("https://cdn.example.com/x.jpg")).isEmpty();
+    }
+
+    private MockMultipartFile image(String name, String body) {
+        return new MockMultipartFile("file", name, "image/jpeg", body.getBytes());
+    }
+
+    private List<Path> regularFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.carecode.core.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("저장 파일 내려받기")
+class StoredFileServerTest {
+
+    private static final String KEY = "health/2026/10/19/abc.pdf";
+
+    @TempDir
+    Path root;
+
+    private byte[] content;
+    private StoredFileServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[100 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = root.resolve(KEY);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+
+        server = new StoredFileServer(new LocalFileStorageService(root.toString(), "/files", 1024, "secret",
+                mock(StoredObjectRepository.class), mock(ApplicationEventPublisher.class)), 1);
+    }
+
+    @Test
+    @DisplayName("전체를 내려주고 키에서 만든 ETag 와 immutable 캐시를 붙인다")
+    void servesWholeFile() throws Exception {
+        MockHttpServletResponse response = serve(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        assertThat(response.getContentType()).isEqualTo("application/pdf");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(StoredFileServer.etag(KEY));
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable").contains("private");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("Range 요청은 그 구간만 206 으로 내려준다")
+    void servesSingleRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=1000-1999");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 1000-1999/" + content.length);
+        assertThat(response.getContentLengthLong()).isEqualTo(1000);
+        assertThat(response.getContentAsByteArray()[0]).isEqualTo(content[1000]);
+        assertThat(response.getContentAsByteArray()).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("열린 구간은 끝까지 이어받는다")
+    void servesOpenEndedRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=102000-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).hasSize(content.length - 102000);
+    }
+
+    @Test
+    @DisplayName("파일 밖 구간은 416 이다")
+    void rejectsUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=999999-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + content.length);
+    }
+
+    @Test
+    @DisplayName("If-Range 의 ETag 가 다르면 구간 대신 전체를 준다")
+    void ignoresRangeForStaleIfRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).hasSize(content.length);
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 본문 없이 304 를 준다")
+    void returnsNotModified() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, StoredFileServer.etag(KEY));
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("톰캣이 sendfile 을 지원하면 경로와 구간만 넘긴다")
+    void delegatesToSendfile() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-65535");
+        request.setAttribute(StoredFileServer.SENDFILE_SUPPORT, true);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(StoredFileServer.SENDFILE_FILENAME))
+                .isEqualTo(root.resolve(KEY).toFile().getCanonicalPath());
+        assertThat(request.getAttribute(StoredFileServer.SENDFILE_START)).isEqualTo(0L);
+        assertThat(request.getAttribute(StoredFileServer.SENDFILE_END)).isEqualTo(65536L);
+    }
+
+    @Test
+    @DisplayName("썸네일이 아직 없으면 원본을 주되 캐시에 굳히지 않는다")
+    void fallsBackToOriginalUntilThumbnailExists() throws Exception {
+        MockHttpServletResponse pending = new MockHttpServletResponse();
+        server.serve(ImageDerivatives.thumbnailKey(KEY), get(), pending);
+
+        Path thumbnail = root.resolve(ImageDerivatives.thumbnailKey(KEY));
+        Files.write(thumbnail, new byte[]{1, 2, 3});
+        MockHttpServletResponse ready = new MockHttpServletResponse();
+        server.serve(ImageDerivatives.thumbnailKey(KEY), get(), ready);
+
+        assertThat(pending.getStatus()).isEqualTo(200);
+        assertThat(pending.getContentAsByteArray()).isEqualTo(content);
+        assertThat(pending.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache");
+        assertThat(ready.getContentAsByteArray()).containsExactly(1, 2, 3);
+        assertThat(ready.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    @Test
+    @DisplayName("없는 키와 저장소 밖 경로는 404 다")
+    void returnsNotFound() throws Exception {
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        server.serve("health/none.pdf", get(), missing);
+        MockHttpServletResponse escaped = new MockHttpServletResponse();
+        server.serve("../../etc/passwd", get(), escaped);
+
+        assertThat(missing.getStatus()).isEqualTo(404);
+        assertThat(escaped.getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/files/" + KEY);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        server.serve(KEY, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,50 @@
+package com.carecode.core.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Aho-Corasick 키워드 오토마톤")
+class KeywordAutomatonTest {
+
+    private static List<Integer> scan(KeywordAutomaton automaton, String text) {
+        List<Integer> matches = new ArrayList<>();
+        automaton.scan(text, matches::add);
+        return matches;
+    }
+
+    @Test
+    @DisplayName("겹치거나 다른 키워드 안에 든 키워드도 모두 찾는다")
+    void findsOverlappingKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of(
+                Map.entry("he", 1), Map.entry("she", 2), Map.entry("his", 3), Map.entry("hers", 4)));
+
+        assertThat(scan(automaton, "ushers")).containsExactly(2, 1, 4);
+        assertThat(scan(automaton, "ahishe")).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("한글 키워드를 실패 링크를 따라가며 찾는다")
+    void followsFailureLinksInKorean() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of(
+                Map.entry("지원금", 1), Map.entry("원", 2), Map.entry("지원", 3)));
+
+        assertThat(scan(automaton, "보육지원금 신청")).containsExactly(3, 2, 1);
+        assertThat(scan(automaton, "지지원")).containsExactly(3, 2);
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고, 같은 값은 한 상태에서 한 번만 알린다")
+    void caseInsensitiveAndDeduplicated() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of(
+                Map.entry("Bye", 7), Map.entry("goodbye", 7), Map.entry("", 9)));
+
+        assertThat(scan(automaton, "GoodBYE")).containsExactly(7);
+        assertThat(scan(automaton, "nothing here")).isEmpty();
+    }
+}
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -41,7 +42,8 @@ class PolicyAdminServicePatchTest {
         policyRepository = mock(PolicyRepository.class);
         policyCategoryRepository = mock(PolicyCategoryRepository.class);
         objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-        service = new PolicyAdminService(policyRepository, policyCategoryRepository, objectMapper);
+        service = new PolicyAdminService(policyRepository, policyCategoryRepository, objectMapper,
+                mock(ApplicationEventPublisher.class));
 
         when(policyRepository.save(any(Policy.class))).thenAnswer(inv -> inv.getArgument(0));
     }
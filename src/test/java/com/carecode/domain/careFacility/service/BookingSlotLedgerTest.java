@@ -0,0 +1,140 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.core.exception.CareServiceException;
+import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.domain.careFacility.entity.CareFacilityBooking;
+import com.carecode.domain.careFacility.entity.CareFacilityBooking.BookingStatus;
+import com.carecode.domain.careFacility.repository.CareFacilityBookingRepository;
+import com.carecode.domain.careFacility.repository.FacilityBookingSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("시설 예약 장부")
+class BookingSlotLedgerTest {
+
+    private static final Long FACILITY_ID = 10L;
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 3, 4, 0, 0);
+
+    @Mock private FacilityBookingSlotRepository slotRepository;
+    @Mock private CareFacilityBookingRepository bookingRepository;
+
+    private BookingSlotLedger ledger;
+    private CareFacility facility;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new BookingSlotLedger(slotRepository, bookingRepository, 30);
+        facility = CareFacility.builder().id(FACILITY_ID).name("행복 어린이집").capacity(3).build();
+    }
+
+    @Test
+    @DisplayName("걸친 칸 전체를 칸 경계로 넓혀 한 번에 잡는다")
+    void reservesCoveredSlots() {
+        LocalDateTime from = DAY.withHour(10);
+        LocalDateTime to = DAY.withHour(11).withMinute(30);
+        when(slotRepository.countSlots(FACILITY_ID, from, to)).thenReturn(3L);
+        when(slotRepository.reserve(FACILITY_ID, from, to)).thenReturn(3);
+
+        // 10:15 ~ 11:10 은 10:00, 10:30, 11:00 세 칸에 걸친다.
+        assertThatCode(() -> ledger.reserve(facility, DAY.withHour(10).withMinute(15), DAY.withHour(11).withMinute(10)))
+                .doesNotThrowAnyException();
+        verify(slotRepository, never()).seed(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("칸 행이 모자라면 정원에서 이미 걸친 예약을 빼고 만든다")
+    void seedsMissingSlots() {
+        LocalDateTime from = DAY.withHour(9);
+        LocalDateTime to = DAY.withHour(10);
+        when(slotRepository.countSlots(FACILITY_ID, from, to)).thenReturn(1L);
+        when(slotRepository.reserve(FACILITY_ID, from, to)).thenReturn(2);
+        // 장부가 생기기 전에 들어온 예약이 9:30 칸에 하나 있다.
+        when(bookingRepository.countOverlappingBookings(FACILITY_ID, from.plusMinutes(30), to, null)).thenReturn(1L);
+
+        ledger.reserve(facility, from, to);
+
+        verify(slotRepository).seed(FACILITY_ID, from, 3);
+        verify(slotRepository).seed(FACILITY_ID, from.plusMinutes(30), 2);
+    }
+
+    @Test
+    @DisplayName("한 칸이라도 꽉 차 있으면 예외를 던져 롤백시킨다")
+    void rejectsWhenAnySlotIsFull() {
+        LocalDateTime from = DAY.withHour(9);
+        LocalDateTime to = DAY.withHour(10);
+        when(slotRepository.countSlots(FACILITY_ID, from, to)).thenReturn(2L);
+        when(slotRepository.reserve(FACILITY_ID, from, to)).thenReturn(1);
+
+        assertThatThrownBy(() -> ledger.reserve(facility, from, to))
+                .isInstanceOf(CareServiceException.class)
+                .hasMessageContaining("예약 가능한 자리가 없습니다");
+    }
+
+    @Test
+    @DisplayName("취소로 바뀌면 돌려주고, 취소에서 되살아나면 다시 잡는다")
+    void followsStatusChanges() {
+        CareFacilityBooking booking = new CareFacilityBooking();
+        booking.setFacility(facility);
+        booking.setStartTime(DAY.withHour(9));
+        booking.setEndTime(DAY.withHour(9).withMinute(30));
+
+        booking.setStatus(BookingStatus.CANCELLED);
+        ledger.onStatusChanged(booking, BookingStatus.CONFIRMED);
+        verify(slotRepository).release(FACILITY_ID, DAY.withHour(9), DAY.withHour(9).withMinute(30));
+
+        booking.setStatus(BookingStatus.CONFIRMED);
+        when(slotRepository.countSlots(anyLong(), any(), any())).thenReturn(1L);
+        when(slotRepository.reserve(anyLong(), any(), any())).thenReturn(1);
+        ledger.onStatusChanged(booking, BookingStatus.PENDING);
+        verify(slotRepository, never()).reserve(anyLong(), any(), any());
+
+        ledger.onStatusChanged(booking, BookingStatus.CANCELLED);
+        verify(slotRepository).reserve(FACILITY_ID, DAY.withHour(9), DAY.withHour(9).withMinute(30));
+    }
+
+    @Test
+    @DisplayName("저장된 예약이 칸 행을 새로 만들 때는 그 예약 자신을 세지 않는다")
+    void seedExcludesTheBookingItself() {
+        CareFacilityBooking booking = new CareFacilityBooking();
+        booking.setId(77L);
+        booking.setFacility(facility);
+        booking.setStartTime(DAY.withHour(9));
+        booking.setEndTime(DAY.withHour(9).withMinute(30));
+        // 취소에서 되살린 상태가 이미 flush 되어, 자신을 빼지 않으면 이 예약이 겹침 수에 들어간다.
+        booking.setStatus(BookingStatus.CONFIRMED);
+        when(slotRepository.countSlots(anyLong(), any(), any())).thenReturn(0L);
+        when(slotRepository.reserve(anyLong(), any(), any())).thenReturn(1);
+        when(bookingRepository.countOverlappingBookings(FACILITY_ID, DAY.withHour(9), DAY.withHour(9).withMinute(30), 77L))
+                .thenReturn(0L);
+
+        ledger.onStatusChanged(booking, BookingStatus.CANCELLED);
+
+        verify(slotRepository).seed(FACILITY_ID, DAY.withHour(9), 3);
+    }
+
+    @Test
+    @DisplayName("하루를 나누어떨어지게 하지 않는 칸 길이는 거부한다")
+    void rejectsUnevenSlotLength() {
+        assertThatThrownBy(() -> new BookingSlotLedger(slotRepository, bookingRepository, 7))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("시설 정원 요약 계산")
+class CapacityStatsCalculatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    @Test
+    @DisplayName("입소 예측 집계는 최근 18개월 관측만 쓴다")
+    void forecastInputsUseEighteenMonths() {
+        FacilityCapacityStats stats = CapacityStatsCalculator.compute(1L, List.of(
+                observation(TODAY.minusMonths(20), 50, 50, 0),
+                observation(TODAY.minusMonths(12), 50, 48, 2),
+                observation(TODAY.minusMonths(6), 50, 50, 0),
+                observation(TODAY.minusMonths(1), 50, 49, 1)), TODAY);
+
+        assertThat(stats.getFillRateObservations()).isEqualTo(4);
+        assertThat(stats.getForecastObservations()).isEqualTo(3);
+        assertThat(stats.getForecastFirstObserved()).isEqualTo(TODAY.minusMonths(12));
+        assertThat(stats.getObservedWithSeat()).isEqualTo(2);
+        // 18개월 밖의 만원 관측은 세지 않으므로 첫 관측의 자리는 '열림' 이 아니다.
+        assertThat(stats.getSeatOpenings()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈자리 증감은 최근 30일의 마지막 두 관측으로 본다")
+    void vacancyIncreaseUsesLastTwoRecentObservations() {
+        FacilityCapacityStats stats = CapacityStatsCalculator.compute(1L, List.of(
+                observation(TODAY.minusDays(40), 50, 45, null),
+                observation(TODAY.minusDays(14), 50, 50, null),
+                observation(TODAY.minusDays(7), 50, 47, null)), TODAY);
+
+        assertThat(stats.getVacancyIncrease()).isEqualTo(3);
+        assertThat(stats.getLatestAvailableSpots()).isEqualTo(3);
+        assertThat(stats.getLatestObservedDate()).isEqualTo(TODAY.minusDays(7));
+    }
+
+    @Test
+    @DisplayName("최근 30일에 관측이 하나뿐이면 증감을 비워 둔다")
+    void leavesIncreaseEmptyWithSingleRecentObservation() {
+        FacilityCapacityStats stats = CapacityStatsCalculator.compute(1L, List.of(
+                observation(TODAY.minusDays(60), 50, 50, 0),
+                observation(TODAY.minusDays(3), 50, 45, 5)), TODAY);
+
+        assertThat(stats.getVacancyIncrease()).isNull();
+        assertThat(stats.getLatestAvailableSpots()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("급락일은 저장했다가 그대로 되살린다")
+    void sharpDropDatesRoundTrip() {
+        LocalDate drop = LocalDate.of(2025, 5, 1);
+        FacilityCapacityStats stats = CapacityStatsCalculator.compute(1L, List.of(
+                observation(LocalDate.of(2025, 4, 1), 50, 50, 0),
+                observation(drop, 50, 40, 10)), TODAY);
+
+        assertThat(stats.getSharpDropDates()).isEqualTo("2025-05-01");
+        assertThat(stats.sharpDropDateList()).containsExactly(drop);
+    }
+
+    private CapacityObservation observation(LocalDate date, Integer capacity, Integer enrolled, Integer spots) {
+        return new CapacityObservation(1L, date, capacity, enrolled, spots);
+    }
+}
@@ -2,6 +2,7 @@ package com.carecode.domain.careFacility.service;
 
 import com.carecode.core.exception.CareServiceException;
 import com.carecode.domain.careFacility.dto.request.CreateBookingRequest;
+import com.carecode.domain.careFacility.dto.request.UpdateBookingRequest;
 import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.entity.CareFacilityBooking;
 import com.carecode.domain.careFacility.repository.CareFacilityBookingRepository;
@@ -13,7 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,15 +29,16 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-/** 예약 겹침 검증 회귀 테스트. 이전 구현은 시작 시각 ±1시간만 비교해서 (1) 기존 예약의 종료 시각을 무시했고, (2) 취소된 예약도 충돌로 셌으며 */
+/** 예약 구간 검증과 장부 연동 테스트. 겹침 검증 회귀 배경: 이전 구현은 시작 시각 ±1시간만 비교해서 (1) 기존 예약의 종료 시각을 무시했고, (2) 취소된 예약도 충돌로 셌으며 */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
-@DisplayName("시설 예약 - 겹침 검증")
+@DisplayName("시설 예약 - 구간 검증과 장부")
 class CareFacilityBookingServiceTest {
 
     private static final Long FACILITY_ID = 10L;
@@ -44,6 +46,7 @@ class CareFacilityBookingServiceTest {
     @Mock private CareFacilityBookingRepository bookingRepository;
     @Mock private CareFacilityRepository careFacilityRepository;
     @Mock private UserRepository userRepository;
+    @Mock private BookingSlotLedger slotLedger;
     @Mock private UserDetails userDetails;
 
     @InjectMocks private CareFacilityBookingService bookingService;
@@ -70,20 +73,19 @@ class CareFacilityBookingServiceTest {
     }
 
     @Test
-    @DisplayName("겹치는 예약이 정원 미만이면 예약된다")
-    void allowsBookingWhenBelowCapacity() {
-        when(bookingRepository.countOverlappingBookings(eq(FACILITY_ID), any(), any(), isNull()))
-                .thenReturn(1L); // 정원 2 중 1건 사용
-
+    @DisplayName("장부에서 자리를 잡으면 예약된다")
+    void allowsBookingWhenLedgerReserves() {
         assertThatCode(() -> bookingService.createBooking(FACILITY_ID, futureRequest(), userDetails))
                 .doesNotThrowAnyException();
+
+        verify(bookingRepository).save(any(CareFacilityBooking.class));
     }
 
     @Test
-    @DisplayName("겹치는 예약이 정원에 도달하면 거부한다")
-    void rejectsBookingWhenCapacityReached() {
-        when(bookingRepository.countOverlappingBookings(eq(FACILITY_ID), any(), any(), isNull()))
-                .thenReturn(2L); // 정원 2 모두 사용
+    @DisplayName("장부에 자리가 없으면 거부하고 저장하지 않는다")
+    void rejectsBookingWhenLedgerIsFull() {
+        doThrow(new CareServiceException("해당 시간에 예약 가능한 자리가 없습니다. 다른 시간을 선택해주세요."))
+                .when(slotLedger).reserve(eq(facility), any(), any());
 
         assertThatThrownBy(() -> bookingService.createBooking(FACILITY_ID, futureRequest(), userDetails))
                 .isInstanceOf(CareServiceException.class)
@@ -93,22 +95,44 @@ class CareFacilityBookingServiceTest {
     }
 
     @Test
-    @DisplayName("겹침 판정에 요청한 시작·종료 시각을 그대로 사용한다")
-    void passesRequestedIntervalToOverlapQuery() {
-        when(bookingRepository.countOverlappingBookings(eq(FACILITY_ID), any(), any(), isNull()))
-                .thenReturn(0L);
-
+    @DisplayName("장부에 요청한 시작·종료 시각을 그대로 넘긴다")
+    void passesRequestedIntervalToLedger() {
         CreateBookingRequest request = futureRequest();
         bookingService.createBooking(FACILITY_ID, request, userDetails);
 
-        ArgumentCaptor<LocalDateTime> start = ArgumentCaptor.forClass(LocalDateTime.class);
-        ArgumentCaptor<LocalDateTime> end = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(bookingRepository).countOverlappingBookings(
-                eq(FACILITY_ID), start.capture(), end.capture(), isNull());
-
         // ±1시간 하드코딩이 아니라 요청 구간 그대로여야 한다
-        org.assertj.core.api.Assertions.assertThat(start.getValue()).isEqualTo(request.getStartTime());
-        org.assertj.core.api.Assertions.assertThat(end.getValue()).isEqualTo(request.getEndTime());
+        verify(slotLedger).reserve(facility, request.getStartTime(), request.getEndTime());
+    }
+
+    @Test
+    @DisplayName("취소하면 잡아 둔 자리를 돌려준다")
+    void cancelReleasesSeats() {
+        CareFacilityBooking booking = existingBooking();
+        when(bookingRepository.findById(99L)).thenReturn(Optional.of(booking));
+
+        bookingService.cancelBooking(99L, userDetails);
+
+        verify(slotLedger).release(facility, booking.getStartTime(), booking.getEndTime());
+    }
+
+    @Test
+    @DisplayName("시간을 바꾸면 옛 자리를 돌려준 뒤 새 자리를 잡는다")
+    void rescheduleReleasesThenReserves() {
+        CareFacilityBooking booking = existingBooking();
+        LocalDateTime oldStart = booking.getStartTime();
+        LocalDateTime oldEnd = booking.getEndTime();
+        when(bookingRepository.findById(99L)).thenReturn(Optional.of(booking));
+
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setStartTime(oldStart.plusHours(1));
+        request.setEndTime(oldEnd.plusHours(1));
+        request.setBookingType("TEMPORARY");
+        bookingService.updateBooking(99L, request, userDetails);
+
+        InOrder order = inOrder(slotLedger);
+        order.verify(slotLedger).release(facility, oldStart, oldEnd);
+        // 행은 아직 예전 시각이라 장부가 칸을 새로 만들 때 이 예약을 빼고 세도록 id 를 넘긴다
+        order.verify(slotLedger).reserve(facility, request.getStartTime(), request.getEndTime(), booking.getId());
     }
 
     @Test
@@ -120,6 +144,7 @@ class CareFacilityBookingServiceTest {
         assertThatThrownBy(() -> bookingService.createBooking(FACILITY_ID, request, userDetails))
                 .isInstanceOf(CareServiceException.class)
                 .hasMessageContaining("종료 시간은 시작 시간보다");
+        verify(slotLedger, never()).reserve(any(), any(), any());
     }
 
     @Test
@@ -134,6 +159,19 @@ class CareFacilityBookingServiceTest {
                 .hasMessageContaining("과거 시간");
     }
 
+    private CareFacilityBooking existingBooking() {
+        LocalDateTime start = LocalDateTime.now().plusDays(2).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        CareFacilityBooking booking = new CareFacilityBooking();
+        booking.setId(99L);
+        booking.setFacility(facility);
+        booking.setUserId("u-1");
+        booking.setStatus(CareFacilityBooking.BookingStatus.PENDING);
+        booking.setBookingType(CareFacilityBooking.BookingType.TEMPORARY);
+        booking.setStartTime(start);
+        booking.setEndTime(start.plusHours(2));
+        return booking;
+    }
+
     private CreateBookingRequest futureRequest() {
         LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
         CreateBookingRequest request = new CreateBookingRequest();
@@ -0,0 +1,65 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityRun;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("정원 스냅샷 구간 압축")
+class FacilityCapacityCompactionWriterTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    @Test
+    @DisplayName("같은 값이 이어지면 한 구간으로 접고 값이 바뀌면 새 구간을 연다")
+    void foldsRunsAtChangePoints() {
+        List<FacilityCapacityRun> runs = FacilityCapacityCompactionWriter.fold(1L, null, List.of(
+                observation(0, 0), observation(1, 0), observation(2, 0), observation(3, 2), observation(4, 2)));
+
+        assertThat(runs).hasSize(2);
+        assertThat(runs.get(0).getObservationCount()).isEqualTo(3);
+        assertThat(runs.get(0).getLastObserved()).isEqualTo(START.plusWeeks(2));
+        assertThat(runs.get(1).getFirstObserved()).isEqualTo(START.plusWeeks(3));
+        assertThat(runs.get(1).getObservationCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마지막 기존 구간과 값이 같으면 그 구간을 늘린다")
+    void extendsLatestExistingRun() {
+        FacilityCapacityRun latest = FacilityCapacityRun.builder()
+                .facilityId(1L).firstObserved(START.minusWeeks(4)).lastObserved(START.minusWeeks(1))
+                .observationCount(4).capacity(50).currentEnrollment(50).availableSpots(0)
+                .build();
+
+        List<FacilityCapacityRun> runs = FacilityCapacityCompactionWriter.fold(1L, latest,
+                List.of(observation(0, 0), observation(1, 0)));
+
+        assertThat(runs).containsExactly(latest);
+        assertThat(latest.getObservationCount()).isEqualTo(6);
+        assertThat(latest.getLastObserved()).isEqualTo(START.plusWeeks(1));
+    }
+
+    @Test
+    @DisplayName("이미 접힌 날짜의 관측은 다시 세지 않는다")
+    void skipsAlreadyFoldedObservations() {
+        FacilityCapacityRun latest = FacilityCapacityRun.builder()
+                .facilityId(1L).firstObserved(START).lastObserved(START.plusWeeks(1))
+                .observationCount(2).capacity(50).currentEnrollment(50).availableSpots(0)
+                .build();
+
+        List<FacilityCapacityRun> runs = FacilityCapacityCompactionWriter.fold(1L, latest,
+                List.of(observation(0, 0), observation(1, 0)));
+
+        assertThat(runs).isEmpty();
+        assertThat(latest.getObservationCount()).isEqualTo(2);
+    }
+
+    private CapacityObservation observation(int week, int spots) {
+        return new CapacityObservation(1L, START.plusWeeks(week), 50, 50 - spots, spots);
+    }
+}
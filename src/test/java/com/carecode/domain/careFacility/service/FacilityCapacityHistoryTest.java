@@ -0,0 +1,87 @@
+package com.carecode.domain.careFacility.service;
+
+import com.carecode.domain.careFacility.entity.FacilityCapacityRun;
+import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import com.carecode.domain.careFacility.repository.FacilityCapacityRunRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("정원 이력 병합 읽기")
+class FacilityCapacityHistoryTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6);
+
+    private final FacilityCapacitySnapshotRepository snapshotRepository = mock(FacilityCapacitySnapshotRepository.class);
+    private final FacilityCapacityRunRepository runRepository = mock(FacilityCapacityRunRepository.class);
+    private final FacilityCapacityHistory history = new FacilityCapacityHistory(snapshotRepository, runRepository);
+
+    @Test
+    @DisplayName("구간은 접힌 관측 수만큼 첫·마지막 관측일 사이에 고르게 펼친다")
+    void expandsRunEvenly() {
+        List<LocalDate> dates = FacilityCapacityHistory.expand(run(1L, START, START.plusWeeks(3), 4, 10), START)
+                .map(CapacityObservation::observedDate)
+                .toList();
+
+        assertThat(dates).containsExactly(START, START.plusWeeks(1), START.plusWeeks(2), START.plusWeeks(3));
+    }
+
+    @Test
+    @DisplayName("조회 시작일 앞의 펼친 관측은 뺀다")
+    void dropsExpandedPointsBeforeFrom() {
+        assertThat(FacilityCapacityHistory.expand(run(1L, START, START.plusWeeks(3), 4, 10), START.plusDays(10)))
+                .extracting(CapacityObservation::observedDate)
+                .containsExactly(START.plusWeeks(2), START.plusWeeks(3));
+    }
+
+    @Test
+    @DisplayName("압축 구간과 최근 원본을 관측일 순으로 합친다")
+    void mergesRunsAndRawSnapshots() {
+        when(runRepository.findOverlapping(anyLong(), any()))
+                .thenReturn(List.of(run(1L, START, START.plusWeeks(1), 2, 0)));
+        when(snapshotRepository.findHistory(anyLong(), any())).thenReturn(List.of(FacilityCapacitySnapshot.builder()
+                .facilityId(1L).observedDate(START.plusWeeks(2)).capacity(50).currentEnrollment(47)
+                .availableSpots(3).build()));
+
+        List<CapacityObservation> merged = history.findHistory(1L, START);
+
+        assertThat(merged).extracting(CapacityObservation::observedDate)
+                .containsExactly(START, START.plusWeeks(1), START.plusWeeks(2));
+        assertThat(merged).extracting(CapacityObservation::availableSpots).containsExactly(0, 0, 3);
+    }
+
+    @Test
+    @DisplayName("전 시설 스트림은 (시설, 관측일) 순서를 지킨다")
+    void streamsInFacilityDateOrder() {
+        when(runRepository.findAllOverlapping(any())).thenReturn(List.of(
+                run(1L, START, START.plusWeeks(1), 2, 0),
+                run(2L, START, START, 1, 5)));
+        when(snapshotRepository.streamObservationsSince(any())).thenReturn(Stream.of(
+                new CapacityObservation(1L, START.plusWeeks(2), 50, 47, 3),
+                new CapacityObservation(3L, START, 50, 50, 0)));
+
+        try (Stream<CapacityObservation> merged = history.streamSince(START)) {
+            assertThat(merged.map(o -> o.facilityId() + "@" + o.observedDate()).toList()).containsExactly(
+                    "1@" + START, "1@" + START.plusWeeks(1), "1@" + START.plusWeeks(2),
+                    "2@" + START, "3@" + START);
+        }
+    }
+
+    private FacilityCapacityRun run(Long facilityId, LocalDate first, LocalDate last, int count, int spots) {
+        return FacilityCapacityRun.builder()
+                .facilityId(facilityId).firstObserved(first).lastObserved(last).observationCount(count)
+                .capacity(50).currentEnrollment(50 - spots).availableSpots(spots)
+                .build();
+    }
+}
@@ -4,7 +4,9 @@ import com.carecode.domain.careFacility.dto.response.FacilityPopularityResponse;
 import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacityRunRepository;
 import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacityStatsRepository;
 import com.carecode.core.analytics.EventLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,7 +35,10 @@ class FacilityPopularityServiceTest {
         snapshotRepository = mock(FacilityCapacitySnapshotRepository.class);
         when(facilityRepository.findById(anyLong()))
                 .thenReturn(Optional.of(CareFacility.builder().name("행복어린이집").build()));
-        service = new FacilityPopularityService(facilityRepository, snapshotRepository,
+        service = new FacilityPopularityService(facilityRepository,
+                // 요약 행이 없으니 이력으로 즉석 계산하는 경로를 탄다.
+                new FacilityCapacityStatsReader(mock(FacilityCapacityStatsRepository.class),
+                        new FacilityCapacityHistory(snapshotRepository, mock(FacilityCapacityRunRepository.class))),
                 mock(EventLogger.class));
     }
 
@@ -3,9 +3,11 @@ package com.carecode.domain.careFacility.service;
 import com.carecode.core.analytics.EventLogger;
 import com.carecode.domain.careFacility.entity.CareFacility;
 import com.carecode.domain.careFacility.entity.FacilityCapacitySnapshot;
+import com.carecode.domain.careFacility.entity.FacilityCapacityStats;
 import com.carecode.domain.careFacility.entity.FacilityWaitlist;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
-import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
+import com.carecode.domain.careFacility.repository.CapacityObservation;
+import com.carecode.domain.careFacility.repository.FacilityCapacityStatsRepository;
 import com.carecode.domain.careFacility.repository.FacilityWaitlistRepository;
 import com.carecode.domain.notification.entity.Notification;
 import com.carecode.domain.notification.repository.NotificationRepository;
@@ -17,12 +19,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -30,7 +34,7 @@ import static org.mockito.Mockito.when;
 class FacilityVacancyNotifierTest {
 
     private FacilityWaitlistRepository waitlistRepository;
-    private FacilityCapacitySnapshotRepository snapshotRepository;
+    private FacilityCapacityStatsRepository statsRepository;
     private CareFacilityRepository facilityRepository;
     private NotificationRepository notificationRepository;
     private FacilityVacancyNotifier notifier;
@@ -38,16 +42,18 @@ class FacilityVacancyNotifierTest {
     @BeforeEach
     void setUp() {
         waitlistRepository = mock(FacilityWaitlistRepository.class);
-        snapshotRepository = mock(FacilityCapacitySnapshotRepository.class);
+        statsRepository = mock(FacilityCapacityStatsRepository.class);
         facilityRepository = mock(CareFacilityRepository.class);
         notificationRepository = mock(NotificationRepository.class);
 
-        when(facilityRepository.findById(anyLong())).thenReturn(Optional.of(
-                CareFacility.builder().name("행복어린이집").isActive(true).build()));
+        when(facilityRepository.findAllById(anyIterable())).thenReturn(List.of(
+                CareFacility.builder().id(1L).name("행복어린이집").isActive(true).build()));
         when(notificationRepository.save(any(Notification.class)))
                 .thenAnswer(inv -> inv.getArgument(0));
 
-        notifier = new FacilityVacancyNotifier(waitlistRepository, snapshotRepository,
+        FacilityCapacityStatsReader statsReader = new FacilityCapacityStatsReader(
+                statsRepository, mock(FacilityCapacityHistory.class));
+        notifier = new FacilityVacancyNotifier(waitlistRepository, statsRepository, statsReader,
                 facilityRepository, notificationRepository,
                 mock(NotificationDispatcher.class), mock(EventLogger.class));
         ReflectionTestUtils.setField(notifier, "minIntervalDays", 14);
@@ -128,8 +134,6 @@ class FacilityVacancyNotifierTest {
     @Test
     @DisplayName("대기자가 없으면 아무 시설도 확인하지 않는다")
     void skipsWhenNobodyIsWaiting() {
-        when(waitlistRepository.findFacilityIdsWithWaiting()).thenReturn(List.of());
-
         var result = notifier.notifyNewVacancies();
 
         assertThat(result.getFacilitiesChecked()).isZero();
@@ -137,13 +141,18 @@ class FacilityVacancyNotifierTest {
     }
 
     private void givenWaitingFacility(Long facilityId, FacilityWaitlist... entries) {
-        when(waitlistRepository.findFacilityIdsWithWaiting()).thenReturn(List.of(facilityId));
-        when(waitlistRepository.findWaiting(facilityId)).thenReturn(List.of(entries));
+        when(waitlistRepository.findWaitingIn(anyCollection())).thenReturn(List.of(entries));
     }
 
+    /** 야간 집계가 이 관측들로 만든 요약이 있고, 후보 쿼리는 증가 폭 조건을 DB 처럼 적용한다. */
     private void givenSnapshots(FacilityCapacitySnapshot... snapshots) {
-        when(snapshotRepository.findHistory(anyLong(), any(LocalDate.class)))
-                .thenReturn(List.of(snapshots));
+        List<CapacityObservation> history = Arrays.stream(snapshots).map(CapacityObservation::of).toList();
+        FacilityCapacityStats stats = CapacityStatsCalculator.compute(1L, history, LocalDate.now());
+        when(statsRepository.findVacancyCandidates(anyInt(), any(LocalDate.class))).thenAnswer(inv -> {
+            int minIncrease = inv.getArgument(0);
+            return stats.getVacancyIncrease() != null && stats.getVacancyIncrease() >= minIncrease
+                    ? List.of(stats) : List.of();
+        });
     }
 
     private FacilityWaitlist waiting() {
@@ -0,0 +1,85 @@
+package com.carecode.domain.chatbot.intent;
+
+import com.carecode.domain.chatbot.entity.ChatMessage.IntentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("챗봇 의도 분류")
+class IntentClassifierTest {
+
+    private final IntentClassifier classifier =
+            new IntentClassifier(new ClassPathResource("chatbot/intent-keywords.txt"));
+
+    @Test
+    @DisplayName("걸린 묶음 수만큼 신뢰도가 오른다 (하나 0.5, 둘 0.7)")
+    void confidenceFollowsMatchedGroups() {
+        assertThat(classifier.classify("언제 하나요"))
+                .isEqualTo(new IntentClassifier.Classification(IntentType.QUESTION, 0.5));
+        assertThat(classifier.classify("아이가 열이 나서 병원 검진 받으려고요").intent())
+                .isEqualTo(IntentType.HEALTH_INFO);
+        assertThat(classifier.classify("아이가 열이 나서 병원 검진 받으려고요").confidence()).isEqualTo(0.7);
+    }
+
+    @Test
+    @DisplayName("여러 의도에 걸리면 점수가 높은 의도가 이긴다")
+    void highestScoreWins() {
+        // "지원금"의 "원"은 시설 묶음에도 걸리지만 정책 쪽이 두 묶음이라 정책이 된다.
+        assertThat(classifier.classify("양육수당 지원금 신청").intent()).isEqualTo(IntentType.POLICY_INFO);
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 사전에 먼저 나온 의도가 이긴다")
+    void tiesGoToEarlierIntent() {
+        assertThat(classifier.classify("안녕").intent()).isEqualTo(IntentType.GREETING);
+    }
+
+    @Test
+    @DisplayName("아무 키워드도 없으면 UNKNOWN 과 0.1 을 돌려준다")
+    void unknown() {
+        assertThat(classifier.classify("zzz"))
+                .isEqualTo(new IntentClassifier.Classification(IntentType.UNKNOWN, 0.1));
+        assertThat(classifier.classify("").intent()).isEqualTo(IntentType.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("사전 파일이 바뀌면 다시 읽고, 잘못된 사전이면 이전 사전을 유지한다")
+    void hotReload(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("intents.txt");
+        Files.writeString(file, "GREETING 1.0 안녕\n");
+        IntentClassifier reloading = new IntentClassifier(new FileSystemResource(file));
+        assertThat(reloading.classify("병원").intent()).isEqualTo(IntentType.UNKNOWN);
+
+        Files.writeString(file, "GREETING 1.0 안녕\nHEALTH_INFO 2.0 병원\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+        reloading.reloadIfModified();
+        assertThat(reloading.classify("병원"))
+                .isEqualTo(new IntentClassifier.Classification(IntentType.HEALTH_INFO, 0.7));
+
+        Files.writeString(file, "NOT_AN_INTENT 1.0 병원\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(20)));
+        reloading.reloadIfModified();
+        assertThat(reloading.groups()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기동 시 사전이 깨져 있으면 바로 실패한다")
+    void failsFastOnBrokenDictionary(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("intents.txt");
+        Files.writeString(file, "GREETING 안녕\n");
+
+        assertThatThrownBy(() -> new IntentClassifier(new FileSystemResource(file)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1번째 줄");
+    }
+}
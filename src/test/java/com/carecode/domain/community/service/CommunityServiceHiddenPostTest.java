@@ -2,11 +2,13 @@ package com.carecode.domain.community.service;
 
 import com.carecode.core.exception.ResourceNotFoundException;
 import com.carecode.domain.community.entity.Post;
+import com.carecode.domain.community.entity.PostCategory;
 import com.carecode.domain.community.mapper.CommunityMapper;
 import com.carecode.domain.community.repository.BookmarkRepository;
 import com.carecode.domain.community.repository.CommentRepository;
 import com.carecode.domain.community.repository.PostLikeRepository;
 import com.carecode.domain.community.repository.PostRepository;
+import com.carecode.domain.community.repository.PostSummary;
 import com.carecode.domain.community.repository.TagRepository;
 import com.carecode.domain.user.entity.User;
 import com.carecode.domain.user.repository.UserRepository;
@@ -53,6 +55,7 @@ class CommunityServiceHiddenPostTest {
     @Mock private PostLikeRepository postLikeRepository;
     @Mock private BookmarkRepository bookmarkRepository;
     @Mock private CommunityMapper communityMapper;
+    @Mock private ContentFilter contentFilter;
 
     @InjectMocks private CommunityService communityService;
 
@@ -67,16 +70,21 @@ class CommunityServiceHiddenPostTest {
                 .build();
     }
 
+    private PostSummary visibleSummary() {
+        return new PostSummary(1L, "제목", "내용", PostCategory.GENERAL, "작성자", 10L, false,
+                LocalDateTime.now(), 0, 0, 0);
+    }
+
     @Test
     @DisplayName("목록 조회는 활성 글만 읽는 쿼리를 쓴다")
     void listUsesActiveOnlyQuery() {
-        Page<Post> page = new PageImpl<>(List.of(visiblePost()));
-        when(postRepository.findAllActive(any(Pageable.class))).thenReturn(page);
-        when(communityMapper.toPostResponseList(any())).thenReturn(List.of());
+        Page<PostSummary> page = new PageImpl<>(List.of(visibleSummary()));
+        when(postRepository.findActiveSummaries(any(Pageable.class))).thenReturn(page);
+        when(communityMapper.toPostResponseList(any(), any())).thenReturn(List.of());
 
         communityService.getAllPosts(0, 10, "createdAt", "DESC");
 
-        verify(postRepository).findAllActive(any(Pageable.class));
+        verify(postRepository).findActiveSummaries(any(Pageable.class));
         // findAll 로 돌아가면 숨김 글이 목록에 다시 나타난다.
         verify(postRepository, never()).findAll(any(Pageable.class));
     }
@@ -2,6 +2,7 @@ package com.carecode.domain.community.service;
 
 import com.carecode.core.exception.CommentAccessDeniedException;
 import com.carecode.core.exception.PostAccessDeniedException;
+import com.carecode.core.security.CurrentUserFacade;
 import com.carecode.domain.community.dto.request.CommunityUpdateCommentRequest;
 import com.carecode.domain.community.dto.request.CommunityUpdatePostRequest;
 import com.carecode.domain.community.entity.Comment;
@@ -56,6 +57,8 @@ class CommunityServiceOwnershipTest {
     @Mock private PostLikeRepository postLikeRepository;
     @Mock private BookmarkRepository bookmarkRepository;
     @Mock private CommunityMapper communityMapper;
+    @Mock private ContentFilter contentFilter;
+    @Mock private CurrentUserFacade currentUserFacade;
 
     @InjectMocks private CommunityService communityService;
 
@@ -74,9 +77,9 @@ class CommunityServiceOwnershipTest {
         post = Post.builder().id(100L).title("제목").content("내용").author(owner).build();
         comment = Comment.builder().id(200L).content("댓글").author(owner).post(post).build();
 
-        when(userRepository.findByEmailAndDeletedAtIsNull(OWNER_EMAIL)).thenReturn(Optional.of(owner));
-        when(userRepository.findByEmailAndDeletedAtIsNull(OTHER_EMAIL)).thenReturn(Optional.of(other));
-        when(userRepository.findByEmailAndDeletedAtIsNull(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+        when(currentUserFacade.findActiveUser(OWNER_EMAIL)).thenReturn(Optional.of(owner));
+        when(currentUserFacade.findActiveUser(OTHER_EMAIL)).thenReturn(Optional.of(other));
+        when(currentUserFacade.findActiveUser(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
         when(postRepository.findById(100L)).thenReturn(Optional.of(post));
         when(commentRepository.findById(200L)).thenReturn(Optional.of(comment));
         when(postRepository.save(any(Post.class))).thenAnswer(inv -> inv.getArgument(0));
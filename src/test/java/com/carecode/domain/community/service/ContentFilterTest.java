@@ -0,0 +1,71 @@
+package com.carecode.domain.community.service;
+
+import com.carecode.core.exception.BusinessException;
+import com.carecode.core.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("커뮤니티 게시 전 금칙어·개인정보 필터")
+class ContentFilterTest {
+
+    private final ContentFilter filter = new ContentFilter(new ClassPathResource("community/banned-terms.txt"));
+
+    @Test
+    @DisplayName("금칙어는 대소문자와 사이에 끼운 기호를 무시하고 잡는다")
+    void bannedTermsIgnoreCaseAndSymbols() {
+        assertThat(filter.inspect("아 진짜 시발")).contains("시발");
+        assertThat(filter.inspect("시.발 뭐야")).contains("시발");
+        assertThat(filter.inspect("병*신 같네")).contains("병신");
+        assertThat(filter.inspect("what the FUCK")).contains("fuck");
+    }
+
+    @Test
+    @DisplayName("예외어 안에 들어 있는 금칙어는 걸지 않는다")
+    void exceptionTermsExcuseBannedTerms() {
+        assertThat(filter.inspect("오늘이 새 학기의 시발점이에요")).isNull();
+        assertThat(filter.inspect("고기를 잘 씹어 먹어야 해요")).isNull();
+        // 예외어가 있어도 같은 글의 다른 금칙어는 그대로 잡는다.
+        assertThat(filter.inspect("시발점이라니 시발")).contains("시발");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기로 갈라진 말은 잇지 않는다")
+    void whitespaceIsKept() {
+        assertThat(filter.inspect("어린이집 입소 결과 발표 시 발표 순서대로 연락 드려요")).isNull();
+    }
+
+    @Test
+    @DisplayName("휴대전화 번호는 구분자 종류와 상관없이 막는다")
+    void mobilePhoneNumbers() {
+        assertThat(filter.inspect("연락 주세요 010-1234-5678")).contains("휴대전화 번호");
+        assertThat(filter.inspect("010 1234 5678 로 문자")).contains("휴대전화 번호");
+        assertThat(filter.inspect("01012345678")).contains("휴대전화 번호");
+        assertThat(filter.inspect("011.123.4567")).contains("휴대전화 번호");
+    }
+
+    @Test
+    @DisplayName("주민등록번호는 막고, 유선 번호나 비슷한 길이의 숫자는 통과시킨다")
+    void residentRegistrationNumbers() {
+        assertThat(filter.inspect("아이 주민번호 200315-3123456 맞나요")).contains("주민등록번호");
+        assertThat(filter.inspect("소아과 대표번호 02-123-4567")).isNull();
+        assertThat(filter.inspect("주문번호 2024123112345")).isNull();
+        assertThat(filter.inspect("아이 키 110-115 사이")).isNull();
+    }
+
+    @Test
+    @DisplayName("걸리면 INAPPROPRIATE_CONTENT 로 거절하고, 깨끗한 글과 null 은 통과시킨다")
+    void check() {
+        assertThatThrownBy(() -> filter.check("제목", "본문에 010-1234-5678"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INAPPROPRIATE_CONTENT);
+        assertThatCode(() -> filter.check("이유식 언제 시작하셨어요?", null,
+                "6개월부터 쌀미음으로 시작했어요. 알레르기 반응은 3일씩 보면서 늘렸습니다."))
+                .doesNotThrowAnyException();
+    }
+}
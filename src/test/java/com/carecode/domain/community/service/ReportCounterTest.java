@@ -0,0 +1,124 @@
+package com.carecode.domain.community.service;
+
+import com.carecode.domain.community.entity.Report;
+import com.carecode.domain.community.repository.ReportRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("신고 카운터")
+class ReportCounterTest {
+
+    private static final String KEY = "community:reports:post:7";
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ReportRepository reportRepository;
+
+    private ReportCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new ReportCounter(redisTemplate, reportRepository, Duration.ofDays(90));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("키가 있으면 INCR 값만 쓰고 DB 는 세지 않는다")
+    void incrementsWithoutCounting() {
+        when(redisTemplate.execute(ReportCounter.INCREMENT_IF_EXISTS, List.of(KEY))).thenReturn(4L);
+
+        assertThat(counter.increment(Report.TargetType.POST, 7L)).isEqualTo(4);
+        verify(reportRepository, never()).countActiveReports(any(), anyLong());
+        verify(redisTemplate, never()).execute(eq(ReportCounter.SEED_AND_INCREMENT), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("키가 없던 대상은 이번 신고를 뺀 DB 값으로 시작값을 만들고 만료와 함께 한 번에 올린다")
+    void seedsFromDatabaseWhenKeyIsMissing() {
+        when(reportRepository.countActiveReports(Report.TargetType.POST, 7L)).thenReturn(3L);
+        when(redisTemplate.execute(ReportCounter.SEED_AND_INCREMENT, List.of(KEY), "2", "7776000000"))
+                .thenReturn(3L);
+
+        assertThat(counter.increment(Report.TargetType.POST, 7L)).isEqualTo(3);
+        verify(reportRepository).countActiveReports(Report.TargetType.POST, 7L);
+    }
+
+    @Test
+    @DisplayName("시작값을 맞추는 사이 다른 신고가 먼저 키를 만들었으면 그 값에 하나만 더한다")
+    void seedingRaceCountsEachReportOnce() {
+        // 다른 신고가 이미 커밋돼 DB 에는 둘, 키는 그 신고가 1 로 만들어 둔 상태. SET NX 는 무시되고 INCR 만 된다.
+        when(reportRepository.countActiveReports(Report.TargetType.POST, 7L)).thenReturn(2L);
+        when(redisTemplate.execute(ReportCounter.SEED_AND_INCREMENT, List.of(KEY), "1", "7776000000"))
+                .thenReturn(2L);
+
+        assertThat(counter.increment(Report.TargetType.POST, 7L)).isEqualTo(2);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("신고 트랜잭션이 롤백되면 올린 카운터를 되돌린다")
+    void undoesIncrementOnRollback() {
+        when(redisTemplate.execute(ReportCounter.INCREMENT_IF_EXISTS, List.of(KEY))).thenReturn(4L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        counter.increment(Report.TargetType.POST, 7L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(redisTemplate, never()).execute(ReportCounter.DECREMENT_IF_EXISTS, List.of(KEY));
+
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verify(redisTemplate).execute(ReportCounter.DECREMENT_IF_EXISTS, List.of(KEY));
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓸 수 없으면 DB 로 센다")
+    void fallsBackToDatabase() {
+        when(redisTemplate.execute(ReportCounter.INCREMENT_IF_EXISTS, List.of(KEY)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(reportRepository.countActiveReports(Report.TargetType.POST, 7L)).thenReturn(5L);
+
+        assertThat(counter.increment(Report.TargetType.POST, 7L)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("반려는 키가 있을 때만 줄이고, 실패하면 키를 지워 다음에 다시 센다")
+    void decrement() {
+        counter.decrement(Report.TargetType.COMMENT, 9L);
+        verify(redisTemplate).execute(ReportCounter.DECREMENT_IF_EXISTS, List.of("community:reports:comment:9"));
+
+        when(redisTemplate.execute(ReportCounter.DECREMENT_IF_EXISTS, List.of(KEY)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        counter.decrement(Report.TargetType.POST, 7L);
+        verify(redisTemplate).delete(KEY);
+    }
+}
@@ -57,6 +57,10 @@ class GrowthPercentileCalculatorTest {
         assertThat(result).isPresent();
         // 6개월(65.73) ~ 12개월(74.02) 사이의 중앙값이어야 한다
         assertThat(result.get().medianValue()).isBetween(65.7, 74.1);
+        // 발표된 월별 값이 아니라 근사임을 드러낸다
+        assertThat(result.get().interpolated()).isTrue();
+        assertThat(GrowthPercentileCalculator.calculate(GrowthMetric.HEIGHT, Sex.FEMALE, 12, 72.0))
+                .hasValueSatisfying(r -> assertThat(r.interpolated()).isFalse());
     }
 
     @Test
@@ -84,6 +88,41 @@ class GrowthPercentileCalculatorTest {
                 .isEmpty();
     }
 
+    @Test
+    @DisplayName("일괄 계산은 건별 계산과 같은 값을 같은 순서로 돌려준다")
+    void batchMatchesSingleCalculation() {
+        int[] ages = {0, 9, 12, 72, 30};
+        double[] values = {3.4, 8.7, 9.6479, 20.0, 0};
+
+        GrowthPercentileResult[] batch =
+                GrowthPercentileCalculator.calculateAll(GrowthMetric.WEIGHT, Sex.FEMALE, ages, values);
+
+        assertThat(batch).hasSize(ages.length);
+        for (int i = 0; i < ages.length; i++) {
+            assertThat(Optional.ofNullable(batch[i]))
+                    .isEqualTo(GrowthPercentileCalculator.calculate(GrowthMetric.WEIGHT, Sex.FEMALE, ages[i], values[i]));
+        }
+        // 적용 범위 밖(72개월)과 0 측정값은 비워둔다
+        assertThat(batch[3]).isNull();
+        assertThat(batch[4]).isNull();
+    }
+
+    @Test
+    @DisplayName("보간 값은 적재 시점에 미리 채워 두고 그대로 조회된다")
+    void densifiedTableKeepsAnchorsAndInterpolates() {
+        // 원본 표의 기준점은 그대로 유지된다
+        assertThat(GrowthStandardTable.lookup(GrowthMetric.HEIGHT, Sex.MALE, 24))
+                .contains(new GrowthStandard(24, 1.0, 87.8161, 0.03610));
+        // 3개월은 0개월(49.8842)과 6개월(67.6236)의 중간이다
+        assertThat(GrowthStandardTable.lookup(GrowthMetric.HEIGHT, Sex.MALE, 3).orElseThrow().m())
+                .isCloseTo((49.8842 + 67.6236) / 2, within(1e-9));
+        assertThat(GrowthStandardTable.lookup(GrowthMetric.HEIGHT, Sex.MALE, 61)).isEmpty();
+        assertThat(GrowthStandardTable.lookup(GrowthMetric.HEIGHT, Sex.MALE, -1)).isEmpty();
+        assertThat(GrowthStandardTable.isPublished(GrowthMetric.HEIGHT, Sex.MALE, 24)).isTrue();
+        assertThat(GrowthStandardTable.isPublished(GrowthMetric.HEIGHT, Sex.MALE, 3)).isFalse();
+        assertThat(GrowthStandardTable.isPublished(GrowthMetric.HEIGHT, Sex.MALE, 61)).isFalse();
+    }
+
     @Test
     @DisplayName("성별 표기가 달라도 파싱된다")
     void parsesVariousSexNotations() {
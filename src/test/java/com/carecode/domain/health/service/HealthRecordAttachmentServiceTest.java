@@ -0,0 +1,54 @@
+package com.carecode.domain.health.service;
+
+import com.carecode.core.storage.FileStorageService;
+import com.carecode.domain.health.entity.HealthRecord;
+import com.carecode.domain.health.entity.HealthRecordAttachment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("건강기록 첨부파일")
+class HealthRecordAttachmentServiceTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @InjectMocks
+    private HealthRecordAttachmentService attachmentService;
+
+    @Test
+    @DisplayName("기록을 지울 때 첨부마다 저장 파일 참조를 푼다")
+    void releasesEveryAttachmentOfDeletedRecord() {
+        HealthRecord record = HealthRecord.builder().id(1L).build();
+        record.getHealthRecordAttachments().addAll(List.of(
+                attachment(record, "/files/objects/ab/cd/first.png"),
+                attachment(record, "/files/objects/ef/01/second.pdf"),
+                // 저장소 밖 주소(예전 외부 링크)는 풀 참조가 없다
+                attachment(record, "https://example.com/legacy.png")));
+        when(fileStorageService.keyOf("/files/objects/ab/cd/first.png")).thenReturn(Optional.of("objects/ab/cd/first.png"));
+        when(fileStorageService.keyOf("/files/objects/ef/01/second.pdf")).thenReturn(Optional.of("objects/ef/01/second.pdf"));
+        when(fileStorageService.keyOf("https://example.com/legacy.png")).thenReturn(Optional.empty());
+
+        attachmentService.releaseFiles(record);
+
+        verify(fileStorageService).delete("objects/ab/cd/first.png");
+        verify(fileStorageService).delete("objects/ef/01/second.pdf");
+        verify(fileStorageService, times(2)).delete(anyString());
+    }
+
+    private static HealthRecordAttachment attachment(HealthRecord record, String url) {
+        return HealthRecordAttachment.builder().healthRecord(record).fileUrl(url).build();
+    }
+}
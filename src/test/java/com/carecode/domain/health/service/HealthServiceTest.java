@@ -16,6 +16,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import com.carecode.domain.user.service.ConsentGuard;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -49,6 +50,9 @@ class HealthServiceTest {
     @Mock
     private ConsentGuard consentGuard;
 
+    @Mock
+    private HealthRecordAttachmentService healthRecordAttachmentService;
+
     @InjectMocks
     private HealthService healthService;
 
@@ -170,5 +174,31 @@ class HealthServiceTest {
         verify(healthRecordRepository).findById(recordId);
         verify(healthRecordMapper, never()).toResponse(any());
     }
-}
 
+    @Test
+    @DisplayName("건강 기록 삭제 - 첨부 파일 참조를 먼저 푼다")
+    void deleteHealthRecord_ShouldReleaseAttachmentFiles_BeforeDeleting() {
+        // Given
+        when(healthRecordRepository.findById(1L)).thenReturn(Optional.of(testHealthRecord));
+
+        // When
+        healthService.deleteHealthRecord(1L, testUser.getId());
+
+        // Then
+        InOrder order = inOrder(healthRecordAttachmentService, healthRecordRepository);
+        order.verify(healthRecordAttachmentService).releaseFiles(testHealthRecord);
+        order.verify(healthRecordRepository).delete(testHealthRecord);
+    }
+
+    @Test
+    @DisplayName("건강 기록 삭제 실패 - 다른 사용자의 기록이면 참조도 건드리지 않는다")
+    void deleteHealthRecord_ShouldNotReleaseFiles_WhenNotOwner() {
+        // Given
+        when(healthRecordRepository.findById(1L)).thenReturn(Optional.of(testHealthRecord));
+
+        // When & Then
+        assertThatThrownBy(() -> healthService.deleteHealthRecord(1L, 2L));
+        verify(healthRecordAttachmentService, never()).releaseFiles(any());
+        verify(healthRecordRepository, never()).delete(any(HealthRecord.class));
+    }
+}
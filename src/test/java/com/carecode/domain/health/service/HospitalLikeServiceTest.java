@@ -0,0 +1,72 @@
+package com.carecode.domain.health.service;
+
+import com.carecode.core.cache.SecondLevelCacheInvalidator;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.repository.HospitalLikeRepository;
+import com.carecode.domain.health.repository.HospitalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("병원 좋아요 카운터")
+class HospitalLikeServiceTest {
+
+    @Mock private HospitalRepository hospitalRepository;
+    @Mock private HospitalLikeRepository hospitalLikeRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+    @InjectMocks private HospitalLikeService service;
+
+    private final Hospital hospital = Hospital.builder().id(1L).name("서울아동병원").build();
+
+    @Test
+    @DisplayName("새 좋아요는 카운터를 올리고 바뀐 값으로 순위 이벤트를 보낸다")
+    void likeIncrementsCounter() {
+        when(hospitalRepository.findById(1L)).thenReturn(Optional.of(hospital));
+        when(hospitalLikeRepository.insertIfAbsent(1L, 7L)).thenReturn(1);
+        when(hospitalRepository.findLikeCountById(1L)).thenReturn(Optional.of(4L));
+
+        assertThat(service.like(1L, 7L)).isTrue();
+
+        verify(hospitalRepository).incrementLikeCount(1L);
+        verify(secondLevelCacheInvalidator).evictAfterCommit(Hospital.class, 1L);
+        verify(eventPublisher).publishEvent(new PopularHospitalRanking.LikeChanged(hospital, 4L));
+    }
+
+    @Test
+    @DisplayName("이미 누른 좋아요는 카운터를 건드리지 않는다")
+    void duplicateLikeKeepsCounter() {
+        when(hospitalRepository.findById(1L)).thenReturn(Optional.of(hospital));
+        when(hospitalLikeRepository.insertIfAbsent(1L, 7L)).thenReturn(0);
+
+        assertThat(service.like(1L, 7L)).isFalse();
+
+        verify(hospitalRepository, never()).incrementLikeCount(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("누른 적 없는 좋아요 취소는 카운터를 내리지 않는다")
+    void unlikeWithoutLikeKeepsCounter() {
+        when(hospitalRepository.findById(1L)).thenReturn(Optional.of(hospital));
+        when(hospitalLikeRepository.deleteByHospitalIdAndUserId(1L, 7L)).thenReturn(0);
+
+        assertThat(service.unlike(1L, 7L)).isFalse();
+
+        verify(hospitalRepository, never()).decrementLikeCount(anyLong());
+    }
+}
@@ -0,0 +1,118 @@
+package com.carecode.domain.health.service;
+
+import com.carecode.domain.health.dto.response.HospitalInfoResponse;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.mapper.HospitalMapper;
+import com.carecode.domain.health.repository.HospitalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("인기 병원 순위")
+class PopularHospitalRankingTest {
+
+    private HospitalRepository repository;
+    private PopularHospitalRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(HospitalRepository.class);
+        ranking = new PopularHospitalRanking(repository, new HospitalMapper());
+    }
+
+    @Test
+    @DisplayName("같은 조합은 처음 한 번만 DB 에서 읽는다")
+    void loadsBoardOnce() {
+        when(repository.findAllByOrderByLikeCountDescIdAsc(any())).thenReturn(List.of(hospital(1, 5), hospital(2, 3)));
+
+        ranking.top(null, null, 10);
+        List<HospitalInfoResponse> top = ranking.top(" ", "", 10);
+
+        assertThat(top).extracting(HospitalInfoResponse::getId).containsExactly(1L, 2L);
+        verify(repository, times(1)).findAllByOrderByLikeCountDescIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("좋아요가 늘면 DB 를 다시 읽지 않고 자리만 옮긴다")
+    void movesUpOnLike() {
+        when(repository.findAllByOrderByLikeCountDescIdAsc(any())).thenReturn(List.of(hospital(1, 5), hospital(2, 3)));
+        ranking.top(null, null, 10);
+
+        ranking.on(new PopularHospitalRanking.LikeChanged(hospital(2, 3), 6));
+
+        List<HospitalInfoResponse> top = ranking.top(null, null, 10);
+        assertThat(top).extracting(HospitalInfoResponse::getId).containsExactly(2L, 1L);
+        assertThat(top.get(0).getLikeCount()).isEqualTo(6);
+        verify(repository, times(1)).findAllByOrderByLikeCountDescIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("가득 찬 순위표에는 꼴찌를 앞선 병원만 들어온다")
+    void outsiderMustBeatLast() {
+        List<Hospital> full = new ArrayList<>();
+        for (int i = 1; i <= PopularHospitalRanking.DEPTH; i++) {
+            full.add(hospital(i, 1000 - i));
+        }
+        when(repository.findAllByOrderByLikeCountDescIdAsc(any())).thenReturn(full);
+        ranking.top(null, null, 10);
+        long last = 1000 - PopularHospitalRanking.DEPTH;
+
+        ranking.on(new PopularHospitalRanking.LikeChanged(hospital(9001, 0), last - 1));
+        ranking.on(new PopularHospitalRanking.LikeChanged(hospital(9002, 0), 2000));
+
+        List<HospitalInfoResponse> top = ranking.top(null, null, PopularHospitalRanking.MAX_LIMIT);
+        assertThat(top.get(0).getId()).isEqualTo(9002L);
+        assertThat(ranking.top(null, null, PopularHospitalRanking.MAX_LIMIT))
+                .extracting(HospitalInfoResponse::getId).doesNotContain(9001L);
+    }
+
+    @Test
+    @DisplayName("조건이 다른 조합의 순위에는 반영하지 않는다")
+    void ignoresNonMatchingBoards() {
+        when(repository.findByTypeAndAddressStartingWithOrderByLikeCountDescIdAsc(eq("소아청소년과"), eq("서울"), any()))
+                .thenReturn(List.of(hospital(1, 5)));
+        ranking.top("소아청소년과", "서울", 10);
+
+        Hospital busan = hospital(2, 0);
+        busan.setAddress("부산광역시 해운대구");
+        ranking.on(new PopularHospitalRanking.LikeChanged(busan, 100));
+
+        assertThat(ranking.top("소아청소년과", "서울", 10))
+                .extracting(HospitalInfoResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 읽어 둔 조합을 DB 에서 다시 읽는다")
+    void refreshReloads() {
+        when(repository.findByTypeOrderByLikeCountDescIdAsc(eq("소아청소년과"), any()))
+                .thenReturn(List.of(hospital(1, 5)))
+                .thenReturn(List.of(hospital(3, 9), hospital(1, 5)));
+        ranking.top("소아청소년과", null, 10);
+
+        ranking.refresh();
+
+        assertThat(ranking.top("소아청소년과", null, 10))
+                .extracting(HospitalInfoResponse::getId).containsExactly(3L, 1L);
+    }
+
+    private static Hospital hospital(long id, long likeCount) {
+        return Hospital.builder()
+                .id(id)
+                .name("병원" + id)
+                .type("소아청소년과")
+                .address("서울특별시 중구")
+                .likeCount(likeCount)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.carecode.domain.user.service;
+
+import com.carecode.domain.chatbot.entity.ChatMessage;
+import com.carecode.domain.chatbot.repository.ChatMessageRepository;
+import com.carecode.domain.community.repository.PostRepository;
+import com.carecode.domain.health.entity.HealthRecord;
+import com.carecode.domain.health.repository.HealthRecordAttachmentRepository;
+import com.carecode.domain.health.repository.HealthRecordRepository;
+import com.carecode.domain.notification.repository.NotificationRepository;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.repository.ChildRepository;
+import com.carecode.domain.user.repository.UserConsentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("내 데이터 내려받기 파일")
+class PersonalDataExportWriterTest {
+
+    private static final long USER_ID = 7L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private HealthRecordRepository healthRecordRepository;
+    private ChatMessageRepository chatMessageRepository;
+    private PersonalDataExportWriter writer;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        healthRecordRepository = mock(HealthRecordRepository.class);
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        HealthRecordAttachmentRepository attachmentRepository = mock(HealthRecordAttachmentRepository.class);
+        NotificationRepository notificationRepository = mock(NotificationRepository.class);
+        PostRepository postRepository = mock(PostRepository.class);
+        when(attachmentRepository.findExportPage(anyLong(), anyLong(), any())).thenReturn(List.of());
+        when(notificationRepository.findExportPage(anyLong(), anyLong(), any())).thenReturn(List.of());
+        when(postRepository.findExportPage(anyLong(), anyLong(), any())).thenReturn(List.of());
+        when(chatMessageRepository.findExportPage(anyLong(), anyLong(), any())).thenReturn(List.of());
+
+        // 페이지 크기 2 로 keyset 이 이어지는지 본다
+        writer = new PersonalDataExportWriter(objectMapper, mock(ChildRepository.class),
+                mock(UserConsentRepository.class), healthRecordRepository, attachmentRepository,
+                chatMessageRepository, notificationRepository, postRepository, 2);
+        user = User.builder().id(USER_ID).userId("u-7").email("parent@example.com").name("부모").build();
+    }
+
+    @Test
+    @DisplayName("도메인마다 JSON 파일 하나씩 zip 에 담는다")
+    void writesOneEntryPerDomain() throws Exception {
+        when(healthRecordRepository.findExportPage(anyLong(), anyLong(), any())).thenReturn(List.of());
+
+        Map<String, JsonNode> entries = export();
+
+        assertThat(entries).containsOnlyKeys("profile.json", "children.json", "consents.json",
+                "health-records.json", "attachments.json", "chat-messages.json", "notifications.json",
+                "community-posts.json");
+        assertThat(entries.get("profile.json").get("email").asText()).isEqualTo("parent@example.com");
+        assertThat(entries.get("profile.json").has("password")).isFalse();
+        assertThat(entries.get("health-records.json").isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 id 다음부터 페이지를 이어 읽어 모두 쓴다")
+    void pagesThroughWithKeyset() throws Exception {
+        when(healthRecordRepository.findExportPage(eq(USER_ID), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(record(3L), record(5L)));
+        when(healthRecordRepository.findExportPage(eq(USER_ID), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(record(9L)));
+
+        JsonNode records = export().get("health-records.json");
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(2).get("id").asLong()).isEqualTo(9L);
+        assertThat(records.get(0).get("recordDate").asText()).isEqualTo("2026-03-01");
+        verify(healthRecordRepository).findExportPage(eq(USER_ID), eq(5L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("꽉 찬 마지막 페이지 뒤에는 빈 페이지를 한 번 더 확인하고 끝낸다")
+    void stopsAfterEmptyPage() throws Exception {
+        when(healthRecordRepository.findExportPage(anyLong(), anyLong(), any())).thenReturn(List.of());
+        when(chatMessageRepository.findExportPage(eq(USER_ID), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(chat(1L), chat(2L)));
+
+        JsonNode messages = export().get("chat-messages.json");
+
+        assertThat(messages).hasSize(2);
+        verify(chatMessageRepository).findExportPage(eq(USER_ID), eq(2L), any(Pageable.class));
+    }
+
+    private Map<String, JsonNode> export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(user, out);
+
+        Map<String, JsonNode> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), objectMapper.readTree(zip.readAllBytes()));
+            }
+        }
+        return entries;
+    }
+
+    private HealthRecord record(Long id) {
+        return HealthRecord.builder().id(id).title("검진").recordDate(LocalDate.of(2026, 3, 1)).build();
+    }
+
+    private ChatMessage chat(Long id) {
+        return ChatMessage.builder().id(id).message("질문").response("답변").build();
+    }
+}
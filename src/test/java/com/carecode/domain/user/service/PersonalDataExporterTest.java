@@ -0,0 +1,160 @@
+package com.carecode.domain.user.service;
+
+import com.carecode.domain.notification.entity.Notification;
+import com.carecode.domain.notification.service.NotificationCreationService;
+import com.carecode.domain.user.entity.DataExport;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.repository.DataExportRepository;
+import com.carecode.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("내 데이터 내려받기 작업")
+class PersonalDataExporterTest {
+
+    @TempDir
+    Path directory;
+
+    private DataExportRepository exportRepository;
+    private PersonalDataExportWriter writer;
+    private NotificationCreationService notifications;
+    private ThreadPoolTaskExecutor exportExecutor;
+    private PersonalDataExporter exporter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        exportRepository = mock(DataExportRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        writer = mock(PersonalDataExportWriter.class);
+        notifications = mock(NotificationCreationService.class);
+        exportExecutor = mock(ThreadPoolTaskExecutor.class);
+        exporter = new PersonalDataExporter(exportRepository, userRepository, writer, notifications, exportExecutor,
+                directory.toString(), 7);
+
+        user = User.builder().id(7L).build();
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(exportRepository.markRunning(1L)).thenReturn(1);
+        when(exportRepository.markReady(eq(1L), anyString(), anyLong(), any(), any())).thenReturn(1);
+        when(exportRepository.findById(1L)).thenReturn(Optional.of(DataExport.builder()
+                .id(1L).userId(7L).status(DataExport.Status.RUNNING).requestedAt(LocalDateTime.now()).build()));
+    }
+
+    @Test
+    @DisplayName("파일을 다 쓴 뒤에 준비 완료로 바꾸고 알림을 보낸다")
+    void marksReadyAndNotifies() throws Exception {
+        doAnswer(inv -> {
+            inv.<OutputStream>getArgument(1).write(new byte[]{1, 2, 3});
+            return null;
+        }).when(writer).write(eq(user), any());
+
+        exporter.run(1L);
+
+        assertThat(directory.resolve("export-1.zip")).hasBinaryContent(new byte[]{1, 2, 3});
+        verify(exportRepository).markReady(eq(1L), eq("export-1.zip"), eq(3L), any(), any());
+        verify(notifications).createAndSend(eq(user), eq(Notification.NotificationType.SYSTEM), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("실패하면 반쯤 쓴 파일을 남기지 않고 실패로 기록한다")
+    void marksFailedAndCleansUp() throws Exception {
+        doThrow(new IOException("disk full")).when(writer).write(eq(user), any());
+
+        exporter.run(1L);
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+        verify(exportRepository).markFailed(eq(1L), eq("disk full"), any());
+        verify(notifications, never()).createAndSend(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("쓰는 동안 탈퇴로 요청이 만료됐으면 만든 파일을 지우고 알리지 않는다")
+    void discardsFileWhenExpiredMeanwhile() throws Exception {
+        when(exportRepository.markReady(eq(1L), anyString(), anyLong(), any(), any())).thenReturn(0);
+
+        exporter.run(1L);
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+        verify(notifications, never()).createAndSend(any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("탈퇴로 버려진 파일은 지우고, 내려받기 디렉터리 밖 경로는 건드리지 않는다")
+    void deletesDiscardedFiles() throws Exception {
+        Files.write(directory.resolve("export-1.zip"), new byte[]{1});
+        Files.write(directory.resolve("export-2.zip"), new byte[]{2});
+        Path outside = Files.createTempFile("outside-", ".zip");
+
+        exporter.onDiscarded(new PersonalDataExporter.DataExportsDiscarded(
+                List.of("export-1.zip", "../" + outside.getFileName())));
+
+        assertThat(directory.resolve("export-1.zip")).doesNotExist();
+        assertThat(directory.resolve("export-2.zip")).exists();
+        assertThat(outside).exists();
+        Files.delete(outside);
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 이미 잡은 요청은 건너뛴다")
+    void skipsAlreadyRunning() throws Exception {
+        when(exportRepository.markRunning(1L)).thenReturn(0);
+
+        exporter.run(1L);
+
+        verify(writer, never()).write(any(), any());
+        verify(exportRepository, never()).markReady(anyLong(), anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("작업 풀이 가득 차 거절되면 요청 스레드에서 만들지 않고 다시 요청하라는 실패로 남긴다")
+    void marksBusyWhenPoolRejects() {
+        doThrow(new TaskRejectedException("full")).when(exportExecutor).execute(any(Runnable.class));
+
+        exporter.onRequested(new PersonalDataExporter.DataExportRequested(1L));
+
+        verify(exportRepository).markFailed(eq(1L), eq(PersonalDataExporter.BUSY_REASON), any());
+        verify(exportRepository, never()).markRunning(anyLong());
+    }
+
+    @Test
+    @DisplayName("두 건이 돌고 큐까지 차 있으면 자리가 없다")
+    void reportsCapacityFromPool() {
+        when(exportExecutor.getMaxPoolSize()).thenReturn(2);
+        when(exportExecutor.getQueueCapacity()).thenReturn(20);
+        when(exportExecutor.getActiveCount()).thenReturn(2);
+
+        when(exportExecutor.getQueueSize()).thenReturn(19);
+        assertThat(exporter.hasCapacity()).isTrue();
+
+        when(exportExecutor.getQueueSize()).thenReturn(20);
+        assertThat(exporter.hasCapacity()).isFalse();
+    }
+}
@@ -0,0 +1,68 @@
+package com.carecode.domain.user.service;
+
+import com.carecode.core.exception.RateLimitExceededException;
+import com.carecode.core.security.CurrentUserCache;
+import com.carecode.core.security.CurrentUserFacade;
+import com.carecode.domain.community.repository.PostRepository;
+import com.carecode.domain.health.repository.HealthRecordRepository;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.repository.ChildRepository;
+import com.carecode.domain.user.repository.DataExportRepository;
+import com.carecode.domain.user.repository.UserConsentRepository;
+import com.carecode.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("개인정보 파기")
+class PrivacyServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DataExportRepository dataExportRepository = mock(DataExportRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final CurrentUserFacade currentUserFacade = mock(CurrentUserFacade.class);
+    private final PersonalDataExporter personalDataExporter = mock(PersonalDataExporter.class);
+    private final PrivacyService privacyService = new PrivacyService(mock(UserConsentRepository.class), userRepository,
+            mock(ChildRepository.class), mock(HealthRecordRepository.class), mock(PostRepository.class),
+            dataExportRepository, personalDataExporter, eventPublisher, currentUserFacade,
+            mock(CurrentUserCache.class));
+
+    @Test
+    @DisplayName("탈퇴하면 내려받기 요청을 모두 만료시키고 남은 파일은 커밋 뒤 지우게 한다")
+    void withdrawalDiscardsExports() {
+        User user = User.builder().id(7L).email("parent@carecode.test").name("보호자").build();
+        when(currentUserFacade.requireCurrentUserForUpdate()).thenReturn(user);
+        when(dataExportRepository.findFileNamesByUserId(7L)).thenReturn(List.of("export-3.zip"));
+
+        privacyService.deleteMyAccount();
+
+        assertThat(user.getEmail()).isEqualTo("deleted_7@deleted.local");
+        verify(dataExportRepository).expireAllByUserId(7L);
+        verify(eventPublisher).publishEvent(new PersonalDataExporter.DataExportsDiscarded(List.of("export-3.zip")));
+    }
+
+    @Test
+    @DisplayName("내려받기 작업 풀에 자리가 없으면 요청을 만들지 않고 잠시 후 다시 하라고 알린다")
+    void rejectsExportWhenBusy() {
+        when(currentUserFacade.requireCurrentUser()).thenReturn(User.builder().id(7L).build());
+        when(dataExportRepository.findInProgress(anyLong(), any())).thenReturn(List.of());
+        when(personalDataExporter.hasCapacity()).thenReturn(false);
+
+        assertThatThrownBy(privacyService::requestExport)
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("잠시 후 다시");
+        verify(dataExportRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.carecode.domain.user.service;
 
 import com.carecode.core.analytics.EventLogger;
+import com.carecode.core.stats.SiteStatistics;
 import com.carecode.domain.user.dto.response.UserDto;
 import com.carecode.domain.user.entity.User;
 import com.carecode.domain.user.entity.UserRole;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.client.RestTemplate;
 
@@ -48,6 +50,8 @@ class UserServiceSignUpTest {
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private RestTemplate restTemplate;
     @Mock private EventLogger eventLogger;
+    @Mock private SiteStatistics siteStatistics;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private UserService userService;
 
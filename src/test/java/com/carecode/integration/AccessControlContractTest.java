@@ -37,8 +37,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
         properties = {
                 "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
                         + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
-                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration,"
-                        + "org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration",
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
                 "spring.cache.type=none",
                 "spring.batch.job.enabled=false",
                 "spring.datasource.url=jdbc:h2:mem:carecode_acl;MODE=MySQL;DB_CLOSE_DELAY=-1",
@@ -99,6 +98,7 @@ class AccessControlContractTest {
             "/facilities/statistics",
             "/health/hospitals",
             "/health/hospitals/popular",
+            "/search/suggest?q=어린이집",
             "/community/posts",
             "/community/tags"
     })
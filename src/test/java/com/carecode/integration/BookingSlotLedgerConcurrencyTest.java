@@ -0,0 +1,269 @@
+package com.carecode.integration;
+
+import com.carecode.CareCodeApplication;
+import com.carecode.core.exception.CareServiceException;
+import com.carecode.domain.careFacility.dto.request.CreateBookingRequest;
+import com.carecode.domain.careFacility.dto.request.UpdateBookingRequest;
+import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.domain.careFacility.entity.CareFacilityBooking;
+import com.carecode.domain.careFacility.entity.FacilityBookingSlot;
+import com.carecode.domain.careFacility.repository.CareFacilityBookingRepository;
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.FacilityBookingSlotRepository;
+import com.carecode.domain.careFacility.service.CareFacilityBookingService;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.entity.UserRole;
+import com.carecode.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 장부 동시성 검증. 수백 건을 한꺼번에 넣어도 어느 칸도 정원을 넘지 않아야 한다.
+ *
+ * <p>설정은 {@link ApplicationContextLoadTest} 와 같고 H2 잠금 대기 시간만 늘렸다. H2 기본값(2초)은 운영 MariaDB 의
+ * innodb_lock_wait_timeout(50초)보다 훨씬 짧아, 스레드 32개가 같은 칸 행을 줄 서서 기다리기만 해도 실패로 끝난다.
+ */
+@SpringBootTest(
+        classes = CareCodeApplication.class,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
+                "spring.cache.type=none",
+                "spring.batch.job.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:carecode;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "jwt.secret=testJwtSecretKeyForContextLoadTestMustBe256BitsLong0123456789",
+                "springdoc.api-docs.enabled=false",
+                "springdoc.swagger-ui.enabled=false",
+                "public.data.api.key=dummy",
+                "KAKAO_CLIENT_ID=dummy-kakao-client",
+                "KAKAO_CLIENT_SECRET=dummy-kakao-secret",
+                "MAIL_USERNAME=dummy",
+                "MAIL_PASSWORD=dummy"
+        }
+)
+@DisplayName("시설 예약 장부 - 동시 예약")
+class BookingSlotLedgerConcurrencyTest {
+
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 32;
+    private static final int CAPACITY = 5;
+
+    @MockBean
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private CareFacilityBookingService bookingService;
+    @Autowired
+    private CareFacilityRepository facilityRepository;
+    @Autowired
+    private CareFacilityBookingRepository bookingRepository;
+    @Autowired
+    private FacilityBookingSlotRepository slotRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private CareFacility facility;
+    private UserDetails parent;
+    private LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        facility = facilityRepository.save(CareFacility.builder()
+                .facilityCode("LEDGER-" + suffix)
+                .name("장부 어린이집 " + suffix)
+                .capacity(CAPACITY)
+                .build());
+        User user = userRepository.save(User.builder()
+                .userId("ledger-" + suffix)
+                .email("ledger-" + suffix + "@carecode.test")
+                .name("보호자")
+                .role(UserRole.PARENT)
+                .isActive(true)
+                .emailVerified(true)
+                .registrationCompleted(true)
+                .build());
+        parent = org.springframework.security.core.userdetails.User
+                .withUsername(user.getUserId()).password("").roles("PARENT").build();
+        day = LocalDateTime.now().plusDays(3).withHour(0).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("같은 구간에 수백 건이 몰려도 정원만큼만 예약된다")
+    void sameWindowNeverOverbooks() throws Exception {
+        LocalDateTime start = day.withHour(10);
+        Outcome outcome = runConcurrently(i -> request(start, start.plusHours(2)));
+
+        assertThat(outcome.unexpected()).as("자리 부족 외의 실패").isZero();
+        assertThat(outcome.booked()).isEqualTo(CAPACITY);
+        assertThat(outcome.rejected()).isEqualTo(REQUESTS - CAPACITY);
+        assertThat(activeBookings()).hasSize(CAPACITY);
+        for (LocalDateTime slot = start; slot.isBefore(start.plusHours(2)); slot = slot.plusMinutes(30)) {
+            assertThat(remaining(slot)).as("%s 남은 자리", slot).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("엇갈린 구간이 섞여도 어느 칸도 정원을 넘지 않고 장부와 예약이 맞는다")
+    void staggeredWindowsStayConsistent() throws Exception {
+        // 9시부터 30분씩 밀린 1~2시간짜리 구간 여덟 가지. 칸마다 여러 구간이 겹친다.
+        Outcome outcome = runConcurrently(i -> {
+            LocalDateTime start = day.withHour(9).plusMinutes(30L * (i % 8));
+            return request(start, start.plusMinutes(60L + 60L * (i % 2)));
+        });
+
+        assertThat(outcome.unexpected()).as("자리 부족 외의 실패").isZero();
+        assertThat(outcome.booked()).isPositive();
+
+        List<CareFacilityBooking> bookings = activeBookings();
+        assertThat(bookings).hasSize(outcome.booked());
+        for (LocalDateTime slot = day.withHour(9); slot.isBefore(day.withHour(14)); slot = slot.plusMinutes(30)) {
+            LocalDateTime slotStart = slot;
+            long covering = bookings.stream()
+                    .filter(b -> b.getStartTime().isBefore(slotStart.plusMinutes(30)) && b.getEndTime().isAfter(slotStart))
+                    .count();
+            assertThat(covering).as("%s 예약 수", slot).isLessThanOrEqualTo(CAPACITY);
+            if (covering > 0) {
+                assertThat(remaining(slot)).as("%s 남은 자리", slot).isEqualTo(CAPACITY - covering);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("장부 전 예약을 겹치는 구간으로 옮겨도 자기 자신을 두 번 세지 않는다")
+    void reschedulingLegacyBookingCountsItOnce() {
+        CareFacilityBooking legacy = legacyBooking(day.withHour(10), day.withHour(11), CareFacilityBooking.BookingStatus.CONFIRMED);
+
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setStartTime(day.withHour(10).withMinute(30));
+        request.setEndTime(day.withHour(11).withMinute(30));
+        request.setBookingType("VISIT");
+        request.setChildName("아이");
+        request.setParentName("보호자");
+        request.setParentPhone("010-0000-0000");
+        bookingService.updateBooking(legacy.getId(), request, parent);
+
+        assertThat(remaining(day.withHour(10).withMinute(30))).isEqualTo(CAPACITY - 1);
+        assertThat(remaining(day.withHour(11))).isEqualTo(CAPACITY - 1);
+    }
+
+    @Test
+    @DisplayName("장부 전에 취소된 예약을 되살려도 자리는 하나만 잡는다")
+    void restoringCancelledLegacyBookingCountsItOnce() {
+        CareFacilityBooking legacy = legacyBooking(day.withHour(15), day.withHour(16), CareFacilityBooking.BookingStatus.CANCELLED);
+
+        bookingService.updateBookingStatus(legacy.getId(), "CONFIRMED", parent);
+
+        assertThat(remaining(day.withHour(15))).isEqualTo(CAPACITY - 1);
+        assertThat(remaining(day.withHour(15).withMinute(30))).isEqualTo(CAPACITY - 1);
+    }
+
+    /** 장부가 생기기 전에 들어와 칸 행이 없는 예약. */
+    private CareFacilityBooking legacyBooking(LocalDateTime start, LocalDateTime end, CareFacilityBooking.BookingStatus status) {
+        CareFacilityBooking booking = new CareFacilityBooking();
+        booking.setFacility(facility);
+        booking.setUserId(parent.getUsername());
+        booking.setChildName("아이");
+        booking.setParentName("보호자");
+        booking.setParentPhone("010-0000-0000");
+        booking.setBookingType(CareFacilityBooking.BookingType.VISIT);
+        booking.setStatus(status);
+        booking.setStartTime(start);
+        booking.setEndTime(end);
+        return bookingRepository.save(booking);
+    }
+
+    private Outcome runConcurrently(java.util.function.IntFunction<CreateBookingRequest> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                CreateBookingRequest request = requests.apply(i);
+                futures.add(executor.submit(() -> {
+                    go.await();
+                    try {
+                        bookingService.createBooking(facility.getId(), request, parent);
+                        booked.incrementAndGet();
+                    } catch (CareServiceException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Outcome(booked.get(), rejected.get(), unexpected.get());
+    }
+
+    private List<CareFacilityBooking> activeBookings() {
+        return bookingRepository.findByFacilityIdOrderByStartTimeAsc(facility.getId()).stream()
+                .filter(b -> b.getStatus() != CareFacilityBooking.BookingStatus.CANCELLED)
+                .toList();
+    }
+
+    private int remaining(LocalDateTime slot) {
+        return slotRepository.findByFacilityIdAndSlotStart(facility.getId(), slot)
+                .map(FacilityBookingSlot::getRemaining)
+                .orElse(CAPACITY);
+    }
+
+    private static CreateBookingRequest request(LocalDateTime start, LocalDateTime end) {
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setStartTime(start);
+        request.setEndTime(end);
+        request.setBookingType("VISIT");
+        request.setChildName("아이");
+        request.setChildAge(3);
+        request.setParentName("보호자");
+        request.setParentPhone("010-0000-0000");
+        return request;
+    }
+
+    private record Outcome(int booked, int rejected, int unexpected) {
+    }
+}
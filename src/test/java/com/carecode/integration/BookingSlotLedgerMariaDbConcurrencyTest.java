@@ -0,0 +1,34 @@
+package com.carecode.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * {@link BookingSlotLedgerConcurrencyTest} 를 운영과 같은 MariaDB(InnoDB)에서 돌린다. H2 는 행 잠금만 흉내 내고
+ * 갭 잠금이 없어서, 칸 행을 INSERT IGNORE 로 만들고 조건부 UPDATE 로 줄이는 동안 InnoDB 가 잡는 잠금과 그 사이의
+ * 교착은 여기서만 드러난다. Docker 가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("시설 예약 장부 - 동시 예약 (MariaDB)")
+class BookingSlotLedgerMariaDbConcurrencyTest extends BookingSlotLedgerConcurrencyTest {
+
+    @Container
+    static final MariaDBContainer<?> MARIA_DB = new MariaDBContainer<>("mariadb:10.11")
+            .withDatabaseName("carecode_ledger")
+            .withUsername("test")
+            .withPassword("test");
+
+    /** 상위 클래스의 H2 설정보다 우선한다. */
+    @DynamicPropertySource
+    static void configureDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIA_DB::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", MARIA_DB::getDriverClassName);
+        registry.add("spring.datasource.username", MARIA_DB::getUsername);
+        registry.add("spring.datasource.password", MARIA_DB::getPassword);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MariaDBDialect");
+    }
+}
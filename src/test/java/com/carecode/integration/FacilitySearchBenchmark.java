@@ -0,0 +1,303 @@
+package com.carecode.integration;
+
+import com.carecode.CareCodeApplication;
+import com.carecode.domain.careFacility.entity.FacilityType;
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.CareFacilitySummary;
+import com.carecode.domain.careFacility.repository.FacilitySearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시설 고급 검색 벤치마크. 운영 조건 분포({@code benchmark/facility-search-mix.csv})대로 요청을 뽑아, 예전
+ * catch-all 쿼리와 동적 검색을 같은 데이터에 번갈아 보내고 조합별 p50/p95/p99 를 찍는다.
+ *
+ * <p>인덱스 효과를 보려면 운영과 같은 MariaDB 에 Flyway 로 만든 스키마(V28 포함)여야 해서 H2 로는 돌리지 않는다.
+ * 기본 빌드에서는 빠지고 수동으로 돌린다.
+ *
+ * 실행: ./gradlew facilitySearchBenchmark -Dbenchmark.facilities=50000 -Dbenchmark.samples=2000
+ */
+@Tag("benchmark")
+@SpringBootTest(
+        classes = CareCodeApplication.class,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
+                "spring.cache.type=none",
+                "spring.batch.job.enabled=false",
+                "jwt.secret=testJwtSecretKeyForIntegrationTestsMustBe256BitsLong012345678901234567890",
+                "spring.flyway.enabled=true",
+                "spring.jpa.hibernate.ddl-auto=validate",
+                "springdoc.api-docs.enabled=false",
+                "springdoc.swagger-ui.enabled=false",
+                "public.data.api.key=dummy",
+                "KAKAO_CLIENT_ID=dummy-kakao-client",
+                "KAKAO_CLIENT_SECRET=dummy-kakao-secret",
+                "MAIL_USERNAME=dummy",
+                "MAIL_PASSWORD=dummy"
+        }
+)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("시설 고급 검색 벤치마크 - 조건 분포 재생")
+class FacilitySearchBenchmark {
+
+    private static final int FACILITIES = Integer.getInteger("benchmark.facilities", 50_000);
+    private static final int SAMPLES = Integer.getInteger("benchmark.samples", 2_000);
+    private static final int WARMUP = SAMPLES / 10;
+    private static final int PAGE_SIZE = 20;
+
+    /** V28 이전의 검색 쿼리. 일곱 조건이 모두 {@code :p IS NULL OR} 로 들어가고 페이징 없이 전부 읽었다. */
+    private static final String LEGACY_QUERY = CareFacilityRepository.SUMMARY_SELECT + "WHERE cf.isActive = true "
+            + "AND (:facilityType IS NULL OR cf.facilityType = :facilityType) "
+            + "AND (:isPublic IS NULL OR cf.isPublic = :isPublic) "
+            + "AND (:subsidyAvailable IS NULL OR cf.subsidyAvailable = :subsidyAvailable) "
+            + "AND (:minRating IS NULL OR cf.rating >= :minRating) "
+            + "AND (:minAvailableSpots IS NULL OR cf.availableSpots >= :minAvailableSpots) "
+            + "AND (:maxTuitionFee IS NULL OR cf.tuitionFee <= :maxTuitionFee) "
+            + "AND ((:childAge IS NULL) OR "
+            + "((cf.ageRangeMin IS NULL OR cf.ageRangeMin <= :childAge) AND "
+            + "(cf.ageRangeMax IS NULL OR cf.ageRangeMax >= :childAge))) "
+            + "ORDER BY cf.rating DESC, cf.reviewCount DESC";
+
+    @Container
+    static final MariaDBContainer<?> MARIA_DB = new MariaDBContainer<>("mariadb:10.11")
+            .withDatabaseName("carecode_benchmark")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIA_DB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIA_DB::getUsername);
+        registry.add("spring.datasource.password", MARIA_DB::getPassword);
+    }
+
+    @MockBean
+    RedisConnectionFactory redisConnectionFactory;
+
+    @MockBean
+    StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    JavaMailSender javaMailSender;
+
+    @Autowired
+    CareFacilityRepository careFacilityRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Test
+    @DisplayName("조건 분포를 재생해 예전 쿼리와 동적 검색의 지연을 조합별로 비교한다")
+    void replayFilterMix() throws IOException {
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT INDEX_NAME FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = 'TBL_CARE_FACILITIES'", String.class))
+                .contains("idx_facility_search_type_public_rating", "idx_facility_search_age_range",
+                        "idx_facility_search_tuition");
+
+        Random random = new Random(42);
+        seed(random);
+        List<FacilitySearchCondition> workload = workload(loadMix(), random);
+
+        for (FacilitySearchCondition condition : workload.subList(0, WARMUP)) {
+            legacy(condition);
+            dynamic(condition);
+        }
+        Map<String, List<Long>> legacyNanos = new LinkedHashMap<>();
+        Map<String, List<Long>> dynamicNanos = new LinkedHashMap<>();
+        for (FacilitySearchCondition condition : workload.subList(WARMUP, workload.size())) {
+            long start = System.nanoTime();
+            int legacyRows = legacy(condition);
+            long legacyElapsed = System.nanoTime() - start;
+            start = System.nanoTime();
+            long dynamicTotal = dynamic(condition);
+            long dynamicElapsed = System.nanoTime() - start;
+
+            // 같은 조건이면 두 쿼리가 같은 시설 집합을 가리켜야 비교에 뜻이 있다.
+            assertThat(dynamicTotal).as(condition.filterKey()).isEqualTo(legacyRows);
+            legacyNanos.computeIfAbsent(condition.filterKey(), k -> new ArrayList<>()).add(legacyElapsed);
+            dynamicNanos.computeIfAbsent(condition.filterKey(), k -> new ArrayList<>()).add(dynamicElapsed);
+        }
+
+        report(legacyNanos, dynamicNanos);
+    }
+
+    /** 예전 엔드포인트가 하던 일: catch-all 쿼리로 조건에 맞는 시설을 전부 읽는다. */
+    private int legacy(FacilitySearchCondition condition) {
+        return inTransaction(() -> entityManager.createQuery(LEGACY_QUERY, CareFacilitySummary.class)
+                .setParameter("facilityType", condition.facilityType())
+                .setParameter("isPublic", condition.isPublic())
+                .setParameter("subsidyAvailable", condition.subsidyAvailable())
+                .setParameter("minRating", condition.minRating())
+                .setParameter("minAvailableSpots", condition.minAvailableSpots())
+                .setParameter("maxTuitionFee", condition.maxTuitionFee())
+                .setParameter("childAge", condition.childAge())
+                .getResultList()
+                .size());
+    }
+
+    /** 지금 엔드포인트가 하는 일: 첫 페이지와 전체 건수. */
+    private long dynamic(FacilitySearchCondition condition) {
+        return inTransaction(() -> {
+            Page<CareFacilitySummary> page = careFacilityRepository.search(condition, PageRequest.of(0, PAGE_SIZE));
+            return page.getTotalElements();
+        });
+    }
+
+    /** 운영과 비슷한 모양으로 시설을 채운다. 어린이집이 대부분이고 평점·연령·수업료는 비어 있는 행도 섞는다. */
+    private void seed(Random random) {
+        FacilityType[] types = {FacilityType.DAYCARE, FacilityType.DAYCARE, FacilityType.DAYCARE,
+                FacilityType.KINDERGARTEN, FacilityType.KINDERGARTEN, FacilityType.NURSERY, FacilityType.PLAYGROUP};
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(1_000);
+        for (int i = 0; i < FACILITIES; i++) {
+            int ageMin = random.nextInt(4);
+            rows.add(new Object[]{
+                    "BENCH-" + i,
+                    "벤치 시설 " + i,
+                    types[random.nextInt(types.length)].name(),
+                    random.nextInt(4) == 0,
+                    random.nextInt(5) < 2,
+                    random.nextInt(5) == 0 ? null : 2.5 + random.nextInt(26) / 10.0,
+                    random.nextInt(200),
+                    random.nextInt(10) == 0 ? null : ageMin,
+                    random.nextInt(10) == 0 ? null : ageMin + 2 + random.nextInt(4),
+                    random.nextInt(10) == 0 ? null : random.nextInt(81) * 10_000,
+                    random.nextInt(21),
+                    random.nextInt(20) != 0,
+                    "시설 소개 " + i,
+                    now,
+                    now});
+            if (rows.size() == 1_000 || i == FACILITIES - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO TBL_CARE_FACILITIES (FACILITY_CODE, NAME, FACILITY_TYPE, "
+                        + "IS_PUBLIC, SUBSIDY_AVAILABLE, RATING, REVIEW_COUNT, AGE_RANGE_MIN, AGE_RANGE_MAX, "
+                        + "TUITION_FEE, AVAILABLE_SPOTS, IS_ACTIVE, DESCRIPTION, CREATED_AT, UPDATED_AT) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        // 통계가 비어 있으면 옵티마이저가 인덱스를 고르지 못해 운영과 다른 계획이 나온다.
+        jdbcTemplate.execute("ANALYZE TABLE TBL_CARE_FACILITIES");
+    }
+
+    private static Map<String, Integer> loadMix() throws IOException {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("benchmark/facility-search-mix.csv").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("filters,")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                mix.put(columns[0].trim(), Integer.parseInt(columns[1].trim()));
+            }
+        }
+        return mix;
+    }
+
+    /** 비중대로 조합을 뽑고, 조합에 든 항목마다 검색 화면에서 고를 수 있는 값을 채운다. */
+    private static List<FacilitySearchCondition> workload(Map<String, Integer> mix, Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        List<FacilitySearchCondition> workload = new ArrayList<>(WARMUP + SAMPLES);
+        for (int i = 0; i < WARMUP + SAMPLES; i++) {
+            int pick = random.nextInt(total);
+            String key = null;
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    key = entry.getKey();
+                    break;
+                }
+            }
+            List<String> filters = Arrays.asList(key.split("\\+"));
+            FacilityType[] types = {FacilityType.DAYCARE, FacilityType.KINDERGARTEN, FacilityType.NURSERY};
+            FacilitySearchCondition condition = new FacilitySearchCondition(
+                    filters.contains("facilityType") ? types[random.nextInt(types.length)] : null,
+                    filters.contains("isPublic") ? random.nextBoolean() : null,
+                    filters.contains("subsidyAvailable") ? Boolean.TRUE : null,
+                    filters.contains("minRating") ? 3.0 + random.nextInt(4) / 2.0 : null,
+                    filters.contains("minAvailableSpots") ? 1 + random.nextInt(5) : null,
+                    filters.contains("maxTuitionFee") ? 200_000 * (1 + random.nextInt(3)) : null,
+                    filters.contains("childAge") ? random.nextInt(6) : null);
+            assertThat(condition.filterKey()).as("분포 파일의 조합 이름").isEqualTo(key);
+            workload.add(condition);
+        }
+        return workload;
+    }
+
+    private static void report(Map<String, List<Long>> legacyNanos, Map<String, List<Long>> dynamicNanos) {
+        StringBuilder out = new StringBuilder(String.format("%n시설 %d건, 요청 %d건 (ms)%n", FACILITIES, SAMPLES));
+        out.append(String.format("%-70s %6s | %8s %8s %8s | %8s %8s %8s%n",
+                "조합", "요청", "예전p50", "예전p95", "예전p99", "동적p50", "동적p95", "동적p99"));
+        List<Long> allLegacy = new ArrayList<>();
+        List<Long> allDynamic = new ArrayList<>();
+        for (String key : legacyNanos.keySet()) {
+            out.append(line(key, legacyNanos.get(key), dynamicNanos.get(key)));
+            allLegacy.addAll(legacyNanos.get(key));
+            allDynamic.addAll(dynamicNanos.get(key));
+        }
+        out.append(line("전체", allLegacy, allDynamic));
+        System.out.println(out);
+    }
+
+    private static String line(String key, List<Long> legacy, List<Long> dynamic) {
+        return String.format("%-70s %6d | %8.2f %8.2f %8.2f | %8.2f %8.2f %8.2f%n", key, legacy.size(),
+                percentile(legacy, 0.50), percentile(legacy, 0.95), percentile(legacy, 0.99),
+                percentile(dynamic, 0.50), percentile(dynamic, 0.95), percentile(dynamic, 0.99));
+    }
+
+    private static double percentile(List<Long> nanos, double p) {
+        long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        int index = Math.max(0, (int) Math.ceil(p * sorted.length) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,186 @@
+package com.carecode.integration;
+
+import com.carecode.CareCodeApplication;
+import com.carecode.domain.careFacility.dto.request.CareFacilityAdvancedSearchRequest;
+import com.carecode.domain.careFacility.dto.response.CareFacilityInfo;
+import com.carecode.domain.careFacility.dto.response.CareFacilityListResponse;
+import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.domain.careFacility.entity.FacilityType;
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.service.CareFacilityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시설 고급 검색. 들어온 조건만 걸리는지, 빈 조건이 예전처럼 무시되는지, 페이지를 넘겨도 시설이 겹치거나 빠지지
+ * 않는지 본다. 인덱스 효과는 MariaDB 에서 {@link FacilitySearchBenchmark} 로 잰다.
+ *
+ * <p>설정은 {@link BookingSlotLedgerConcurrencyTest} 와 같다.
+ */
+@SpringBootTest(
+        classes = CareCodeApplication.class,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
+                "spring.cache.type=none",
+                "spring.batch.job.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:carecode-facility-search;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "jwt.secret=testJwtSecretKeyForContextLoadTestMustBe256BitsLong0123456789",
+                "springdoc.api-docs.enabled=false",
+                "springdoc.swagger-ui.enabled=false",
+                "public.data.api.key=dummy",
+                "KAKAO_CLIENT_ID=dummy-kakao-client",
+                "KAKAO_CLIENT_SECRET=dummy-kakao-secret",
+                "MAIL_USERNAME=dummy",
+                "MAIL_PASSWORD=dummy"
+        }
+)
+@DisplayName("시설 고급 검색 - 동적 조건")
+class FacilitySearchIntegrationTest {
+
+    @MockBean
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private CareFacilityService careFacilityService;
+    @Autowired
+    private CareFacilityRepository careFacilityRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        careFacilityRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("들어온 조건만 걸리고 비활성 시설은 빠진다")
+    void appliesOnlySuppliedFilters() {
+        save("공립 어린이집", FacilityType.DAYCARE, true, 4.0, 300_000, null, null, true);
+        save("사립 어린이집", FacilityType.DAYCARE, false, 4.5, 500_000, null, null, true);
+        save("공립 유치원", FacilityType.KINDERGARTEN, true, 5.0, 100_000, null, null, true);
+        save("문 닫은 공립 어린이집", FacilityType.DAYCARE, true, 5.0, 100_000, null, null, false);
+
+        assertThat(names(search(CareFacilityAdvancedSearchRequest.builder()
+                .facilityType(FacilityType.DAYCARE).isPublic(true))))
+                .containsExactly("공립 어린이집");
+        assertThat(names(search(CareFacilityAdvancedSearchRequest.builder().maxTuitionFee(300_000))))
+                .containsExactly("공립 유치원", "공립 어린이집");
+        assertThat(names(search(CareFacilityAdvancedSearchRequest.builder())))
+                .containsExactly("공립 유치원", "사립 어린이집", "공립 어린이집");
+    }
+
+    @Test
+    @DisplayName("연령 범위가 비어 있는 시설은 어느 나이로 찾아도 나온다")
+    void childAgeTreatsMissingRangeAsOpen() {
+        save("영아반", FacilityType.DAYCARE, true, 4.0, 0, 0, 2, true);
+        save("유아반", FacilityType.DAYCARE, true, 4.0, 0, 3, 5, true);
+        save("나이 미기재", FacilityType.DAYCARE, true, 4.0, 0, null, null, true);
+        save("만 1세부터", FacilityType.DAYCARE, true, 4.0, 0, 1, null, true);
+
+        assertThat(names(search(CareFacilityAdvancedSearchRequest.builder().childAge(4))))
+                .containsExactlyInAnyOrder("유아반", "나이 미기재", "만 1세부터");
+        assertThat(names(search(CareFacilityAdvancedSearchRequest.builder().childAge(0))))
+                .containsExactlyInAnyOrder("영아반", "나이 미기재");
+    }
+
+    @Test
+    @DisplayName("평점이 같은 시설이 많아도 페이지를 넘기며 모두 한 번씩 나온다")
+    void pagesDoNotOverlapOnTies() {
+        IntStream.range(0, 25).forEach(i -> save("동점 " + i, FacilityType.DAYCARE, false, 4.0, 0, null, null, true));
+
+        Set<Long> seen = new HashSet<>();
+        CareFacilityListResponse page = null;
+        for (int i = 0; i < 3; i++) {
+            page = search(CareFacilityAdvancedSearchRequest.builder().page(i).size(10));
+            page.getFacilities().forEach(facility -> assertThat(seen.add(facility.getId())).isTrue());
+        }
+
+        assertThat(seen).hasSize(25);
+        assertThat(page.getTotalCount()).isEqualTo(25);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("허용된 필드로만 정렬하고 나머지는 기본 정렬로 돌린다")
+    void sortsOnlyByAllowedFields() {
+        save("비싸고 평점 높음", FacilityType.DAYCARE, false, 5.0, 900_000, null, null, true);
+        save("싸고 평점 낮음", FacilityType.DAYCARE, false, 3.0, 100_000, null, null, true);
+
+        assertThat(names(search(CareFacilityAdvancedSearchRequest.builder()
+                .sortBy("tuitionFee").sortDirection("ASC"))))
+                .containsExactly("싸고 평점 낮음", "비싸고 평점 높음");
+        assertThat(names(search(CareFacilityAdvancedSearchRequest.builder()
+                .sortBy("description").sortDirection("ASC"))))
+                .containsExactly("비싸고 평점 높음", "싸고 평점 낮음");
+    }
+
+    @Test
+    @DisplayName("조건 조합별 요청 수가 지표로 남는다")
+    void countsRequestsByFilterCombination() {
+        double before = searches("facilityType+childAge");
+
+        search(CareFacilityAdvancedSearchRequest.builder().facilityType(FacilityType.DAYCARE).childAge(3));
+
+        assertThat(searches("facilityType+childAge")).isEqualTo(before + 1);
+    }
+
+    private CareFacilityListResponse search(CareFacilityAdvancedSearchRequest.CareFacilityAdvancedSearchRequestBuilder request) {
+        return careFacilityService.searchFacilitiesAdvanced(request.build());
+    }
+
+    private double searches(String filters) {
+        Counter counter = meterRegistry.find("care_facility.search.requests").tag("filters", filters).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static List<String> names(CareFacilityListResponse response) {
+        return response.getFacilities().stream().map(CareFacilityInfo::getName).toList();
+    }
+
+    private void save(String name, FacilityType type, boolean isPublic, double rating, int tuitionFee,
+                      Integer ageMin, Integer ageMax, boolean active) {
+        careFacilityRepository.save(CareFacility.builder()
+                .facilityCode(name + "-" + System.nanoTime())
+                .name(name)
+                .facilityType(type)
+                .isPublic(isPublic)
+                .rating(rating)
+                .reviewCount(0)
+                .tuitionFee(tuitionFee)
+                .ageRangeMin(ageMin)
+                .ageRangeMax(ageMax)
+                .isActive(active)
+                .build());
+    }
+}
@@ -0,0 +1,268 @@
+package com.carecode.integration;
+
+import com.carecode.CareCodeApplication;
+import com.carecode.domain.careFacility.dto.request.CareFacilityAdvancedSearchRequest;
+import com.carecode.domain.careFacility.dto.response.CareFacilityInfo;
+import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.domain.careFacility.entity.FacilityType;
+import com.carecode.domain.careFacility.mapper.CareFacilityMapper;
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.CareFacilitySummary;
+import com.carecode.domain.careFacility.service.CareFacilityService;
+import com.carecode.domain.community.dto.response.CommunityPageResponse;
+import com.carecode.domain.community.dto.response.CommunityPostResponse;
+import com.carecode.domain.community.entity.Post;
+import com.carecode.domain.community.entity.PostCategory;
+import com.carecode.domain.community.entity.Tag;
+import com.carecode.domain.community.mapper.CommunityMapper;
+import com.carecode.domain.community.repository.PostRepository;
+import com.carecode.domain.community.repository.PostSummary;
+import com.carecode.domain.community.repository.TagRepository;
+import com.carecode.domain.community.service.CommunityService;
+import com.carecode.domain.policy.dto.request.PolicySearchRequest;
+import com.carecode.domain.policy.dto.response.PolicyInfoResponse;
+import com.carecode.domain.policy.dto.response.PolicyListResponse;
+import com.carecode.domain.policy.entity.Policy;
+import com.carecode.domain.policy.mapper.PolicyMapper;
+import com.carecode.domain.policy.repository.PolicyRepository;
+import com.carecode.domain.policy.repository.PolicySummary;
+import com.carecode.domain.policy.service.PolicyService;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.entity.UserRole;
+import com.carecode.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 투영 검증. 본문·설명이 긴 행으로 한 페이지를 채우고, 엔티티로 읽어 변환하던 방식과 투영 쿼리를
+ * 영속성 컨텍스트에 남는 엔티티 수(힙)와 응답 JSON 크기(직렬화)로 비교한다.
+ *
+ * <p>설정은 {@link BookingSlotLedgerConcurrencyTest} 와 같다.
+ */
+@SpringBootTest(
+        classes = CareCodeApplication.class,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
+                "spring.cache.type=none",
+                "spring.batch.job.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:carecode-projection;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "jwt.secret=testJwtSecretKeyForContextLoadTestMustBe256BitsLong0123456789",
+                "springdoc.api-docs.enabled=false",
+                "springdoc.swagger-ui.enabled=false",
+                "public.data.api.key=dummy",
+                "KAKAO_CLIENT_ID=dummy-kakao-client",
+                "KAKAO_CLIENT_SECRET=dummy-kakao-secret",
+                "MAIL_USERNAME=dummy",
+                "MAIL_PASSWORD=dummy"
+        }
+)
+@DisplayName("목록 투영 - 힙·직렬화 비교")
+class ListProjectionIntegrationTest {
+
+    private static final int PAGE = 20;
+    /** 긴 게시글·시설 소개 정도의 본문. */
+    private static final String LONG_TEXT = "우리 아이 어린이집 적응기 ".repeat(400);
+
+    @MockBean
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private CommunityService communityService;
+    @Autowired
+    private CommunityMapper communityMapper;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private CareFacilityService careFacilityService;
+    @Autowired
+    private CareFacilityMapper careFacilityMapper;
+    @Autowired
+    private CareFacilityRepository careFacilityRepository;
+    @Autowired
+    private PolicyService policyService;
+    @Autowired
+    private PolicyMapper policyMapper;
+    @Autowired
+    private PolicyRepository policyRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String marker;
+
+    @BeforeEach
+    void setUp() {
+        marker = "투영" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 본문 앞부분만 싣고 게시글 엔티티를 올리지 않는다")
+    void postFeed() throws Exception {
+        User author = userRepository.save(User.builder()
+                .userId("proj-" + marker)
+                .email("proj-" + marker + "@carecode.test")
+                .name("보호자")
+                .role(UserRole.PARENT)
+                .isActive(true)
+                .emailVerified(true)
+                .registrationCompleted(true)
+                .build());
+        Tag tag = tagRepository.save(new Tag(marker, "테스트"));
+        for (int i = 0; i < PAGE; i++) {
+            Post post = Post.builder().title(marker + " " + i).content(LONG_TEXT).category(PostCategory.GENERAL)
+                    .author(author).authorName("보호자").build();
+            post.addTag(tag);
+            postRepository.save(post);
+        }
+
+        int managed = managedEntitiesAfter(() -> communityService.searchPosts(marker, 0, PAGE));
+        CommunityPageResponse<CommunityPostResponse> page = communityService.searchPosts(marker, 0, PAGE);
+        byte[] entityJson = inTransaction(() -> json(communityMapper.toPostResponseList(
+                postRepository.findAll().stream().filter(p -> p.getTitle().startsWith(marker)).toList())));
+        byte[] projectionJson = json(page.getContent());
+
+        assertThat(page.getContent()).hasSize(PAGE).allSatisfy(post -> {
+            assertThat(post.getContent()).hasSize(PostSummary.CONTENT_PREVIEW_LENGTH);
+            assertThat(post.getTags()).containsExactly(marker);
+            assertThat(post.getAuthorId()).isEqualTo(author.getId().toString());
+        });
+        assertThat(managed).as("목록이 영속성 컨텍스트에 올린 엔티티 수").isZero();
+        assertThat(projectionJson.length)
+                .as("엔티티 변환 %d바이트 / 투영 %d바이트", entityJson.length, projectionJson.length)
+                .isLessThan(entityJson.length / 5);
+    }
+
+    @Test
+    @DisplayName("시설 목록은 설명 앞부분만 싣고 시설 엔티티를 올리지 않는다")
+    void facilityLists() throws Exception {
+        for (int i = 0; i < PAGE; i++) {
+            careFacilityRepository.save(CareFacility.builder()
+                    .facilityCode(marker + "-" + i)
+                    .name(marker + " 어린이집 " + i)
+                    .facilityType(FacilityType.DAYCARE)
+                    .description(LONG_TEXT)
+                    .curriculum(LONG_TEXT)
+                    .tuitionFee(1)
+                    .rating(5.0)
+                    .reviewCount(1)
+                    .isActive(true)
+                    .build());
+        }
+
+        int managed = managedEntitiesAfter(() -> careFacilityService.getPopularCareFacilities(PAGE));
+        List<CareFacilityInfo> popular = careFacilityService.getPopularCareFacilities(PAGE);
+        List<CareFacilityInfo> searched = careFacilityService.searchFacilitiesAdvanced(
+                CareFacilityAdvancedSearchRequest.builder().facilityType(FacilityType.DAYCARE).maxTuitionFee(1)
+                        .size(PAGE).build()).getFacilities();
+        byte[] entityJson = inTransaction(() -> json(careFacilityRepository.findAll().stream()
+                .filter(f -> f.getName().startsWith(marker)).map(careFacilityMapper::toResponse).toList()));
+        byte[] projectionJson = json(popular);
+
+        assertThat(popular).hasSize(PAGE);
+        assertThat(searched).hasSize(PAGE);
+        assertThat(popular).allSatisfy(facility -> assertThat(facility.getDescription())
+                .hasSize(CareFacilitySummary.DESCRIPTION_PREVIEW_LENGTH));
+        assertThat(managed).as("목록이 영속성 컨텍스트에 올린 엔티티 수").isZero();
+        assertThat(projectionJson.length)
+                .as("엔티티 변환 %d바이트 / 투영 %d바이트", entityJson.length, projectionJson.length)
+                .isLessThan(entityJson.length / 5);
+    }
+
+    @Test
+    @DisplayName("정책 검색은 설명 앞부분과 조회수를 싣고 정책 엔티티를 올리지 않는다")
+    void policySearch() throws Exception {
+        for (int i = 0; i < PAGE; i++) {
+            policyRepository.save(Policy.builder()
+                    .policyCode(marker + "-" + i)
+                    .title(marker + " 지원금 " + i)
+                    .description(LONG_TEXT)
+                    .policyType("육아")
+                    .isActive(true)
+                    .viewCount(7)
+                    .build());
+        }
+        PolicySearchRequest request = PolicySearchRequest.builder().keyword(marker).page(0).size(PAGE).build();
+
+        int managed = managedEntitiesAfter(() -> policyService.searchPolicies(request));
+        PolicyListResponse response = policyService.searchPolicies(request);
+        byte[] entityJson = inTransaction(() -> json(policyRepository
+                .findBySearchCriteria(marker, null, null, null, null, PageRequest.of(0, PAGE))
+                .map(policyMapper::toResponse).getContent()));
+        byte[] projectionJson = json(response.getPolicies());
+
+        assertThat(response.getTotalCount()).isEqualTo(PAGE);
+        assertThat(response.getPolicies()).hasSize(PAGE).allSatisfy(policy -> {
+            assertThat(policy.getDescription()).hasSize(PolicySummary.DESCRIPTION_PREVIEW_LENGTH);
+            assertThat(policy.getCategory()).isEqualTo("육아");
+            assertThat(policy.getViewCount()).isEqualTo(7);
+        });
+        assertThat(managed).as("목록이 영속성 컨텍스트에 올린 엔티티 수").isZero();
+        assertThat(projectionJson.length)
+                .as("엔티티 변환 %d바이트 / 투영 %d바이트", entityJson.length, projectionJson.length)
+                .isLessThan(entityJson.length / 5);
+    }
+
+    /** 목록 호출 뒤 같은 트랜잭션의 영속성 컨텍스트에 남은 엔티티 수. 요청이 끝날 때까지 힙에 붙잡혀 있는 양이다. */
+    private int managedEntitiesAfter(Runnable listCall) {
+        return inTransaction(() -> {
+            listCall.run();
+            return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+}
@@ -38,8 +38,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         properties = {
                 "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
                         + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
-                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration,"
-                        + "org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration",
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
                 "spring.cache.type=none",
                 "spring.batch.job.enabled=false",
                 "spring.datasource.url=jdbc:h2:mem:live;MODE=MySQL;DB_CLOSE_DELAY=-1",
@@ -50,6 +49,7 @@ import static org.assertj.core.api.Assertions.assertThat;
                 "spring.jpa.hibernate.ddl-auto=create-drop",
                 "spring.flyway.enabled=false",
                 "app.search.fulltext-enabled=false",
+                "app.search.spatial-enabled=false",
                 // 전국을 다 돌면 오래 걸린다. 연동 확인에는 몇 페이지면 충분하다.
                 "public.data.sync.max-pages=2",
                 "jwt.secret=liveSyncTestSecretKeyMustBeAtLeast256BitsLong0123456789abc",
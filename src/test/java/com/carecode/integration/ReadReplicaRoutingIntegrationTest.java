@@ -0,0 +1,251 @@
+package com.carecode.integration;
+
+import com.carecode.CareCodeApplication;
+import com.carecode.core.datasource.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅을 실제 MariaDB 복제 위에서 확인한다. 주 DB(server_id=1)와 복제본(server_id=2) 컨테이너를
+ * GTID 복제로 묶고, 트랜잭션마다 @@server_id 로 어디로 갔는지 본다.
+ *
+ * <p>복제본은 read_only 로 띄운다. 쓰기가 잘못 복제본으로 가면 조용히 갈라지지 않고 바로 실패한다.
+ */
+@SpringBootTest(
+        classes = CareCodeApplication.class,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
+                "spring.cache.type=none",
+                "spring.batch.job.enabled=false",
+                "jwt.secret=testJwtSecretKeyForIntegrationTestsMustBe256BitsLong012345678901234567890",
+                "spring.flyway.enabled=false",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "springdoc.api-docs.enabled=false",
+                "springdoc.swagger-ui.enabled=false",
+                "public.data.api.key=dummy",
+                "GOOGLE_CLIENT_ID=dummy-google-client",
+                "GOOGLE_CLIENT_SECRET=dummy-google-secret",
+                "KAKAO_CLIENT_ID=dummy-kakao-client",
+                "KAKAO_CLIENT_SECRET=dummy-kakao-secret",
+                "MAIL_USERNAME=dummy",
+                "MAIL_PASSWORD=dummy",
+                "app.datasource.read-replica.enabled=true",
+                "app.datasource.read-replica.max-lag=PT5S",
+                // 측정은 테스트가 직접 부른다
+                "app.datasource.read-replica.lag-check-interval-ms=600000"
+        }
+)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("읽기 복제본 라우팅 - MariaDB 주 DB/복제본")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    static final MariaDBContainer<?> PRIMARY = new MariaDBContainer<>("mariadb:10.11")
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withDatabaseName("carecode_it")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("--server-id=1", "--log-bin=mariadb-bin", "--binlog-format=ROW");
+
+    @Container
+    static final MariaDBContainer<?> REPLICA = new MariaDBContainer<>("mariadb:10.11")
+            .withNetwork(NETWORK)
+            .withDatabaseName("carecode_it")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("--server-id=2", "--read-only=1");
+
+    @DynamicPropertySource
+    static void configureDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("app.datasource.read-replica.urls", REPLICA::getJdbcUrl);
+    }
+
+    /**
+     * 컨텍스트가 스키마를 만들기 전에 복제를 건다. 두 컨테이너 모두 초기화 때 같은 DB 와 계정을 따로 만들었으므로
+     * 주 DB 의 지금 GTID 부터 받아 그 부분은 다시 적용하지 않는다.
+     */
+    @BeforeAll
+    static void startReplication() throws SQLException {
+        String gtid;
+        try (Connection primary = root(PRIMARY); Statement st = primary.createStatement()) {
+            st.execute("CREATE USER 'repl'@'%' IDENTIFIED BY 'repl'");
+            st.execute("GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%'");
+            try (ResultSet rs = st.executeQuery("SELECT @@gtid_binlog_pos")) {
+                rs.next();
+                gtid = rs.getString(1);
+            }
+        }
+        try (Connection replica = root(REPLICA); Statement st = replica.createStatement()) {
+            // 운영과 같이 앱 계정으로 지연을 재려면 SLAVE MONITOR 가 있어야 한다.
+            st.execute("GRANT SLAVE MONITOR ON *.* TO 'test'@'%'");
+            st.execute("SET GLOBAL gtid_slave_pos = '" + gtid + "'");
+            st.execute("CHANGE MASTER TO MASTER_HOST='primary', MASTER_PORT=3306, MASTER_USER='repl', "
+                    + "MASTER_PASSWORD='repl', MASTER_USE_GTID=slave_pos");
+            st.execute("START SLAVE");
+        }
+    }
+
+    @MockBean
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        awaitReplicaAvailable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션은 주 DB 로 간다")
+    void routesByTransactionReadOnlyFlag() {
+        assertThat(serverId(true)).isEqualTo(2);
+        assertThat(serverId(false)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주 DB 에 쓴 스키마가 복제본에도 있다")
+    void schemaIsReplicated() {
+        Integer tables = readOnly().execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = 'carecode_it'",
+                Integer.class));
+
+        assertThat(tables).isPositive();
+    }
+
+    @Test
+    @DisplayName("방금 쓴 사용자의 읽기는 주 DB 로, 다른 사용자의 읽기는 복제본으로 간다")
+    void readYourWrites() {
+        login("writer@example.com");
+        serverId(false);
+        assertThat(serverId(true)).isEqualTo(1);
+
+        login("reader@example.com");
+        assertThat(serverId(true)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("복제가 멈추면 읽기도 주 DB 로 가고 다시 돌면 복제본으로 돌아간다")
+    void fallsBackWhileReplicationStopped() throws Exception {
+        replicaSql("STOP SLAVE SQL_THREAD");
+        try {
+            lagMonitor.check();
+            assertThat(lagMonitor.availableReplicas()).isEmpty();
+            assertThat(serverId(true)).isEqualTo(1);
+        } finally {
+            replicaSql("START SLAVE SQL_THREAD");
+        }
+
+        awaitReplicaAvailable();
+        assertThat(serverId(true)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("풀마다 Hikari 지표가 따로 나온다")
+    void exposesHikariMetricsPerPool() {
+        serverId(true);
+        serverId(false);
+
+        for (String pool : List.of("carecode-primary", "carecode-replica-0")) {
+            assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", pool).gauge())
+                    .as(pool).isNotNull();
+        }
+    }
+
+    private int serverId(boolean readOnly) {
+        TransactionTemplate template = readOnly ? readOnly() : new TransactionTemplate(transactionManager);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private void awaitReplicaAvailable() throws InterruptedException {
+        for (int i = 0; i < 50 && lagMonitor.availableReplicas().isEmpty(); i++) {
+            lagMonitor.check();
+            Thread.sleep(200);
+        }
+        assertThat(lagMonitor.availableReplicas()).containsExactly("replica-0");
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_PARENT"))));
+    }
+
+    private static void replicaSql(String sql) throws SQLException {
+        try (Connection replica = root(REPLICA); Statement st = replica.createStatement()) {
+            st.execute(sql);
+        }
+    }
+
+    private static Connection root(MariaDBContainer<?> container) throws SQLException {
+        return DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword());
+    }
+}
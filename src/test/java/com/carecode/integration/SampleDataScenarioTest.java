@@ -7,8 +7,13 @@ import com.carecode.core.security.CurrentUserFacade;
 import com.carecode.domain.careFacility.dto.response.AdmissionForecastResponse;
 import com.carecode.domain.careFacility.dto.response.FacilityPopularityResponse;
 import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.core.client.sync.CapacitySnapshotRecorder;
 import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacityRunRepository;
+import com.carecode.domain.careFacility.repository.FacilityCapacitySnapshotRepository;
 import com.carecode.domain.careFacility.service.AdmissionForecastService;
+import com.carecode.domain.careFacility.service.FacilityCapacityCompactionJob;
+import com.carecode.domain.careFacility.service.FacilityCapacityStatsJob;
 import com.carecode.domain.careFacility.service.FacilityPopularityService;
 import com.carecode.domain.policy.dto.response.MissedBenefitSummaryResponse;
 import com.carecode.domain.policy.dto.response.RegionalBenefitComparisonResponse;
@@ -28,6 +33,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -41,8 +47,7 @@ import static org.mockito.Mockito.when;
         properties = {
                 "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
                         + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
-                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration,"
-                        + "org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration",
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
                 "spring.cache.type=none",
                 "spring.batch.job.enabled=false",
                 "spring.datasource.url=jdbc:h2:mem:sample;MODE=MySQL;DB_CLOSE_DELAY=-1",
@@ -53,6 +58,7 @@ import static org.mockito.Mockito.when;
                 "spring.jpa.hibernate.ddl-auto=create-drop",
                 "spring.flyway.enabled=false",
                 "app.search.fulltext-enabled=false",
+                "app.search.spatial-enabled=false",
                 "jwt.secret=testJwtSecretKeyForSampleDataScenarioMustBe256BitsLong0123456789",
                 "springdoc.api-docs.enabled=false",
                 "springdoc.swagger-ui.enabled=false",
@@ -90,6 +96,18 @@ class SampleDataScenarioTest {
     @Autowired
     private FacilityPopularityService facilityPopularityService;
     @Autowired
+    private FacilityCapacityStatsJob capacityStatsJob;
+    @Autowired
+    private FacilityCapacityCompactionJob compactionJob;
+    @Autowired
+    private FacilityCapacitySnapshotRepository snapshotRepository;
+    @Autowired
+    private FacilityCapacityRunRepository runRepository;
+    @Autowired
+    private CapacitySnapshotRecorder snapshotRecorder;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
     private UserRepository userRepository;
     @Autowired
     private ChildRepository childRepository;
@@ -188,6 +206,63 @@ class SampleDataScenarioTest {
                 .getSharpDropDates()).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("야간 정원 요약을 읽어도 즉석 계산과 같은 결과를 낸다")
+    void precomputedStatsMatchOnDemandAnalysis() {
+        Long facilityId = findSample("SHARP_DROP").getId();
+        FacilityPopularityResponse onDemand = facilityPopularityService.analyze(facilityId);
+        AdmissionForecastResponse forecastOnDemand = admissionForecastService.forecast(facilityId, 30, 3);
+
+        // 두 번 돌려 새 행 저장과 기존 행 갱신을 모두 거친다.
+        capacityStatsJob.refreshAll();
+        FacilityCapacityStatsJob.RefreshResult result = capacityStatsJob.refreshAll();
+        assertThat(result.getFacilities()).isPositive();
+
+        FacilityPopularityResponse precomputed = facilityPopularityService.analyze(facilityId);
+        assertThat(precomputed.getAverageFillRate()).isEqualTo(onDemand.getAverageFillRate());
+        assertThat(precomputed.getTrend()).isEqualTo(onDemand.getTrend());
+        assertThat(precomputed.getSharpDropDates()).isEqualTo(onDemand.getSharpDropDates());
+        assertThat(admissionForecastService.forecast(facilityId, 30, 3).getProbability())
+                .isEqualTo(forecastOnDemand.getProbability());
+    }
+
+    @Test
+    @DisplayName("오래된 스냅샷을 구간으로 접어도 분석 결과는 같다")
+    void compactionKeepsAnalysisUnchanged() {
+        Long facilityId = findSample("SHARP_DROP").getId();
+        FacilityPopularityResponse before = facilityPopularityService.analyze(facilityId);
+
+        // 최근 한 달만 원본으로 남기고 나머지는 모두 접는다.
+        compactionJob.compact(LocalDate.now().minusDays(31), LocalDate.now().minusYears(10));
+
+        assertThat(snapshotRepository.findHistory(facilityId, LocalDate.EPOCH)).hasSizeLessThanOrEqualTo(1);
+        assertThat(runRepository.findOverlapping(facilityId, LocalDate.EPOCH)).isNotEmpty();
+
+        FacilityPopularityResponse after = facilityPopularityService.analyze(facilityId);
+        assertThat(after.getObservationCount()).isEqualTo(before.getObservationCount());
+        assertThat(after.getAverageFillRate()).isEqualTo(before.getAverageFillRate());
+        assertThat(after.getTrend()).isEqualTo(before.getTrend());
+        assertThat(after.getSharpDropDates()).isEqualTo(before.getSharpDropDates());
+    }
+
+    @Test
+    @DisplayName("같은 날 다시 동기화하면 스냅샷이 늘지 않고 값만 바뀐다")
+    void recordingTwiceADayKeepsOneRow() {
+        CareFacility facility = findSample("UNDERSUBSCRIBED");
+        int before = snapshotRepository.findHistory(facility.getId(), LocalDate.now()).size();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            facility.setCurrentEnrollment(60);
+            snapshotRecorder.record(facility);
+            facility.setCurrentEnrollment(61);
+            snapshotRecorder.record(facility);
+        });
+
+        var today = snapshotRepository.findHistory(facility.getId(), LocalDate.now());
+        assertThat(today).hasSize(Math.max(before, 1));
+        assertThat(today.get(0).getCurrentEnrollment()).isEqualTo(61);
+    }
+
     @Test
     @DisplayName("샘플 데이터를 두 번 넣어도 중복되지 않는다")
     void seedingIsIdempotent() {
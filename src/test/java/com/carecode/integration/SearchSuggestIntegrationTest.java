@@ -0,0 +1,172 @@
+package com.carecode.integration;
+
+import com.carecode.CareCodeApplication;
+import com.carecode.core.search.suggest.SearchSuggestion;
+import com.carecode.core.search.suggest.SuggestionChanged;
+import com.carecode.core.search.suggest.SuggestionIndex;
+import com.carecode.core.search.suggest.SuggestionType;
+import com.carecode.domain.careFacility.entity.CareFacility;
+import com.carecode.domain.careFacility.entity.FacilityType;
+import com.carecode.domain.careFacility.repository.CareFacilityRepository;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.repository.HospitalRepository;
+import com.carecode.domain.policy.entity.Policy;
+import com.carecode.domain.policy.repository.PolicyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 자동완성 종단 검증. 세 저장소의 후보 투영 쿼리가 실제 DB 에서 돌고, 커밋 뒤 이벤트가 색인에 닿으며,
+ * 엔드포인트가 로그인 없이 캐시 가능한 응답을 주는지 본다.
+ *
+ * <p>설정은 {@link BookingSlotLedgerConcurrencyTest} 와 같다. 주기 재구축은 멀리 미뤄 두고 직접 부른다.
+ */
+@SpringBootTest(
+        classes = CareCodeApplication.class,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
+                "spring.cache.type=none",
+                "spring.batch.job.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:carecode-suggest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "app.search.suggest.rebuild-initial-delay-ms=3600000",
+                "jwt.secret=testJwtSecretKeyForContextLoadTestMustBe256BitsLong0123456789",
+                "springdoc.api-docs.enabled=false",
+                "springdoc.swagger-ui.enabled=false",
+                "public.data.api.key=dummy",
+                "KAKAO_CLIENT_ID=dummy-kakao-client",
+                "KAKAO_CLIENT_SECRET=dummy-kakao-secret",
+                "MAIL_USERNAME=dummy",
+                "MAIL_PASSWORD=dummy"
+        }
+)
+@AutoConfigureMockMvc
+@DisplayName("검색창 자동완성 - 종단")
+class SearchSuggestIntegrationTest {
+
+    @MockBean
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+    @Autowired
+    private CareFacilityRepository careFacilityRepository;
+    @Autowired
+    private HospitalRepository hospitalRepository;
+    @Autowired
+    private PolicyRepository policyRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        careFacilityRepository.deleteAllInBatch();
+        hospitalRepository.deleteAllInBatch();
+        policyRepository.deleteAllInBatch();
+        careFacilityRepository.save(facility("햇살어린이집", "서울특별시 강남구 테헤란로 1", 30, true));
+        careFacilityRepository.save(facility("햇님어린이집", "서울특별시 강남구 역삼로 2", 50, true));
+        careFacilityRepository.save(facility("햇빛어린이집", "서울특별시 서초구 반포대로 3", 90, false));
+        hospitalRepository.save(Hospital.builder().name("햇살소아과의원").address("서울특별시 강남구 논현로 4").build());
+        policyRepository.save(Policy.builder()
+                .policyCode("suggest-" + System.nanoTime())
+                .title("첫만남이용권")
+                .policyType("출산")
+                .isActive(true)
+                .viewCount(70)
+                .build());
+        suggestionIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 후보를 인기순으로 주고, 비활성 시설은 빼며, 시군구를 시설 수로 모은다")
+    void loadsFromRepositories() {
+        assertThat(suggestionIndex.suggest("햇", Set.of(SuggestionType.FACILITY), 10))
+                .extracting(SearchSuggestion::text)
+                .containsExactly("햇님어린이집", "햇살어린이집");
+        assertThat(suggestionIndex.suggest("ㅊㅁㄴ", Set.of(), 10))
+                .extracting(SearchSuggestion::text).contains("첫만남이용권");
+        assertThat(suggestionIndex.suggest("강남", Set.of(SuggestionType.DISTRICT), 10))
+                .singleElement()
+                .satisfies(district -> {
+                    assertThat(district.detail()).isEqualTo("서울특별시");
+                    assertThat(district.weight()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    @DisplayName("커밋된 변경 이벤트는 재구축 없이 바로 후보가 된다")
+    void appliesCommittedChange() {
+        CareFacility saved = careFacilityRepository.save(facility("해바라기어린이집", "경기도 성남시 분당구", 0, true));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher.publishEvent(
+                SuggestionChanged.facility(saved.getId(), saved.getName(), saved.getAddress())));
+
+        assertThat(suggestionIndex.suggest("해바", Set.of(), 10))
+                .extracting(SearchSuggestion::id).containsExactly(saved.getId());
+    }
+
+    @Test
+    @DisplayName("엔드포인트는 로그인 없이 열려 있고 캐시 가능한 JSON 을 준다")
+    void endpoint() throws Exception {
+        mockMvc.perform(get("/search/suggest").param("q", "햇ㅅ").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].text").value("햇살어린이집"))
+                .andExpect(jsonPath("$[1].type").value("HOSPITAL"))
+                .andExpect(jsonPath("$[0].identity").doesNotExist());
+
+        mockMvc.perform(get("/search/suggest").param("q", "햇").param("types", "POLICY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    private static CareFacility facility(String name, String address, int views, boolean active) {
+        return CareFacility.builder()
+                .facilityCode(name + "-" + System.nanoTime())
+                .name(name)
+                .address(address)
+                .facilityType(FacilityType.DAYCARE)
+                .viewCount(views)
+                .isActive(active)
+                .build();
+    }
+}
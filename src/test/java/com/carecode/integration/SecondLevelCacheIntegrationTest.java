@@ -0,0 +1,224 @@
+package com.carecode.integration;
+
+import com.carecode.CareCodeApplication;
+import com.carecode.core.cache.SecondLevelCacheInvalidator;
+import com.carecode.core.monitoring.QueryCountHolder;
+import com.carecode.domain.community.entity.Tag;
+import com.carecode.domain.community.repository.TagRepository;
+import com.carecode.domain.community.service.CommunityService;
+import com.carecode.domain.health.entity.Hospital;
+import com.carecode.domain.health.repository.HospitalRepository;
+import com.carecode.domain.health.service.HospitalLikeService;
+import com.carecode.domain.user.entity.User;
+import com.carecode.domain.user.entity.UserRole;
+import com.carecode.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Hibernate 2차·쿼리 캐시 검증. 효과는 SQL 프로파일링과 같은 QueryCountHolder 로 센 쿼리 수로 본다.
+ *
+ * <p>설정은 {@link BookingSlotLedgerConcurrencyTest} 와 같고 SQL 프로파일링만 켰다.
+ */
+@SpringBootTest(
+        classes = CareCodeApplication.class,
+        properties = {
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+                        + "org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration",
+                "spring.cache.type=none",
+                "spring.batch.job.enabled=false",
+                "spring.datasource.url=jdbc:h2:mem:carecode-l2;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                "jwt.secret=testJwtSecretKeyForContextLoadTestMustBe256BitsLong0123456789",
+                "springdoc.api-docs.enabled=false",
+                "springdoc.swagger-ui.enabled=false",
+                "public.data.api.key=dummy",
+                "KAKAO_CLIENT_ID=dummy-kakao-client",
+                "KAKAO_CLIENT_SECRET=dummy-kakao-secret",
+                "MAIL_USERNAME=dummy",
+                "MAIL_PASSWORD=dummy",
+                "app.monitoring.query-count.enabled=true"
+        }
+)
+@DisplayName("Hibernate 2차 캐시 - 참조 데이터")
+class SecondLevelCacheIntegrationTest {
+
+    @MockBean
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private CommunityService communityService;
+    @Autowired
+    private HospitalRepository hospitalRepository;
+    @Autowired
+    private HospitalLikeService hospitalLikeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        suffix = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.clear();
+    }
+
+    @Test
+    @DisplayName("같은 이름의 태그를 다시 찾으면 쿼리를 보내지 않는다")
+    void tagLookupIsServedFromCache() {
+        tagRepository.save(new Tag("육아-" + suffix, "테스트"));
+
+        int first = queries(() -> tagRepository.findByName("육아-" + suffix));
+        int second = queries(() -> tagRepository.findByName("육아-" + suffix));
+
+        assertThat(first).isPositive();
+        assertThat(second).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 태그 목록도 두 번째부터는 쿼리 없이 나온다")
+    void allTagsAreServedFromQueryCache() {
+        tagRepository.save(new Tag("수면-" + suffix, "테스트"));
+
+        queries(communityService::getAllTags);
+        int second = queries(communityService::getAllTags);
+
+        assertThat(second).isZero();
+    }
+
+    @Test
+    @DisplayName("태그를 고치면 캐시된 조회 결과가 버려지고 다른 인스턴스에 알린다")
+    void updateInvalidatesQueryCacheAndNotifiesOtherInstances() {
+        Tag tag = tagRepository.save(new Tag("이유식-" + suffix, "테스트"));
+        queries(() -> tagRepository.findByName("이유식-" + suffix));
+
+        inTransaction(() -> {
+            tagRepository.findById(tag.getId()).orElseThrow().updateTag("이유식2-" + suffix, "바뀜");
+            return null;
+        });
+
+        assertThat(tagRepository.findByName("이유식-" + suffix)).isEmpty();
+        assertThat(tagRepository.findByName("이유식2-" + suffix)).isPresent();
+        verify(stringRedisTemplate, atLeastOnce())
+                .convertAndSend(eq(SecondLevelCacheInvalidator.CHANNEL), contains(Tag.class.getName()));
+    }
+
+    @Test
+    @DisplayName("좋아요는 그 병원만 캐시에서 지우고 다른 캐시는 남긴다")
+    void likeEvictsOnlyTheHospital() {
+        Tag tag = tagRepository.save(new Tag("병원-" + suffix, "테스트"));
+        Hospital hospital = hospitalRepository.save(Hospital.builder().name("캐시소아과-" + suffix).build());
+        User user = userRepository.save(User.builder()
+                .userId("l2-" + suffix)
+                .email("l2-" + suffix + "@carecode.test")
+                .name("보호자")
+                .role(UserRole.PARENT)
+                .isActive(true)
+                .emailVerified(true)
+                .registrationCompleted(true)
+                .build());
+        hospitalRepository.findById(hospital.getId());
+        tagRepository.findById(tag.getId());
+        queries(communityService::getAllTags);
+
+        hospitalLikeService.like(hospital.getId(), user.getId());
+
+        assertThat(entityManagerFactory.getCache().contains(Hospital.class, hospital.getId())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Tag.class, tag.getId())).isTrue();
+        assertThat(queries(communityService::getAllTags)).isZero();
+        assertThat(hospitalRepository.findById(hospital.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 알림은 그 엔티티 테이블을 읽은 쿼리 결과만 버린다")
+    void remoteInvalidationKeepsUnrelatedQueryResults() {
+        Tag tag = tagRepository.save(new Tag("원격-" + suffix, "테스트"));
+        Hospital hospital = hospitalRepository.save(Hospital.builder().name("원격소아과-" + suffix).build());
+        queries(communityService::getAllTags);
+
+        secondLevelCacheInvalidator.onMessage(message(Hospital.class.getName(), hospital.getId()), null);
+        assertThat(queries(communityService::getAllTags)).isZero();
+
+        secondLevelCacheInvalidator.onMessage(message(Tag.class.getName(), tag.getId()), null);
+        assertThat(queries(communityService::getAllTags)).isPositive();
+    }
+
+    @Test
+    @DisplayName("캐시 적중률이 Prometheus 지표로 나간다")
+    void exportsCacheStatistics() {
+        Tag tag = tagRepository.save(new Tag("지표-" + suffix, "테스트"));
+        tagRepository.findById(tag.getId());
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", "tag").meters())
+                .isNotEmpty();
+    }
+
+    /** 트랜잭션 하나에서 실행한 SQL 수. 요청 하나를 QueryCountFilter 가 세는 것과 같다. */
+    private int queries(Supplier<?> action) {
+        QueryCountHolder.start();
+        try {
+            inTransaction(action);
+            return QueryCountHolder.get();
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    private static DefaultMessage message(String entityName, Long id) {
+        return new DefaultMessage(SecondLevelCacheInvalidator.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("other-node\t" + entityName + "\t" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}